@@ -25,6 +25,7 @@ package org.komodo.core.test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.komodo.repository.ObjectImplTest;
+import org.komodo.repository.internal.KSequencersTest;
 import org.komodo.repository.search.TestObjectSearcher;
 import org.komodo.repository.test.TestLocalRepository;
 import org.komodo.repository.test.TestLocalRepositoryPersistence;
@@ -36,6 +37,7 @@ import org.komodo.repository.validation.ValidationManagerImplTest;
 @RunWith( Suite.class )
 @Suite.SuiteClasses( {
     ObjectImplTest.class,
+    KSequencersTest.class,
     TestLocalRepository.class,
     TestObjectSearcher.class,
     TestLocalRepositoryPersistence.class,
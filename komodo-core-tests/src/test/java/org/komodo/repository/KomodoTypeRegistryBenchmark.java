@@ -0,0 +1,85 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.repository;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.komodo.repository.KomodoTypeRegistry.TypeIdentifier;
+import org.komodo.repository.KomodoTypeRegistry.TypeSignature;
+import org.komodo.spi.lexicon.TeiidSqlLexicon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.teiid.modeshape.sequencer.ddl.TeiidDdlLexicon;
+import org.teiid.modeshape.sequencer.vdb.lexicon.VdbLexicon;
+
+/**
+ * Measures the time taken by the {@link KomodoTypeRegistry} lookups used to identify the type of a node. Run using the
+ * {@link #main(String[]) main} method.
+ */
+@SuppressWarnings( {"javadoc", "nls"} )
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 10, time = 1 )
+@Fork( 1 )
+public class KomodoTypeRegistryBenchmark {
+
+    private static final String TSQL_TYPE = TeiidSqlLexicon.Namespace.PREFIX + ":query";
+    private static final String[] MIXINS = { "mix:referenceable", "mix:lockable" };
+
+    public static void main( final String[] args ) throws Exception {
+        new Runner( new OptionsBuilder().include( KomodoTypeRegistryBenchmark.class.getSimpleName() ).build() ).run();
+    }
+
+    private final KomodoTypeRegistry registry = KomodoTypeRegistry.getInstance();
+
+    @Benchmark
+    public Set< TypeIdentifier > getIndexedIdentifiers() {
+        return this.registry.getIdentifiers( VdbLexicon.Vdb.VIRTUAL_DATABASE );
+    }
+
+    @Benchmark
+    public Set< TypeIdentifier > getNamespaceIdentifiers() {
+        return this.registry.getIdentifiers( TSQL_TYPE );
+    }
+
+    @Benchmark
+    public TypeSignature getSignature() {
+        return this.registry.getSignature( TeiidDdlLexicon.CreateTable.TABLE_STATEMENT );
+    }
+
+    @Benchmark
+    public TypeSignature getSignatureWithMixins() {
+        return this.registry.getSignature( TeiidDdlLexicon.CreateTable.TABLE_STATEMENT, MIXINS );
+    }
+
+}
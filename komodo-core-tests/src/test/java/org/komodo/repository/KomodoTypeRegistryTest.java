@@ -0,0 +1,111 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.repository;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import javax.jcr.nodetype.NodeType;
+import org.junit.Test;
+import org.komodo.repository.KomodoTypeRegistry.TypeSignature;
+import org.komodo.spi.lexicon.TeiidSqlLexicon;
+import org.komodo.spi.repository.KomodoType;
+import org.modeshape.jcr.JcrNtLexicon;
+import org.teiid.modeshape.sequencer.ddl.TeiidDdlLexicon;
+import org.teiid.modeshape.sequencer.vdb.lexicon.VdbLexicon;
+
+@SuppressWarnings( {"javadoc", "nls"} )
+public final class KomodoTypeRegistryTest {
+
+    private final KomodoTypeRegistry registry = KomodoTypeRegistry.getInstance();
+
+    @Test
+    public void shouldFindIndexedLexiconType() {
+        assertThat( this.registry.getIdentifiers( VdbLexicon.Vdb.VIRTUAL_DATABASE ).size(), is( 1 ) );
+        assertThat( this.registry.getIdentifiers( VdbLexicon.Vdb.VIRTUAL_DATABASE ).iterator().next().getKomodoType(),
+                    is( KomodoType.VDB ) );
+    }
+
+    @Test
+    public void shouldFindNamespaceOfUnindexedLexiconType() {
+        assertThat( this.registry.getIdentifiers( TeiidSqlLexicon.Namespace.PREFIX + ":query" ).iterator().next().getKomodoType(),
+                    is( KomodoType.TSQL_SCHEMA ) );
+    }
+
+    @Test
+    public void shouldNotFindUnknownLexiconType() {
+        assertThat( this.registry.getIdentifiers( JcrNtLexicon.UNSTRUCTURED.getString() ).isEmpty(), is( true ) );
+    }
+
+    @Test
+    public void shouldResolveSignatureType() {
+        assertThat( this.registry.getSignature( TeiidDdlLexicon.CreateTable.TABLE_STATEMENT ).getKomodoType(),
+                    is( KomodoType.TABLE ) );
+    }
+
+    @Test
+    public void shouldNotResolveSignatureTypeThatDependsOnNode() {
+        assertThat( this.registry.getSignature( TeiidDdlLexicon.Constraint.TABLE_ELEMENT ).getKomodoType(), is( nullValue() ) );
+        assertThat( this.registry.getSignature( JcrNtLexicon.UNSTRUCTURED.getString() ).getKomodoType(), is( nullValue() ) );
+    }
+
+    @Test
+    public void shouldReuseSignatureRegardlessOfMixinOrder() {
+        final String primaryType = JcrNtLexicon.UNSTRUCTURED.getString();
+        final TypeSignature signature = this.registry.getSignature( primaryType, "mix:referenceable", "mix:lockable" );
+        assertThat( this.registry.getSignature( primaryType, "mix:lockable", "mix:referenceable" ), is( sameInstance( signature ) ) );
+    }
+
+    @Test
+    public void shouldReuseSignatureForNodeTypes() {
+        final String primaryType = JcrNtLexicon.UNSTRUCTURED.getString();
+        final TypeSignature signature = this.registry.getSignature( primaryType,
+                                                                    TeiidDdlLexicon.CreateTable.TABLE_STATEMENT,
+                                                                    "mix:referenceable" );
+
+        final NodeType[] mixins = new NodeType[] { nodeType( "mix:referenceable" ),
+                                                   nodeType( TeiidDdlLexicon.CreateTable.TABLE_STATEMENT ) };
+        assertThat( this.registry.getSignature( nodeType( primaryType ), mixins ), is( sameInstance( signature ) ) );
+        assertThat( signature.getKomodoType(), is( KomodoType.TABLE ) );
+    }
+
+    @Test
+    public void shouldNotReuseSignatureOfOtherMixins() {
+        final String primaryType = JcrNtLexicon.UNSTRUCTURED.getString();
+        final TypeSignature signature = this.registry.getSignature( primaryType, "mix:lockable" );
+
+        assertThat( this.registry.getSignature( primaryType ) == signature, is( false ) );
+        assertThat( this.registry.getSignature( primaryType, "mix:lockable", "mix:referenceable" ) == signature, is( false ) );
+        assertThat( this.registry.getSignature( nodeType( primaryType ), new NodeType[ 0 ] ),
+                    is( sameInstance( this.registry.getSignature( primaryType ) ) ) );
+    }
+
+    private static NodeType nodeType( final String name ) {
+        final NodeType nodeType = mock( NodeType.class );
+        when( nodeType.getName() ).thenReturn( name );
+        return nodeType;
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.repository;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+import org.komodo.spi.constants.StringConstants;
+import org.komodo.spi.repository.KomodoObject;
+import org.komodo.spi.repository.Property;
+import org.komodo.spi.repository.RepositoryClient;
+import org.komodo.spi.repository.RepositoryClientEvent;
+import org.komodo.spi.repository.Repository.UnitOfWork;
+import org.komodo.test.utils.AbstractLocalRepositoryTest;
+import org.komodo.test.utils.LocalRepositoryObserver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the throughput of {@link ObjectImpl#getProperty(UnitOfWork, String)} for a user transaction with and without the
+ * provisioned user home cache. Run using the {@link #main(String[]) main} method.
+ */
+@SuppressWarnings( {"javadoc", "nls"} )
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 10, time = 1 )
+@Fork( 1 )
+public class ObjectImplGetPropertyBenchmark implements StringConstants {
+
+    private static final String TEST_REPOSITORY_CONFIG = "test-local-repository-in-memory-config.json";
+    private static final String USER = "benchmarkUser";
+    private static final String PROPERTY_NAME = "benchmarkProperty";
+
+    public static void main( final String[] args ) throws Exception {
+        new Runner( new OptionsBuilder().include( ObjectImplGetPropertyBenchmark.class.getSimpleName() ).build() ).run();
+    }
+
+    @Param( { "false", "true" } )
+    public boolean provisionCache;
+
+    private LocalRepository repo;
+    private LocalRepositoryObserver observer;
+    private KomodoObject kobject;
+    private UnitOfWork readTx;
+
+    private void notifyAndWait( final RepositoryClientEvent event ) throws Exception {
+        this.observer.resetLatch();
+        this.repo.notify( event );
+
+        if ( !this.observer.getLatch().await( 1, TimeUnit.MINUTES ) ) {
+            throw new Exception( "Timed out waiting for local repository" );
+        }
+
+        if ( this.observer.getError() != null ) {
+            throw new Exception( this.observer.getError() );
+        }
+    }
+
+    @Setup( Level.Trial )
+    public void startRepository() throws Exception {
+        final URL configUrl = AbstractLocalRepositoryTest.class.getResource( TEST_REPOSITORY_CONFIG );
+        this.repo = new LocalRepository( new LocalRepository.LocalRepositoryId( configUrl, DEFAULT_LOCAL_WORKSPACE_NAME ) );
+        this.observer = new LocalRepositoryObserver();
+        this.repo.addObserver( this.observer );
+
+        final RepositoryClient client = new RepositoryClient() {
+
+            @Override
+            public State getState() {
+                return State.STARTED;
+            }
+        };
+
+        notifyAndWait( RepositoryClientEvent.createStartedEvent( client ) );
+        this.repo.setProvisionCacheEnabled( this.provisionCache );
+
+        final SynchronousCallback callback = new SynchronousCallback();
+        final UnitOfWork writeTx = this.repo.createTransaction( USER, "benchmarkSetup", false, callback );
+        this.kobject = this.repo.add( writeTx, null, "benchmarkObject", null );
+        this.kobject.setProperty( writeTx, PROPERTY_NAME, "benchmarkValue" );
+        writeTx.commit();
+
+        if ( !callback.await( 1, TimeUnit.MINUTES ) || callback.hasError() ) {
+            throw new Exception( "Unable to create benchmark object" );
+        }
+
+        this.readTx = this.repo.createTransaction( USER, "benchmarkRead", true, null );
+    }
+
+    @TearDown( Level.Trial )
+    public void stopRepository() throws Exception {
+        this.readTx.commit();
+
+        final RepositoryClient client = new RepositoryClient() {
+
+            @Override
+            public State getState() {
+                return State.SHUTDOWN;
+            }
+        };
+
+        notifyAndWait( RepositoryClientEvent.createShuttingDownEvent( client ) );
+    }
+
+    @Benchmark
+    public Property getProperty() throws Exception {
+        return this.kobject.getProperty( this.readTx, PROPERTY_NAME );
+    }
+
+}
@@ -37,6 +37,7 @@ import org.komodo.spi.KException;
 import org.komodo.spi.constants.StringConstants;
 import org.komodo.spi.repository.KomodoObject;
 import org.komodo.spi.repository.KomodoType;
+import org.komodo.spi.repository.NodeSnapshot;
 import org.komodo.spi.repository.Property;
 import org.komodo.spi.repository.PropertyDescriptor;
 import org.komodo.spi.repository.Repository.UnitOfWork;
@@ -414,6 +415,79 @@ public final class ObjectImplTest extends AbstractLocalRepositoryTest {
         assertEquals(newTestNode.getAbsolutePath(), kObject.getAbsolutePath());
     }
 
+    @Test
+    public void shouldGetSnapshot() throws Exception {
+        final KomodoObject child = this.kobject.addChild( getTransaction(), "kid", null );
+        child.setProperty( getTransaction(), "single", "value" );
+        child.setProperty( getTransaction(), "multiple", "a", "b" );
+
+        final NodeSnapshot snapshot = child.getSnapshot( getTransaction(), true );
+        assertThat( snapshot.getName(), is( "kid" ) );
+        assertThat( snapshot.getAbsolutePath(), is( child.getAbsolutePath() ) );
+        assertThat( snapshot.getParentPath(), is( this.kobject.getAbsolutePath() ) );
+        assertThat( snapshot.getTypeIdentifier(), is( child.getTypeIdentifier( getTransaction() ) ) );
+        assertThat( snapshot.hasChildren(), is( false ) );
+        assertThat( snapshot.includesProperties(), is( true ) );
+        assertThat( snapshot.getValue( "single" ), is( ( Object )"value" ) );
+        assertThat( snapshot.isMultiple( "multiple" ), is( true ) );
+        assertThat( ( Object[] )snapshot.getValue( "multiple" ), is( new Object[] { "a", "b" } ) );
+
+        for ( final String name : child.getPropertyNames( getTransaction() ) ) {
+            assertThat( snapshot.getPropertyNames().contains( name ), is( true ) );
+        }
+    }
+
+    @Test
+    public void shouldGetSnapshotWithoutProperties() throws Exception {
+        this.kobject.setProperty( getTransaction(), "single", "value" );
+        this.kobject.addChild( getTransaction(), "kid", null );
+
+        final NodeSnapshot snapshot = this.kobject.getSnapshot( getTransaction(), false );
+        assertThat( snapshot.hasChildren(), is( true ) );
+        assertThat( snapshot.includesProperties(), is( false ) );
+        assertThat( snapshot.getValue( "single" ), is( nullValue() ) );
+    }
+
+    @Test
+    public void shouldReuseNodeWithinTransaction() throws Exception {
+        final ObjectImpl obj = ( ObjectImpl )this.kobject;
+        assertThat( obj.node( getTransaction() ) == obj.node( getTransaction() ), is( true ) );
+    }
+
+    @Test
+    public void shouldNotFindChildAtOldPathAfterParentRenamed() throws Exception {
+        final KomodoObject child = this.kobject.addChild( getTransaction(), "kid", null );
+        final ObjectImpl oldChild = new ObjectImpl( _repo, child.getAbsolutePath(), 0 );
+        assertThat( oldChild.getName( getTransaction() ), is( "kid" ) ); // caches the child node
+
+        this.kobject.rename( getTransaction(), "newName" );
+        assertThat( _repo.getFromWorkspace( getTransaction(), this.kobject.getAbsolutePath() + "/kid" ), is( notNullValue() ) );
+
+        try {
+            oldChild.getName( getTransaction() );
+            fail( "child should not be found at old path" );
+        } catch ( final KException e ) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldNotFindPropertyOfRemovedObject() throws Exception {
+        final KomodoObject child = this.kobject.addChild( getTransaction(), "kid", null );
+        child.setProperty( getTransaction(), "prop", "value" );
+        final Property prop = child.getProperty( getTransaction(), "prop" );
+        assertThat( prop.getStringValue( getTransaction() ), is( "value" ) ); // caches the child node
+
+        child.remove( getTransaction() );
+
+        try {
+            prop.getStringValue( getTransaction() );
+            fail( "property of removed object should not be found" );
+        } catch ( final KException e ) {
+            // expected
+        }
+    }
+
     @Test
     public void shouldRemoveDescriptor() throws Exception {
         final String descriptorName = "mix:referenceable";
@@ -0,0 +1,211 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.repository.internal;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.jcr.Node;
+import javax.jcr.NodeIterator;
+import javax.jcr.Property;
+import javax.jcr.nodetype.NodeType;
+import org.junit.Test;
+import org.komodo.repository.KSequencerController.SequencerType;
+import org.komodo.repository.internal.KSequencers.SequencedSql;
+import org.komodo.repository.internal.KSequencers.SequencerTask;
+import org.komodo.spi.lexicon.TeiidSqlLexicon;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+@SuppressWarnings( {"javadoc", "nls"} )
+public class KSequencersTest {
+
+    private static SequencerTask task( final String outputPath ) {
+        return new SequencerTask( SequencerType.TSQL, outputPath + "/prop", outputPath, "event", "commit" );
+    }
+
+    private static List< String > outputPaths( final List< SequencerTask > group ) {
+        final List< String > paths = new ArrayList<>();
+
+        for ( final SequencerTask task : group ) {
+            paths.add( task.getOutputPath() );
+        }
+
+        return paths;
+    }
+
+    private static Property query( final String sql ) throws Exception {
+        final Property property = mock( Property.class );
+        when( property.getString() ).thenReturn( sql );
+        return property;
+    }
+
+    private static Node node( final String identifier,
+                              final String primaryType,
+                              final Node... children ) throws Exception {
+        final NodeType nodeType = mock( NodeType.class );
+        when( nodeType.getName() ).thenReturn( primaryType );
+
+        final Node node = mock( Node.class );
+        when( node.getIdentifier() ).thenReturn( identifier );
+        when( node.getPrimaryNodeType() ).thenReturn( nodeType );
+        when( node.getMixinNodeTypes() ).thenReturn( new NodeType[ 0 ] );
+        when( node.getNodes() ).thenAnswer( new Answer< NodeIterator >() {
+
+            @Override
+            public NodeIterator answer( final InvocationOnMock invocation ) {
+                final NodeIterator iterator = mock( NodeIterator.class );
+                final List< Node > remaining = new ArrayList<>( Arrays.asList( children ) );
+
+                when( iterator.hasNext() ).thenAnswer( new Answer< Boolean >() {
+
+                    @Override
+                    public Boolean answer( final InvocationOnMock hasNext ) {
+                        return !remaining.isEmpty();
+                    }
+
+                } );
+                when( iterator.nextNode() ).thenAnswer( new Answer< Node >() {
+
+                    @Override
+                    public Node answer( final InvocationOnMock nextNode ) {
+                        return remaining.remove( 0 );
+                    }
+
+                } );
+                return iterator;
+            }
+
+        } );
+
+        return node;
+    }
+
+    /**
+     * A view whose query has been sequenced into a teiid sql node
+     */
+    private static Node sequencedView( final String identifier ) throws Exception {
+        return node( identifier, "vdb:declarativeModel", node( identifier + "-query", TeiidSqlLexicon.Namespace.PREFIX + ":query" ) );
+    }
+
+    @Test
+    public void shouldNotResequenceSameSql() throws Exception {
+        final SequencedSql sequencedSql = new SequencedSql( 10 );
+        final Node view = sequencedView( "view" );
+
+        sequencedSql.sequenced( query( "SELECT a FROM t" ), view );
+
+        assertThat( sequencedSql.isSequenced( query( "SELECT a FROM t" ), view ), is( true ) );
+    }
+
+    @Test
+    public void shouldResequenceChangedSql() throws Exception {
+        final SequencedSql sequencedSql = new SequencedSql( 10 );
+        final Node view = sequencedView( "view" );
+
+        sequencedSql.sequenced( query( "SELECT a FROM t" ), view );
+
+        assertThat( sequencedSql.isSequenced( query( "SELECT b FROM t" ), view ), is( false ) );
+    }
+
+    @Test
+    public void shouldResequenceWhenTeiidSqlNodesAreGone() throws Exception {
+        final SequencedSql sequencedSql = new SequencedSql( 10 );
+        sequencedSql.sequenced( query( "SELECT a FROM t" ), sequencedView( "view" ) );
+
+        // the same output node with its teiid sql children removed
+        final Node cleaned = node( "view", "vdb:declarativeModel" );
+
+        assertThat( sequencedSql.isSequenced( query( "SELECT a FROM t" ), cleaned ), is( false ) );
+    }
+
+    @Test
+    public void shouldForgetSqlWhenQueryRemoved() throws Exception {
+        final SequencedSql sequencedSql = new SequencedSql( 10 );
+        final Node view = sequencedView( "view" );
+
+        sequencedSql.sequenced( query( "SELECT a FROM t" ), view );
+        sequencedSql.removed( view );
+
+        assertThat( sequencedSql.size(), is( 0 ) );
+        assertThat( sequencedSql.isSequenced( query( "SELECT a FROM t" ), view ), is( false ) );
+    }
+
+    @Test
+    public void shouldForgetLeastRecentlyUsedSql() throws Exception {
+        final SequencedSql sequencedSql = new SequencedSql( 2 );
+        final Node view1 = sequencedView( "view1" );
+        final Node view2 = sequencedView( "view2" );
+        final Node view3 = sequencedView( "view3" );
+
+        sequencedSql.sequenced( query( "SELECT 1" ), view1 );
+        sequencedSql.sequenced( query( "SELECT 2" ), view2 );
+        sequencedSql.isSequenced( query( "SELECT 1" ), view1 );
+        sequencedSql.sequenced( query( "SELECT 3" ), view3 );
+
+        assertThat( sequencedSql.size(), is( 2 ) );
+        assertThat( sequencedSql.isSequenced( query( "SELECT 1" ), view1 ), is( true ) );
+        assertThat( sequencedSql.isSequenced( query( "SELECT 2" ), view2 ), is( false ) );
+    }
+
+    @Test
+    public void shouldPutUnrelatedOutputNodesInSeparateGroups() {
+        final List< List< SequencerTask > > groups = KSequencers.independentGroups( Arrays.asList( task( "/a" ),
+                                                                                                   task( "/b" ),
+                                                                                                   task( "/c" ) ) );
+        assertThat( groups.size(), is( 3 ) );
+    }
+
+    @Test
+    public void shouldGroupSameAndNestedOutputNodes() {
+        final List< List< SequencerTask > > groups = KSequencers.independentGroups( Arrays.asList( task( "/a" ),
+                                                                                                   task( "/b" ),
+                                                                                                   task( "/a/child" ),
+                                                                                                   task( "/a" ) ) );
+        assertThat( groups.size(), is( 2 ) );
+        assertThat( outputPaths( groups.get( 0 ) ), is( Arrays.asList( "/a", "/a/child", "/a" ) ) );
+        assertThat( outputPaths( groups.get( 1 ) ), is( Arrays.asList( "/b" ) ) );
+    }
+
+    @Test
+    public void shouldNotGroupSiblingsSharingNamePrefix() {
+        final List< List< SequencerTask > > groups = KSequencers.independentGroups( Arrays.asList( task( "/a/view" ),
+                                                                                                   task( "/a/view2" ) ) );
+        assertThat( groups.size(), is( 2 ) );
+    }
+
+    @Test
+    public void shouldMergeGroupsJoinedByParentOutputNode() {
+        final List< List< SequencerTask > > groups = KSequencers.independentGroups( Arrays.asList( task( "/a/x" ),
+                                                                                                   task( "/a/y" ),
+                                                                                                   task( "/b" ),
+                                                                                                   task( "/a" ) ) );
+        assertThat( groups.size(), is( 2 ) );
+        assertThat( outputPaths( groups.get( 0 ) ), is( Arrays.asList( "/a/x", "/a/y", "/a" ) ) );
+        assertThat( outputPaths( groups.get( 1 ) ), is( Arrays.asList( "/b" ) ) );
+    }
+
+}
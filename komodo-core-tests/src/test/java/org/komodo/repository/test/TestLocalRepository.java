@@ -232,6 +232,27 @@ public class TestLocalRepository extends AbstractLocalRepositoryTest {
         transaction.commit();
     }
 
+    @Test
+    public void shouldReuseSessionOfReadOnlyTransactionAndDiscardItsChanges() throws Exception {
+        final SynchronousCallback callback = new TestTransactionListener();
+        final UnitOfWork readOnlyTx = createTransaction(TEST_USER, this.name.getMethodName(), true, callback);
+        final javax.jcr.Session readOnlySession = session(readOnlyTx);
+        _repo.add(readOnlyTx, null, "discarded", null);
+
+        readOnlyTx.commit();
+        assertThat(callback.await(TIME_TO_WAIT, TimeUnit.MINUTES), is(true));
+        assertThat(readOnlyTx.getState(), is(State.ROLLED_BACK));
+        assertThat(readOnlySession.isLive(), is(true));
+        assertThat(readOnlySession.hasPendingChanges(), is(false));
+
+        // next read-only transaction gets the pooled session
+        final UnitOfWork nextTx = createTransaction(TEST_USER, this.name.getMethodName() + "-next", true, null);
+        assertThat(session(nextTx) == readOnlySession, is(true));
+        assertThat(_repo.getFromWorkspace(nextTx, "discarded"), is(nullValue()));
+        nextTx.commit();
+        assertThat(nextTx.getState(), is(State.ROLLED_BACK));
+    }
+
     @Test
     public void shouldCreateUpdateTransaction() throws Exception {
         // setup
@@ -339,6 +360,28 @@ public class TestLocalRepository extends AbstractLocalRepositoryTest {
         assertFalse(results.isEmpty());
     }
 
+    @Test( timeout = 60000 )
+    public void shouldSequenceIndependentOutputNodesOfOneCommit() throws Exception {
+        final String workspacePath = RepositoryImpl.komodoWorkspacePath(getTransaction());
+        final KomodoObject[] schemas = new KomodoObject[4];
+
+        //
+        // Each schema is its own output node so they are sequenced in parallel
+        //
+        for (int i = 0; i < schemas.length; ++i) {
+            schemas[i] = _repo.add(getTransaction(), workspacePath, "schema" + i, KomodoLexicon.Schema.NODE_TYPE);
+            schemas[i].setProperty(getTransaction(),
+                                   KomodoLexicon.Schema.RENDITION,
+                                   "CREATE FOREIGN TABLE table" + i + " (id integer, name string);");
+        }
+
+        commit();
+
+        for (final KomodoObject schema : schemas) {
+            assertThat(schema.getChildren(getTransaction()).length > 0, is(true));
+        }
+    }
+
     @Test( timeout = 60000 )
     public void shouldImportFile() throws Exception {
         // setup
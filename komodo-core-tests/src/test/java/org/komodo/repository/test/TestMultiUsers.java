@@ -27,6 +27,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -197,6 +198,108 @@ public class TestMultiUsers extends AbstractLocalRepositoryTest {
         assertEquals(6, vdbs.size()); 
     }
 
+    @Test
+    public void shouldCommitDifferentUserWorkspacesConcurrently() throws Exception {
+        userWorkspace(ALICE);
+        userWorkspace(BOB);
+
+        UnitOfWork aliceTx = writeTx(ALICE);
+        UnitOfWork bobTx = writeTx(BOB);
+
+        for (int i = 0; i < 10; ++i) {
+            _repo.add(aliceTx, RepositoryImpl.komodoWorkspacePath(aliceTx), "vdb" + i, VdbLexicon.Vdb.VIRTUAL_DATABASE);
+            _repo.add(bobTx, RepositoryImpl.komodoWorkspacePath(bobTx), "vdb" + i, VdbLexicon.Vdb.VIRTUAL_DATABASE);
+        }
+
+        //
+        // Post both commits before waiting on either of them
+        //
+        aliceTx.commit();
+        bobTx.commit();
+
+        assertTrue(((SynchronousCallback)aliceTx.getCallback()).await(TIME_TO_WAIT, TimeUnit.MINUTES));
+        assertTrue(((SynchronousCallback)bobTx.getCallback()).await(TIME_TO_WAIT, TimeUnit.MINUTES));
+        assertEquals(State.COMMITTED, aliceTx.getState());
+        assertEquals(State.COMMITTED, bobTx.getState());
+
+        List<KomodoObject> vdbs = _repo.searchByType(sysTx(), VdbLexicon.Vdb.VIRTUAL_DATABASE);
+        assertNotNull(vdbs);
+        assertEquals(20, vdbs.size());
+    }
+
+    @Test
+    public void shouldCompleteCommitWhileAnotherUsersCommitIsSequencing() throws Exception {
+        userWorkspace(ALICE);
+        userWorkspace(BOB);
+
+        UnitOfWork aliceTx = writeTx(ALICE);
+        UnitOfWork bobTx = writeTx(BOB);
+
+        //
+        // Only alice's commit needs sequencing
+        //
+        KomodoObject schema = _repo.add(aliceTx,
+                                        RepositoryImpl.komodoWorkspacePath(aliceTx),
+                                        "aliceSchema",
+                                        KomodoLexicon.Schema.NODE_TYPE);
+        schema.setProperty(aliceTx, KomodoLexicon.Schema.RENDITION, "CREATE FOREIGN TABLE customers (id integer, name string);");
+
+        for (int i = 0; i < 10; ++i) {
+            _repo.add(bobTx, RepositoryImpl.komodoWorkspacePath(bobTx), "vdb" + i, VdbLexicon.Vdb.VIRTUAL_DATABASE);
+        }
+
+        aliceTx.commit();
+        bobTx.commit();
+
+        //
+        // Neither commit waits on, or is completed by, the other's sequencing
+        //
+        assertTrue(((SynchronousCallback)bobTx.getCallback()).await(TIME_TO_WAIT, TimeUnit.MINUTES));
+        assertTrue(((SynchronousCallback)aliceTx.getCallback()).await(TIME_TO_WAIT, TimeUnit.MINUTES));
+        assertEquals(State.COMMITTED, aliceTx.getState());
+        assertEquals(State.COMMITTED, bobTx.getState());
+
+        UnitOfWork aliceReadTx = writeTx(ALICE);
+        assertTrue(schema.getChildren(aliceReadTx).length > 0);
+        commit(aliceReadTx, State.COMMITTED);
+    }
+
+    @Test
+    public void shouldCommitSharedChangesOfDifferentUsers() throws Exception {
+        userWorkspace(ALICE);
+        userWorkspace(BOB);
+
+        UnitOfWork searchesTx = writeTx(ALICE);
+        _repo.komodoSearches(searchesTx);
+        commit(searchesTx, State.COMMITTED);
+
+        UnitOfWork aliceTx = writeTx(ALICE);
+        UnitOfWork bobTx = writeTx(BOB);
+
+        _repo.add(aliceTx, RepositoryImpl.komodoWorkspacePath(aliceTx), "vdb", VdbLexicon.Vdb.VIRTUAL_DATABASE);
+        assertFalse(((RepositoryImpl.UnitOfWorkImpl)aliceTx).hasSharedChanges());
+
+        _repo.komodoSearches(aliceTx).addChild(aliceTx, "aliceSearch", KomodoLexicon.Search.NODE_TYPE);
+        _repo.komodoSearches(bobTx).addChild(bobTx, "bobSearch", KomodoLexicon.Search.NODE_TYPE);
+        assertTrue(((RepositoryImpl.UnitOfWorkImpl)aliceTx).hasSharedChanges());
+        assertTrue(((RepositoryImpl.UnitOfWorkImpl)bobTx).hasSharedChanges());
+
+        //
+        // Post both commits before waiting on either of them
+        //
+        aliceTx.commit();
+        bobTx.commit();
+
+        assertTrue(((SynchronousCallback)aliceTx.getCallback()).await(TIME_TO_WAIT, TimeUnit.MINUTES));
+        assertTrue(((SynchronousCallback)bobTx.getCallback()).await(TIME_TO_WAIT, TimeUnit.MINUTES));
+        assertEquals(State.COMMITTED, aliceTx.getState());
+        assertEquals(State.COMMITTED, bobTx.getState());
+
+        List<KomodoObject> searches = _repo.searchByType(sysTx(), KomodoLexicon.Search.NODE_TYPE);
+        assertNotNull(searches);
+        assertEquals(2, searches.size());
+    }
+
     @Test
     public void usersCannotAddToEachOthersWorkspace() throws Exception {
         userWorkspace(ALICE);
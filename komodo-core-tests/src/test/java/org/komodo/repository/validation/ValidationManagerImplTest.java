@@ -24,13 +24,17 @@ package org.komodo.repository.validation;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.komodo.spi.outcome.Outcome;
 import org.komodo.spi.repository.KomodoObject;
 import org.komodo.spi.repository.ValidationManager;
 import org.komodo.spi.repository.validation.Result;
+import org.komodo.spi.repository.validation.ResultSink;
 import org.komodo.spi.repository.validation.Rule;
 import org.komodo.test.utils.AbstractLocalRepositoryTest;
 
@@ -787,4 +791,131 @@ public final class ValidationManagerImplTest extends AbstractLocalRepositoryTest
         assertThat( result.getMessage(), is( "The VDB dataRole must NOT have a 'myProp' property" ));
     }
 
+    @Test
+    public void shouldOnlyReturnRulesApplicableToObjectType() throws Exception {
+        final KomodoObject kobject = _repo.add( getTransaction(), null, VDB_NAME, VDB_TYPE );
+        final KomodoObject roleObj = kobject.addChild( getTransaction(), DATA_ROLE_NAME, DATA_ROLE_TYPE );
+
+        // Load the rules
+        String testFilePath = getClass().getClassLoader().getResource(RULES_FILE_RELATIONAL_RULES).getFile();
+        final File testFile = new File( testFilePath );
+        _validationMgr.importRules( getTransaction(), testFile, true );
+        commit();
+
+        // the indexed lookup must agree with checking every rule
+        for ( final KomodoObject obj : new KomodoObject[] { kobject, roleObj } ) {
+            int numApplicable = 0;
+
+            for ( final Rule rule : _validationMgr.getAllRules( getTransaction() ) ) {
+                if ( rule.isApplicable( getTransaction(), obj ) ) {
+                    ++numApplicable;
+                }
+            }
+
+            final Rule[] rules = _validationMgr.getRules( getTransaction(), obj );
+            assertThat( rules.length, is( numApplicable ) );
+
+            for ( final Rule rule : rules ) {
+                assertThat( rule.isApplicable( getTransaction(), obj ), is( true ) );
+            }
+        }
+
+        // disabling a rule must be reflected by the compiled rules
+        final Rule vdbRule = _validationMgr.getRules( getTransaction(), kobject )[ 0 ];
+        final String ruleId = vdbRule.getName( getTransaction() );
+        _validationMgr.setRuleEnabled( getTransaction(), false, ruleId );
+        commit();
+
+        final Result result = _validationMgr.evaluate( getTransaction(), kobject, ruleId )[ 0 ];
+        assertThat( result.getLevel(), is( Outcome.Level.INFO ) );
+        assertThat( result.getMessage(), is( "Rule \"" + ruleId + "\" is disabled." ) );
+    }
+
+    @Test
+    public void shouldStreamSameResultsAsFullEvaluation() throws Exception {
+        final KomodoObject kobject = _repo.add( getTransaction(), null, VDB_NAME, VDB_TYPE );
+        kobject.addChild( getTransaction(), DATA_ROLE_NAME, DATA_ROLE_TYPE );
+        kobject.addChild( getTransaction(), "model", MODEL_TYPE );
+
+        String testFilePath = getClass().getClassLoader().getResource(RULES_FILE_RELATIONAL_RULES).getFile();
+        final File testFile = new File( testFilePath );
+        _validationMgr.importRules( getTransaction(), testFile, true );
+        commit();
+
+        final Set< String > expected = new HashSet<>();
+
+        for ( final Result result : _validationMgr.evaluate( getTransaction(), kobject, true ) ) {
+            expected.add( result.getPath() + '|' + result.getRuleId() + '|' + result.getLevel() );
+        }
+
+        final List< String > streamed = new ArrayList<>();
+        final boolean completed = _validationMgr.evaluate( getTransaction(), kobject, true, null, false, new ResultSink() {
+
+            @Override
+            public boolean accept( final Result result ) {
+                streamed.add( result.getPath() + '|' + result.getRuleId() + '|' + result.getLevel() );
+                return true;
+            }
+        } );
+
+        assertThat( completed, is( true ) );
+        assertThat( streamed.size(), is( expected.size() ) );
+        assertThat( new HashSet<>( streamed ), is( expected ) );
+    }
+
+    @Test
+    public void shouldFilterAndStopStreamedResults() throws Exception {
+        // name does not match the VDB name pattern
+        final KomodoObject kobject = _repo.add( getTransaction(), null, "1"+VDB_NAME, VDB_TYPE );
+        kobject.addChild( getTransaction(), DATA_ROLE_NAME, DATA_ROLE_TYPE );
+
+        String testFilePath = getClass().getClassLoader().getResource(RULES_FILE_RELATIONAL_RULES).getFile();
+        final File testFile = new File( testFilePath );
+        _validationMgr.importRules( getTransaction(), testFile, true );
+        commit();
+
+        final List< Result > streamed = new ArrayList<>();
+        final ResultSink sink = new ResultSink() {
+
+            @Override
+            public boolean accept( final Result result ) {
+                streamed.add( result );
+                return true;
+            }
+        };
+
+        _validationMgr.evaluate( getTransaction(), kobject, true, Outcome.Level.WARNING, false, sink );
+        assertThat( streamed.isEmpty(), is( false ) );
+
+        for ( final Result result : streamed ) {
+            assertThat( result.getLevel().ordinal() >= Outcome.Level.WARNING.ordinal(), is( true ) );
+        }
+
+        streamed.clear();
+        final boolean completed = _validationMgr.evaluate( getTransaction(), kobject, true, Outcome.Level.ERROR, true, sink );
+        assertThat( completed, is( false ) );
+        assertThat( streamed.size(), is( 1 ) );
+    }
+
+    @Test
+    public void shouldEvaluateIndexedRuleChangedDirectly() throws Exception {
+        final KomodoObject kobject = _repo.add( getTransaction(), null, VDB_NAME, VDB_TYPE );
+
+        // Load the rules
+        String testFilePath = getClass().getClassLoader().getResource(RULES_FILE_RELATIONAL_RULES).getFile();
+        final File testFile = new File( testFilePath );
+        _validationMgr.importRules( getTransaction(), testFile, true );
+        commit();
+
+        // the indexed rule keeps its definition so changing it directly must discard that definition
+        final Rule vdbRule = _validationMgr.getRules( getTransaction(), kobject )[ 0 ];
+        final String ruleId = vdbRule.getName( getTransaction() );
+        vdbRule.setEnabled( getTransaction(), false );
+        commit();
+
+        final Result result = vdbRule.evaluate( getTransaction(), kobject );
+        assertThat( result.getLevel(), is( Outcome.Level.INFO ) );
+        assertThat( result.getMessage(), is( "Rule \"" + ruleId + "\" is disabled." ) );
+    }
+
 }
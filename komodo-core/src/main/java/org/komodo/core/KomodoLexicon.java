@@ -766,6 +766,12 @@ public interface KomodoLexicon extends StringConstants {
          * The timestamp of when the cached teiid was created
          */
         String TIMESTAMP = Namespace.PREFIX + COLON + "timestamp"; //$NON-NLS-1$
+
+        /**
+         * The fingerprints of the server artifacts cached in one of the cached teiid folders. Each value is the fingerprint
+         * followed by a space and the artifact name.
+         */
+        String FINGERPRINTS = Namespace.PREFIX + COLON + "fingerprints"; //$NON-NLS-1$
     }
 
     /**
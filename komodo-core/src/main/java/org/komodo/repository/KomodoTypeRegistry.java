@@ -21,9 +21,17 @@
  */
 package org.komodo.repository;
 
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.jcr.nodetype.NodeType;
 
 import org.komodo.core.KomodoLexicon;
 import org.komodo.spi.constants.StringConstants;
@@ -92,6 +100,117 @@ public class KomodoTypeRegistry implements StringConstants {
         }
     }
 
+    /**
+     * The type identifiers of a combination of primary type and mixins.
+     */
+    public static class TypeSignature {
+
+        private final Set<TypeIdentifier> identifiers;
+
+        private final KomodoType kType;
+
+        TypeSignature(Set<TypeIdentifier> identifiers) {
+            this.identifiers = Collections.unmodifiableSet(identifiers);
+            this.kType = resolve(identifiers);
+        }
+
+        /**
+         * @return the type identifiers of all the types of the signature (never <code>null</code> but can be empty)
+         */
+        public Set<TypeIdentifier> getIdentifiers() {
+            return this.identifiers;
+        }
+
+        /**
+         * @return the komodo type of all nodes with this signature or <code>null</code> if the type also depends on
+         *         the name or properties of the node
+         */
+        public KomodoType getKomodoType() {
+            return this.kType;
+        }
+
+        private static KomodoType resolve(Set<TypeIdentifier> identifiers) {
+            if (identifiers.isEmpty())
+                return null; // could be a DDL statements container
+
+            if (identifiers.size() == 1)
+                return identifiers.iterator().next().getKomodoType();
+
+            // Multiple identifiers all with the same lexiconType
+            String lexiconType = identifiers.iterator().next().getLexiconType();
+
+            if (TeiidDdlLexicon.CreateProcedure.PROCEDURE_STATEMENT.equals(lexiconType)) {
+                // If identifiers contains virtual procedure then its one of those,
+                // otherwise its a stored procedure.
+                for (TypeIdentifier identifier : identifiers) {
+                    if (KomodoType.VIRTUAL_PROCEDURE.equals(identifier.getKomodoType()))
+                        return KomodoType.VIRTUAL_PROCEDURE;
+                }
+
+                return KomodoType.STORED_PROCEDURE;
+            }
+
+            if (TeiidDdlLexicon.Constraint.TABLE_ELEMENT.equals(lexiconType))
+                return null; // depends on the constraint type property
+
+            return KomodoType.UNKNOWN;
+        }
+    }
+
+    /**
+     * A signature along with the mixins it was first requested with. Mixins match regardless of their order so a lookup
+     * neither copies nor sorts them.
+     */
+    private static class SignatureEntry {
+
+        private final String[] mixinTypes;
+
+        private final TypeSignature signature;
+
+        SignatureEntry(String[] mixinTypes, TypeSignature signature) {
+            this.mixinTypes = mixinTypes;
+            this.signature = signature;
+        }
+
+        TypeSignature getSignature() {
+            return this.signature;
+        }
+
+        boolean matches(String[] others) {
+            int count = (others == null) ? 0 : others.length;
+            if (count != this.mixinTypes.length)
+                return false;
+
+            for (int i = 0; i < count; ++i) {
+                if (!contains(others[i]))
+                    return false;
+            }
+
+            return true;
+        }
+
+        boolean matches(NodeType[] others) {
+            if (others.length != this.mixinTypes.length)
+                return false;
+
+            for (NodeType other : others) {
+                if (!contains(other.getName()))
+                    return false;
+            }
+
+            return true;
+        }
+
+        private boolean contains(String mixinType) {
+            for (String candidate : this.mixinTypes) {
+                if (candidate.equals(mixinType))
+                    return true;
+            }
+
+            return false;
+        }
+    }
+
     private class KTypeAdapter implements KeyFromValueAdapter<KomodoType, TypeIdentifier> {
         @Override
         public KomodoType getKey(TypeIdentifier value) {
@@ -99,21 +218,35 @@ public class KomodoTypeRegistry implements StringConstants {
         }
     }
 
-    private static KomodoTypeRegistry instance;
+    private static final KomodoTypeRegistry instance = new KomodoTypeRegistry();
 
     /**
      * @return singleton instance
      */
     public static KomodoTypeRegistry getInstance() {
-        if (instance == null)
-            instance = new KomodoTypeRegistry();
-
         return instance;
     }
 
     private KeyInValueHashMap<KomodoType, TypeIdentifier> kTypeIndex =
                     new KeyInValueHashMap<>(new KTypeAdapter());
 
+    /**
+     * The identifiers of each indexed lexicon type. Never modified after construction.
+     */
+    private final Map<String, Set<TypeIdentifier>> lexiconIndex;
+
+    /**
+     * The identifiers returned for the lexicon types of a namespace that are not indexed, keyed by namespace prefix.
+     * Never modified after construction.
+     */
+    private final Map<String, Set<TypeIdentifier>> namespaceIndex;
+
+    /**
+     * The signatures already requested, keyed by primary type. The entries of a primary type are replaced, never modified,
+     * when a new combination of mixins is requested so they can be searched without locking.
+     */
+    private final ConcurrentMap<String, SignatureEntry[]> signatures = new ConcurrentHashMap<>();
+
     private KomodoTypeRegistry() {
 
         index(KomodoType.ACCESS_PATTERN, TeiidDdlLexicon.Constraint.TABLE_ELEMENT);
@@ -203,6 +336,34 @@ public class KomodoTypeRegistry implements StringConstants {
         index(KomodoType.TSQL_SCHEMA, TeiidSqlLexicon.Namespace.PREFIX);
 
         index(KomodoType.VDB_SCHEMA, VdbLexicon.Namespace.PREFIX);
+
+        Map<String, Set<TypeIdentifier>> lexiconTypes = new HashMap<>();
+        for (TypeIdentifier identifier : kTypeIndex.values()) {
+            Set<TypeIdentifier> identifiers = lexiconTypes.get(identifier.getLexiconType());
+            if (identifiers == null) {
+                identifiers = new LinkedHashSet<>();
+                lexiconTypes.put(identifier.getLexiconType(), identifiers);
+            }
+
+            identifiers.add(identifier);
+        }
+
+        for (Map.Entry<String, Set<TypeIdentifier>> entry : lexiconTypes.entrySet()) {
+            entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+        }
+
+        this.lexiconIndex = Collections.unmodifiableMap(lexiconTypes);
+
+        //
+        // We want to return TSQL for Teiid SQL nodes, DDL for ddl nodes and
+        // VDB for vdb nodes that do not have explicit types but do not want
+        // to index all of them. Checked in this order.
+        //
+        Map<String, Set<TypeIdentifier>> namespaces = new LinkedHashMap<>();
+        namespaces.put(TeiidSqlLexicon.Namespace.PREFIX, Collections.singleton(kTypeIndex.get(KomodoType.TSQL_SCHEMA)));
+        namespaces.put(TeiidDdlLexicon.Namespace.PREFIX, Collections.singleton(kTypeIndex.get(KomodoType.DDL_SCHEMA)));
+        namespaces.put(VdbLexicon.Namespace.PREFIX, Collections.singleton(kTypeIndex.get(KomodoType.VDB_SCHEMA)));
+        this.namespaceIndex = Collections.unmodifiableMap(namespaces);
     }
 
     private void index(KomodoType kType, String lexiconType) {
@@ -220,46 +381,89 @@ public class KomodoTypeRegistry implements StringConstants {
 
     /**
      * @param lexiconType the lexicon identified type
-     * @return all the type identifiers with the given lexicon type
+     * @return all the type identifiers with the given lexicon type (never <code>null</code> and not modifiable)
      */
     public Set<TypeIdentifier> getIdentifiers(String lexiconType) {
         if (lexiconType == null)
             return Collections.emptySet();
 
-        Set<TypeIdentifier> identifiers = new HashSet<>();
-        for (TypeIdentifier identifier : kTypeIndex.values()) {
-            if (identifier.getLexiconType().equals(lexiconType))
-                identifiers.add(identifier);
+        Set<TypeIdentifier> identifiers = lexiconIndex.get(lexiconType);
+        if (identifiers != null)
+            return identifiers;
+
+        for (Map.Entry<String, Set<TypeIdentifier>> entry : namespaceIndex.entrySet()) {
+            if (lexiconType.startsWith(entry.getKey()))
+                return entry.getValue();
         }
 
-        if (! identifiers.isEmpty())
-            return identifiers;
+        return Collections.emptySet();
+    }
 
-        //
-        // We want to return TSQL for Teiid SQL nodes
-        // but do not want to index all of them.
-        //
-        if (lexiconType.startsWith(TeiidSqlLexicon.Namespace.PREFIX)) {
-            identifiers.add(kTypeIndex.get(KomodoType.TSQL_SCHEMA));
-            return identifiers;
+    /**
+     * @param primaryType the lexicon type of the primary type of a node (cannot be <code>null</code>)
+     * @param mixinTypes the distinct lexicon types of the mixins of the node (can be <code>null</code> or empty)
+     * @return the signature of nodes with the given types (never <code>null</code>)
+     */
+    public TypeSignature getSignature(String primaryType, String... mixinTypes) {
+        ArgCheck.isNotNull(primaryType);
+
+        SignatureEntry[] entries = signatures.get(primaryType);
+        if (entries != null) {
+            for (SignatureEntry entry : entries) {
+                if (entry.matches(mixinTypes))
+                    return entry.getSignature();
+            }
         }
 
-        //
-        // We want to return DDL for ddl nodes that do not have explicit types
-        //
-        if (lexiconType.startsWith(TeiidDdlLexicon.Namespace.PREFIX)) {
-            identifiers.add(kTypeIndex.get(KomodoType.DDL_SCHEMA));
-            return identifiers;
+        return addSignature(primaryType, (mixinTypes == null) ? EMPTY_ARRAY : mixinTypes.clone());
+    }
+
+    /**
+     * @param primaryType the primary type of a node (cannot be <code>null</code>)
+     * @param mixinTypes the mixins of the node (cannot be <code>null</code> but can be empty)
+     * @return the signature of nodes with the given types (never <code>null</code>)
+     */
+    public TypeSignature getSignature(NodeType primaryType, NodeType[] mixinTypes) {
+        ArgCheck.isNotNull(primaryType);
+
+        String primaryName = primaryType.getName();
+        SignatureEntry[] entries = signatures.get(primaryName);
+        if (entries != null) {
+            for (SignatureEntry entry : entries) {
+                if (entry.matches(mixinTypes))
+                    return entry.getSignature();
+            }
         }
 
-        //
-        // We want to return VDB for vdb nodes that do not have explicit types
-        //
-        if (lexiconType.startsWith(VdbLexicon.Namespace.PREFIX)) {
-            identifiers.add(kTypeIndex.get(KomodoType.VDB_SCHEMA));
-            return identifiers;
+        String[] mixinNames = new String[mixinTypes.length];
+        for (int i = 0; i < mixinTypes.length; ++i) {
+            mixinNames[i] = mixinTypes[i].getName();
+        }
+
+        return addSignature(primaryName, mixinNames);
+    }
+
+    private synchronized TypeSignature addSignature(String primaryType, String[] mixinTypes) {
+        SignatureEntry[] entries = signatures.get(primaryType);
+        if (entries == null) {
+            entries = new SignatureEntry[0];
+        } else {
+            // another thread may have added it
+            for (SignatureEntry entry : entries) {
+                if (entry.matches(mixinTypes))
+                    return entry.getSignature();
+            }
+        }
+
+        Set<TypeIdentifier> identifiers = new LinkedHashSet<>(getIdentifiers(primaryType));
+        for (String mixinType : mixinTypes) {
+            identifiers.addAll(getIdentifiers(mixinType));
         }
 
-        return identifiers;
+        TypeSignature signature = new TypeSignature(identifiers);
+        SignatureEntry[] updated = Arrays.copyOf(entries, entries.length + 1);
+        updated[entries.length] = new SignatureEntry(mixinTypes, signature);
+        signatures.put(primaryType, updated);
+        return signature;
     }
 }
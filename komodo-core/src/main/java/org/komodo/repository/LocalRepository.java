@@ -262,12 +262,96 @@ public class LocalRepository extends RepositoryImpl {
                                          final UnitOfWorkListener callback ) throws KException {
         ArgCheck.isNotEmpty(name, "name"); //$NON-NLS-1$
         LOGGER.debug("creating transaction {0} with rollbackOnly = {1}", name, rollbackOnly); //$NON-NLS-1$
-        final Session session = createSession();
-        final UnitOfWork uow = new LocalRepositoryTransaction(userName, name, session, rollbackOnly, callback);
+
+        final Session session;
+        final UnitOfWork uow;
+
+        if (rollbackOnly) {
+            // changes can never be saved so bypass the engine thread and use a pooled session
+            session = borrowReadOnlySession();
+            uow = new ReadOnlyRepositoryTransaction(userName, name, session, callback);
+        } else {
+            session = createSession();
+            uow = new LocalRepositoryTransaction(userName, name, session, rollbackOnly, callback);
+        }
+
         this.sessions.put(session, uow);
         return uow;
     }
 
+    private Session borrowReadOnlySession() throws KException {
+        final ModeshapeEngineThread engine = this.engineThread;
+
+        if (engine == null) {
+            throw new KException(Messages.getString(Messages.LocalRepository.Repository_Not_Running));
+        }
+
+        try {
+            return engine.getReadOnlySessionPool().borrow();
+        } catch (final Exception e) {
+            if (e instanceof KException) {
+                throw (KException)e;
+            }
+
+            throw new KException(Messages.getString(Messages.LocalRepository.Unable_To_Create_Session), e);
+        }
+    }
+
+    private void releaseReadOnlySession( final Session session ) {
+        final ModeshapeEngineThread engine = this.engineThread;
+
+        if (engine == null) {
+            if (session.isLive()) session.logout();
+            return;
+        }
+
+        engine.getReadOnlySessionPool().release(session);
+    }
+
+    /**
+     * A transaction whose changes are always discarded. Its session is borrowed from, and returned to, the engine's read-only
+     * session pool without any requests being made to the engine thread.
+     */
+    class ReadOnlyRepositoryTransaction extends RepositoryImpl.UnitOfWorkImpl {
+
+        ReadOnlyRepositoryTransaction(final String userName,
+                                      final String uowName,
+                                      final Session uowSession,
+                                      final UnitOfWorkListener listener) {
+            super(userName, uowName, uowSession, true, listener);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see org.komodo.repository.RepositoryImpl.UnitOfWorkImpl#rollback()
+         */
+        @Override
+        public void rollback() {
+            if (this.state != State.NOT_STARTED) {
+                this.error = new KException( Messages.getString( Messages.Komodo.ERROR_TRANSACTION_FINISHED,
+                                                                 this.name,
+                                                                 this.state ) );
+                this.state = State.ERROR;
+                return;
+            }
+
+            LOGGER.debug( "rollback read-only transaction {0}", getName() ); //$NON-NLS-1$
+            final Session readOnlySession = this.session;
+            this.session = null;
+
+            // discards any changes before the session is made available to another transaction
+            uncacheNodes();
+            releaseReadOnlySession( readOnlySession );
+            this.state = State.ROLLED_BACK;
+
+            if (this.callback != null) {
+                this.callback.respond( null );
+            }
+        }
+
+    }
+
     class LocalRepositoryTransaction extends RepositoryImpl.UnitOfWorkImpl {
 
         LocalRepositoryTransaction(final String userName,
@@ -324,6 +408,7 @@ public class LocalRepository extends RepositoryImpl {
                         @Override
                         public void respond( final Object results ) {
                             setState( State.COMMITTED );
+                            committed();
 
                             if (getCallback() != null) {
                                 KLog.getLogger().debug(LocalRepositoryTransaction.class.getName() + ": Responding to callback: " + getCallback().getClass().getName()); //$NON-NLS-1$
@@ -339,7 +424,9 @@ public class LocalRepository extends RepositoryImpl {
                     ModeshapeEngineThread.SessionRequest request = new ModeshapeEngineThread.SessionRequest( RequestType.COMMIT_SESSION,
                                                                                                         callback,
                                                                                                         getSession(),
-                                                                                                        getName() );
+                                                                                                        getName(),
+                                                                                                        getUserName(),
+                                                                                                        hasSharedChanges() );
                     KLog.getLogger().debug("LocalRepository.LocalRepositoryTransaction.commit() post commit request for session: {0}",  //$NON-NLS-1$
                                            getSession().hashCode());
                     LocalRepository.this.engineThread.accept( request );
@@ -410,7 +497,8 @@ public class LocalRepository extends RepositoryImpl {
                 LocalRepository.this.engineThread.accept( new ModeshapeEngineThread.SessionRequest( RequestType.ROLLBACK_SESSION,
                                                                                                     callback,
                                                                                                     getSession(),
-                                                                                                    getName() ) );
+                                                                                                    getName(),
+                                                                                                    getUserName() ) );
             }
         }
 
@@ -522,6 +610,8 @@ public class LocalRepository extends RepositoryImpl {
     }
 
     private void clearRepository() {
+        clearProvisionedHomes();
+
         // cleanup session cache
         if (!this.sessions.isEmpty()) {
             final Iterator< Entry< Session, UnitOfWork > > itr = this.sessions.entrySet().iterator();
@@ -583,6 +673,8 @@ public class LocalRepository extends RepositoryImpl {
 
     @Override
     public void notify( RepositoryClientEvent event ) {
+        super.notify(event);
+
         if (event.getType() == RepositoryClientEvent.EventType.STARTED) {
             // Start the modeshape engine if not already started
             startRepository();
@@ -24,12 +24,13 @@ package org.komodo.repository;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.jcr.Node;
 import javax.jcr.NodeIterator;
-import javax.jcr.PathNotFoundException;
 import javax.jcr.PropertyIterator;
 import javax.jcr.PropertyType;
 import javax.jcr.Session;
@@ -37,6 +38,7 @@ import javax.jcr.Value;
 import javax.jcr.ValueFactory;
 import javax.jcr.nodetype.NodeType;
 import org.komodo.repository.KomodoTypeRegistry.TypeIdentifier;
+import org.komodo.repository.KomodoTypeRegistry.TypeSignature;
 import org.komodo.repository.RepositoryImpl.UnitOfWorkImpl;
 import org.komodo.spi.KException;
 import org.komodo.spi.constants.StringConstants;
@@ -44,6 +46,7 @@ import org.komodo.spi.repository.Descriptor;
 import org.komodo.spi.repository.KomodoObject;
 import org.komodo.spi.repository.KomodoObjectVisitor;
 import org.komodo.spi.repository.KomodoType;
+import org.komodo.spi.repository.NodeSnapshot;
 import org.komodo.spi.repository.Property;
 import org.komodo.spi.repository.PropertyDescriptor;
 import org.komodo.spi.repository.PropertyValueType;
@@ -55,7 +58,6 @@ import org.komodo.utils.ArgCheck;
 import org.komodo.utils.KLog;
 import org.komodo.utils.StringUtils;
 import org.modeshape.jcr.JcrNtLexicon;
-import org.modeshape.jcr.JcrSession;
 import org.modeshape.jcr.api.JcrTools;
 import org.teiid.modeshape.sequencer.ddl.DdlConstants;
 import org.teiid.modeshape.sequencer.ddl.StandardDdlLexicon;
@@ -204,16 +206,26 @@ public class ObjectImpl implements KomodoObject, StringConstants {
         getRepository().provision(transaction, this, operationType);
     }
 
+    private void unprovisionHomes( final UnitOfWork transaction,
+                                   final String removedPath ) {
+        if ( this.repository instanceof RepositoryImpl ) {
+            ( ( RepositoryImpl )this.repository ).unprovisionHomes( transaction, removedPath );
+        }
+    }
+
     private void internalSetProperty( final UnitOfWork transaction,
                                       final String name,
                                       final Object... values ) throws Exception {
         provision(transaction, OperationType.MODIFY_OPERATION);
 
         final Session session = getSession( transaction );
-        final Node node = session.getNode( getAbsolutePath() );
+        final Node node = node( transaction );
         final ValueFactory factory = session.getValueFactory();
         final boolean exists = node.hasProperty( name );
 
+        // the type this object resolves to can depend on its properties
+        ( ( UnitOfWorkImpl )transaction ).uncacheResolved( getAbsolutePath() );
+
         // remove property
         if ( values == null ) {
             if ( exists ) {
@@ -323,56 +335,9 @@ public class ObjectImpl implements KomodoObject, StringConstants {
             LOGGER.debug("objectimpl-node: transaction = {0}, path = {1}", transaction.getName(), getAbsolutePath()); //$NON-NLS-1$
         }
 
-        Node node = null;
-        Session session = getSession(transaction);
-        String absPath = getAbsolutePath();
-        PathNotFoundException throwEx = null;
-
         try {
-
-            //
-            // Try finding the node with the conventional path as given
-            //
-            try {
-                node = session.getNode(absPath);
-            } catch (PathNotFoundException ex) {
-                // node cannot be found with convential path as given
-                throwEx = ex;
-            }
-
-            if (node == null && session instanceof JcrSession) {
-                JcrSession jcrSession = (JcrSession)session;
-
-                //
-                // Try finding the node with the path decoded
-                //
-                try {
-                    String decPath = jcrSession.decode(absPath);
-                    node = session.getNode(decPath);
-                } catch (PathNotFoundException ex) {
-                    // node cannot be found with decoded path
-                }
-
-                if (node == null) {
-                    //
-                    // Try finding the node with the path encoded
-                    //
-                    try {
-                        String encPath = jcrSession.encode(absPath);
-                        node = session.getNode(encPath);
-                    } catch (Exception ex) {
-                        // node cannot be found with encoded path
-                    }
-                }
-            }
-
-            if (node == null) {
-                // throw the original path not found exception
-                throw throwEx;
-            }
-
-            // return the found node
-            return node;
+            // the transaction caches the node so the path is only resolved once per transaction
+            return ( ( UnitOfWorkImpl )transaction ).getNode( getAbsolutePath() );
         } catch (final Exception e) {
             throw handleError( e );
         }
@@ -439,12 +404,15 @@ public class ObjectImpl implements KomodoObject, StringConstants {
         }
 
         try {
-            final Node node = getSession(transaction).getNode(this.path);
+            final Node node = node(transaction);
 
             for (final String mixin : descriptorNames) {
                 ArgCheck.isNotEmpty(mixin, "mixin"); //$NON-NLS-1$
                 node.addMixin(mixin);
             }
+
+            // a different type may now be resolved from this node
+            ( ( UnitOfWorkImpl )transaction ).uncacheNodes();
         } catch (final Exception e) {
             throw handleError( e );
         }
@@ -766,7 +734,7 @@ public class ObjectImpl implements KomodoObject, StringConstants {
         provision(transaction, OperationType.READ_OPERATION);
 
         if ( LOGGER.isDebugEnabled() ) {
-            LOGGER.debug( getterName + ": transaction = {0}", transaction.getName() ); //$NON-NLS-1$
+            LOGGER.debug( "{0}: transaction = {1}", getterName, transaction.getName() ); //$NON-NLS-1$
         }
 
         T result = null;
@@ -1064,6 +1032,92 @@ public class ObjectImpl implements KomodoObject, StringConstants {
         return this.repository;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.repository.KomodoObject#getSnapshot(org.komodo.spi.repository.Repository.UnitOfWork, boolean)
+     */
+    @Override
+    public NodeSnapshot getSnapshot( final UnitOfWork transaction,
+                                     final boolean includeProperties ) throws KException {
+        ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
+        ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
+
+        provision(transaction, OperationType.READ_OPERATION);
+
+        try {
+            final Node node = node( transaction );
+            final String parentPath = ( RepositoryImpl.KOMODO_ROOT.equals( getAbsolutePath() ) ? null
+                                                                                                : node.getParent().getPath() );
+            Map< String, Object > values = null;
+
+            if ( includeProperties ) {
+                values = new LinkedHashMap<>();
+
+                // read the node's own values directly and let the object supply any other values, like statement options
+                final Map< String, javax.jcr.Property > nodeProps = new HashMap<>();
+
+                if ( !RepositoryImpl.isReservedPath( getAbsolutePath() ) ) {
+                    for ( final PropertyIterator iter = node.getProperties(); iter.hasNext(); ) {
+                        final javax.jcr.Property prop = iter.nextProperty();
+                        nodeProps.put( prop.getName(), prop );
+                    }
+                }
+
+                final String[] names = getPropertyNames( transaction );
+
+                for ( final String name : names ) {
+                    final javax.jcr.Property prop = nodeProps.get( name );
+
+                    if ( prop == null ) {
+                        addSnapshotValue( transaction, name, values );
+                    } else if ( prop.isMultiple() ) {
+                        final Value[] jcrValues = prop.getValues();
+                        final Object[] objectValues = new Object[ jcrValues.length ];
+
+                        for ( int i = 0; i < jcrValues.length; ++i ) {
+                            objectValues[ i ] = PropertyImpl.convert( jcrValues[ i ], prop.getType() );
+                        }
+
+                        values.put( name, objectValues );
+                    } else {
+                        values.put( name, PropertyImpl.convert( prop.getValue(), prop.getType() ) );
+                    }
+                }
+
+                final List< String > namesList = Arrays.asList( names );
+
+                for ( final PropertyDescriptor descriptor : getPropertyDescriptors( transaction ) ) {
+                    final String name = descriptor.getName();
+
+                    if ( !values.containsKey( name ) && !namesList.contains( name ) ) {
+                        addSnapshotValue( transaction, name, values );
+                    }
+                }
+            }
+
+            return new NodeSnapshot( getAbsolutePath(),
+                                     getName( transaction ),
+                                     getTypeIdentifier( transaction ),
+                                     hasChildren( transaction ),
+                                     parentPath,
+                                     values );
+        } catch ( final Exception e ) {
+            throw handleError( e );
+        }
+    }
+
+    private void addSnapshotValue( final UnitOfWork transaction,
+                                   final String name,
+                                   final Map< String, Object > values ) throws KException {
+        final Property property = getProperty( transaction, name );
+
+        if ( property != null ) {
+            values.put( name, ( property.isMultiple( transaction ) ? property.getValues( transaction )
+                                                                  : property.getValue( transaction ) ) );
+        }
+    }
+
     protected Session getSession( final UnitOfWork transaction ) {
         assert ( transaction != null );
         return ( ( UnitOfWorkImpl )transaction ).getSession();
@@ -1091,51 +1145,21 @@ public class ObjectImpl implements KomodoObject, StringConstants {
 
         provision(transaction, OperationType.READ_OPERATION);
 
-        List<Descriptor> descriptors = new ArrayList<Descriptor>();
-
-        descriptors.add(getPrimaryType(transaction));
-        descriptors.addAll(Arrays.asList(getDescriptors(transaction)));
+        final TypeSignature signature = getTypeSignature(transaction);
+        KomodoType result = signature.getKomodoType();
 
-        KomodoTypeRegistry registry  = KomodoTypeRegistry.getInstance();
-        Set<TypeIdentifier> identifiers = new HashSet<>();
-        for (Descriptor descriptor : descriptors) {
-            String name = descriptor.getName();
-            identifiers.addAll(registry.getIdentifiers(name));
-        }
+        if (result == null) {
+            // type also depends on the node itself
+            final Set<TypeIdentifier> identifiers = signature.getIdentifiers();
+            result = KomodoType.UNKNOWN;
 
-        KomodoType result = KomodoType.UNKNOWN;
-        if (identifiers.isEmpty()) {
-            // No identifiers but could be DDL Statements container
-            String nodeName = getName(transaction);
-            if (StandardDdlLexicon.STATEMENTS_CONTAINER.equals(nodeName))
-                result = KomodoType.DDL_SCHEMA;
+            if (identifiers.isEmpty()) {
+                // No identifiers but could be DDL Statements container
+                String nodeName = getName(transaction);
+                if (StandardDdlLexicon.STATEMENTS_CONTAINER.equals(nodeName))
+                    result = KomodoType.DDL_SCHEMA;
 
-        } else if( identifiers.size() == 1 ) {
-            result = identifiers.iterator().next().getKomodoType();
-        } else {
-
-            // Multiple identifiers all with the same lexiconType
-            String lexiconType = identifiers.iterator().next().getLexiconType();
-
-            if (TeiidDdlLexicon.CreateProcedure.PROCEDURE_STATEMENT.equals(lexiconType)) {
-                /*
-                 * TeiidDdlLexicon.CreateProcedure.PROCEDURE_STATEMENT
-                 *
-                 * * STORED_PROCEDURE
-                 * * VIRTUAL_PROCEDURE
-                 */
-
-                // If identifiers contains virtual procedure then its one of those,
-                // otherwise its a stored procedure.
-                result = KomodoType.STORED_PROCEDURE;
-                for (TypeIdentifier identifier : identifiers) {
-                    if (KomodoType.VIRTUAL_PROCEDURE.equals(identifier.getKomodoType())) {
-                        result = KomodoType.VIRTUAL_PROCEDURE;
-                        break;
-                    }
-                }
-
-            } else if (TeiidDdlLexicon.Constraint.TABLE_ELEMENT.equals(lexiconType)) {
+            } else {
                 /*
                  * TeiidDdlLexicon.Constraint.TABLE_ELEMENT
                  *
@@ -1166,6 +1190,24 @@ public class ObjectImpl implements KomodoObject, StringConstants {
         return result;
     }
 
+    /**
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> or have a state that is not {@link State#NOT_STARTED})
+     * @return the type signature of this object's node (never <code>null</code>)
+     * @throws KException
+     *         if an error occurs
+     */
+    public TypeSignature getTypeSignature( final UnitOfWork transaction ) throws KException {
+        provision( transaction, OperationType.READ_OPERATION );
+
+        try {
+            final Node node = node( transaction );
+            return KomodoTypeRegistry.getInstance().getSignature( node.getPrimaryNodeType(), node.getMixinNodeTypes() );
+        } catch ( final Exception e ) {
+            throw handleError( e );
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -1398,6 +1440,8 @@ public class ObjectImpl implements KomodoObject, StringConstants {
         try {
             final Node node = node( transaction );
             node.remove();
+            ( ( UnitOfWorkImpl )transaction ).uncacheNodes();
+            unprovisionHomes( transaction, getAbsolutePath() );
         } catch (final Exception e) {
             throw handleError( e );
         }
@@ -1430,8 +1474,11 @@ public class ObjectImpl implements KomodoObject, StringConstants {
             for (final String name : names) {
                 if (node.hasNode(name)) {
                     final Node childBeingRemoved = node.getNode(name);
+                    final String childPath = childBeingRemoved.getPath();
 
                     childBeingRemoved.remove();
+                    ((UnitOfWorkImpl)transaction).uncacheNodes();
+                    unprovisionHomes(transaction, childPath);
                 } else {
                     throw new KException(Messages.getString(Messages.Komodo.UNABLE_TO_REMOVE_CHILD, names, getAbsolutePath()));
                 }
@@ -1463,12 +1510,15 @@ public class ObjectImpl implements KomodoObject, StringConstants {
         }
 
         try {
-            final Node node = getSession(transaction).getNode(this.path);
+            final Node node = node(transaction);
 
             for (final String mixin : descriptorNames) {
                 ArgCheck.isNotEmpty(mixin, "mixin"); //$NON-NLS-1$
                 node.removeMixin(mixin);
             }
+
+            // a different type may now be resolved from this node
+            ( ( UnitOfWorkImpl )transaction ).uncacheNodes();
         } catch (final Exception e) {
             throw handleError( e );
         }
@@ -1507,6 +1557,7 @@ public class ObjectImpl implements KomodoObject, StringConstants {
 
         try {
             getSession( transaction ).move( getAbsolutePath(), newPath );
+            ( ( UnitOfWorkImpl )transaction ).uncacheNodes();
             this.path = newPath;
             // TODO seems like index could change also
         } catch (final Exception e) {
@@ -1583,7 +1634,8 @@ public class ObjectImpl implements KomodoObject, StringConstants {
 
         try {
             final String type = (StringUtils.isBlank(typeName) ? JcrNtLexicon.UNSTRUCTURED.getString() : typeName);
-            getSession(transaction).getNode(this.path).setPrimaryType(type);
+            node(transaction).setPrimaryType(type);
+            ( ( UnitOfWorkImpl )transaction ).uncacheNodes();
         } catch (final Exception e) {
             throw handleError( e );
         }
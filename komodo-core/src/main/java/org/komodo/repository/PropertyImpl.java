@@ -319,7 +319,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final Binary result = getSession(transaction).getProperty(this.path).getBinary();
+            final Binary result = property(transaction).getBinary();
             if (result == null)
                 return null;
 
@@ -345,7 +345,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final boolean result = getSession(transaction).getProperty(this.path).getBoolean();
+            final boolean result = property(transaction).getBoolean();
             return result;
         } catch (final Exception e) {
             if (e instanceof KException) {
@@ -367,7 +367,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final javax.jcr.Property property = getSession(transaction).getProperty(this.path);
+            final javax.jcr.Property property = property(transaction);
             final Value[] values = property.getValues();
             final boolean[] booleanValues = new boolean[values.length];
             int i = 0;
@@ -397,7 +397,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final Calendar result = getSession(transaction).getProperty(this.path).getDate();
+            final Calendar result = property(transaction).getDate();
             return result;
         } catch (final Exception e) {
             if (e instanceof KException) {
@@ -419,7 +419,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final javax.jcr.Property property = getSession(transaction).getProperty(this.path);
+            final javax.jcr.Property property = property(transaction);
             final Value[] values = property.getValues();
             final Calendar[] dateValues = new Calendar[values.length];
             int i = 0;
@@ -449,7 +449,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final BigDecimal result = getSession(transaction).getProperty(this.path).getDecimal();
+            final BigDecimal result = property(transaction).getDecimal();
             return result;
         } catch (final Exception e) {
             if (e instanceof KException) {
@@ -471,7 +471,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final javax.jcr.Property property = getSession(transaction).getProperty(this.path);
+            final javax.jcr.Property property = property(transaction);
             final Value[] values = property.getValues();
             final BigDecimal[] decimalValues = new BigDecimal[values.length];
             int i = 0;
@@ -501,7 +501,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final javax.jcr.Property property = getSession(transaction).getProperty(this.path);
+            final javax.jcr.Property property = property(transaction);
             final PropertyDescriptor result = new PropertyDescriptorImpl(property.getDefinition());
             return result;
         } catch (final Exception e) {
@@ -524,7 +524,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final double result = getSession(transaction).getProperty(this.path).getDouble();
+            final double result = property(transaction).getDouble();
             return result;
         } catch (final Exception e) {
             if (e instanceof KException) {
@@ -546,7 +546,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final javax.jcr.Property property = getSession(transaction).getProperty(this.path);
+            final javax.jcr.Property property = property(transaction);
             final Value[] values = property.getValues();
             final double[] doubleValues = new double[values.length];
             int i = 0;
@@ -576,7 +576,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final long result = getSession(transaction).getProperty(this.path).getLong();
+            final long result = property(transaction).getLong();
             return result;
         } catch (final Exception e) {
             if (e instanceof KException) {
@@ -598,7 +598,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final javax.jcr.Property property = getSession(transaction).getProperty(this.path);
+            final javax.jcr.Property property = property(transaction);
             final Value[] values = property.getValues();
             final long[] longValues = new long[values.length];
             int i = 0;
@@ -628,7 +628,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final String result = getSession(transaction).getProperty(getAbsolutePath()).getName();
+            final String result = property(transaction).getName();
             return result;
         } catch (final Exception e) {
             if (e instanceof KException) {
@@ -650,7 +650,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final Node parent = getSession(transaction).getProperty(getAbsolutePath()).getParent();
+            final Node parent = property(transaction).getParent();
             String parentPath = parent.getPath();
 
             if (!parentPath.endsWith("/")) { //$NON-NLS-1$
@@ -681,6 +681,11 @@ public class PropertyImpl implements Property {
         return ((UnitOfWorkImpl)transaction).getSession();
     }
 
+    private javax.jcr.Property property( final UnitOfWork transaction ) throws Exception {
+        // found using the node cached by the transaction
+        return ((UnitOfWorkImpl)transaction).getProperty(this.path);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -692,7 +697,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final String result = getSession(transaction).getProperty(this.path).getString();
+            final String result = property(transaction).getString();
             return result;
         } catch (final Exception e) {
             if (e instanceof KException) {
@@ -714,7 +719,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final javax.jcr.Property property = getSession(transaction).getProperty(this.path);
+            final javax.jcr.Property property = property(transaction);
             final Value[] values = property.getValues();
             final String[] stringValues = new String[values.length];
             int i = 0;
@@ -744,7 +749,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final javax.jcr.Property property = getSession(transaction).getProperty(this.path);
+            final javax.jcr.Property property = property(transaction);
             final Value value = property.getValue();
             final int propType = property.getType();
             final Object result = convert(value, propType);
@@ -770,7 +775,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final javax.jcr.Property property = getSession(transaction).getProperty(this.path);
+            final javax.jcr.Property property = property(transaction);
             final int propType = property.getType();
             final Value[] values = property.getValues();
             final Object[] objectValues = new Object[values.length];
@@ -803,7 +808,7 @@ public class PropertyImpl implements Property {
         PropertyValueType propertyValueType = PropertyValueType.UNDEFINED;
 
         try {
-            final javax.jcr.Property result = getSession(transaction).getProperty(this.path);
+            final javax.jcr.Property result = property(transaction);
 
             int requiredType = result.getDefinition().getRequiredType();
             switch (requiredType) {
@@ -855,8 +860,7 @@ public class PropertyImpl implements Property {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         try {
-            final Session session = getSession(transaction);
-            final boolean result = session.getProperty(this.path).isMultiple();
+            final boolean result = property(transaction).isMultiple();
             return result;
         } catch (final Exception e) {
             if (e instanceof KException) {
@@ -880,7 +884,10 @@ public class PropertyImpl implements Property {
 
         try {
             final Session session = getSession(transaction);
-            final javax.jcr.Property property = session.getProperty(this.path);
+            final javax.jcr.Property property = property(transaction);
+
+            // the type an object resolves to can depend on its properties
+            ((UnitOfWorkImpl)transaction).uncacheResolved(property.getParent().getPath());
 
             if (values == null) {
                 property.remove();
@@ -27,12 +27,18 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import javax.jcr.Node;
 import javax.jcr.NodeIterator;
+import javax.jcr.PathNotFoundException;
 import javax.jcr.PropertyIterator;
 import javax.jcr.RepositoryException;
 import javax.jcr.Session;
@@ -202,6 +208,28 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
         protected Session session;
         protected State state = State.NOT_STARTED;
 
+        /**
+         * The nodes already found by path during this transaction. The key is the path as requested, which may not be the
+         * path the node was found with.
+         */
+        private final Map< String, Node > nodes = new HashMap<>();
+
+        /**
+         * The objects already resolved to their specific type during this transaction. The key is the path of the object
+         * that was resolved.
+         */
+        private final Map< String, KomodoObject > resolved = new HashMap<>();
+
+        /**
+         * The actions to run once this transaction has been committed.
+         */
+        private final List< Runnable > commitActions = new ArrayList<>();
+
+        /**
+         * <code>true</code> if this transaction has changed anything outside of its user's home.
+         */
+        private boolean sharedChanges;
+
         /**
          * @param userName
          *        the user who initiated the transaction
@@ -259,6 +287,7 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
 
                             this.state = State.COMMITTED;
                             LOGGER.debug( "transaction {0} saved", getName() ); //$NON-NLS-1$
+                            committed();
 
                             if (this.callback != null) {
                                 this.callback.respond( this );
@@ -278,6 +307,7 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
                     } finally {
                         if (session.isLive()) this.session.logout();
                         this.session = null;
+                        uncacheNodes();
                     }
                 }
             }
@@ -330,6 +360,180 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
             return this.session;
         }
 
+        /**
+         * Finds a node using the given path or, if not found and the session supports it, the decoded or encoded form of that
+         * path. Nodes are cached by the requested path for the rest of the transaction so subsequent requests, including those
+         * only found using an alternate form of the path, do not resolve the path again.
+         *
+         * @param absPath
+         *        the absolute path of the node (cannot be empty)
+         * @return the node (never <code>null</code>)
+         * @throws RepositoryException
+         *         if the node cannot be found using any form of the path or an error occurs
+         * @see #uncacheNodes()
+         */
+        public Node getNode( final String absPath ) throws RepositoryException {
+            Node node = this.nodes.get( absPath );
+
+            if ( node != null ) {
+                return node;
+            }
+
+            PathNotFoundException throwEx = null;
+
+            //
+            // Try finding the node with the conventional path as given
+            //
+            try {
+                node = this.session.getNode( absPath );
+            } catch ( final PathNotFoundException ex ) {
+                // node cannot be found with convential path as given
+                throwEx = ex;
+            }
+
+            if ( ( node == null ) && ( this.session instanceof JcrSession ) ) {
+                final JcrSession jcrSession = ( JcrSession )this.session;
+
+                //
+                // Try finding the node with the path decoded
+                //
+                try {
+                    node = this.session.getNode( jcrSession.decode( absPath ) );
+                } catch ( final PathNotFoundException ex ) {
+                    // node cannot be found with decoded path
+                }
+
+                if ( node == null ) {
+                    //
+                    // Try finding the node with the path encoded
+                    //
+                    try {
+                        node = this.session.getNode( jcrSession.encode( absPath ) );
+                    } catch ( final Exception ex ) {
+                        // node cannot be found with encoded path
+                    }
+                }
+            }
+
+            if ( node == null ) {
+                // throw the original path not found exception
+                throw throwEx;
+            }
+
+            this.nodes.put( absPath, node );
+            return node;
+        }
+
+        /**
+         * Finds a property using the cached node of its parent path.
+         *
+         * @param absPath
+         *        the absolute path of the property (cannot be empty)
+         * @return the property (never <code>null</code>)
+         * @throws RepositoryException
+         *         if the property cannot be found or an error occurs
+         * @see #getNode(String)
+         */
+        public javax.jcr.Property getProperty( final String absPath ) throws RepositoryException {
+            final int index = absPath.lastIndexOf( FORWARD_SLASH );
+
+            if ( index < 0 ) {
+                return this.session.getProperty( absPath );
+            }
+
+            final String nodePath = ( ( index == 0 ) ? FORWARD_SLASH : absPath.substring( 0, index ) );
+            return getNode( nodePath ).getProperty( absPath.substring( index + 1 ) );
+        }
+
+        /**
+         * @param absPath
+         *        the absolute path of the object that was resolved (cannot be empty)
+         * @return the object resolved at that path during this transaction or <code>null</code> if not resolved yet
+         * @see #cacheResolved(String, KomodoObject)
+         */
+        public KomodoObject getResolved( final String absPath ) {
+            return this.resolved.get( absPath );
+        }
+
+        /**
+         * Remembers the specific type an object was resolved to so that it does not have to be resolved again during this
+         * transaction.
+         *
+         * @param absPath
+         *        the absolute path of the object that was resolved (cannot be empty)
+         * @param resolvedObject
+         *        the resolved object (cannot be <code>null</code>)
+         */
+        public void cacheResolved( final String absPath,
+                                   final KomodoObject resolvedObject ) {
+            this.resolved.put( absPath, resolvedObject );
+        }
+
+        /**
+         * Forgets the object resolved at the specified path. Must be called whenever a property of the node changes, since some
+         * types are decided by the value of a property.
+         *
+         * @param absPath
+         *        the absolute path of the node whose property changed (cannot be empty)
+         */
+        public void uncacheResolved( final String absPath ) {
+            this.resolved.remove( absPath );
+        }
+
+        /**
+         * Records that this transaction has changed something outside of its user's home, eg. the environment, the validation
+         * rules or the searches. Those areas are shared by all users so the changes cannot be saved alongside those of other
+         * users.
+         */
+        public void sharedChangesMade() {
+            this.sharedChanges = true;
+        }
+
+        /**
+         * @return <code>true</code> if this transaction has changed something outside of its user's home
+         * @see #sharedChangesMade()
+         */
+        public boolean hasSharedChanges() {
+            return this.sharedChanges;
+        }
+
+        /**
+         * Registers an action to run once this transaction has been committed. The action is not run if the transaction is
+         * rolled back or fails.
+         *
+         * @param action
+         *        the action (cannot be <code>null</code>)
+         */
+        public void afterCommit( final Runnable action ) {
+            this.commitActions.add( action );
+        }
+
+        /**
+         * Runs the actions registered by {@link #afterCommit(Runnable)}. Must be called by anything that commits this
+         * transaction once the commit has succeeded.
+         */
+        protected void committed() {
+            for ( final Runnable action : this.commitActions ) {
+                try {
+                    action.run();
+                } catch ( final Exception e ) {
+                    LOGGER.error( Messages.getString( Messages.Komodo.ERROR_TRYING_TO_COMMIT, e, getName() ) );
+                }
+            }
+
+            this.commitActions.clear();
+        }
+
+        /**
+         * Forgets the nodes, and the objects resolved from them, cached by this transaction. Must be called whenever nodes are
+         * removed, renamed, or moved, or have their types changed, since those changes can leave a cached node at a different
+         * path or make it invalid.
+         */
+        public void uncacheNodes() {
+            this.nodes.clear();
+            this.resolved.clear();
+        }
+
         /**
          * {@inheritDoc}
          *
@@ -409,6 +613,7 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
                 } finally {
                     if (session.isLive()) this.session.logout();
                     this.session = null;
+                    uncacheNodes();
                 }
             }
         }
@@ -567,7 +772,14 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
     private final Id id;
     private final Set< RepositoryObserver > observers = new HashSet< >();
     private final Type type;
-    private ValidationManager validationMgr;
+    private ValidationManagerImpl validationMgr;
+
+    /**
+     * The names of the users whose home has been persisted in the workspace. Used to avoid the node lookups required to
+     * provision a user home on every operation.
+     */
+    private final Set< String > provisionedHomes = Collections.newSetFromMap( new ConcurrentHashMap< String, Boolean >() );
+    private boolean provisionCacheEnabled = true;
 
     /**
      * @param type
@@ -605,7 +817,15 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
          * Ensures that a user workspace is always available so truly dynamic
          * and guarantees that the user space is available to the current tx.
          */
-        komodoWorkspace(transaction);
+        provisionHome(transaction, userWksp);
+
+        if (operationType != OperationType.READ_OPERATION) {
+            final boolean inHome = nodePath.startsWith(userWksp + FORWARD_SLASH)
+                                   || (userWksp.equals(nodePath) && (operationType != OperationType.REMOVE_OPERATION));
+
+            if (!inHome)
+                ((UnitOfWorkImpl)transaction).sharedChangesMade();
+        }
 
         switch (operationType) {
             case READ_OPERATION:
@@ -701,6 +921,97 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
         }
     }
 
+    private void provisionHome( final UnitOfWork transaction,
+                                final String homePath ) throws KException {
+        final String userName = transaction.getUserName();
+
+        if (this.provisionCacheEnabled) {
+            if (this.provisionedHomes.contains(userName))
+                return;
+
+            final Session session = getSession(transaction);
+
+            try {
+                if (session.nodeExists(homePath)) {
+                    //
+                    // Only remember homes that have been saved as a new home
+                    // disappears if its transaction is rolled back
+                    //
+                    if (!session.getNode(homePath).isNew())
+                        this.provisionedHomes.add(userName);
+
+                    return;
+                }
+            } catch (final RepositoryException e) {
+                throw new KException(e);
+            }
+        }
+
+        komodoWorkspace(transaction);
+    }
+
+    /**
+     * Forgets the provisioned user homes located at, or beneath, the path of a node being removed once the removal has been
+     * committed. Until then the homes still exist for every other transaction.
+     *
+     * @param transaction
+     *        the transaction removing the node (cannot be <code>null</code>)
+     * @param removedPath
+     *        the absolute path of the node being removed (can be empty)
+     */
+    protected void unprovisionHomes( final UnitOfWork transaction,
+                                     final String removedPath ) {
+        if ((removedPath == null) || removedPath.isEmpty())
+            return;
+
+        ((UnitOfWorkImpl)transaction).afterCommit(new Runnable() {
+
+            @Override
+            public void run() {
+                unprovisionHomes(removedPath);
+            }
+        });
+    }
+
+    private void unprovisionHomes( final String removedPath ) {
+        if (this.provisionedHomes.isEmpty())
+            return;
+
+        if (REPO_ROOT.equals(removedPath)) {
+            clearProvisionedHomes();
+            return;
+        }
+
+        final Iterator< String > itr = this.provisionedHomes.iterator();
+
+        while (itr.hasNext()) {
+            final String homePath = WORKSPACE_ROOT + FORWARD_SLASH + itr.next();
+
+            if (homePath.equals(removedPath) || homePath.startsWith(removedPath + FORWARD_SLASH))
+                itr.remove();
+        }
+    }
+
+    /**
+     * Forgets all the provisioned user homes. Should be called when the repository content is cleared.
+     */
+    protected void clearProvisionedHomes() {
+        this.provisionedHomes.clear();
+    }
+
+    /**
+     * Used by benchmarks to compare provisioning with and without the user home cache.
+     *
+     * @param enabled
+     *        <code>true</code> if provisioned user homes should be remembered
+     */
+    void setProvisionCacheEnabled( final boolean enabled ) {
+        this.provisionCacheEnabled = enabled;
+
+        if (!enabled)
+            clearProvisionedHomes();
+    }
+
     @Override
     public void provision(UnitOfWork transaction, KomodoObject object, OperationType operationType) throws KException {
         ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
@@ -826,6 +1137,10 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
             else
                 node = new JcrTools().findOrCreateNode(session, absolutePath, nodeType);
 
+            // a new home, or a new area for all users, is added beneath a node shared by all users
+            if (node.isNew() && !node.getPath().startsWith(komodoWorkspacePath(transaction) + FORWARD_SLASH))
+                ((UnitOfWorkImpl)transaction).sharedChangesMade();
+
             final KomodoObject result = new ObjectImpl(this, node.getPath(), node.getIndex());
             return result;
         } catch (final Exception e) {
@@ -845,15 +1160,31 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
     @Override
     public List< KomodoObject > query( final UnitOfWork transaction,
                                        final String queryStatement ) throws KException {
+        return query( transaction, queryStatement, 0, NO_LIMIT );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.repository.Repository#query(org.komodo.spi.repository.Repository.UnitOfWork, java.lang.String, long,
+     *      long)
+     */
+    @Override
+    public List< KomodoObject > query( final UnitOfWork transaction,
+                                       final String queryStatement,
+                                       final long offset,
+                                       final long limit ) throws KException {
         ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
         ArgCheck.isTrue( ( transaction.getState() == org.komodo.spi.repository.Repository.UnitOfWork.State.NOT_STARTED ),
         "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
         ArgCheck.isNotEmpty(queryStatement, "Query statement cannot be empty"); //$NON-NLS-1$
 
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("find: transaction = {0}, query = {1}", //$NON-NLS-1$
+            LOGGER.debug("find: transaction = {0}, query = {1}, offset = {2}, limit = {3}", //$NON-NLS-1$
                          transaction.getName(),
-                         queryStatement);
+                         queryStatement,
+                         offset,
+                         limit);
         }
 
         final Session session = getSession(transaction);
@@ -862,6 +1193,14 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
         try {
             QueryManager queryMgr = session.getWorkspace().getQueryManager();
             Query query = queryMgr.createQuery(queryStatement, Query.JCR_SQL2);
+
+            // let the query engine do the paging so only the requested nodes are loaded
+            if (offset > 0)
+                query.setOffset(offset);
+
+            if (limit >= 0)
+                query.setLimit(limit);
+
             QueryResult result = query.execute();
 
             NodeIterator itr = result.getNodes();
@@ -1247,7 +1586,9 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
      */
     @Override
     public void notify( final RepositoryClientEvent event ) {
-        // nothing to do
+        if ( ( event.getType() == RepositoryClientEvent.EventType.SHUTTING_DOWN ) && ( this.validationMgr != null ) ) {
+            this.validationMgr.dispose();
+        }
     }
 
     protected void notifyObservers() {
@@ -1320,6 +1661,8 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
                     while (itr.hasNext()) {
                         itr.nextNode().remove();
                     }
+
+                    ((UnitOfWorkImpl)transaction).uncacheNodes();
                 }
 
                 { // remove properties
@@ -1398,6 +1741,8 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
 
             try {
                 session.removeItem( absPath );
+                ( ( UnitOfWorkImpl )transaction ).uncacheNodes();
+                unprovisionHomes( transaction, absPath );
                 LOGGER.debug( "removed workspace node at path {0} in transaction {1}", absPath, transaction.getName() ); //$NON-NLS-1$
             } catch ( final Exception e ) {
                 if ( e instanceof KException ) {
@@ -1510,6 +1855,7 @@ public abstract class RepositoryImpl implements Repository, StringConstants {
             try {
                 if (session.itemExists(absPath)) {
                     session.removeItem(absPath);
+                    ((UnitOfWorkImpl)transaction).uncacheNodes();
                     LOGGER.debug("removed library node at path {0} in transaction {1}", absPath, transaction.getName()); //$NON-NLS-1$
                 } else {
                     throw new KException(Messages.getString(Messages.Komodo.UNABLE_TO_UNPUBLISH_NON_EXISTENT_ARTIFACT, absPath));
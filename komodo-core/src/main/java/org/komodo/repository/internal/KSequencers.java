@@ -23,10 +23,20 @@ package org.komodo.repository.internal;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.jcr.AccessDeniedException;
 import javax.jcr.ItemNotFoundException;
 import javax.jcr.Node;
@@ -60,17 +70,134 @@ import org.teiid.modeshape.sequencer.vdb.lexicon.VdbLexicon;
  */
 public class KSequencers implements StringConstants, EventListener, KSequencerController {
 
+    /**
+     * The maximum number of output nodes whose sequenced sql is remembered
+     */
+    private static final int SEQUENCED_SQL_CACHE_SIZE = 1000;
+
+    /**
+     * The maximum number of threads sequencing independent output nodes at the same time
+     */
+    private static final int SEQUENCER_THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * The commit id used for events saved without any user data
+     */
+    private static final String NO_COMMIT = EMPTY_STRING;
+
+    /**
+     * Sequencing work found in the events of a save
+     */
+    static class SequencerTask {
+
+        private final SequencerType sequencerType;
+
+        // null if the task only cleans the output node of a removed property
+        private final String propertyPath;
+
+        private final String outputPath;
+
+        private final String eventId;
+
+        // the commit waiting on this work
+        private final String commitId;
+
+        SequencerTask(SequencerType sequencerType, String propertyPath, String outputPath, String eventId, String commitId) {
+            this.sequencerType = sequencerType;
+            this.propertyPath = propertyPath;
+            this.outputPath = outputPath;
+            this.eventId = eventId;
+            this.commitId = commitId;
+        }
+
+        String getOutputPath() {
+            return outputPath;
+        }
+
+        /**
+         * @return true if the output nodes are the same or one contains the other
+         */
+        boolean overlaps(SequencerTask task) {
+            return outputPath.equals(task.outputPath) ||
+                        outputPath.startsWith(task.outputPath + FORWARD_SLASH) ||
+                        task.outputPath.startsWith(outputPath + FORWARD_SLASH);
+        }
+    }
+
+    /**
+     * The sql that produced the teiid sql nodes of each output node, so that saving the same sql again does not re-sequence it
+     */
+    static class SequencedSql {
+
+        // keyed by the output node identifier
+        private final Map<String, String> sqls;
+
+        SequencedSql(final int capacity) {
+            this.sqls = Collections.synchronizedMap(new LinkedHashMap<String, String>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > capacity;
+                }
+            });
+        }
+
+        /**
+         * Records that the property's sql has been sequenced into the output node
+         */
+        void sequenced(Property property, Node outputNode) throws RepositoryException {
+            sqls.put(outputNode.getIdentifier(), property.getString());
+        }
+
+        /**
+         * Forgets the sql of an output node whose query property has been removed
+         */
+        void removed(Node outputNode) throws RepositoryException {
+            sqls.remove(outputNode.getIdentifier());
+        }
+
+        /**
+         * @return true if the output node still has the teiid sql nodes sequenced from the same sql as the property
+         */
+        boolean isSequenced(Property property, Node outputNode) throws RepositoryException {
+            String sql = sqls.get(outputNode.getIdentifier());
+            if (sql == null || ! sql.equals(property.getString()))
+                return false;
+
+            NodeIterator children = outputNode.getNodes();
+            while (children.hasNext()) {
+                if (ModeshapeUtils.hasTypeNamespace(children.nextNode(), TeiidSqlLexicon.Namespace.PREFIX))
+                    return true;
+            }
+
+            return false;
+        }
+
+        int size() {
+            return sqls.size();
+        }
+    }
+
     private final WorkspaceIdentifier identifier;
 
     private Session session;
 
-    // Flag switched on only when a sequencing execution is started
-    private boolean sequencingActive = false;
+    // The identifiers of the sequencers whose events have still to arrive, keyed by the commit that started them.
+    // Commits from different users are saved concurrently so each commit waits only on its own sequencers.
+    private final Map<String, Set<String>> pendingSequencers = new ConcurrentHashMap<>();
+
+    // The commit that started each pending sequencer, keyed by the sequencer identifier
+    private final Map<String, String> sequencerCommits = new ConcurrentHashMap<>();
+
+    // Sequences independent output nodes in parallel. Created when first required.
+    private ExecutorService sequencerPool;
 
-    // List appended to by running sequencers detailing their unique identifiers
-    private List<String> runningSequencers = new ArrayList<>();
+    // Listeners are added by the engine session workers while being notified on the observation thread
+    private Set<KSequencerListener> listeners = Collections.newSetFromMap(new ConcurrentHashMap<KSequencerListener, Boolean>());
 
-    private Set<KSequencerListener> listeners = new HashSet<>();
+    private final SequencedSql sequencedSql = new SequencedSql(SEQUENCED_SQL_CACHE_SIZE);
 
     /**
      * Create new instance
@@ -108,6 +235,11 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
             session.logout();
             session = null;
         }
+
+        if (sequencerPool != null) {
+            sequencerPool.shutdownNow();
+            sequencerPool = null;
+        }
     }
 
     /**
@@ -442,15 +574,15 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
     }
 
     private void sequence(SequencerType sequencerType, Property property,
-                                                 Node outputNode, String eventId) throws Exception {
-        KLog.getLogger().debug("Executing pre-sequencing of " + sequencerType.name() + " Sequencer for property " + property.getName());  //$NON-NLS-1$//$NON-NLS-2$
+                                                 Node outputNode, String eventId, String commitId) throws Exception {
+        KLog.getLogger().debug("Executing pre-sequencing of {0} Sequencer for property {1}", sequencerType, property.getName());  //$NON-NLS-1$
         preSequenceClean(sequencerType, outputNode);
 
         Session seqSession = ModeshapeUtils.createSession(getIdentifier());
         KLog.getLogger().debug("KSequencers.sequenceClean: session = {0}", session.hashCode()); //$NON-NLS-1$
 
         try {
-            KLog.getLogger().debug("Executing " + sequencerType.name() + " Sequencer on property " + property.getName());  //$NON-NLS-1$//$NON-NLS-2$
+            KLog.getLogger().debug("Executing {0} Sequencer on property {1}", sequencerType, property.getName());  //$NON-NLS-1$
 
             Property seqProperty = seqSession.getProperty(property.getPath());
             Node seqOutputNode = seqSession.getNode(outputNode.getPath());
@@ -466,6 +598,8 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
                 status = checkSequencerWork(sequencerType, outputNode, seqOutputNode);
                 if (status) {
                     // Sequencer executed and changed something
+                    if (SequencerType.TSQL == sequencerType)
+                        sequencedSql.sequenced(property, outputNode);
 
                     // Create an identifier for this sequencer's work
                     String seqPropId = encode(eventId, sequencerType, property);
@@ -473,9 +607,9 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
                     // Adds the identifier to the user data for the 'next' event to be received by this listener
                     seqSession.getWorkspace().getObservationManager().setUserData(seqPropId);
 
-                    // Adds the identifier to the running sequencers to indicate work has been done and need to
+                    // Adds the identifier to the commit's pending sequencers to indicate work has been done and need to
                     // wait for the event to run through before proclaiming eveything is complete
-                    runningSequencers.add(seqPropId);
+                    addPendingSequencer(commitId, seqPropId);
 
                     try {
                         analyseSequencerResults(sequencerType, seqOutputNode);
@@ -496,6 +630,40 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
         return eventId + HYPHEN + sequencerType.name() + HYPHEN + property.getPath();
     }
 
+    /**
+     * @return the id of the commit whose save, or whose sequencers' saves, produced events with the user data
+     */
+    private String commitOf(String eventUserData) {
+        if (eventUserData == null)
+            return NO_COMMIT;
+
+        String commitId = sequencerCommits.get(eventUserData);
+        return commitId == null ? eventUserData : commitId;
+    }
+
+    private void addPendingSequencer(String commitId, String sequencerId) {
+        sequencerCommits.put(sequencerId, commitId);
+
+        Set<String> pending = pendingSequencers.get(commitId);
+        if (pending == null) {
+            Set<String> created = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+            pending = pendingSequencers.putIfAbsent(commitId, created);
+            if (pending == null)
+                pending = created;
+        }
+
+        pending.add(sequencerId);
+    }
+
+    private void discardPendingSequencers(String commitId) {
+        Set<String> pending = pendingSequencers.remove(commitId);
+        if (pending == null)
+            return;
+
+        for (String sequencerId : pending)
+            sequencerCommits.remove(sequencerId);
+    }
+
     private Node sequencedOutput(SequencerType sequencerType, Node outputNode)
         throws ItemNotFoundException, AccessDeniedException, RepositoryException {
         switch (sequencerType) {
@@ -510,17 +678,142 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
         return outputNode;
     }
 
-    private void sequence(SequencerType sequencerType, Property property, String eventId) throws Exception {
-        sequencingActive = true;
+    private synchronized ExecutorService sequencerPool() {
+        if (sequencerPool == null) {
+            sequencerPool = Executors.newFixedThreadPool(SEQUENCER_THREADS, new ThreadFactory() {
+
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "KSequencers-" + count.incrementAndGet()); //$NON-NLS-1$
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+
+        return sequencerPool;
+    }
+
+    /**
+     * Divides the tasks into groups that do not share output nodes. Tasks keep their order within a group.
+     */
+    static List<List<SequencerTask>> independentGroups(List<SequencerTask> tasks) {
+        List<List<SequencerTask>> groups = new ArrayList<>();
+
+        for (SequencerTask task : tasks) {
+            List<SequencerTask> taskGroup = null;
+            Iterator<List<SequencerTask>> iterator = groups.iterator();
+
+            while (iterator.hasNext()) {
+                List<SequencerTask> group = iterator.next();
+                boolean overlaps = false;
+
+                for (SequencerTask grouped : group) {
+                    if (grouped.overlaps(task)) {
+                        overlaps = true;
+                        break;
+                    }
+                }
+
+                if (! overlaps)
+                    continue;
+
+                if (taskGroup == null) {
+                    taskGroup = group;
+                } else {
+                    // the task joins two groups together
+                    taskGroup.addAll(group);
+                    iterator.remove();
+                }
+            }
+
+            if (taskGroup == null) {
+                taskGroup = new ArrayList<>();
+                groups.add(taskGroup);
+            }
+
+            taskGroup.add(task);
+        }
+
+        return groups;
+    }
+
+    private void sequence(Session taskSession, List<SequencerTask> tasks) throws Exception {
+        for (SequencerTask task : tasks) {
+            if (! taskSession.nodeExists(task.outputPath))
+                continue;
+
+            Node outputNode = taskSession.getNode(task.outputPath);
+
+            if (task.propertyPath == null) {
+                //
+                // Clean all the children that the sequencer was responsible for creating
+                //
+                preSequenceClean(task.sequencerType, outputNode);
+                continue;
+            }
+
+            if (! taskSession.propertyExists(task.propertyPath))
+                continue;
+
+            sequence(task.sequencerType, taskSession.getProperty(task.propertyPath), outputNode, task.eventId, task.commitId);
+        }
+    }
+
+    /**
+     * Runs the tasks, sequencing independent output nodes in parallel, and waits for them all to complete.
+     */
+    private void sequence(List<SequencerTask> tasks) throws Exception {
+        if (tasks.isEmpty())
+            return;
+
+        List<List<SequencerTask>> groups = independentGroups(tasks);
+        if (groups.size() == 1) {
+            sequence(session, groups.get(0));
+            return;
+        }
 
-        Node outputNode = property.getParent();
+        List<Future<Void>> futures = new ArrayList<>();
+        for (final List<SequencerTask> group : groups) {
+            futures.add(sequencerPool().submit(new Callable<Void>() {
+
+                @Override
+                public Void call() throws Exception {
+                    // sessions cannot be shared between threads
+                    Session taskSession = ModeshapeUtils.createSession(getIdentifier());
+
+                    try {
+                        sequence(taskSession, group);
+                        return null;
+                    } finally {
+                        taskSession.logout();
+                    }
+                }
+            }));
+        }
 
-        outputNode = sequencedOutput(sequencerType, outputNode);
+        Exception error = null;
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException ex) {
+                if (error == null) {
+                    Throwable cause = ex.getCause();
+                    error = (cause instanceof Exception) ? (Exception) cause : new Exception(cause);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw ex;
+            }
+        }
 
-        sequence(sequencerType, property, outputNode, eventId);
+        if (error != null)
+            throw error;
     }
 
-    private void notifySequencerCompletion(String eventUserData) {
+    private void notifySequencerCompletion(String commitId) {
         Iterator<KSequencerListener> iterator = listeners.iterator();
         while(iterator.hasNext()) {
             KSequencerListener listener = iterator.next();
@@ -530,15 +823,18 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
                 continue;
             }
 
-            if (eventUserData == null || ! eventUserData.startsWith(listener.id()))
-                continue; // Listener is not listening for this event
+            if (! listener.id().equals(commitId))
+                continue; // Listener is not listening for this commit
+
+            // Each listener is only ever notified once
+            iterator.remove();
 
-            KLog.getLogger().debug("KSequencers complete. Notifying " + listener); //$NON-NLS-1$
+            KLog.getLogger().debug("KSequencers complete. Notifying {0}", listener); //$NON-NLS-1$
             listener.sequencingCompleted();
         }
     }
 
-    private void notifySequencerError(String eventUserData, Exception exception) {
+    private void notifySequencerError(String commitId, Exception exception) {
         Iterator<KSequencerListener> iterator = listeners.iterator();
         while (iterator.hasNext()) {
             KSequencerListener listener = iterator.next();
@@ -548,10 +844,13 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
                 continue;
             }
 
-            if (eventUserData == null || ! eventUserData.startsWith(listener.id()))
-                continue; // Listener is not listening for this event
+            if (! listener.id().equals(commitId))
+                continue; // Listener is not listening for this commit
 
-            KLog.getLogger().debug("KSequencers error. Notifying " + listener + " of exception", exception); //$NON-NLS-1$ //$NON-NLS-2$
+            // Each listener is only ever notified once
+            iterator.remove();
+
+            KLog.getLogger().debug("KSequencers error. Notifying {0} of exception", exception, listener); //$NON-NLS-1$
             listener.sequencingError(exception);
         }
     }
@@ -562,12 +861,13 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
 
         String eventUserData = null;
         try {
+            List<SequencerTask> tasks = new ArrayList<>();
             int eventNo = 0;
             int systemEvents = 0;
             while (events.hasNext()) {
                 eventNo++;
 
-                KLog.getLogger().debug("KSequencers: Event in loop - " + eventNo); //$NON-NLS-1$
+                KLog.getLogger().debug("KSequencers: Event in loop - {0}", eventNo); //$NON-NLS-1$
                 Event event = events.nextEvent();
                 String eventPath = event.getPath();
                 eventUserData = event.getUserData();
@@ -595,7 +895,7 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
                     case Event.PROPERTY_ADDED:
                     case Event.PROPERTY_CHANGED:
                     {
-                        KLog.getLogger().debug("KSequencers: processing event " + eventUserData + " for path " + eventPath); //$NON-NLS-1$ //$NON-NLS-2$
+                        KLog.getLogger().debug("KSequencers: processing event {0} for path {1}", eventUserData, eventPath); //$NON-NLS-1$
 
                         if (! session.propertyExists(eventPath)) {
                             // property never got as far as being visible to this session
@@ -608,12 +908,20 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
                         if (sequencerType == null)
                             continue;
 
-                        sequence(sequencerType, property, eventUserData);
+                        Node outputNode = sequencedOutput(sequencerType, property.getParent());
+
+                        if (SequencerType.TSQL == sequencerType && sequencedSql.isSequenced(property, outputNode)) {
+                            KLog.getLogger().debug("Skipping {0} Sequencer on property {1} since its sql is unchanged", sequencerType, eventPath);  //$NON-NLS-1$
+                            continue;
+                        }
+
+                        tasks.add(new SequencerTask(sequencerType, eventPath, outputNode.getPath(),
+                                                    eventUserData, commitOf(eventUserData)));
                         continue;
                     }
                     case Event.PROPERTY_REMOVED:
                     {
-                        KLog.getLogger().debug("KSequencers: processing property removal event " + eventUserData + " for path " + eventPath); //$NON-NLS-1$ //$NON-NLS-2$
+                        KLog.getLogger().debug("KSequencers: processing property removal event {0} for path {1}", eventUserData, eventPath); //$NON-NLS-1$
                         int lastSlash = eventPath.lastIndexOf(FORWARD_SLASH);
                         if (lastSlash == -1)
                             continue; // Not going to be a sequenceable item if path contains no slashes
@@ -634,14 +942,21 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
                         //
                         node = sequencedOutput(sequencerType, node);
 
-                        //
-                        // Clean all the children that the sequencer was responsible for creating
-                        //
-                        preSequenceClean(sequencerType, node);
+                        if (SequencerType.TSQL == sequencerType)
+                            sequencedSql.removed(node);
+
+                        tasks.add(new SequencerTask(sequencerType, null, node.getPath(), eventUserData, commitOf(eventUserData)));
                     }
                 }
             }
 
+            //
+            // Sequence the properties found in the events. Work on different
+            // output nodes is done in parallel but all of it has completed,
+            // and registered in pendingSequencers, before continuing.
+            //
+            sequence(tasks);
+
             //
             // Event looping has completed.
             //
@@ -656,61 +971,64 @@ public class KSequencers implements StringConstants, EventListener, KSequencerCo
                 return;
             }
 
-            if (! sequencingActive) {
-                notifySequencerCompletion(eventUserData);
-                return; // No sequencers started so nothing further to do
-            }
+            String commitId = commitOf(eventUserData);
 
             //
-            // Sequencers add a user-data object to their events [ see sequence(SequencerType, Property, Node) ].
-            // The object is the same as that added to runningSequencers
+            // Sequencers add a user-data object to their events [ see sequence(SequencerType, Property, Node, String, String) ].
+            // The object is the same as that added to the pending sequencers of the commit.
             //
-            // If this set of events has a user-data object, try removing it from runningSequencers
+            // If this set of events has such a user-data object, remove it from the commit's pending sequencers
             // since this confirms that this set of events is the completion of that particular sequencer.
             //
-            if (eventUserData != null) {
-                boolean removed = runningSequencers.remove(eventUserData);
-                if (removed)
-                    KLog.getLogger().debug("Sequencer with id " + eventUserData + " has completed"); //$NON-NLS-1$ //$NON-NLS-2$
+            if (eventUserData != null && sequencerCommits.remove(eventUserData) != null) {
+                Set<String> pending = pendingSequencers.get(commitId);
+                if (pending != null)
+                    pending.remove(eventUserData);
+
+                KLog.getLogger().debug("Sequencer with id {0} has completed", eventUserData); //$NON-NLS-1$
             }
 
             //
-            // Determine if runningSequencers is empty. This can happen if
-            // a) no sequencers had been running (in which case sequencingActive would be false)
-            // b) the last sequencer identifier has been removed
+            // The commit is complete once none of its sequencers are pending. This can happen if
+            // a) no sequencers were started by the commit
+            // b) the last sequencer identifier of the commit has been removed
             //
-            if (runningSequencers.isEmpty()) {
-                //
-                // All sequencers have completed so reset sequencingActive
-                //
-                sequencingActive = false;
+            // Sequencers started by other commits are ignored since they are waited on by their own commits.
+            //
+            Set<String> pending = pendingSequencers.get(commitId);
+            if (pending == null || pending.isEmpty()) {
+                pendingSequencers.remove(commitId);
 
                 //
-                // Notify clients that sequencing has completed
+                // Notify the commit that sequencing has completed
                 //
-                notifySequencerCompletion(eventUserData);
+                notifySequencerCompletion(commitId);
             } else {
                 //
-                // Still sequencers are currently executing
+                // Still sequencers of this commit are currently executing
                 //
                 if (KLog.getLogger().isDebugEnabled()) {
-                    StringBuffer buffer = new StringBuffer("Current Sequencing Train: "); //$NON-NLS-1$
-                    for (String id : runningSequencers)
+                    StringBuffer buffer = new StringBuffer("Current Sequencing Train for " + commitId + ": "); //$NON-NLS-1$ //$NON-NLS-2$
+                    for (String id : pending)
                         buffer.append(id).append(TAB);
 
                     KLog.getLogger().debug(buffer.toString());
                 }
             }
         } catch (Throwable t) {
-            sequencingActive = false;
-            runningSequencers.clear();
+            //
+            // Only the commit whose events failed is abandoned
+            //
+            String commitId = commitOf(eventUserData);
+            discardPendingSequencers(commitId);
+
             Exception ex;
             if (t instanceof Exception)
                 ex = (Exception) t;
             else
                 ex = new Exception(t);
 
-            notifySequencerError(eventUserData, ex);
+            notifySequencerError(commitId, ex);
             return;
         }
     }
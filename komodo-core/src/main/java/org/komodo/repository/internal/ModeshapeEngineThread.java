@@ -29,8 +29,11 @@ import java.io.InputStreamReader;
 import java.net.URL;
 import java.util.Iterator;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import javax.jcr.Node;
 import javax.jcr.NodeIterator;
@@ -59,6 +62,14 @@ import org.modeshape.jcr.RepositoryConfiguration.FieldName;
 
 /**
  * The thread the ModeShape engine uses for local repositories.
+ * <p>
+ * Engine requests ({@link RequestType#START START}, {@link RequestType#STOP STOP} and {@link RequestType#CLEAR CLEAR}) are
+ * executed exclusively by this thread once all previously accepted session requests have completed. Session requests are
+ * handed off to a pool of session workers. Requests are assigned to a worker using the name of the user owning the session so
+ * that all requests for one user workspace are processed in the order they were accepted, while requests for different user
+ * workspaces are saved in parallel. Session requests made by the {@link Repository#SYSTEM_USER system user} may touch any
+ * workspace and so are also executed exclusively, as are commits of sessions that have changed anything outside of their user's
+ * home (eg. the environment, the validation rules or the searches) since those areas are shared by all users.
  */
 public class ModeshapeEngineThread extends Thread implements StringConstants {
 
@@ -172,8 +183,12 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
 
         private final String name;
         private final Session session;
+        private final boolean shared;
+        private final String userName;
 
         /**
+         * Constructs a request made on behalf of the {@link Repository#SYSTEM_USER system user}.
+         *
          * @param requestType
          *        the request type (cannot be <code>null</code> and must be a {@link SessionRequest session request}.
          * @param callback
@@ -187,31 +202,103 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
                                final RequestCallback callback,
                                final Session requestSession,
                                final String requestName ) {
+            this(requestType, callback, requestSession, requestName, Repository.SYSTEM_USER);
+        }
+
+        /**
+         * @param requestType
+         *        the request type (cannot be <code>null</code> and must be a {@link SessionRequest session request}.
+         * @param callback
+         *        the callback (can be <code>null</code>)
+         * @param requestSession
+         *        the session the request pertains to (cannot be <code>null</code>)
+         * @param requestName
+         *        a name given to the request for logging purposes
+         * @param requestUserName
+         *        the name of the user owning the session (cannot be empty)
+         */
+        public SessionRequest( final RequestType requestType,
+                               final RequestCallback callback,
+                               final Session requestSession,
+                               final String requestName,
+                               final String requestUserName ) {
+            this(requestType, callback, requestSession, requestName, requestUserName, false);
+        }
+
+        /**
+         * @param requestType
+         *        the request type (cannot be <code>null</code> and must be a {@link SessionRequest session request}.
+         * @param callback
+         *        the callback (can be <code>null</code>)
+         * @param requestSession
+         *        the session the request pertains to (cannot be <code>null</code>)
+         * @param requestName
+         *        a name given to the request for logging purposes
+         * @param requestUserName
+         *        the name of the user owning the session (cannot be empty)
+         * @param requestShared
+         *        <code>true</code> if the session has changes outside of the user's home
+         */
+        public SessionRequest( final RequestType requestType,
+                               final RequestCallback callback,
+                               final Session requestSession,
+                               final String requestName,
+                               final String requestUserName,
+                               final boolean requestShared ) {
             super(requestType, callback);
 
             ArgCheck.isTrue(RequestType.isSessionRequest(requestType), "request type is not a session request"); //$NON-NLS-1$
             ArgCheck.isNotNull(requestSession, "requestSession"); //$NON-NLS-1$
             ArgCheck.isNotEmpty(requestName, "requestName"); //$NON-NLS-1$
+            ArgCheck.isNotEmpty(requestUserName, "requestUserName"); //$NON-NLS-1$
 
             this.session = requestSession;
             this.name = requestName;
+            this.userName = requestUserName;
+            this.shared = requestShared;
         }
 
         String getName() {
             return this.name;
         }
 
+        String getUserName() {
+            return this.userName;
+        }
+
         Session getSession() {
             return this.session;
         }
 
+        boolean isShared() {
+            return this.shared;
+        }
+
     }
 
+    /**
+     * The system property that can be set with the number of workers used to process session requests. Default is the number of
+     * available processors (with a minimum of 2).
+     */
+    public static final String SESSION_WORKERS_PROPERTY = "komodo.engine.sessionWorkers"; //$NON-NLS-1$
+
+    /**
+     * The number of session workers used when the {@link #SESSION_WORKERS_PROPERTY} has not been set.
+     */
+    public static final int DEFAULT_SESSION_WORKERS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
     private final static ModeShapeEngine msEngine = new ModeShapeEngine();
     private static final KLog LOGGER = KLog.getLogger();
 
     private BlockingQueue< Request > queue = new LinkedBlockingQueue< Request >();
 
+    /**
+     * Each worker is single-threaded so the requests assigned to it are processed in the order they were accepted.
+     */
+    private final ExecutorService[] sessionWorkers;
+
+    private final ReadOnlySessionPool readOnlySessions;
+
     private volatile boolean stop = false;
 
     private volatile Exception error = null;
@@ -220,7 +307,7 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
 
     private final Repository.Id repoId;
 
-    private KSequencerController sequencers;
+    private volatile KSequencerController sequencers;
 
     /**
      * Create this thread and give it a name
@@ -229,15 +316,47 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
      *        information identifying the repository (cannot be <code>null</code>)
      */
     public ModeshapeEngineThread( final Repository.Id repoId ) {
+        this(repoId, Integer.getInteger(SESSION_WORKERS_PROPERTY, DEFAULT_SESSION_WORKERS));
+    }
+
+    /**
+     * Create this thread and give it a name
+     *
+     * @param repoId
+     *        information identifying the repository (cannot be <code>null</code>)
+     * @param workerCount
+     *        the number of workers used to process session requests (must be greater than zero)
+     */
+    public ModeshapeEngineThread( final Repository.Id repoId,
+                                  final int workerCount ) {
         super("Modeshape Engine Thread"); //$NON-NLS-1$
+        ArgCheck.isTrue(workerCount > 0, "workerCount must be greater than zero"); //$NON-NLS-1$
         this.repoId = repoId;
         this.identifier = new WorkspaceIdentifier(repoId.getWorkspaceName());
+        this.sessionWorkers = new ExecutorService[workerCount];
+        this.readOnlySessions = new ReadOnlySessionPool(this.identifier,
+                                                        Integer.getInteger(ReadOnlySessionPool.MAX_IDLE_SESSIONS_PROPERTY,
+                                                                           ReadOnlySessionPool.DEFAULT_MAX_IDLE_SESSIONS));
+
+        for (int i = 0; i < workerCount; ++i) {
+            final String workerName = "Modeshape Session Worker " + i; //$NON-NLS-1$
+            this.sessionWorkers[i] = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+                @Override
+                public Thread newThread( final Runnable runnable ) {
+                    final Thread thread = new Thread(runnable, workerName);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+
         setDaemon(true);
     }
 
     private void respondCallback(final Request request, Object result) {
         if (request.getCallback() != null) {
-            LOGGER.debug("ModeshapeEngineThread: Responding to callback: " + request.getCallback().getClass().getName()); //$NON-NLS-1$
+            LOGGER.debug("ModeshapeEngineThread: Responding to callback: {0}", request.getCallback().getClass().getName()); //$NON-NLS-1$
             request.getCallback().respond(result);
         } else
             LOGGER.debug("ModeshapeEngineThread: No callback assigned"); //$NON-NLS-1$
@@ -257,7 +376,7 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
         session.logout();
     }
 
-    private synchronized void commitSession( final Request request ) {
+    private void commitSession( final Request request ) {
         ArgCheck.isTrue(request.getRequestType() == RequestType.COMMIT_SESSION,
                         "commitSession called when request is not a commit session"); //$NON-NLS-1$
         final SessionRequest commitRequest = (SessionRequest)request;
@@ -373,7 +492,7 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
         return this.error;
     }
 
-    private synchronized void rollbackSession( final Request request, Throwable error) {
+    private void rollbackSession( final Request request, Throwable error) {
         ArgCheck.isTrue(request.getRequestType() == RequestType.ROLLBACK_SESSION,
                         "rollbackSession called when request is not a rollback session"); //$NON-NLS-1$
         final SessionRequest rollbackRequest = (SessionRequest)request;
@@ -546,6 +665,8 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
 
     private synchronized void stopEngine(Request request) {
         try {
+            readOnlySessions.clear();
+
             if (sequencers != null) {
                 sequencers.dispose();
                 sequencers = null;
@@ -565,6 +686,8 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
     }
 
     private synchronized void clear(Request request)  throws Exception {
+        readOnlySessions.clear();
+
         Session session = ModeshapeUtils.createSession(identifier);
         if (session == null || !session.isLive())
             return;
@@ -641,7 +764,7 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
         commitSession(saveRequest);
     }
 
-    private synchronized void createSession(final Request request) {
+    private void createSession(final Request request) {
         Object results = null;
         try {
             results = ModeshapeUtils.createSession(identifier);
@@ -652,43 +775,141 @@ public class ModeshapeEngineThread extends Thread implements StringConstants {
         }
     }
 
+    /**
+     * Read-only sessions are obtained directly from this pool and never pass through the request queue.
+     *
+     * @return the pool of sessions used by read-only transactions (never <code>null</code>)
+     */
+    public ReadOnlySessionPool getReadOnlySessionPool() {
+        return this.readOnlySessions;
+    }
+
+    /**
+     * @return the number of workers processing session requests
+     */
+    public int getSessionWorkerCount() {
+        return this.sessionWorkers.length;
+    }
+
+    private boolean isExclusive( final Request request ) {
+        if (!(request instanceof SessionRequest))
+            return true;
+
+        //
+        // The system user is not confined to a user workspace so its
+        // commits and rollbacks cannot be run alongside other sessions.
+        // Nor can the commits of users that have changed shared areas.
+        //
+        final SessionRequest sessionRequest = (SessionRequest)request;
+        return Repository.SYSTEM_USER.equals(sessionRequest.getUserName()) || sessionRequest.isShared();
+    }
+
+    private ExecutorService sessionWorker( final SessionRequest request ) {
+        final int index = (request.getUserName().hashCode() & Integer.MAX_VALUE) % this.sessionWorkers.length;
+        return this.sessionWorkers[index];
+    }
+
+    /**
+     * Blocks until every session request handed to a worker prior to this call has completed.
+     */
+    private void awaitSessionWorkers() throws Exception {
+        final Runnable noop = new Runnable() {
+
+            @Override
+            public void run() {
+                // nothing to do
+            }
+        };
+
+        final Future< ? >[] barriers = new Future< ? >[this.sessionWorkers.length];
+
+        for (int i = 0; i < this.sessionWorkers.length; ++i) {
+            barriers[i] = this.sessionWorkers[i].submit(noop);
+        }
+
+        for (final Future< ? > barrier : barriers) {
+            barrier.get();
+        }
+    }
+
+    private void shutdownSessionWorkers() {
+        for (final ExecutorService worker : this.sessionWorkers) {
+            worker.shutdown();
+        }
+    }
+
+    private void process( final Request request ) throws Exception {
+        switch (request.getRequestType()) {
+            case START:
+                startEngine(request);
+                break;
+            case STOP:
+                stopEngine(request);
+                stop = true;
+                break;
+            case CLEAR:
+                clear(request);
+                break;
+            case CREATE_SESSION:
+                createSession(request);
+                break;
+            case COMMIT_SESSION:
+                commitSession(request);
+                break;
+            case ROLLBACK_SESSION:
+                rollbackSession(request, null);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void dispatch( final Request request ) throws Exception {
+        if (request.getRequestType() == RequestType.CREATE_SESSION) {
+            // creating a session does not touch any workspace content so need not wait on the workers
+            process(request);
+            return;
+        }
+
+        if (isExclusive(request)) {
+            awaitSessionWorkers();
+            process(request);
+            return;
+        }
+
+        final SessionRequest sessionRequest = (SessionRequest)request;
+        sessionWorker(sessionRequest).execute(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    process(sessionRequest);
+                } catch (final Throwable e) {
+                    LOGGER.error(Messages.getString(Messages.LocalRepository.General_Exception), e);
+                    errorCallback(sessionRequest, e);
+                }
+            }
+        });
+    }
+
     @Override
     public void run() {
-        while (!stop) {
-            try {
-                Request request = queue.poll(1000L, TimeUnit.MILLISECONDS);
-
-                if (request == null) continue;
-
-                switch (request.getRequestType()) {
-                    case START:
-                        startEngine(request);
-                        break;
-                    case STOP:
-                        stopEngine(request);
-                        stop = true;
-                        break;
-                    case CLEAR:
-                        clear(request);
-                        break;
-                    case CREATE_SESSION:
-                        createSession(request);
-                        break;
-                    case COMMIT_SESSION:
-                        commitSession(request);
-                        break;
-                    case ROLLBACK_SESSION:
-                        rollbackSession(request, null);
-                        break;
-                    default:
-                        break;
-                }
+        try {
+            while (!stop) {
+                try {
+                    Request request = queue.poll(1000L, TimeUnit.MILLISECONDS);
 
-            } catch (final Exception e) {
-                stop = true;
-                error = e;
-                KEngine.getInstance().getErrorHandler().error(Messages.getString(Messages.LocalRepository.General_Exception), e);
+                    if (request == null) continue;
+
+                    dispatch(request);
+                } catch (final Exception e) {
+                    stop = true;
+                    error = e;
+                    KEngine.getInstance().getErrorHandler().error(Messages.getString(Messages.LocalRepository.General_Exception), e);
+                }
             }
+        } finally {
+            shutdownSessionWorkers();
         }
     }
 
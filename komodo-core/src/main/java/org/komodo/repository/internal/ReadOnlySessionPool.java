@@ -0,0 +1,120 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.repository.internal;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import javax.jcr.Session;
+import org.komodo.utils.ArgCheck;
+import org.komodo.utils.KLog;
+
+/**
+ * A bounded pool of sessions used by read-only transactions. Sessions are created directly against the repository rather than
+ * through the {@link ModeshapeEngineThread engine thread} request queue. A session returned to the pool has its pending changes
+ * discarded so it can never be used to save content.
+ */
+public class ReadOnlySessionPool {
+
+    /**
+     * The system property that can be set with the maximum number of idle read-only sessions to keep. Default is
+     * {@value #DEFAULT_MAX_IDLE_SESSIONS}.
+     */
+    public static final String MAX_IDLE_SESSIONS_PROPERTY = "komodo.engine.readOnlySessions"; //$NON-NLS-1$
+
+    /**
+     * The maximum number of idle read-only sessions kept when the {@link #MAX_IDLE_SESSIONS_PROPERTY} has not been set.
+     */
+    public static final int DEFAULT_MAX_IDLE_SESSIONS = 16;
+
+    private static final KLog LOGGER = KLog.getLogger();
+
+    private final WorkspaceIdentifier identifier;
+
+    private final BlockingQueue< Session > idle;
+
+    /**
+     * @param identifier
+     *        the identifier of the workspace the sessions are created in (cannot be <code>null</code>)
+     * @param maxIdleSessions
+     *        the maximum number of idle sessions kept in the pool (must be greater than zero)
+     */
+    public ReadOnlySessionPool( final WorkspaceIdentifier identifier,
+                                final int maxIdleSessions ) {
+        ArgCheck.isNotNull(identifier, "identifier"); //$NON-NLS-1$
+        ArgCheck.isTrue(maxIdleSessions > 0, "maxIdleSessions must be greater than zero"); //$NON-NLS-1$
+        this.identifier = identifier;
+        this.idle = new ArrayBlockingQueue<>(maxIdleSessions);
+    }
+
+    /**
+     * @return an idle session or a new session if none are idle (never <code>null</code>)
+     * @throws Exception
+     *         if the repository is not running or a session cannot be created
+     */
+    public Session borrow() throws Exception {
+        Session session = null;
+
+        while ((session = this.idle.poll()) != null) {
+            if (session.isLive()) {
+                LOGGER.debug("ReadOnlySessionPool.borrow: reusing session {0}", session.hashCode()); //$NON-NLS-1$
+                return session;
+            }
+        }
+
+        return ModeshapeUtils.createSession(this.identifier);
+    }
+
+    /**
+     * Discards any changes made to the session and returns it to the pool. If the pool is full the session is logged out.
+     *
+     * @param session
+     *        the session being returned (can be <code>null</code>)
+     */
+    public void release( final Session session ) {
+        if ((session == null) || !session.isLive())
+            return;
+
+        try {
+            session.refresh(false);
+
+            if (this.idle.offer(session))
+                return;
+        } catch (final Exception e) {
+            LOGGER.debug("ReadOnlySessionPool.release: unable to refresh session {0}", e, session.hashCode()); //$NON-NLS-1$
+        }
+
+        session.logout();
+    }
+
+    /**
+     * Logs out all the idle sessions.
+     */
+    public void clear() {
+        Session session = null;
+
+        while ((session = this.idle.poll()) != null) {
+            if (session.isLive())
+                session.logout();
+        }
+    }
+
+}
@@ -66,6 +66,10 @@ public class ObjectSearcher implements TeiidSqlConstants.Reserved, StringConstan
 
     private Map<String, String> parameters = new HashMap<>();
 
+    private long offset;
+
+    private long limit = Repository.NO_LIMIT;
+
     /**
      * @param repository the repository to search
      */
@@ -382,6 +386,44 @@ public class ObjectSearcher implements TeiidSqlConstants.Reserved, StringConstan
         return this;
     }
 
+    /**
+     * @return the number of leading results skipped by the search
+     */
+    public long getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * Skip the first results of the search. The offset is applied by the query engine so skipped
+     * results are never loaded.
+     *
+     * @param offset the number of leading results to skip (zero or negative if none are skipped)
+     * @return this search object
+     */
+    public ObjectSearcher setOffset(long offset) {
+        this.offset = Math.max(0, offset);
+        return this;
+    }
+
+    /**
+     * @return the maximum number of results returned by the search or {@link Repository#NO_LIMIT}
+     */
+    public long getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * Limit the number of results of the search. The limit is applied by the query engine so
+     * results past the limit are never loaded.
+     *
+     * @param limit the maximum number of results (negative or {@link Repository#NO_LIMIT} if all results are returned)
+     * @return this search object
+     */
+    public ObjectSearcher setLimit(long limit) {
+        this.limit = limit < 0 ? Repository.NO_LIMIT : limit;
+        return this;
+    }
+
     private boolean hasWhere() {
         return (whereClauses != null && ! whereClauses.isEmpty()) || customWhereClause != null;
     }
@@ -551,6 +593,8 @@ public class ObjectSearcher implements TeiidSqlConstants.Reserved, StringConstan
         int result = 1;
         result = prime * result + ((this.customWhereClause == null) ? 0 : this.customWhereClause.hashCode());
         result = prime * result + ((this.fromType == null) ? 0 : this.fromType.hashCode());
+        result = prime * result + (int)(this.limit ^ (this.limit >>> 32));
+        result = prime * result + (int)(this.offset ^ (this.offset >>> 32));
         result = prime * result + ((this.repository == null) ? 0 : this.repository.hashCode());
         result = prime * result + ((this.whereClauses == null) ? 0 : this.whereClauses.hashCode());
         return result;
@@ -577,6 +621,10 @@ public class ObjectSearcher implements TeiidSqlConstants.Reserved, StringConstan
         } else
             if (!this.fromType.equals(other.fromType))
                 return false;
+        if (this.limit != other.limit)
+            return false;
+        if (this.offset != other.offset)
+            return false;
         if (this.repository == null) {
             if (other.repository != null)
                 return false;
@@ -618,7 +666,7 @@ public class ObjectSearcher implements TeiidSqlConstants.Reserved, StringConstan
         }
 
         // execute query
-        results = getRepository().query(transaction, statement);
+        results = getRepository().query(transaction, statement, offset, limit);
 
         return results;
     }
@@ -23,11 +23,14 @@ package org.komodo.repository.validation;
 
 import java.text.NumberFormat;
 import java.text.ParseException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import org.komodo.core.KomodoLexicon;
 import org.komodo.repository.Messages;
 import org.komodo.repository.ObjectImpl;
@@ -100,6 +103,214 @@ public class RuleImpl extends ObjectImpl implements Rule {
 
     }
 
+    /**
+     * The parts of a rule that are needed to evaluate it, read once so that evaluating the rule does not go back to the
+     * repository for each of its properties.
+     */
+    static final class Definition {
+
+        private static final String[] NO_VALUES = new String[ 0 ];
+
+        private static String getString( final UnitOfWork transaction,
+                                         final RuleImpl rule,
+                                         final String propName ) throws KException {
+            final Property prop = rule.getProperty( transaction, propName );
+            return ( prop == null ) ? null : prop.getStringValue( transaction );
+        }
+
+        private static String[] getStrings( final UnitOfWork transaction,
+                                            final RuleImpl rule,
+                                            final String propName ) throws KException {
+            final Property prop = rule.getProperty( transaction, propName );
+            return ( prop == null ) ? NO_VALUES : prop.getStringValues( transaction );
+        }
+
+        private static boolean getBoolean( final UnitOfWork transaction,
+                                           final RuleImpl rule,
+                                           final String propName,
+                                           final boolean defaultValue ) throws KException {
+            final Property prop = rule.getProperty( transaction, propName );
+            return ( prop == null ) ? defaultValue : prop.getBooleanValue( transaction );
+        }
+
+        private final String name;
+        private final String nodeType;
+        private final boolean enabled;
+        private final Level severity;
+        private final RuleType ruleType;
+        private final ValidationType validationType;
+        private final KException typeError;
+        private final String jcrName;
+        private final boolean required;
+        private final Pattern pattern;
+        private final PatternSyntaxException patternError;
+        private final String minValue;
+        private final boolean minInclusive;
+        private final String maxValue;
+        private final boolean maxInclusive;
+        private final String[] propExists;
+        private final String[] propAbsent;
+        private final String[] childExists;
+        private final String[] childAbsent;
+        private final boolean matchType;
+        private final Map< String, String > nodeRestrictions;
+        private final Map< String, String > childRestrictions;
+        private final Map< String, Map< String, String > > messages = new HashMap<>();
+
+        Definition( final UnitOfWork transaction,
+                    final RuleImpl rule ) throws KException {
+            this.name = rule.getName( transaction );
+            this.nodeType = rule.getNodeType( transaction );
+            this.enabled = rule.isEnabled( transaction );
+            this.severity = rule.getSeverity( transaction );
+
+            { // a bad type is reported when the rule is evaluated
+                RuleType theRuleType = null;
+                ValidationType theValidationType = null;
+                KException theTypeError = null;
+
+                try {
+                    theRuleType = rule.getRuleType( transaction );
+                    theValidationType = rule.getValidationType( transaction );
+                } catch ( final KException e ) {
+                    theTypeError = e;
+                }
+
+                this.ruleType = theRuleType;
+                this.validationType = theValidationType;
+                this.typeError = theTypeError;
+            }
+
+            { // a bad pattern is reported when the rule is evaluated
+                final String regex = getString( transaction, rule, KomodoLexicon.Rule.PATTERN );
+                Pattern thePattern = null;
+                PatternSyntaxException thePatternError = null;
+
+                if ( regex != null ) {
+                    try {
+                        thePattern = Pattern.compile( regex );
+                    } catch ( final PatternSyntaxException e ) {
+                        thePatternError = e;
+                    }
+                }
+
+                this.pattern = thePattern;
+                this.patternError = thePatternError;
+            }
+
+            this.jcrName = getString( transaction, rule, KomodoLexicon.Rule.JCR_NAME );
+            this.required = getBoolean( transaction, rule, KomodoLexicon.Rule.REQUIRED, false );
+            this.minValue = getString( transaction, rule, KomodoLexicon.Rule.MIN_VALUE );
+            this.minInclusive = getBoolean( transaction, rule, KomodoLexicon.Rule.MIN_VALUE_INCLUSIVE, true );
+            this.maxValue = getString( transaction, rule, KomodoLexicon.Rule.MAX_VALUE );
+            this.maxInclusive = getBoolean( transaction, rule, KomodoLexicon.Rule.MAX_VALUE_INCLUSIVE, true );
+            this.propExists = getStrings( transaction, rule, KomodoLexicon.Rule.PROP_EXISTS );
+            this.propAbsent = getStrings( transaction, rule, KomodoLexicon.Rule.PROP_ABSENT );
+            this.childExists = getStrings( transaction, rule, KomodoLexicon.Rule.CHILD_EXISTS );
+            this.childAbsent = getStrings( transaction, rule, KomodoLexicon.Rule.CHILD_ABSENT );
+            this.matchType = getBoolean( transaction, rule, KomodoLexicon.Rule.MATCH_TYPE, false );
+            this.nodeRestrictions = Collections.unmodifiableMap( rule.getPropRestrictions( transaction, PropertyRestriction.NODE ) );
+            this.childRestrictions = Collections.unmodifiableMap( rule.getPropRestrictions( transaction, PropertyRestriction.CHILD ) );
+
+            if ( rule.hasChild( transaction, KomodoLexicon.Rule.MESSAGES ) ) {
+                final KomodoObject grouping = rule.getChild( transaction,
+                                                             KomodoLexicon.Rule.MESSAGES,
+                                                             KomodoLexicon.Rule.LOCALIZED_MESSAGE_GROUPING );
+
+                for ( final KomodoObject message : grouping.getChildrenOfType( transaction, KomodoLexicon.Rule.LOCALIZED_MESSAGE ) ) {
+                    final Map< String, String > localizedTexts = new HashMap<>();
+
+                    for ( final KomodoObject text : message.getChildrenOfType( transaction, KomodoLexicon.Rule.LOCALIZED_TEXT_TYPE ) ) {
+                        localizedTexts.put( text.getName( transaction ),
+                                            text.getProperty( transaction, KomodoLexicon.Rule.LOCALIZED_TEXT ).getStringValue( transaction ) );
+                    }
+
+                    this.messages.put( message.getName( transaction ), localizedTexts );
+                }
+            }
+        }
+
+        String getName() {
+            return this.name;
+        }
+
+        String getNodeType() {
+            return this.nodeType;
+        }
+
+        boolean isEnabled() {
+            return this.enabled;
+        }
+
+        Map< String, String > getNodeRestrictions() {
+            return this.nodeRestrictions;
+        }
+
+        RuleType getRuleType() throws KException {
+            if ( this.typeError != null ) {
+                throw this.typeError;
+            }
+
+            return this.ruleType;
+        }
+
+        ValidationType getValidationType() throws KException {
+            if ( this.typeError != null ) {
+                throw this.typeError;
+            }
+
+            return this.validationType;
+        }
+
+        boolean matches( final String value ) throws KException {
+            if ( this.patternError != null ) {
+                throw new KException( this.patternError );
+            }
+
+            assert ( this.pattern != null );
+            return this.pattern.matcher( value ).matches();
+        }
+
+        String getMessage( final String key ) {
+            final Map< String, String > localizedTexts = this.messages.get( key );
+
+            if ( localizedTexts == null ) {
+                return null;
+            }
+
+            String text = localizedTexts.get( getLocaleCode( true, true ) );
+
+            if ( text == null ) {
+                text = localizedTexts.get( getLocaleCode( true, false ) );
+
+                if ( text == null ) {
+                    text = localizedTexts.get( getLocaleCode( false, false ) );
+                }
+            }
+
+            return text;
+        }
+
+        String getDescription() {
+            return getMessage( MessageKey.DESCRIPTION.name() );
+        }
+
+        /*
+         * Gets the message for the specified key.  If a 'message' is not found for the key, the rule 'description' is returned.
+         */
+        String getMessageOrDescription( final String key ) {
+            final String errorMsg = getMessage( key );
+
+            // if error message for specified key not found, use description.
+            if ( StringUtils.isBlank( errorMsg ) ) {
+                return getDescription();
+            }
+
+            return errorMsg;
+        }
+
+    }
+
     private static String getLocaleCode( final boolean includeCountry,
                                          final boolean includeVariant ) {
         final Locale locale = Locale.getDefault();
@@ -143,6 +354,40 @@ public class RuleImpl extends ObjectImpl implements Rule {
         super( repository, path, 0 );
     }
 
+    /**
+     * The definition read when the rule was indexed. Discarded when the rule is changed through this object so that the
+     * change is seen by the next evaluation.
+     */
+    private volatile Definition definition;
+
+    /**
+     * Reads the rule definition and keeps it for evaluating this rule.
+     *
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> or have a state that is not {@link State#NOT_STARTED})
+     * @return the definition (never <code>null</code>)
+     * @throws KException
+     *         if an error occurs
+     */
+    Definition snapshot( final UnitOfWork transaction ) throws KException {
+        final Definition result = new Definition( transaction, this );
+        this.definition = result;
+        return result;
+    }
+
+    /**
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> or have a state that is not {@link State#NOT_STARTED})
+     * @return the kept definition or, if there isn't one, the definition as it is now in the repository (never
+     *         <code>null</code>)
+     * @throws KException
+     *         if an error occurs
+     */
+    Definition getDefinition( final UnitOfWork transaction ) throws KException {
+        final Definition result = this.definition;
+        return ( result == null ) ? new Definition( transaction, this ) : result;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -156,23 +401,25 @@ public class RuleImpl extends ObjectImpl implements Rule {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
         ArgCheck.isNotNull( kobject, "kobject" ); //$NON-NLS-1$
 
-        if ( !isEnabled( transaction ) ) {
-            return new ProblemRule(getName(transaction),ProblemRule.Type.NOT_ENABLED).evaluate(transaction, kobject);
+        final Definition rule = getDefinition( transaction );
+
+        if ( !rule.isEnabled() ) {
+            return new ProblemRule(rule.getName(),ProblemRule.Type.NOT_ENABLED).evaluate(transaction, kobject);
         }
 
         try {
-            final RuleType ruleType = getRuleType( transaction );
+            final RuleType ruleType = rule.getRuleType();
 
-            switch ( getValidationType( transaction ) ) {
+            switch ( rule.getValidationType() ) {
                 case NODE:
-                    return evaluateNodeRule( transaction, kobject, ruleType );
+                    return evaluateNodeRule( transaction, kobject, rule, ruleType );
                 case PROPERTY:
-                    return evaluatePropertyRule( transaction, kobject, ruleType );
+                    return evaluatePropertyRule( transaction, kobject, rule, ruleType );
                 case CHILD:
-                    return evaluateChildRule( transaction, kobject, ruleType );
+                    return evaluateChildRule( transaction, kobject, rule, ruleType );
                 default:
                     // need to add new validation type
-                    throw new RuntimeException( "Unexpected validation type of '" + getValidationType( transaction ) + '\'' ); //$NON-NLS-1$
+                    throw new RuntimeException( "Unexpected validation type of '" + rule.getValidationType() + '\'' ); //$NON-NLS-1$
             }
         } catch ( final Exception e ) {
             if ( e instanceof KException ) {
@@ -185,38 +432,29 @@ public class RuleImpl extends ObjectImpl implements Rule {
 
     private Result evaluateChildRule( final UnitOfWork transaction,
                                       final KomodoObject kobject,
+                                      final Definition rule,
                                       final RuleType ruleType ) throws KException {
-        final Property childTypeProp = getProperty( transaction, KomodoLexicon.Rule.JCR_NAME );
-        assert ( childTypeProp != null );
+        final String childType = rule.jcrName;
+        assert ( childType != null );
 
-        final String childType = childTypeProp.getStringValue( transaction );
-        final Map<String,String> propRestrictions = getPropRestrictions(transaction,PropertyRestriction.CHILD);
-        
         // Determine if a child that passes the type and property restrictions exists
-        KomodoObject[] matchingChildren = ValidationUtils.getChildrenMatchingTypeAndPropRestrictions(transaction, kobject, childType, propRestrictions);
+        KomodoObject[] matchingChildren = ValidationUtils.getChildrenMatchingTypeAndPropRestrictions(transaction, kobject, childType, rule.childRestrictions);
         boolean hasChildWithTypeAndRestrictions = matchingChildren.length > 0;
-        
-        // Determine if the property is required
-        final Property childRequired = getProperty( transaction, KomodoLexicon.Rule.REQUIRED );
-        boolean childRqd = false;
-        if(childRequired!=null) {
-            childRqd = childRequired.getBooleanValue( transaction );
-        }
-        
+
         String errorMsg = null;
         String[] args = null;
 
         // Child required but does not exist.
-        if(childRqd && !hasChildWithTypeAndRestrictions) {
+        if(rule.required && !hasChildWithTypeAndRestrictions) {
             // Use rule description if found, otherwise use a default 'child not found' message.
-            errorMsg = getDescription( transaction );
+            errorMsg = rule.getDescription();
             if( StringUtils.isBlank(errorMsg) ) {
                 args = new String[] { childType, kobject.getName( transaction ), kobject.getAbsolutePath() };
                 errorMsg = Messages.getString( Messages.Validation.CHILD_OF_REQUIRED_TYPE_NOT_FOUND, ( Object[] )args );
             }
-            return new ResultImpl( kobject.getAbsolutePath(), getName( transaction ), getSeverity( transaction ), errorMsg );
+            return new ResultImpl( kobject.getAbsolutePath(), rule.getName(), rule.severity, errorMsg );
         }
-        
+
         switch ( ruleType ) {
             case NUMBER: {
                 final Integer childCount = matchingChildren.length;
@@ -225,24 +463,16 @@ public class RuleImpl extends ObjectImpl implements Rule {
 
                 try {
                     { // check min value
-                        final Property minValueProp = getProperty( transaction, KomodoLexicon.Rule.MIN_VALUE );
-
-                        if ( minValueProp != null ) {
+                        if ( rule.minValue != null ) {
                             minChecked = true;
-                            boolean inclusive = true;
-                            final Property minInclusiveProp = getProperty( transaction, KomodoLexicon.Rule.MIN_VALUE_INCLUSIVE );
-
-                            if ( minInclusiveProp != null ) {
-                                inclusive = minInclusiveProp.getBooleanValue( transaction );
-                            }
-
-                            final String minString = minValueProp.getStringValue( transaction );
+                            final boolean inclusive = rule.minInclusive;
+                            final String minString = rule.minValue;
                             final Number minValue = NumberFormat.getInstance().parse( minString );
                             final int result = Double.compare( childCount.doubleValue(), minValue.doubleValue() );
 
                             if ( ( inclusive && ( result < 0 ) ) || ( !inclusive && ( result <= 0 ) ) ) {
                                 // Get specific message or description
-                                errorMsg = getMessageOrDescription( transaction, MessageKey.CHILD_COUNT_BELOW_MIN_VALUE.name() );
+                                errorMsg = rule.getMessageOrDescription( MessageKey.CHILD_COUNT_BELOW_MIN_VALUE.name() );
                                 // If rule does not have message or description for the locale, use a default.
                                 if(StringUtils.isBlank(errorMsg)) {
                                     args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), childCount.toString(), childType, minString };
@@ -254,24 +484,16 @@ public class RuleImpl extends ObjectImpl implements Rule {
 
                     if ( StringUtils.isBlank( errorMsg ) ) {
                         { // check max value
-                            final Property maxValueProp = getProperty( transaction, KomodoLexicon.Rule.MAX_VALUE );
-
-                            if ( maxValueProp != null ) {
+                            if ( rule.maxValue != null ) {
                                 maxChecked = true;
-                                boolean inclusive = true;
-                                final Property maxInclusiveProp = getProperty( transaction, KomodoLexicon.Rule.MAX_VALUE_INCLUSIVE );
-
-                                if ( maxInclusiveProp != null ) {
-                                    inclusive = maxInclusiveProp.getBooleanValue( transaction );
-                                }
-
-                                final String maxString = maxValueProp.getStringValue( transaction );
+                                final boolean inclusive = rule.maxInclusive;
+                                final String maxString = rule.maxValue;
                                 final Number maxValue = NumberFormat.getInstance().parse( maxString );
                                 final int result = Double.compare( childCount.doubleValue(), maxValue.doubleValue() );
 
                                 if ( ( inclusive && ( result > 0 ) ) || ( !inclusive && ( result >= 0 ) ) ) {
                                     // Get specific message or description
-                                    errorMsg = getMessageOrDescription( transaction, MessageKey.CHILD_COUNT_ABOVE_MAX_VALUE.name() );
+                                    errorMsg = rule.getMessageOrDescription( MessageKey.CHILD_COUNT_ABOVE_MAX_VALUE.name() );
                                     // If rule does not have message or description for the locale, use a default.
                                     if(StringUtils.isBlank(errorMsg)) {
                                         args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), childCount.toString(), childType, maxString };
@@ -284,20 +506,20 @@ public class RuleImpl extends ObjectImpl implements Rule {
 
                     if ( StringUtils.isBlank( errorMsg ) && !minChecked && !maxChecked ) {
                         // Get specific message or description
-                        errorMsg = getMessageOrDescription( transaction, MessageKey.NUMBER_RULE_HAS_NO_VALUES.name() );
+                        errorMsg = rule.getMessageOrDescription( MessageKey.NUMBER_RULE_HAS_NO_VALUES.name() );
                         // If rule does not have message or description for the locale, use a default.
                         if(StringUtils.isBlank(errorMsg)) {
-                            args = new String[] { getName( transaction ) };
+                            args = new String[] { rule.getName() };
                             errorMsg = Messages.getString( Messages.Validation.NUMBER_RULE_HAS_NO_VALUES, ( Object[] )args );
                         }
                     }
                 } catch ( final ParseException ex ) {
                     // not a valid number rule and should be caught by XSD validation
                     // Get specific message or description
-                    errorMsg = getMessageOrDescription( transaction, MessageKey.NUMBER_RULE_NON_NUMERIC_VALUES.name() );
+                    errorMsg = rule.getMessageOrDescription( MessageKey.NUMBER_RULE_NON_NUMERIC_VALUES.name() );
                     // If rule does not have message or description for the locale, use a default.
                     if(StringUtils.isBlank(errorMsg)) {
-                        args = new String[] { getName( transaction ) };
+                        args = new String[] { rule.getName() };
                         errorMsg = Messages.getString( Messages.Validation.NUMBER_RULE_NON_NUMERIC_VALUES, ( Object[] )args );
                     }
                 }
@@ -309,25 +531,21 @@ public class RuleImpl extends ObjectImpl implements Rule {
                 if ( !hasChildWithTypeAndRestrictions ) {
                     break;
                 }
-                
+
                 // Check all of the children of the specified type
                 for( KomodoObject kidObj : matchingChildren ) {
-                    
-                    { // props exist
-                        final Property propExistsProp = getProperty( transaction, KomodoLexicon.Rule.PROP_EXISTS );
 
-                        if ( propExistsProp != null ) {
-                            for ( final String prop : propExistsProp.getStringValues( transaction ) ) {
-                                if ( !kidObj.hasProperty( transaction, prop ) ) {
-                                    // Get specific message or description
-                                    errorMsg = getMessageOrDescription( transaction, MessageKey.RELATIONSHIP_RULE_REQUIRED_PROPERTY_NOT_FOUND.name() );
-                                    // If rule does not have message or description for the locale, use a default.
-                                    if(StringUtils.isBlank(errorMsg)) {
-                                        args = new String[] { kidObj.getName( transaction ), kidObj.getAbsolutePath(), childType, prop };
-                                        errorMsg = Messages.getString( Messages.Validation.RELATIONSHIP_RULE_REQUIRED_PROPERTY_NOT_FOUND, ( Object[] )args );
-                                    }
-                                    break;
+                    { // props exist
+                        for ( final String prop : rule.propExists ) {
+                            if ( !kidObj.hasProperty( transaction, prop ) ) {
+                                // Get specific message or description
+                                errorMsg = rule.getMessageOrDescription( MessageKey.RELATIONSHIP_RULE_REQUIRED_PROPERTY_NOT_FOUND.name() );
+                                // If rule does not have message or description for the locale, use a default.
+                                if(StringUtils.isBlank(errorMsg)) {
+                                    args = new String[] { kidObj.getName( transaction ), kidObj.getAbsolutePath(), childType, prop };
+                                    errorMsg = Messages.getString( Messages.Validation.RELATIONSHIP_RULE_REQUIRED_PROPERTY_NOT_FOUND, ( Object[] )args );
                                 }
+                                break;
                             }
                         }
                     }
@@ -337,20 +555,16 @@ public class RuleImpl extends ObjectImpl implements Rule {
                     }
 
                     { // props absent
-                        final Property propAbsentProp = getProperty( transaction, KomodoLexicon.Rule.PROP_ABSENT );
-
-                        if ( propAbsentProp != null ) {
-                            for ( final String prop : propAbsentProp.getStringValues( transaction ) ) {
-                                if ( kidObj.hasProperty( transaction, prop ) ) {
-                                    // Get specific message or description
-                                    errorMsg = getMessageOrDescription( transaction, MessageKey.RELATIONSHIP_RULE_ABSENT_PROPERTY_FOUND.name() );
-                                    // If rule does not have message or description for the locale, use a default.
-                                    if(StringUtils.isBlank(errorMsg)) {
-                                        args = new String[] { kidObj.getName( transaction ), kidObj.getAbsolutePath(), childType, prop };
-                                        errorMsg = Messages.getString( Messages.Validation.RELATIONSHIP_RULE_ABSENT_PROPERTY_FOUND, ( Object[] )args );
-                                    }
-                                    break;
+                        for ( final String prop : rule.propAbsent ) {
+                            if ( kidObj.hasProperty( transaction, prop ) ) {
+                                // Get specific message or description
+                                errorMsg = rule.getMessageOrDescription( MessageKey.RELATIONSHIP_RULE_ABSENT_PROPERTY_FOUND.name() );
+                                // If rule does not have message or description for the locale, use a default.
+                                if(StringUtils.isBlank(errorMsg)) {
+                                    args = new String[] { kidObj.getName( transaction ), kidObj.getAbsolutePath(), childType, prop };
+                                    errorMsg = Messages.getString( Messages.Validation.RELATIONSHIP_RULE_ABSENT_PROPERTY_FOUND, ( Object[] )args );
                                 }
+                                break;
                             }
                         }
                     }
@@ -360,20 +574,16 @@ public class RuleImpl extends ObjectImpl implements Rule {
                     }
 
                     { // children exist
-                        final Property childExistsProp = getProperty( transaction, KomodoLexicon.Rule.CHILD_EXISTS );
-
-                        if ( childExistsProp != null ) {
-                            for ( final String kidType : childExistsProp.getStringValues( transaction ) ) {
-                                if ( kidObj.getChildrenOfType( transaction, kidType ).length == 0 ) {
-                                    // Get specific message or description
-                                    errorMsg = getMessageOrDescription( transaction, MessageKey.RELATIONSHIP_RULE_REQUIRED_CHILD_NOT_FOUND.name() );
-                                    // If rule does not have message or description for the locale, use a default.
-                                    if(StringUtils.isBlank(errorMsg)) {
-                                        args = new String[] { kidObj.getName( transaction ), kidObj.getAbsolutePath(), childType, kidType };
-                                        errorMsg = Messages.getString( Messages.Validation.RELATIONSHIP_RULE_REQUIRED_CHILD_NOT_FOUND, ( Object[] )args );
-                                    }
-                                    break;
+                        for ( final String kidType : rule.childExists ) {
+                            if ( kidObj.getChildrenOfType( transaction, kidType ).length == 0 ) {
+                                // Get specific message or description
+                                errorMsg = rule.getMessageOrDescription( MessageKey.RELATIONSHIP_RULE_REQUIRED_CHILD_NOT_FOUND.name() );
+                                // If rule does not have message or description for the locale, use a default.
+                                if(StringUtils.isBlank(errorMsg)) {
+                                    args = new String[] { kidObj.getName( transaction ), kidObj.getAbsolutePath(), childType, kidType };
+                                    errorMsg = Messages.getString( Messages.Validation.RELATIONSHIP_RULE_REQUIRED_CHILD_NOT_FOUND, ( Object[] )args );
                                 }
+                                break;
                             }
                         }
                     }
@@ -383,45 +593,34 @@ public class RuleImpl extends ObjectImpl implements Rule {
                     }
 
                     { // children absent
-                        final Property childAbsentProp = getProperty( transaction, KomodoLexicon.Rule.CHILD_ABSENT );
+                        for ( final String kidType : rule.childAbsent ) {
+                            if ( kidObj.getChildrenOfType( transaction, kidType ).length > 0 ) {
+                                args = new String[] { kidObj.getName( transaction ), kidObj.getAbsolutePath(), childType, kidType };
 
-                        if ( childAbsentProp != null ) {
-                            for ( final String kidType : childAbsentProp.getStringValues( transaction ) ) {
-                                if ( kidObj.getChildrenOfType( transaction, kidType ).length > 0 ) {
-                                    args = new String[] { kidObj.getName( transaction ), kidObj.getAbsolutePath(), childType, kidType };
-
-                                    // Get specific message or description
-                                    errorMsg = getMessageOrDescription( transaction, MessageKey.RELATIONSHIP_RULE_ABSENT_CHILD_FOUND.name() );
-                                    // If rule does not have message or description for the locale, use a default.
-                                    if(StringUtils.isBlank(errorMsg)) {
-                                        errorMsg = Messages.getString( Messages.Validation.RELATIONSHIP_RULE_ABSENT_CHILD_FOUND, ( Object[] )args );
-                                    }
-                                    break;
+                                // Get specific message or description
+                                errorMsg = rule.getMessageOrDescription( MessageKey.RELATIONSHIP_RULE_ABSENT_CHILD_FOUND.name() );
+                                // If rule does not have message or description for the locale, use a default.
+                                if(StringUtils.isBlank(errorMsg)) {
+                                    errorMsg = Messages.getString( Messages.Validation.RELATIONSHIP_RULE_ABSENT_CHILD_FOUND, ( Object[] )args );
                                 }
+                                break;
                             }
                         }
                     }
-                    
+
                 }
 
                 break;
             }
             case SAME_NAME_SIBLING: {
                 // Determine of only checking matches according to type
-                boolean matchOnType = false;
-                final Property matchOnTypeProp = getProperty( transaction, KomodoLexicon.Rule.MATCH_TYPE );
-
-                if ( matchOnTypeProp != null ) {
-                    matchOnType = matchOnTypeProp.getBooleanValue( transaction );
-                }
-                
                 KomodoObject[] kids = null;
-                if(matchOnType) {
+                if(rule.matchType) {
                     kids = matchingChildren;
                 } else {
                     kids = kobject.getChildren( transaction );
                 }
-                
+
                 final Set< String > names = new HashSet<>();
 
                 for ( final KomodoObject kid : kids ) {
@@ -431,7 +630,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
                         args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), name, childType };
 
                         // Get specific message or description
-                        errorMsg = getMessageOrDescription( transaction, MessageKey.RELATIONSHIP_RULE_SNS_FOUND.name() );
+                        errorMsg = rule.getMessageOrDescription( MessageKey.RELATIONSHIP_RULE_SNS_FOUND.name() );
                         // If rule does not have message or description for the locale, use a default.
                         if(StringUtils.isBlank(errorMsg)) {
                             errorMsg = Messages.getString( Messages.Validation.RELATIONSHIP_RULE_SNS_FOUND, ( Object[] )args );
@@ -451,31 +650,29 @@ public class RuleImpl extends ObjectImpl implements Rule {
         }
 
         if ( StringUtils.isBlank( errorMsg ) ) {
-            return new ResultImpl( kobject.getAbsolutePath(), getName( transaction ), Level.OK, StringConstants.EMPTY_STRING );
+            return new ResultImpl( kobject.getAbsolutePath(), rule.getName(), Level.OK, StringConstants.EMPTY_STRING );
         }
 
         assert ( !StringUtils.isBlank( errorMsg ) );
-        return new ResultImpl( kobject.getAbsolutePath(), getName( transaction ), getSeverity( transaction ), errorMsg );
+        return new ResultImpl( kobject.getAbsolutePath(), rule.getName(), rule.severity, errorMsg );
     }
-    
+
     private Result evaluateNodeRule( final UnitOfWork transaction,
                                      final KomodoObject kobject,
+                                     final Definition rule,
                                      final RuleType ruleType ) throws KException {
         String errorMsg = null;
         String[] args = null;
 
         switch ( ruleType ) {
             case PATTERN: {
-                final Property patternProp = getProperty( transaction, KomodoLexicon.Rule.PATTERN );
-                assert ( patternProp != null );
-
                 final String name = kobject.getName( transaction );
 
-                if ( !name.matches( patternProp.getStringValue( transaction ) ) ) {
+                if ( !rule.matches( name ) ) {
                     args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath() };
 
                     // Get specific message or description
-                    errorMsg = getMessageOrDescription( transaction, MessageKey.PATTERN_RULE_INVALID_NODE_NAME.name() );
+                    errorMsg = rule.getMessageOrDescription( MessageKey.PATTERN_RULE_INVALID_NODE_NAME.name() );
                     // If rule does not have message or description for the locale, use a default.
                     if(StringUtils.isBlank(errorMsg)) {
                         errorMsg = Messages.getString( Messages.Validation.PATTERN_RULE_INVALID_NODE_NAME, ( Object[] )args );
@@ -495,56 +692,46 @@ public class RuleImpl extends ObjectImpl implements Rule {
         }
 
         if ( StringUtils.isBlank( errorMsg ) ) {
-            return new ResultImpl( kobject.getAbsolutePath(), getName( transaction ), Level.OK, StringConstants.EMPTY_STRING );
+            return new ResultImpl( kobject.getAbsolutePath(), rule.getName(), Level.OK, StringConstants.EMPTY_STRING );
         }
 
         assert ( !StringUtils.isBlank( errorMsg ) );
-        return new ResultImpl( kobject.getAbsolutePath(), getName( transaction ), getSeverity( transaction ), errorMsg );
+        return new ResultImpl( kobject.getAbsolutePath(), rule.getName(), rule.severity, errorMsg );
     }
 
     private Result evaluatePropertyRule( final UnitOfWork transaction,
                                          final KomodoObject kobject,
+                                         final Definition rule,
                                          final RuleType ruleType ) throws KException {
-        final Property jcrNameProp = getProperty( transaction, KomodoLexicon.Rule.JCR_NAME );
-        assert ( jcrNameProp != null );
+        final String propName = rule.jcrName;
+        assert ( propName != null );
 
-        final String propName = jcrNameProp.getStringValue( transaction );
         final boolean exists = kobject.hasProperty( transaction, propName );
-        
-        // Determine if the property is required
-        final Property propRequired = getProperty( transaction, KomodoLexicon.Rule.REQUIRED );
-        boolean propRqd = false;
-        if(propRequired!=null) {
-            propRqd = propRequired.getBooleanValue( transaction );
-        }
-        
+
         String errorMsg = null;
         String[] args = null;
-        
+
         // Property is required but does not exist
-        if ( propRqd && !exists ) {
+        if ( rule.required && !exists ) {
             // Use rule description if found, otherwise use a default 'property not found' message.
-            errorMsg = getDescription( transaction );
+            errorMsg = rule.getDescription();
             if( StringUtils.isBlank(errorMsg) ) {
                 args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName };
                 errorMsg = Messages.getString( Messages.Validation.REQUIRED_PROPERTY_NOT_FOUND, ( Object[] )args );
             }
-            return new ResultImpl( kobject.getAbsolutePath(), getName( transaction ), getSeverity( transaction ), errorMsg );
+            return new ResultImpl( kobject.getAbsolutePath(), rule.getName(), rule.severity, errorMsg );
         }
 
         switch ( ruleType ) {
             case PATTERN: {
                 // check value against the pattern
-                final Property patternProp = getProperty( transaction, KomodoLexicon.Rule.PATTERN );
-                assert ( patternProp != null );
-
                 final String value = kobject.getProperty( transaction, propName ).getStringValue( transaction );
 
-                if ( !value.matches( patternProp.getStringValue( transaction ) ) ) {
+                if ( !rule.matches( value ) ) {
                     args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName };
 
                     // Get specific message or description
-                    errorMsg = getMessageOrDescription( transaction, MessageKey.PATTERN_RULE_INVALID_PROPERTY_VALUE.name() );
+                    errorMsg = rule.getMessageOrDescription( MessageKey.PATTERN_RULE_INVALID_PROPERTY_VALUE.name() );
                     // If rule does not have message or description for the locale, use a default.
                     if(StringUtils.isBlank(errorMsg)) {
                         errorMsg = Messages.getString( Messages.Validation.PATTERN_RULE_INVALID_PROPERTY_VALUE, ( Object[] )args );
@@ -563,18 +750,10 @@ public class RuleImpl extends ObjectImpl implements Rule {
                         final Number value = NumberFormat.getInstance().parse( valueString );
 
                         { // check min value
-                            final Property minValueProp = getProperty( transaction, KomodoLexicon.Rule.MIN_VALUE );
-
-                            if ( minValueProp != null ) {
+                            if ( rule.minValue != null ) {
                                 minChecked = true;
-                                boolean inclusive = true;
-                                final Property minInclusiveProp = getProperty( transaction, KomodoLexicon.Rule.MIN_VALUE_INCLUSIVE );
-
-                                if ( minInclusiveProp != null ) {
-                                    inclusive = minInclusiveProp.getBooleanValue( transaction );
-                                }
-
-                                final String minString = minValueProp.getStringValue( transaction );
+                                final boolean inclusive = rule.minInclusive;
+                                final String minString = rule.minValue;
                                 final Number minValue = NumberFormat.getInstance().parse( minString );
                                 final int result = Double.compare( value.doubleValue(), minValue.doubleValue() );
 
@@ -582,7 +761,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
                                     args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName, valueString, minString };
 
                                     // Get specific message or description
-                                    errorMsg = getMessageOrDescription( transaction, MessageKey.PROPERTY_RULE_VALUE_BELOW_MIN_VALUE.name() );
+                                    errorMsg = rule.getMessageOrDescription( MessageKey.PROPERTY_RULE_VALUE_BELOW_MIN_VALUE.name() );
                                     // If rule does not have message or description for the locale, use a default.
                                     if(StringUtils.isBlank(errorMsg)) {
                                         errorMsg = Messages.getString( Messages.Validation.PROPERTY_RULE_VALUE_BELOW_MIN_VALUE, ( Object[] )args );
@@ -593,19 +772,10 @@ public class RuleImpl extends ObjectImpl implements Rule {
 
                         if ( StringUtils.isBlank( errorMsg ) ) {
                             { // check max value
-                                final Property maxValueProp = getProperty( transaction, KomodoLexicon.Rule.MAX_VALUE );
-
-                                if ( maxValueProp != null ) {
+                                if ( rule.maxValue != null ) {
                                     maxChecked = true;
-                                    boolean inclusive = true;
-                                    final Property maxInclusiveProp = getProperty( transaction,
-                                                                                   KomodoLexicon.Rule.MAX_VALUE_INCLUSIVE );
-
-                                    if ( maxInclusiveProp != null ) {
-                                        inclusive = maxInclusiveProp.getBooleanValue( transaction );
-                                    }
-
-                                    final String maxString = maxValueProp.getStringValue( transaction );
+                                    final boolean inclusive = rule.maxInclusive;
+                                    final String maxString = rule.maxValue;
                                     final Number maxValue = NumberFormat.getInstance().parse( maxString );
                                     final int result = Double.compare( value.doubleValue(), maxValue.doubleValue() );
 
@@ -613,7 +783,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
                                         args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName, valueString, maxString };
 
                                         // Get specific message or description
-                                        errorMsg = getMessageOrDescription( transaction, MessageKey.PROPERTY_RULE_VALUE_ABOVE_MAX_VALUE.name() );
+                                        errorMsg = rule.getMessageOrDescription( MessageKey.PROPERTY_RULE_VALUE_ABOVE_MAX_VALUE.name() );
                                         // If rule does not have message or description for the locale, use a default.
                                         if(StringUtils.isBlank(errorMsg)) {
                                             errorMsg = Messages.getString( Messages.Validation.PROPERTY_RULE_VALUE_ABOVE_MAX_VALUE, ( Object[] )args );
@@ -624,10 +794,10 @@ public class RuleImpl extends ObjectImpl implements Rule {
                         }
 
                         if ( StringUtils.isBlank( errorMsg ) && !minChecked && !maxChecked ) {
-                            args = new String[] { getName( transaction ) };
+                            args = new String[] { rule.getName() };
 
                             // Get specific message or description
-                            errorMsg = getMessageOrDescription( transaction, MessageKey.NUMBER_RULE_HAS_NO_VALUES.name() );
+                            errorMsg = rule.getMessageOrDescription( MessageKey.NUMBER_RULE_HAS_NO_VALUES.name() );
                             // If rule does not have message or description for the locale, use a default.
                             if(StringUtils.isBlank(errorMsg)) {
                                 errorMsg = Messages.getString( Messages.Validation.NUMBER_RULE_HAS_NO_VALUES, ( Object[] )args );
@@ -635,10 +805,10 @@ public class RuleImpl extends ObjectImpl implements Rule {
                         }
                     } catch ( final ParseException ex ) {
                         // not a valid number rule and should be caught by XSD validation
-                        args = new String[] { getName( transaction ) };
+                        args = new String[] { rule.getName() };
 
                         // Get specific message or description
-                        errorMsg = getMessageOrDescription( transaction, MessageKey.NUMBER_RULE_NON_NUMERIC_VALUES.name() );
+                        errorMsg = rule.getMessageOrDescription( MessageKey.NUMBER_RULE_NON_NUMERIC_VALUES.name() );
                         // If rule does not have message or description for the locale, use a default.
                         if(StringUtils.isBlank(errorMsg)) {
                             errorMsg = Messages.getString( Messages.Validation.NUMBER_RULE_NON_NUMERIC_VALUES, ( Object[] )args );
@@ -650,21 +820,17 @@ public class RuleImpl extends ObjectImpl implements Rule {
             }
             case RELATIONSHIP: {
                 { // props exist
-                    final Property propExistsProp = getProperty( transaction, KomodoLexicon.Rule.PROP_EXISTS );
-
-                    if ( propExistsProp != null ) {
-                        for ( final String prop : propExistsProp.getStringValues( transaction ) ) {
-                            if ( !kobject.hasProperty( transaction, prop ) ) {
-                                args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName, prop };
+                    for ( final String prop : rule.propExists ) {
+                        if ( !kobject.hasProperty( transaction, prop ) ) {
+                            args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName, prop };
 
-                                // Get specific message or description
-                                errorMsg = getMessageOrDescription( transaction, MessageKey.PROPERTY_RULE_REQUIRED_PROPERTY_NOT_FOUND.name() );
-                                // If rule does not have message or description for the locale, use a default.
-                                if(StringUtils.isBlank(errorMsg)) {
-                                    errorMsg = Messages.getString( Messages.Validation.PROPERTY_RULE_REQUIRED_PROPERTY_NOT_FOUND, ( Object[] )args );
-                                }
-                                break;
+                            // Get specific message or description
+                            errorMsg = rule.getMessageOrDescription( MessageKey.PROPERTY_RULE_REQUIRED_PROPERTY_NOT_FOUND.name() );
+                            // If rule does not have message or description for the locale, use a default.
+                            if(StringUtils.isBlank(errorMsg)) {
+                                errorMsg = Messages.getString( Messages.Validation.PROPERTY_RULE_REQUIRED_PROPERTY_NOT_FOUND, ( Object[] )args );
                             }
+                            break;
                         }
                     }
                 }
@@ -674,21 +840,17 @@ public class RuleImpl extends ObjectImpl implements Rule {
                 }
 
                 { // props absent
-                    final Property propAbsentProp = getProperty( transaction, KomodoLexicon.Rule.PROP_ABSENT );
+                    for ( final String prop : rule.propAbsent ) {
+                        if ( kobject.hasProperty( transaction, prop ) ) {
+                            args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName, prop };
 
-                    if ( propAbsentProp != null ) {
-                        for ( final String prop : propAbsentProp.getStringValues( transaction ) ) {
-                            if ( kobject.hasProperty( transaction, prop ) ) {
-                                args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName, prop };
-
-                                // Get specific message or description
-                                errorMsg = getMessageOrDescription( transaction, MessageKey.PROPERTY_RULE_ABSENT_PROPERTY_FOUND.name() );
-                                // If rule does not have message or description for the locale, use a default.
-                                if(StringUtils.isBlank(errorMsg)) {
-                                    errorMsg = Messages.getString( Messages.Validation.PROPERTY_RULE_ABSENT_PROPERTY_FOUND, ( Object[] )args );
-                                }
-                                break;
+                            // Get specific message or description
+                            errorMsg = rule.getMessageOrDescription( MessageKey.PROPERTY_RULE_ABSENT_PROPERTY_FOUND.name() );
+                            // If rule does not have message or description for the locale, use a default.
+                            if(StringUtils.isBlank(errorMsg)) {
+                                errorMsg = Messages.getString( Messages.Validation.PROPERTY_RULE_ABSENT_PROPERTY_FOUND, ( Object[] )args );
                             }
+                            break;
                         }
                     }
                 }
@@ -698,21 +860,17 @@ public class RuleImpl extends ObjectImpl implements Rule {
                 }
 
                 { // children exist
-                    final Property childExistsProp = getProperty( transaction, KomodoLexicon.Rule.CHILD_EXISTS );
-
-                    if ( childExistsProp != null ) {
-                        for ( final String childType : childExistsProp.getStringValues( transaction ) ) {
-                            if ( kobject.getChildrenOfType( transaction, childType ).length == 0 ) {
-                                args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName, childType };
+                    for ( final String childType : rule.childExists ) {
+                        if ( kobject.getChildrenOfType( transaction, childType ).length == 0 ) {
+                            args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName, childType };
 
-                                // Get specific message or description
-                                errorMsg = getMessageOrDescription( transaction, MessageKey.RELATIONSHIP_RULE_REQUIRED_CHILD_NOT_FOUND.name() );
-                                // If rule does not have message or description for the locale, use a default.
-                                if(StringUtils.isBlank(errorMsg)) {
-                                    errorMsg = Messages.getString( Messages.Validation.RELATIONSHIP_RULE_REQUIRED_CHILD_NOT_FOUND, ( Object[] )args );
-                                }
-                                break;
+                            // Get specific message or description
+                            errorMsg = rule.getMessageOrDescription( MessageKey.RELATIONSHIP_RULE_REQUIRED_CHILD_NOT_FOUND.name() );
+                            // If rule does not have message or description for the locale, use a default.
+                            if(StringUtils.isBlank(errorMsg)) {
+                                errorMsg = Messages.getString( Messages.Validation.RELATIONSHIP_RULE_REQUIRED_CHILD_NOT_FOUND, ( Object[] )args );
                             }
+                            break;
                         }
                     }
                 }
@@ -722,21 +880,17 @@ public class RuleImpl extends ObjectImpl implements Rule {
                 }
 
                 { // children absent
-                    final Property childAbsentProp = getProperty( transaction, KomodoLexicon.Rule.CHILD_ABSENT );
-
-                    if ( childAbsentProp != null ) {
-                        for ( final String childType : childAbsentProp.getStringValues( transaction ) ) {
-                            if ( kobject.getChildrenOfType( transaction, childType ).length > 0 ) {
-                                args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName, childType };
+                    for ( final String childType : rule.childAbsent ) {
+                        if ( kobject.getChildrenOfType( transaction, childType ).length > 0 ) {
+                            args = new String[] { kobject.getName( transaction ), kobject.getAbsolutePath(), propName, childType };
 
-                                // Get specific message or description
-                                errorMsg = getMessageOrDescription( transaction, MessageKey.PROPERTY_RULE_ABSENT_CHILD_FOUND.name() );
-                                // If rule does not have message or description for the locale, use a default.
-                                if(StringUtils.isBlank(errorMsg)) {
-                                    errorMsg = Messages.getString( Messages.Validation.PROPERTY_RULE_ABSENT_CHILD_FOUND, ( Object[] )args );
-                                }
-                                break;
+                            // Get specific message or description
+                            errorMsg = rule.getMessageOrDescription( MessageKey.PROPERTY_RULE_ABSENT_CHILD_FOUND.name() );
+                            // If rule does not have message or description for the locale, use a default.
+                            if(StringUtils.isBlank(errorMsg)) {
+                                errorMsg = Messages.getString( Messages.Validation.PROPERTY_RULE_ABSENT_CHILD_FOUND, ( Object[] )args );
                             }
+                            break;
                         }
                     }
                 }
@@ -752,10 +906,10 @@ public class RuleImpl extends ObjectImpl implements Rule {
         }
 
         if ( StringUtils.isBlank( errorMsg ) ) {
-            return new ResultImpl( kobject.getAbsolutePath(), getName( transaction ), Level.OK, StringConstants.EMPTY_STRING );
+            return new ResultImpl( kobject.getAbsolutePath(), rule.getName(), Level.OK, StringConstants.EMPTY_STRING );
         }
 
-        return new ResultImpl( kobject.getAbsolutePath(), getName( transaction ), getSeverity( transaction ), errorMsg );
+        return new ResultImpl( kobject.getAbsolutePath(), rule.getName(), rule.severity, errorMsg );
     }
 
     /**
@@ -823,22 +977,6 @@ public class RuleImpl extends ObjectImpl implements Rule {
         final Property prop = localizedText.getProperty( transaction, KomodoLexicon.Rule.LOCALIZED_TEXT );
         return prop.getStringValue( transaction );
     }
-    
-    /*
-     * Gets the message for the specified key.  If a 'message' is not found for the key, the rule 'definition' is returned. 
-     */
-    private String getMessageOrDescription( final UnitOfWork transaction,
-                                            final String key ) throws KException {
-        
-        String errorMsg = getMessage( transaction, key );
-
-        // if error message for specified key not found, use description.
-        if ( StringUtils.isBlank( errorMsg ) ) {
-            errorMsg = getDescription( transaction );
-        }
-        
-        return errorMsg;
-    }
 
     /**
      * {@inheritDoc}
@@ -955,6 +1093,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
     public void setRequired(UnitOfWork transaction,
                             boolean newRequired) throws KException {
         setObjectProperty( transaction, "setRequired", KomodoLexicon.Rule.REQUIRED, newRequired ); //$NON-NLS-1$
+        this.definition = null;
     }
     
     /**
@@ -965,11 +1104,13 @@ public class RuleImpl extends ObjectImpl implements Rule {
     @Override
     public boolean isApplicable(UnitOfWork transaction,
                                 KomodoObject kObject) throws KException {
+        final Definition rule = getDefinition( transaction );
+
         // Object type must be compatible with the rule.
-        if (!ValidationUtils.objectTypeMatches(transaction, kObject, getNodeType(transaction))) return false;
+        if (!ValidationUtils.objectTypeMatches(transaction, kObject, rule.getNodeType())) return false;
         
         // Object properties must be compatible with the rule.
-        if (!ValidationUtils.objectPropsPassRestrictions(transaction, kObject, getPropRestrictions(transaction,Rule.PropertyRestriction.NODE))) return false;
+        if (!ValidationUtils.objectPropsPassRestrictions(transaction, kObject, rule.getNodeRestrictions())) return false;
         
         return true;
     }
@@ -996,6 +1137,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
     public void setEnabled( final UnitOfWork transaction,
                             final boolean newEnabled ) throws KException {
         setObjectProperty( transaction, "setEnabled", KomodoLexicon.Rule.ENABLED, newEnabled ); //$NON-NLS-1$
+        this.definition = null;
     }
 
     /**
@@ -1008,6 +1150,7 @@ public class RuleImpl extends ObjectImpl implements Rule {
     public void setSeverity( final UnitOfWork transaction,
                              final Level newLevel ) throws KException {
         setObjectProperty( transaction, "setSeverity", KomodoLexicon.Rule.ENABLED, newLevel ); //$NON-NLS-1$
+        this.definition = null;
     }
 
 }
@@ -0,0 +1,217 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.repository.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.komodo.spi.KException;
+import org.komodo.spi.repository.Descriptor;
+import org.komodo.spi.repository.KomodoObject;
+import org.komodo.spi.repository.Repository;
+import org.komodo.spi.repository.Repository.UnitOfWork;
+
+/**
+ * An immutable, in-memory snapshot of the rules found in a validation area. Rules are indexed by the node type they apply to
+ * so that finding the rules for an object only looks at the rules registered for its primary type and mixins. Each rule keeps
+ * the {@link RuleImpl.Definition definition} read when the index was built, so evaluating it does not read the rule again.
+ */
+final class RuleIndex {
+
+    /**
+     * A compiled rule along with the applicability data needed to select it.
+     */
+    static final class Entry {
+
+        private final int ordinal;
+        private final String name;
+        private final RuleImpl rule;
+        private final Map< String, String > nodeRestrictions;
+
+        Entry( final int ordinal,
+               final String name,
+               final RuleImpl rule,
+               final Map< String, String > nodeRestrictions ) {
+            this.ordinal = ordinal;
+            this.name = name;
+            this.rule = rule;
+            this.nodeRestrictions = nodeRestrictions;
+        }
+
+        /**
+         * @return the rule name (never empty)
+         */
+        String getName() {
+            return this.name;
+        }
+
+        /**
+         * @return the rule (never <code>null</code>)
+         */
+        RuleImpl getRule() {
+            return this.rule;
+        }
+
+        /**
+         * @param transaction
+         *        the transaction (cannot be <code>null</code>)
+         * @return <code>true</code> if the rule is enabled
+         * @throws KException
+         *         if an error occurs
+         */
+        boolean isEnabled( final UnitOfWork transaction ) throws KException {
+            return this.rule.getDefinition( transaction ).isEnabled();
+        }
+
+        boolean isApplicable( final UnitOfWork transaction,
+                              final KomodoObject kobject ) throws KException {
+            return ValidationUtils.objectPropsPassRestrictions( transaction, kobject, this.nodeRestrictions );
+        }
+
+    }
+
+    /**
+     * Reads and compiles all the rules found under the specified validation area.
+     *
+     * @param transaction
+     *        the transaction used to read the rules (cannot be <code>null</code>)
+     * @param repo
+     *        the repository where the rules are stored (cannot be <code>null</code>)
+     * @param validationArea
+     *        the parent of the rules (cannot be <code>null</code>)
+     * @return the index (never <code>null</code>)
+     * @throws KException
+     *         if an error occurs reading the rules
+     */
+    static RuleIndex build( final UnitOfWork transaction,
+                            final Repository repo,
+                            final KomodoObject validationArea ) throws KException {
+        final Map< String, Entry > byName = new LinkedHashMap<>();
+        final Map< String, List< Entry > > byNodeType = new HashMap<>();
+        int ordinal = 0;
+
+        for ( final KomodoObject kobject : validationArea.getChildren( transaction ) ) {
+            final RuleImpl rule = new RuleImpl( transaction, repo, kobject.getAbsolutePath() );
+            final RuleImpl.Definition definition = rule.snapshot( transaction );
+            final String nodeType = definition.getNodeType();
+            final Entry entry = new Entry( ordinal++,
+                                           definition.getName(),
+                                           rule,
+                                           definition.getNodeRestrictions() );
+            byName.put( entry.getName(), entry );
+
+            List< Entry > entries = byNodeType.get( nodeType );
+
+            if ( entries == null ) {
+                entries = new ArrayList<>();
+                byNodeType.put( nodeType, entries );
+            }
+
+            entries.add( entry );
+        }
+
+        return new RuleIndex( byName, byNodeType );
+    }
+
+    private final Map< String, Entry > byName;
+    private final Map< String, List< Entry > > byNodeType;
+
+    private RuleIndex( final Map< String, Entry > byName,
+                       final Map< String, List< Entry > > byNodeType ) {
+        this.byName = byName;
+        this.byNodeType = byNodeType;
+    }
+
+    /**
+     * @return all the rules in the order they appear in the validation area (never <code>null</code>)
+     */
+    Iterable< Entry > getAll() {
+        return this.byName.values();
+    }
+
+    /**
+     * @param name
+     *        the rule name (cannot be empty)
+     * @return the rule or <code>null</code> if not found
+     */
+    Entry get( final String name ) {
+        return this.byName.get( name );
+    }
+
+    /**
+     * @param transaction
+     *        the transaction (cannot be <code>null</code>)
+     * @param kobject
+     *        the object whose rules are being requested (cannot be <code>null</code>)
+     * @return the applicable rules in the order they appear in the validation area (never <code>null</code>)
+     * @throws KException
+     *         if an error occurs
+     */
+    List< Entry > getApplicable( final UnitOfWork transaction,
+                                 final KomodoObject kobject ) throws KException {
+        if ( this.byNodeType.isEmpty() ) {
+            return Collections.emptyList();
+        }
+
+        List< Entry > result = null;
+        result = collect( transaction, kobject, kobject.getPrimaryType( transaction ).getName(), result );
+
+        for ( final Descriptor mixin : kobject.getDescriptors( transaction ) ) {
+            result = collect( transaction, kobject, mixin.getName(), result );
+        }
+
+        if ( result == null ) {
+            return Collections.emptyList();
+        }
+
+        if ( result.size() > 1 ) {
+            Collections.sort( result, ( thisEntry, thatEntry ) -> Integer.compare( thisEntry.ordinal, thatEntry.ordinal ) );
+        }
+
+        return result;
+    }
+
+    private List< Entry > collect( final UnitOfWork transaction,
+                                   final KomodoObject kobject,
+                                   final String nodeType,
+                                   List< Entry > result ) throws KException {
+        final List< Entry > entries = this.byNodeType.get( nodeType );
+
+        if ( entries != null ) {
+            for ( final Entry entry : entries ) {
+                if ( entry.isApplicable( transaction, kobject ) ) {
+                    if ( result == null ) {
+                        result = new ArrayList<>();
+                    }
+
+                    result.add( entry );
+                }
+            }
+        }
+
+        return result;
+    }
+
+}
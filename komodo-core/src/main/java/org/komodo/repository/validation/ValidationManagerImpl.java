@@ -29,9 +29,17 @@ import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
 import org.komodo.core.Messages;
+import org.komodo.repository.ObjectImpl;
 import org.komodo.spi.KException;
 import org.komodo.spi.outcome.Outcome;
 import org.komodo.spi.repository.KomodoObject;
@@ -40,6 +48,7 @@ import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.spi.repository.Repository.UnitOfWork.State;
 import org.komodo.spi.repository.ValidationManager;
 import org.komodo.spi.repository.validation.Result;
+import org.komodo.spi.repository.validation.ResultSink;
 import org.komodo.spi.repository.validation.Rule;
 import org.komodo.spi.repository.validation.ValidationRulesProvider;
 import org.komodo.utils.ArgCheck;
@@ -52,12 +61,174 @@ public class ValidationManagerImpl implements ValidationManager {
 
     private static final KLog LOGGER = KLog.getLogger();
 
+    /**
+     * The system property used to set the number of threads used by a parallel full validation. A value less than 2 disables
+     * parallel validation.
+     */
+    public static final String PARALLELISM_PROPERTY = "komodo.validation.parallelism"; //$NON-NLS-1$
+
+    /**
+     * The default number of threads used by a parallel full validation.
+     */
+    public static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The time, in milliseconds, after which a transaction that changed the validation area but was never committed or
+     * rolled back no longer stops the compiled rules from being cached.
+     */
+    private static final long PENDING_RULE_CHANGE_EXPIRY = TimeUnit.MINUTES.toMillis( 5 );
+
+    /**
+     * Objects at this depth below the object being validated have their whole subtree evaluated by one task.
+     */
+    private static final int FORK_DEPTH = 3;
+
+    /**
+     * Hands results to a sink, dropping the ones not severe enough and stopping evaluation when asked to. Safe to be used by
+     * several evaluation tasks at once.
+     */
+    private static class ResultFilter {
+
+        private final Outcome.Level minLevel;
+        private final boolean stopOnError;
+        private final ResultSink sink;
+        private volatile boolean stopped;
+        private KException error;
+
+        ResultFilter( final Outcome.Level minLevel,
+                      final boolean stopOnError,
+                      final ResultSink sink ) {
+            this.minLevel = minLevel;
+            this.stopOnError = stopOnError;
+            this.sink = sink;
+        }
+
+        synchronized void accept( final Result result ) {
+            if ( this.stopped ) {
+                return;
+            }
+
+            if ( ( this.minLevel == null ) || ( result.getLevel().ordinal() >= this.minLevel.ordinal() ) ) {
+                if ( !this.sink.accept( result ) ) {
+                    this.stopped = true;
+                }
+            }
+
+            if ( this.stopOnError && ( result.getLevel() == Outcome.Level.ERROR ) ) {
+                this.stopped = true;
+            }
+        }
+
+        synchronized void failed( final Exception e ) {
+            if ( this.error == null ) {
+                this.error = ( ( e instanceof KException ) ? ( KException )e : new KException( e ) );
+            }
+
+            this.stopped = true;
+        }
+
+        synchronized void rethrow() throws KException {
+            if ( this.error != null ) {
+                throw this.error;
+            }
+        }
+
+        boolean isStopped() {
+            return this.stopped;
+        }
+
+    }
+
+    /**
+     * Evaluates an object in its own read-only transaction. Near the top of the tree each child is evaluated by a forked task,
+     * deeper down the whole subtree is evaluated by this task.
+     */
+    private class EvaluateTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String userName;
+        private final String path;
+        private final int depth;
+        private final ResultFilter filter;
+
+        EvaluateTask( final String userName,
+                      final String path,
+                      final int depth,
+                      final ResultFilter filter ) {
+            this.userName = userName;
+            this.path = path;
+            this.depth = depth;
+            this.filter = filter;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see java.util.concurrent.RecursiveAction#compute()
+         */
+        @Override
+        protected void compute() {
+            if ( this.filter.isStopped() ) {
+                return;
+            }
+
+            final List< EvaluateTask > subtasks = new ArrayList<>();
+            UnitOfWork transaction = null;
+
+            try {
+                transaction = repo.createTransaction( this.userName,
+                                                      "ValidationManagerImpl.evaluate:" + this.path, //$NON-NLS-1$
+                                                      true,
+                                                      null );
+                final KomodoObject kobject = new ObjectImpl( repo, this.path, 0 );
+
+                if ( this.depth < FORK_DEPTH ) {
+                    evaluateTree( transaction, kobject, false, this.filter );
+
+                    for ( final KomodoObject kid : kobject.getChildren( transaction ) ) {
+                        subtasks.add( new EvaluateTask( this.userName, kid.getAbsolutePath(), this.depth + 1, this.filter ) );
+                    }
+                } else {
+                    evaluateTree( transaction, kobject, true, this.filter );
+                }
+            } catch ( final Exception e ) {
+                this.filter.failed( e );
+            } finally {
+                // release the session before waiting on the subtasks
+                if ( transaction != null ) {
+                    transaction.rollback();
+                }
+            }
+
+            if ( !subtasks.isEmpty() && !this.filter.isStopped() ) {
+                invokeAll( subtasks );
+            }
+        }
+
+    }
+
     private final Repository repo;
     private final String RULES_SCHEMA_FILE = "komodoValidation.xsd"; //$NON-NLS-1$
     private File rulesSchemaFile;
     private boolean defaultRulesExist = false;
     private KomodoObject validationAreaRoot;
 
+    /**
+     * The compiled rules. Built lazily and discarded whenever the validation area is changed through this manager.
+     */
+    private volatile RuleIndex ruleIndex;
+
+    /**
+     * Transactions that have changed the validation area but have not yet been committed or rolled back, mapped to the time of
+     * their last change. While any of these are open a compiled rule index is not cached as it could hold uncommitted rules.
+     * The transactions are weakly held, and expire, so that an abandoned transaction does not stop caching for good.
+     */
+    private final Map< UnitOfWork, Long > pendingRuleChanges = new WeakHashMap<>();
+
+    private final int parallelism = Integer.getInteger( PARALLELISM_PROPERTY, DEFAULT_PARALLELISM );
+    private ForkJoinPool evaluationPool;
+
     /**
      * @param repo
      *        the repository where the validation rules are stored (cannot be <code>null</code>)
@@ -205,6 +376,8 @@ public class ValidationManagerImpl implements ValidationManager {
         // If rules exist, no need to reload - unless overwriting
         if(defaultRulesExist && !overwriteExisting) return;
 
+        rulesChanged( uow );
+
         try {
             RuleParser parser = new RuleParser(rulesSchemaFile, this.repo, uow);
 
@@ -228,7 +401,56 @@ public class ValidationManagerImpl implements ValidationManager {
         return this.validationAreaRoot;
     }
 
+    /**
+     * Discards the compiled rules. Must be called by anything that changes the validation area.
+     *
+     * @param uow
+     *        the transaction making the change (cannot be <code>null</code>)
+     */
+    protected void rulesChanged( final UnitOfWork uow ) {
+        synchronized ( this.pendingRuleChanges ) {
+            this.pendingRuleChanges.put( uow, System.currentTimeMillis() );
+            this.ruleIndex = null;
+        }
+    }
+
+    private RuleIndex getRuleIndex( final UnitOfWork uow ) throws KException {
+        final RuleIndex index = this.ruleIndex;
+
+        if ( index != null ) {
+            return index;
+        }
+
+        synchronized ( this.pendingRuleChanges ) {
+            if ( this.ruleIndex != null ) {
+                return this.ruleIndex;
+            }
+
+            final RuleIndex result = RuleIndex.build( uow, this.repo, getValidationAreaRoot( uow ) );
+            boolean cache = true;
+
+            final long expired = System.currentTimeMillis() - PENDING_RULE_CHANGE_EXPIRY;
+
+            for ( final Iterator< Entry< UnitOfWork, Long > > itr = this.pendingRuleChanges.entrySet().iterator(); itr.hasNext(); ) {
+                final Entry< UnitOfWork, Long > pending = itr.next();
+
+                if ( pending.getKey().getState().isFinal() || ( pending.getValue() < expired ) ) {
+                    itr.remove();
+                } else {
+                    cache = false;
+                }
+            }
+
+            if ( cache ) {
+                this.ruleIndex = result;
+            }
+
+            return result;
+        }
+    }
+
     protected void clearValidationRules(final UnitOfWork uow) throws Exception {
+        rulesChanged( uow );
         KomodoObject defaultValidationArea = RuleFactory.getValidationDefaultAreaNode(uow, this.repo);
         KomodoObject[] rules = defaultValidationArea.getChildren(uow);
         for(KomodoObject rule : rules) {
@@ -247,15 +469,13 @@ public class ValidationManagerImpl implements ValidationManager {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         final List< Rule > result = new ArrayList<>();
-        KomodoObject defaultValidationArea = getValidationAreaRoot(transaction);
 
         // Collect all available Rules
-        for ( final KomodoObject kobject : defaultValidationArea.getChildren( transaction ) ) {
-            final Rule rule = new RuleImpl( transaction, this.repo, kobject.getAbsolutePath() );
-            if(rule.isEnabled(transaction)) {
-                result.add( rule );
+        for ( final RuleIndex.Entry entry : getRuleIndex( transaction ).getAll() ) {
+            if(entry.isEnabled(transaction)) {
+                result.add( entry.getRule() );
             } else {
-                result.add( new ProblemRule(rule.getName(transaction),ProblemRule.Type.NOT_ENABLED) );
+                result.add( new ProblemRule(entry.getName(),ProblemRule.Type.NOT_ENABLED) );
             }
         }
 
@@ -276,14 +496,10 @@ public class ValidationManagerImpl implements ValidationManager {
         ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
-        KomodoObject defaultValidationArea = getValidationAreaRoot(transaction);
-
         // Check all available Rules for a match.
-        if(defaultValidationArea.hasChild(transaction, ruleId)) {
-            KomodoObject ruleObj = defaultValidationArea.getChild(transaction, ruleId);
-            if(ruleObj!=null) {
-                return new RuleImpl( transaction, this.repo, ruleObj.getAbsolutePath() );
-            }
+        final RuleIndex.Entry entry = getRuleIndex( transaction ).get( ruleId );
+        if(entry!=null) {
+            return entry.getRule();
         }
 
         return new ProblemRule(ruleId, ProblemRule.Type.NOT_FOUND);
@@ -315,17 +531,13 @@ public class ValidationManagerImpl implements ValidationManager {
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
         final List< Rule > result = new ArrayList<>();
-        KomodoObject defaultValidationArea = getValidationAreaRoot(transaction);
-
-        // Check all available Rules - determine if they are applicable for the supplied object.
-        for ( final KomodoObject kobject : defaultValidationArea.getChildren( transaction ) ) {
-            final Rule rule = new RuleImpl( transaction, this.repo, kobject.getAbsolutePath() );
-            if(rule.isApplicable(transaction, kObj)) {
-                if(rule.isEnabled(transaction)) {
-                    result.add( rule );
-                } else {
-                    result.add(new ProblemRule(rule.getName(transaction),ProblemRule.Type.NOT_ENABLED));
-                }
+
+        // Only the rules indexed under the object's primary type and mixins can be applicable.
+        for ( final RuleIndex.Entry entry : getRuleIndex( transaction ).getApplicable( transaction, kObj ) ) {
+            if(entry.isEnabled(transaction)) {
+                result.add( entry.getRule() );
+            } else {
+                result.add(new ProblemRule(entry.getName(),ProblemRule.Type.NOT_ENABLED));
             }
         }
 
@@ -345,6 +557,8 @@ public class ValidationManagerImpl implements ValidationManager {
     public void setRuleEnabled(final UnitOfWork transaction,
                                boolean isEnabled,
                                String... ruleIds ) throws KException {
+        rulesChanged( transaction );
+
         for(String ruleId : ruleIds) {
             getRule(transaction,ruleId).setEnabled(transaction, isEnabled);
         }
@@ -359,6 +573,8 @@ public class ValidationManagerImpl implements ValidationManager {
     public void setRuleSeverity(final UnitOfWork transaction,
                                 Outcome.Level severity,
                                 String... ruleIds ) throws KException {
+        rulesChanged( transaction );
+
         for(String ruleId : ruleIds) {
             getRule(transaction,ruleId).setSeverity(transaction, severity);
         }
@@ -371,29 +587,100 @@ public class ValidationManagerImpl implements ValidationManager {
      */
     @Override
     public Result[] evaluate(final UnitOfWork transaction, KomodoObject kObject, boolean full ) throws KException {
-        List<Result> allResults = new ArrayList<Result>();
+        final List<Result> allResults = new ArrayList<Result>();
+        final ResultFilter filter = new ResultFilter(null, false, new ResultSink() {
 
+            @Override
+            public boolean accept( final Result result ) {
+                allResults.add(result);
+                return true;
+            }
+        });
+
+        evaluateTree(transaction, kObject, full, filter);
+        return allResults.toArray(new Result[ allResults.size() ]);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.repository.ValidationManager#evaluate(org.komodo.spi.repository.Repository.UnitOfWork,
+     *      org.komodo.spi.repository.KomodoObject, boolean, org.komodo.spi.outcome.Outcome.Level, boolean,
+     *      org.komodo.spi.repository.validation.ResultSink)
+     */
+    @Override
+    public boolean evaluate( final UnitOfWork transaction,
+                             final KomodoObject kObject,
+                             final boolean full,
+                             final Outcome.Level minLevel,
+                             final boolean stopOnError,
+                             final ResultSink sink ) throws KException {
+        ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
+        ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
+        ArgCheck.isNotNull( kObject, "kObject" ); //$NON-NLS-1$
+        ArgCheck.isNotNull( sink, "sink" ); //$NON-NLS-1$
+
+        final ResultFilter filter = new ResultFilter( minLevel, stopOnError, sink );
+
+        // the parallel tasks use their own transactions so they only see saved changes
+        if ( full && ( this.parallelism > 1 ) && !transaction.hasChanges() ) {
+            // make sure the compiled rules are built once before the tasks need them
+            getRuleIndex( transaction );
+            getEvaluationPool().invoke( new EvaluateTask( transaction.getUserName(), kObject.getAbsolutePath(), 0, filter ) );
+        } else {
+            try {
+                evaluateTree( transaction, kObject, full, filter );
+            } catch ( final Exception e ) {
+                filter.failed( e );
+            }
+        }
+
+        filter.rethrow();
+        return !filter.isStopped();
+    }
+
+    private synchronized ForkJoinPool getEvaluationPool() {
+        if ( this.evaluationPool == null ) {
+            this.evaluationPool = new ForkJoinPool( this.parallelism );
+        }
+
+        return this.evaluationPool;
+    }
+
+    /**
+     * Stops the threads used to evaluate rules in parallel. Called when the repository is shut down. The threads are started
+     * again if rules are evaluated after the repository is restarted.
+     */
+    public synchronized void dispose() {
+        if ( this.evaluationPool != null ) {
+            this.evaluationPool.shutdown();
+            this.evaluationPool = null;
+        }
+    }
+
+    private void evaluateTree( final UnitOfWork transaction,
+                               final KomodoObject kObject,
+                               final boolean full,
+                               final ResultFilter filter ) throws KException {
         // Evaluate against all rules that are valid for this object.
-        Rule[] rules = getRules(transaction, kObject);
+        for ( final Rule rule : getRules( transaction, kObject ) ) {
+            if ( filter.isStopped() ) {
+                return;
+            }
 
-        for(Rule rule : rules) {
-            Result result = rule.evaluate(transaction, kObject);
-            allResults.add(result);
+            filter.accept( rule.evaluate( transaction, kObject ) );
         }
 
         // If doing full validation, also validate all children recursively
-        if(full) {
-            KomodoObject[] kids = kObject.getChildren(transaction);
-            for(KomodoObject kid : kids) {
-                Result[] kidResults = evaluate(transaction, kid, full);
-                for(Result kidResult : kidResults) {
-                    allResults.add(kidResult);
+        if ( full ) {
+            for ( final KomodoObject kid : kObject.getChildren( transaction ) ) {
+                if ( filter.isStopped() ) {
+                    return;
                 }
 
+                evaluateTree( transaction, kid, full, filter );
             }
-
         }
-        return allResults.toArray(new Result[ allResults.size() ]);
     }
 
     /**
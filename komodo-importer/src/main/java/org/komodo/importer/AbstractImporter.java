@@ -102,14 +102,8 @@ public abstract class AbstractImporter implements StringConstants {
     }
 
     protected String toString(InputStream inputStream) throws Exception {
-        BufferedInputStream bis = new BufferedInputStream(inputStream);
         ByteArrayOutputStream buf = new ByteArrayOutputStream();
-        int result = bis.read();
-        while (result != -1) {
-            byte b = (byte)result;
-            buf.write(b);
-            result = bis.read();
-        }
+        FileUtils.write(inputStream, buf);
 
         return buf.toString();
     }
@@ -136,6 +130,32 @@ public abstract class AbstractImporter implements StringConstants {
                                                                                     ImportOptions importOptions,
                                                                                     ImportMessages importMessages) throws KException;
 
+    /**
+     * Executes the import from a stream. By default the stream is read into a string and passed to
+     * {@link #executeImport(UnitOfWork, String, KomodoObject, ImportOptions, ImportMessages)}. Importers that store the
+     * content as a binary should override this so the content is not held in memory.
+     *
+     * @param transaction the transaction
+     * @param content the content being imported (never <code>null</code> or empty)
+     * @param parentObject the parent object
+     * @param importOptions the import options
+     * @param importMessages the import messages
+     * @throws KException if an error occurs
+     */
+    protected void executeImport(UnitOfWork transaction,
+                                 InputStream content,
+                                 KomodoObject parentObject,
+                                 ImportOptions importOptions,
+                                 ImportMessages importMessages) throws KException {
+        try {
+            executeImport(transaction, toString(content), parentObject, importOptions, importMessages);
+        } catch (KException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new KException(ex);
+        }
+    }
+
     protected void doImport(UnitOfWork transaction, String content, KomodoObject parentObject, ImportOptions importOptions, ImportMessages importMessages) throws Exception {
 
         if(StringUtils.isEmpty(content)) {
@@ -159,6 +179,30 @@ public abstract class AbstractImporter implements StringConstants {
         // --------------------------------------------------------------
         executeImport(transaction, content, parentObject, importOptions, importMessages);
     }
+
+    protected void doImport(UnitOfWork transaction, InputStream content, KomodoObject parentObject, ImportOptions importOptions, ImportMessages importMessages) throws Exception {
+        BufferedInputStream stream = ((content instanceof BufferedInputStream) ? (BufferedInputStream)content : new BufferedInputStream(content));
+
+        // peek at the first byte to see if there is any content
+        stream.mark(1);
+        boolean empty = (stream.read() == -1);
+        stream.reset();
+
+        if (empty) {
+            importMessages.addErrorMessage(Messages.getString(IMPORTER.errorEmptyMsg));
+            return;
+        }
+
+        ArgCheck.isNotNull(importType);
+
+        boolean doImport = handleExistingNode(transaction, parentObject, importOptions, importMessages);
+        if (! doImport) {
+            // Handling existing node advises not to continue
+            return;
+        }
+
+        executeImport(transaction, stream, parentObject, importOptions, importMessages);
+    }
     
     protected String determineNewName(UnitOfWork transaction, String nodeName) throws KException {
         KomodoObject workspace = getWorkspace(transaction);
@@ -21,6 +21,9 @@
  */
 package org.komodo.modeshape.visitor;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -88,8 +91,17 @@ public class DdlNodeVisitor extends AbstractNodeVisitor
         EXCLUDE_FUNCTIONS
     }
 
+    /**
+     * The number of buffered characters that causes the buffer to be written when visiting with an output writer.
+     */
+    private static final int FLUSH_SIZE = 8192;
+
     private StringBuilder ddlBuffer = new StringBuilder();
 
+    private final Writer output;
+
+    private long written;
+
     private boolean includeTables = true;
 
     private boolean includeTableConstraints = true;
@@ -252,7 +264,21 @@ public class DdlNodeVisitor extends AbstractNodeVisitor
      * @param exclusions any items that should be excluded from visiting
      */
     public DdlNodeVisitor(TeiidVersion version, boolean startOnNewLine, VisitorExclusions... exclusions) {
+        this(version, startOnNewLine, null, exclusions);
+    }
+
+    /**
+     * The visited ddl is written to the given writer in chunks rather than being collected in memory. Call {@link #finish()}
+     * once visiting is complete.
+     *
+     * @param version teiid version
+     * @param startOnNewLine prepend new line to start of ddl string
+     * @param output the writer the ddl is written to (can be <code>null</code> if the ddl should be collected in memory)
+     * @param exclusions any items that should be excluded from visiting
+     */
+    public DdlNodeVisitor(TeiidVersion version, boolean startOnNewLine, Writer output, VisitorExclusions... exclusions) {
         super(version);
+        this.output = output;
 
         if (exclusions != null) {
             for (VisitorExclusions exclusion : exclusions) {
@@ -278,7 +304,7 @@ public class DdlNodeVisitor extends AbstractNodeVisitor
     }
 
     /**
-     * @return the complete visited ddl string
+     * @return the complete visited ddl string or, if visiting with an output writer, the ddl not yet written
      */
     public String getDdl() {
         String ddl = ddlBuffer.toString();
@@ -294,13 +320,51 @@ public class DdlNodeVisitor extends AbstractNodeVisitor
         return UNDEFINED;
     }
 
+    /**
+     * Writes any buffered ddl to the output writer and flushes it. Does nothing if there is no output writer.
+     *
+     * @throws IOException if the ddl cannot be written
+     */
+    public void finish() throws IOException {
+        if (output == null)
+            return;
+
+        try {
+            writeBuffer();
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        output.flush();
+    }
+
+    private void writeBuffer() {
+        if (written == 0 && ddlBuffer.toString().trim().isEmpty()) {
+            // Blank ddl is not written so that it exports as empty
+            return;
+        }
+
+        try {
+            output.append(ddlBuffer);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        written += ddlBuffer.length();
+        ddlBuffer.setLength(0);
+    }
+
     private DdlNodeVisitor append(Object o) {
-        if (NEW_LINE.equals(o) && ddlBuffer.length() == 0) {
+        if (NEW_LINE.equals(o) && ddlBuffer.length() == 0 && written == 0) {
             // Ignore new line calls at the start of the whole text
             return this;
         }
 
         ddlBuffer.append(o);
+
+        if (output != null && ddlBuffer.length() >= FLUSH_SIZE)
+            writeBuffer();
+
         return this;
     }
 
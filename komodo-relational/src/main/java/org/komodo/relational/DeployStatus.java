@@ -22,7 +22,10 @@
 package org.komodo.relational;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.komodo.spi.constants.StringConstants;
 import org.komodo.utils.ArgCheck;
 import org.komodo.utils.StringUtils;
@@ -35,6 +38,9 @@ public class DeployStatus implements StringConstants {
     // Error Messages
     private List<String> errorMessages = new ArrayList<String>();
 
+    // Deployment times in milliseconds keyed by artifact name
+    private Map<String, Long> deploymentTimes = new LinkedHashMap<String, Long>();
+
     public boolean ok() {
         return errorMessages.isEmpty();
     }
@@ -123,4 +129,23 @@ public class DeployStatus implements StringConstants {
 
         return progressMessages;
     }
+
+    /**
+     * Record how long an artifact took to deploy
+     * @param artifactName the name of the deployed artifact
+     * @param millis the deployment time in milliseconds
+     */
+    public void addDeploymentTime(String artifactName, long millis) {
+        ArgCheck.isNotNull(artifactName, "artifact name"); //$NON-NLS-1$
+
+        deploymentTimes.put(artifactName, millis);
+    }
+
+    /**
+     * Get the deployment times
+     * @return the deployment times in milliseconds keyed by artifact name, in the order they were recorded
+     */
+    public Map<String, Long> getDeploymentTimes() {
+        return Collections.unmodifiableMap(deploymentTimes);
+    }
 }
@@ -320,6 +320,11 @@ public class Messages implements StringConstants {
          */
         DATA_SERVICE_DRIVER_FAILED_TO_DEPLOY,
 
+        /**
+         * An error message indicating a driver was not registered before the deployment wait time passed.
+         */
+        DATA_SERVICE_DRIVER_DEPLOYMENT_TIMED_OUT,
+
         /**
          * An error message indicating the data source cannot be found in the data service
          */
@@ -378,7 +383,17 @@ public class Messages implements StringConstants {
         /**
          * An error message indicating the vdb contents cannot be exported from the data service
          */
-        DATA_SERVICE_VDB_CONTENTS_FAILURE;
+        DATA_SERVICE_VDB_CONTENTS_FAILURE,
+
+        /**
+         * An error message indicating a VDB failed to load on the teiid instance.
+         */
+        DATA_SERVICE_VDB_FAILED_TO_DEPLOY,
+
+        /**
+         * An error message indicating a VDB was not active before the deployment wait time passed.
+         */
+        DATA_SERVICE_VDB_DEPLOYMENT_TIMED_OUT;
 
         @Override
         public String toString() {
@@ -429,7 +444,22 @@ public class Messages implements StringConstants {
         /**
          * An error message indicating get a Template from server failed.
          */
-        GET_SERVER_TEMPLATE_ERROR;
+        GET_SERVER_TEMPLATE_ERROR,
+
+        /**
+         * An error message indicating the teiid content has not been cached.
+         */
+        NOT_CACHED,
+
+        /**
+         * An error message indicating the synchronization of a teiid cache failed.
+         */
+        SYNC_ERROR,
+
+        /**
+         * An error message indicating the synchronization of a teiid cache did not finish in time.
+         */
+        SYNC_TIMEOUT;
 
 
 
@@ -21,6 +21,11 @@
  */
 package org.komodo.relational.connection.internal;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Properties;
 
@@ -355,7 +360,26 @@ public class ConnectionImpl extends RelationalObjectImpl implements Connection,
                          xmlResult);
         }
 
-        return xmlResult.getBytes();
+        return xmlResult.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /* (non-Javadoc)
+     * @see org.komodo.spi.repository.Exportable#export(org.komodo.spi.repository.Repository.UnitOfWork, java.util.Properties, java.io.OutputStream)
+     */
+    @Override
+    public void export(UnitOfWork transaction,
+                       Properties exportProperties,
+                       OutputStream stream) throws KException {
+        ArgCheck.isNotNull(stream, "stream"); //$NON-NLS-1$
+
+        Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+        new ConnectionNodeVisitor(transaction, this, exportProperties, writer);
+
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new KException(e);
+        }
     }
 
     /**
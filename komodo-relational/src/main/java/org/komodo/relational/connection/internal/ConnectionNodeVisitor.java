@@ -22,6 +22,7 @@
 package org.komodo.relational.connection.internal;
 
 import java.io.StringWriter;
+import java.io.Writer;
 import java.util.Properties;
 
 import javax.xml.stream.XMLOutputFactory;
@@ -46,7 +47,7 @@ public class ConnectionNodeVisitor implements StringConstants {
     private static final int TAB2 = 2;
     private static final int NEW_LINE1 = 1;
 
-    private final StringWriter strWriter;
+    private final Writer strWriter;
     private XMLStreamWriter writer;
     private final Connection connection;
     private boolean showTabs = false;
@@ -60,6 +61,20 @@ public class ConnectionNodeVisitor implements StringConstants {
      * @throws KException if error
      */
     public ConnectionNodeVisitor(final UnitOfWork uow, final Connection connection, final Properties exportProperties) throws KException {
+        this(uow, connection, exportProperties, new StringWriter());
+    }
+
+    /**
+     * Create new visitor that writes the xml to the given writer. The writer is not closed.
+     *
+     * @param uow the transaction
+     * @param connection the connection
+     * @param exportProperties the properties for export
+     * @param output the writer the xml is written to
+     * @throws KException if error
+     */
+    public ConnectionNodeVisitor(final UnitOfWork uow, final Connection connection, final Properties exportProperties,
+                                 final Writer output) throws KException {
         super();
         this.connection = connection;
 
@@ -68,7 +83,7 @@ public class ConnectionNodeVisitor implements StringConstants {
             setShowTabs(useTabs);
         }
 
-        this.strWriter = new StringWriter();
+        this.strWriter = output;
         this.writer = null;
         try {
 			final XMLOutputFactory xof = XMLOutputFactory.newInstance();
@@ -98,10 +113,10 @@ public class ConnectionNodeVisitor implements StringConstants {
 
     /**
      * Get the XML representation of the Connection
-     * @return the xml string
+     * @return the xml string (empty if the xml was written to a writer supplied at construction)
      */
     public String getXml() {
-    	if( strWriter != null ) {
+    	if( strWriter instanceof StringWriter ) {
     		return this.strWriter.toString();
     	}
 
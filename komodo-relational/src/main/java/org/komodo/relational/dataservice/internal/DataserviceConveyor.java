@@ -21,16 +21,27 @@
  */
 package org.komodo.relational.dataservice.internal;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.IOException;
 import java.io.InputStream;
-import java.util.Enumeration;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipOutputStream;
@@ -51,6 +62,7 @@ import org.komodo.relational.dataservice.VdbEntry;
 import org.komodo.relational.resource.Driver;
 import org.komodo.relational.teiid.Teiid;
 import org.komodo.relational.vdb.Vdb;
+import org.komodo.relational.vdb.VdbImport;
 import org.komodo.relational.workspace.WorkspaceManager;
 import org.komodo.spi.KException;
 import org.komodo.spi.constants.StringConstants;
@@ -59,6 +71,9 @@ import org.komodo.spi.repository.KomodoObject;
 import org.komodo.spi.repository.Repository;
 import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.spi.repository.Repository.UnitOfWork.State;
+import org.komodo.spi.runtime.ConnectionDriver;
+import org.komodo.spi.runtime.DeploymentWaiter;
+import org.komodo.spi.runtime.DeploymentWaiter.Outcome;
 import org.komodo.spi.runtime.TeiidDataSource;
 import org.komodo.spi.runtime.TeiidInstance;
 import org.komodo.spi.runtime.TeiidVdb;
@@ -79,6 +94,21 @@ public class DataserviceConveyor implements StringConstants {
      */
     public static final int BUFFER_SIZE = 8192;
 
+    /**
+     * The longest time, in milliseconds, to wait for a deployed VDB to finish loading before reporting its status.
+     */
+    private static final long VDB_DEPLOYMENT_WAIT_TIME = 2000;
+
+    /**
+     * The longest time, in milliseconds, to wait for a deployed driver to be registered before its connections are deployed.
+     */
+    private static final long DRIVER_DEPLOYMENT_WAIT_TIME = 2000;
+
+    /**
+     * The most artifacts of a data service that are deployed at the same time.
+     */
+    private static final int DEPLOY_THREADS = 4;
+
     private final Repository repository;
 
     /**
@@ -139,61 +169,20 @@ public class DataserviceConveyor implements StringConstants {
     }
 
     private String extractDsName(File zFile) throws KException {
-        ZipFile zipFile = null;
-
-        try {
-            zipFile = new ZipFile(zFile);
-            Enumeration<? extends ZipEntry> entries = zipFile.entries();
-            if (!entries.hasMoreElements())
+        try (ZipFile zipFile = new ZipFile(zFile)) {
+            ZipEntry entry = zipFile.getEntry(DataserviceManifest.MANIFEST);
+            if (entry == null)
                 return null;
 
-            while (entries.hasMoreElements()) {
-                ZipEntry entry = entries.nextElement();
-                ByteArrayOutputStream bos = null;
-                InputStream zipStream = null;
-
-                try {
-                    String name = entry.getName();
-                    if (!DataserviceManifest.MANIFEST.equals(name)) {
-                        continue;
-                    }
-
-                    bos = new ByteArrayOutputStream();
-                    final byte[] buf = new byte[BUFFER_SIZE];
-                    int length;
-
-                    zipStream = zipFile.getInputStream(entry);
-                    while ((length = zipStream.read(buf, 0, buf.length)) >= 0) {
-                        bos.write(buf, 0, length);
-                    }
-
-                    byte[] content = bos.toByteArray();
-                    ByteArrayInputStream entryStream = new ByteArrayInputStream(content);
-
-                    DataServiceManifestReader reader = new DataServiceManifestReader();
-                    DataServiceManifest manifest = reader.read(entryStream);
-                    return manifest.getName();
-
-                } finally {
-                    if (bos != null)
-                        bos.close();
-
-                    if (zipStream != null)
-                        zipStream.close();
-                }
+            // the reader parses the entry directly so the manifest is not copied into memory first
+            try (InputStream entryStream = zipFile.getInputStream(entry)) {
+                DataServiceManifestReader reader = new DataServiceManifestReader();
+                DataServiceManifest manifest = reader.read(entryStream);
+                return manifest.getName();
             }
-
         } catch (Exception ex) {
             throw new KException(ex);
-        } finally {
-            try {
-                if (zipFile != null)
-                    zipFile.close();
-            } catch (IOException e) {
-            }
         }
-
-        return null;
     }
 
     private void overrideName(File zipFile, ImportOptions importOptions) throws Exception {
@@ -252,9 +241,14 @@ public class DataserviceConveyor implements StringConstants {
 
             // save content so that sequencer will start
             final KomodoObject fileNode = dataservice.addChild( transaction, JcrConstants.JCR_CONTENT, JcrConstants.NT_RESOURCE );
-            fileNode.setProperty( transaction, JcrConstants.JCR_DATA, new FileInputStream(zipFile) );
+
+            try (InputStream zipStream = new BufferedInputStream(new FileInputStream(zipFile), BUFFER_SIZE)) {
+                fileNode.setProperty( transaction, JcrConstants.JCR_DATA, zipStream );
+            }
         } catch (Exception ex) {
             throw new KException(ex);
+        } finally {
+            zipFile.delete();
         }
     }
 
@@ -274,173 +268,477 @@ public class DataserviceConveyor implements StringConstants {
     public byte[] export( final UnitOfWork transaction,
                           final Dataservice dataService,
                           final Properties exportProperties ) throws KException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        export( transaction, dataService, exportProperties, bos );
+        return bos.toByteArray();
+    }
+
+    /**
+     * Export the given data service as a zip written to the given stream. Each archive entry is written as it is exported so
+     * the archive is never held in memory. The stream is not closed.
+     *
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> or have a state that is not {@link State#NOT_STARTED})
+     * @param dataService
+     *        the data service to export
+     * @param exportProperties
+     *        export properties to be used during the export procedure
+     * @param stream
+     *        the stream the exported data service is written to (cannot be <code>null</code>)
+     * @throws KException
+     *         if errors occurs
+     */
+    public void export( final UnitOfWork transaction,
+                        final Dataservice dataService,
+                        final Properties exportProperties,
+                        final OutputStream stream ) throws KException {
         ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
         ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
+        ArgCheck.isNotNull( stream, "stream" ); //$NON-NLS-1$
 
-        ZipOutputStream zipStream = null;
-
-        try ( final ByteArrayOutputStream bos = new ByteArrayOutputStream() ) {
+        try {
             final DataServiceEntry< ? >[] entries = dataService.getChildren( transaction );
 
             if ( entries.length == 0 ) {
-                return bos.toByteArray();
+                return;
             }
 
-            zipStream = new ZipOutputStream(bos);
+            final ZipOutputStream zipStream = new ZipOutputStream( stream );
 
             //
             // Generate manifest for data service
             //
             DataserviceManifest manifest = new DataserviceManifest( transaction, dataService );
-            byte[] manifestBytes = manifest.export( transaction, new Properties() );
 
             ZipEntry manZipEntry = new ZipEntry( DataserviceManifest.MANIFEST );
             zipStream.putNextEntry( manZipEntry );
-            zipStream.write( manifestBytes );
+            manifest.export( transaction, new Properties(), zipStream );
             zipStream.closeEntry();
 
             for ( final DataServiceEntry< ? > entry : entries ) {
-                final byte[] content = entry.export( transaction, new Properties() );
                 final String entryName = entry.getEntryPath( transaction );
                 final ZipEntry zipEntry = new ZipEntry( entryName );
 
                 zipStream.putNextEntry( zipEntry );
-                zipStream.write( content );
-                zipStream.flush();
+                entry.export( transaction, new Properties(), zipStream );
                 zipStream.closeEntry();
             }
 
             //
-            // Required to ensure the zip is not corrupt
+            // Required to ensure the zip is not corrupt. The zip stream is not closed as that would close the
+            // caller's stream.
             //
-            zipStream.flush();
             zipStream.finish();
-            zipStream.close();
-
-            return bos.toByteArray();
-
+            zipStream.flush();
         } catch ( Exception ex ) {
             throw new KException( ex );
-        } finally {
-            if ( zipStream != null ) {
-                try {
-                    zipStream.finish();
-                } catch ( IOException e ) {
-                    // nothing to do
-                }
+        }
+    }
 
-                try {
-                    zipStream.close();
-                } catch ( IOException e ) {
-                    // nothing to do
-                }
+    /**
+     * An artifact of a data service that is to be deployed. Everything needed from the repository is read when the deployment
+     * is created, on the caller's thread, so that {@link #deploy(TeiidInstance)} only talks to the teiid instance.
+     */
+    private static abstract class Deployment {
+
+        private final String name;
+        private final Set< Deployment > dependencies = new HashSet<>();
+        private final DeployStatus status = new DeployStatus();
+        private long time;
+        private Exception error;
+
+        Deployment( final String name ) {
+            this.name = name;
+        }
+
+        protected abstract void deploy( final TeiidInstance teiidInstance ) throws Exception;
+
+        void run( final TeiidInstance teiidInstance ) {
+            final long start = System.currentTimeMillis();
+
+            try {
+                deploy( teiidInstance );
+            } catch ( final Exception e ) {
+                this.error = e;
+                this.status.addErrorMessage( e );
+            } finally {
+                this.time = System.currentTimeMillis() - start;
             }
         }
+
+        void report( final DeployStatus target ) {
+            for ( final String message : this.status.getProgressMessages() ) {
+                target.addProgressMessage( message );
+            }
+
+            for ( final String message : this.status.getErrorMessages() ) {
+                target.addErrorMessage( message );
+            }
+
+            target.addDeploymentTime( this.name, this.time );
+        }
+
     }
 
-    private void deployConnection( final UnitOfWork uow,
-                                   final ConnectionEntry entry,
-                                   final TeiidInstance teiidInstance,
-                                   final DeployStatus status ) throws Exception {
-        final Connection connection = entry.getReference( uow );
-        final String connectionName = connection.getName( uow );
-        status.addProgressMessage( Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_CONNECTION_START_DEPLOY,
-                                                       connectionName ) );
-
-        final String jndiName = entry.getJndiName( uow );
-        final String sourceType = connection.getDriverName( uow );
-        final Properties properties = connection.getPropertiesForServerDeployment( uow, teiidInstance );
-
-        final TeiidDataSource teiidDataSrc = teiidInstance.getOrCreateDataSource( connectionName,
-                                                                                  jndiName,
-                                                                                  sourceType,
-                                                                                  properties );
-        if ( teiidDataSrc == null ) {
-            String errorMsg = Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_DATA_SOURCE_FAILED_TO_DEPLOY,
-                                                  connectionName );
-            status.addErrorMessage( errorMsg );
+    private static class DriverDeployment extends Deployment {
+
+        private final String driverName;
+        private final File driverFile;
+
+        DriverDeployment( final UnitOfWork uow,
+                          final Driver driver ) throws Exception {
+            super( driver.getName( uow ) );
+            this.driverName = driver.getName( uow );
+            super.status.addProgressMessage( Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_DRIVER_START_DEPLOY,
+                                                                 this.driverName ) );
+
+            final InputStream content = driver.getContent( uow );
+            final DocumentType driverType = driver.getDocumentType( uow );
+            this.driverFile = File.createTempFile( this.driverName, driverType.toString() );
+            FileUtils.write( content, this.driverFile );
+        }
+
+        @Override
+        protected void deploy( final TeiidInstance teiidInstance ) throws Exception {
+            try {
+                teiidInstance.deployDriver( this.driverName, this.driverFile );
+            } finally {
+                this.driverFile.delete();
+            }
+
+            // connections are deployed next and need the driver to be registered
+            final Outcome outcome = new DeploymentWaiter( teiidInstance, DRIVER_DEPLOYMENT_WAIT_TIME ).awaitDriverDeployed( this.driverName );
+
+            if ( outcome != Outcome.READY ) {
+                throw new KException( Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_DRIVER_DEPLOYMENT_TIMED_OUT,
+                                                          this.driverName,
+                                                          DRIVER_DEPLOYMENT_WAIT_TIME ) );
+            }
+
+            super.status.addProgressMessage( Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_DRIVER_SUCCESSFULLY_DEPLOYED,
+                                                                 this.driverName ) );
         }
 
-        status.addProgressMessage( Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_CONNECTION_SUCCESSFULLY_DEPLOYED,
-                                                       connectionName ) );
     }
 
-    private void deployDriver( final UnitOfWork uow,
-                               final Driver driver,
-                               final TeiidInstance teiidInstance,
-                               final DeployStatus status ) throws Exception {
-        final String driverName = driver.getName( uow );
-        status.addProgressMessage( Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_DRIVER_START_DEPLOY,
-                                                       driverName ) );
-
-        final InputStream content = driver.getContent( uow );
-        final DocumentType driverType = driver.getDocumentType( uow );
-        final File driverFile = File.createTempFile( driverName, driverType.toString() );
-        FileUtils.write( content, driverFile );
-
-        teiidInstance.deployDriver( driverName, driverFile );
-        status.addProgressMessage( Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_DRIVER_SUCCESSFULLY_DEPLOYED,
-                                                       driverName ) );
+    private static class ConnectionDeployment extends Deployment {
+
+        private final String connectionName;
+        private final String jndiName;
+        private final String sourceType;
+        private final Properties properties;
+
+        ConnectionDeployment( final UnitOfWork uow,
+                              final ConnectionEntry entry,
+                              final TeiidInstance teiidInstance ) throws Exception {
+            super( entry.getReference( uow ).getName( uow ) );
+            final Connection connection = entry.getReference( uow );
+            this.connectionName = connection.getName( uow );
+            super.status.addProgressMessage( Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_CONNECTION_START_DEPLOY,
+                                                                 this.connectionName ) );
+
+            this.jndiName = entry.getJndiName( uow );
+            this.sourceType = connection.getDriverName( uow );
+            this.properties = connection.getPropertiesForServerDeployment( uow, teiidInstance );
+        }
+
+        @Override
+        protected void deploy( final TeiidInstance teiidInstance ) throws Exception {
+            final TeiidDataSource teiidDataSrc = teiidInstance.getOrCreateDataSource( this.connectionName,
+                                                                                      this.jndiName,
+                                                                                      this.sourceType,
+                                                                                      this.properties );
+            if ( teiidDataSrc == null ) {
+                String errorMsg = Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_DATA_SOURCE_FAILED_TO_DEPLOY,
+                                                      this.connectionName );
+                super.status.addErrorMessage( errorMsg );
+            }
+
+            super.status.addProgressMessage( Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_CONNECTION_SUCCESSFULLY_DEPLOYED,
+                                                                 this.connectionName ) );
+        }
+
     }
 
-    private void deployVdb( final UnitOfWork uow,
-                            final VdbEntry entry,
-                            final TeiidInstance teiidInstance,
-                            final DeployStatus status ) throws Exception {
-        final Vdb vdb = entry.getReference( uow );
-        final String vdbName = vdb.getName( uow );
-        status.addProgressMessage( Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_VDB_START_DEPLOY, vdbName ) );
+    private static class VdbDeployment extends Deployment {
 
-        // Get VDB content
-        final byte[] vdbXml = vdb.export( uow, null );
+        private final String vdbName;
+        private final String vdbDeploymentName;
+        private final byte[] vdbXml;
+        private final Set< String > importNames = new HashSet<>();
 
-        if ( ( vdbXml == null ) || ( vdbXml.length == 0 ) ) {
-            String errorMsg = Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_VDB_CONTENTS_FAILURE, vdbName );
-            status.addErrorMessage( errorMsg );
-            return;
+        VdbDeployment( final UnitOfWork uow,
+                       final VdbEntry entry ) throws Exception {
+            super( entry.getReference( uow ).getName( uow ) );
+            final Vdb vdb = entry.getReference( uow );
+            this.vdbName = vdb.getName( uow );
+            super.status.addProgressMessage( Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_VDB_START_DEPLOY,
+                                                                 this.vdbName ) );
+
+            // Get VDB content
+            this.vdbXml = vdb.export( uow, null );
+
+            // Get Vdb deployment name
+            String deploymentName = null;
+            if ( vdb.hasProperty( uow, "deployment-name" ) ) { //$NON-NLS-1$
+                deploymentName = vdb.getProperty( uow, "deployment-name" ).getStringValue( uow ); //$NON-NLS-1$
+            }
+            if ( StringUtils.isEmpty( deploymentName ) ) {
+                deploymentName = this.vdbName + TeiidVdb.DYNAMIC_VDB_SUFFIX;
+            }
+            this.vdbDeploymentName = deploymentName;
+
+            for ( final VdbImport vdbImport : vdb.getImports( uow ) ) {
+                this.importNames.add( vdbImport.getName( uow ) );
+            }
+        }
+
+        @Override
+        protected void deploy( final TeiidInstance teiidInstance ) throws Exception {
+            if ( ( this.vdbXml == null ) || ( this.vdbXml.length == 0 ) ) {
+                String errorMsg = Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_VDB_CONTENTS_FAILURE, this.vdbName );
+                super.status.addErrorMessage( errorMsg );
+                return;
+            }
+
+            final InputStream stream = new ByteArrayInputStream( this.vdbXml );
+            teiidInstance.deployDynamicVdb( this.vdbDeploymentName, stream );
+            final Outcome outcome = new DeploymentWaiter( teiidInstance, VDB_DEPLOYMENT_WAIT_TIME ).awaitVdbDeployed( this.vdbName );
+
+            final DeployStatus status = super.status;
+
+            if ( outcome == Outcome.FAILED ) {
+                status.addErrorMessage( Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_VDB_FAILED_TO_DEPLOY,
+                                                            this.vdbName ) );
+                return;
+            }
+
+            if ( outcome == Outcome.TIMED_OUT ) {
+                status.addErrorMessage( Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_VDB_DEPLOYMENT_TIMED_OUT,
+                                                            this.vdbName,
+                                                            VDB_DEPLOYMENT_WAIT_TIME ) );
+                return;
+            }
+
+            status.addProgressMessage( Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_VDB_SUCCESSFULLY_DEPLOYED,
+                                                           this.vdbName ) );
+
+            TeiidVdb teiidVdb = teiidInstance.getVdb( this.vdbDeploymentName );
+            if ( teiidVdb == null ) {
+                status.addProgressMessage( "Warning: Vdb " + this.vdbName + " not yet completed deployment" );
+                return;
+            }
+
+            if ( teiidVdb.isActive() ) {
+                status.addProgressMessage( "Vdb " + this.vdbName + " deployed to teiid and is active" );
+            } else if ( teiidVdb.isLoading() ) {
+                status.addProgressMessage( "Vdb " + this.vdbName + " deployed but still loading" );
+            }
+
+            List< String > vdbErrors = teiidVdb.getValidityErrors();
+            if ( vdbErrors.isEmpty() )
+                status.addProgressMessage( "Vdb " + this.vdbName + " deployed and is valid" );
+            else
+                status.addProgressMessage( "Vdb " + this.vdbName + " deployed but has validity errors" );
+
+            for ( String vdbError : vdbErrors ) {
+                status.addErrorMessage( vdbError );
+            }
+        }
+
+    }
+
+    /**
+     * The names of the artifacts already on the teiid instance. They are read on first use so that all the
+     * <code>IF_MISSING</code> entries of a data service are resolved by one round of queries.
+     */
+    private static class DeployedArtifacts {
+
+        private final TeiidInstance teiidInstance;
+        private Set< String > driverNames;
+        private Set< String > dataSourceNames;
+        private Set< String > vdbNames;
+
+        DeployedArtifacts( final TeiidInstance teiidInstance ) {
+            this.teiidInstance = teiidInstance;
         }
 
-        // Get Vdb deployment name
-        String vdbDeploymentName = null;
-        if ( vdb.hasProperty( uow, "deployment-name" ) ) { //$NON-NLS-1$
-            vdbDeploymentName = vdb.getProperty( uow, "deployment-name" ).getStringValue( uow ); //$NON-NLS-1$
+        private void load() throws Exception {
+            if ( this.vdbNames != null ) {
+                return;
+            }
+
+            this.driverNames = new HashSet<>();
+            for ( final ConnectionDriver driver : this.teiidInstance.getDataSourceDrivers() ) {
+                this.driverNames.add( driver.getName() );
+            }
+
+            this.dataSourceNames = new HashSet<>();
+            for ( final TeiidDataSource dataSource : this.teiidInstance.getDataSources() ) {
+                this.dataSourceNames.add( dataSource.getName() );
+            }
+
+            this.vdbNames = new HashSet<>();
+            for ( final TeiidVdb vdb : this.teiidInstance.getVdbs() ) {
+                this.vdbNames.add( vdb.getName() );
+            }
         }
-        if(StringUtils.isEmpty(vdbDeploymentName)) {
-        	vdbDeploymentName = vdb.getName(uow) + TeiidVdb.DYNAMIC_VDB_SUFFIX;
+
+        boolean hasDriver( final String driverName ) throws Exception {
+            load();
+
+            for ( final String name : this.driverNames ) {
+                // deployed driver names can have a suffix added by the server
+                if ( name.startsWith( driverName ) ) {
+                    return true;
+                }
+            }
+
+            return false;
         }
 
-        final InputStream stream = new ByteArrayInputStream( vdbXml );
-        teiidInstance.deployDynamicVdb( vdbDeploymentName, stream );
+        boolean hasDataSource( final String dataSourceName ) throws Exception {
+            load();
+            return this.dataSourceNames.contains( dataSourceName );
+        }
 
-        status.addProgressMessage( Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_VDB_SUCCESSFULLY_DEPLOYED,
-                                                       vdbName ) );
+        boolean hasVdb( final String vdbName ) throws Exception {
+            load();
+            return this.vdbNames.contains( vdbName );
+        }
 
-        
-        TeiidVdb teiidVdb = teiidInstance.getVdb( vdbDeploymentName );
-        if ( teiidVdb == null ) {
-            status.addProgressMessage( "Warning: Vdb " + vdbName + " not yet completed deployment" );
-            return;
+    }
+
+    /**
+     * Orders the deployments so that connections follow drivers, VDBs follow connections and VDBs follow the VDBs they import.
+     * The deployments of each level do not depend on each other.
+     */
+    private static List< List< Deployment > > plan( final List< Deployment > drivers,
+                                                    final List< Deployment > connections,
+                                                    final List< Deployment > vdbs ) {
+        final Map< String, Deployment > vdbsByName = new HashMap<>();
+        for ( final Deployment vdb : vdbs ) {
+            vdbsByName.put( vdb.name, vdb );
+        }
+
+        for ( final Deployment connection : connections ) {
+            connection.dependencies.addAll( drivers );
+        }
+
+        for ( final Deployment vdb : vdbs ) {
+            vdb.dependencies.addAll( connections );
+
+            for ( final String importName : ( ( VdbDeployment )vdb ).importNames ) {
+                final Deployment imported = vdbsByName.get( importName );
+
+                if ( ( imported != null ) && ( imported != vdb ) ) {
+                    vdb.dependencies.add( imported );
+                }
+            }
         }
 
-        if ( teiidVdb.isActive() ) {
-            status.addProgressMessage( "Vdb " + vdbName + " deployed to teiid and is active" );
-        } else if ( teiidVdb.isLoading() ) {
-            status.addProgressMessage( "Vdb " + vdbName + " deployed but still loading" );
+        final List< Deployment > remaining = new ArrayList<>( drivers );
+        remaining.addAll( connections );
+        remaining.addAll( vdbs );
+
+        final List< List< Deployment > > levels = new ArrayList<>();
+        final Set< Deployment > planned = new HashSet<>();
+
+        while ( !remaining.isEmpty() ) {
+            final List< Deployment > level = new ArrayList<>();
+
+            for ( final Deployment deployment : remaining ) {
+                if ( planned.containsAll( deployment.dependencies ) ) {
+                    level.add( deployment );
+                }
+            }
+
+            if ( level.isEmpty() ) {
+                // VDBs that import each other, deploy them one at a time in data service order
+                for ( final Deployment deployment : remaining ) {
+                    levels.add( Collections.singletonList( deployment ) );
+                }
+
+                break;
+            }
+
+            levels.add( level );
+            planned.addAll( level );
+            remaining.removeAll( level );
         }
 
-        List< String > vdbErrors = teiidVdb.getValidityErrors();
-        if ( vdbErrors.isEmpty() )
-            status.addProgressMessage( "Vdb " + vdbName + " deployed and is valid" );
-        else
-            status.addProgressMessage( "Vdb " + vdbName + " deployed but has validity errors" );
+        return levels;
+    }
+
+    /**
+     * Deploys a level at a time. The deployments of a level run at the same time and their messages are reported in plan order.
+     *
+     * @return <code>false</code> if a deployment threw an exception and the remaining levels were not deployed
+     */
+    private static boolean deploy( final List< List< Deployment > > levels,
+                                   final TeiidInstance teiidInstance,
+                                   final DeployStatus status ) throws Exception {
+        ExecutorService executor = null;
+
+        try {
+            for ( final List< Deployment > level : levels ) {
+                if ( level.size() == 1 ) {
+                    level.get( 0 ).run( teiidInstance );
+                } else {
+                    if ( executor == null ) {
+                        executor = Executors.newFixedThreadPool( DEPLOY_THREADS, new ThreadFactory() {
+
+                            private final AtomicInteger count = new AtomicInteger();
+
+                            @Override
+                            public Thread newThread( final Runnable runnable ) {
+                                final Thread thread = new Thread( runnable, "DataserviceConveyor-" + count.incrementAndGet() ); //$NON-NLS-1$
+                                thread.setDaemon( true );
+                                return thread;
+                            }
+                        } );
+                    }
+
+                    final List< Future< ? > > futures = new ArrayList<>( level.size() );
+
+                    for ( final Deployment deployment : level ) {
+                        futures.add( executor.submit( new Runnable() {
+
+                            @Override
+                            public void run() {
+                                deployment.run( teiidInstance );
+                            }
+                        } ) );
+                    }
+
+                    for ( final Future< ? > future : futures ) {
+                        future.get();
+                    }
+                }
+
+                boolean failed = false;
+
+                for ( final Deployment deployment : level ) {
+                    deployment.report( status );
+                    failed |= ( deployment.error != null );
+                }
+
+                if ( failed ) {
+                    return false;
+                }
+            }
 
-        for ( String vdbError : vdbErrors ) {
-            status.addErrorMessage( vdbError );
+            return true;
+        } finally {
+            if ( executor != null ) {
+                executor.shutdownNow();
+            }
         }
     }
 
     /**
-     * Deploy the {@link Dataservice} to the teiid instance
+     * Deploy the {@link Dataservice} to the teiid instance. Drivers are deployed first, then connections and then VDBs.
+     * Artifacts that do not depend on each other are deployed at the same time.
      *
      * @param transaction
      *        the transaction (cannot be <code>null</code> and must have a state of {@link State#NOT_STARTED})
@@ -467,12 +765,19 @@ public class DataserviceConveyor implements StringConstants {
             // TODO deploy metadata files
             // TODO deploy UDFs
 
-            { // Deploy the drivers
+            final DeployedArtifacts deployed = new DeployedArtifacts( teiidInstance );
+            final List< Deployment > drivers = new ArrayList<>();
+            final List< Deployment > connections = new ArrayList<>();
+            final List< Deployment > vdbs = new ArrayList<>();
+
+            { // Plan the drivers
                 final DriverEntry[] entries = dataservice.getDriverEntries( transaction );
 
                 if ( entries.length != 0 ) {
                     for ( final DriverEntry entry : entries ) {
-                        if ( entry.getReference( transaction ) == null ) {
+                        final Driver driver = entry.getReference( transaction );
+
+                        if ( driver == null ) {
                             continue; // nothing to deploy
                         }
 
@@ -483,7 +788,7 @@ public class DataserviceConveyor implements StringConstants {
                                 deploy = true;
                                 break;
                             case IF_MISSING:
-                                deploy = true; // TODO determine if not already deployed
+                                deploy = !deployed.hasDriver( driver.getName( transaction ) );
                                 break;
                             case NEVER:
                             default:
@@ -491,19 +796,20 @@ public class DataserviceConveyor implements StringConstants {
                         }
 
                         if ( deploy ) {
-                            final Driver driver = entry.getReference( transaction );
-                            deployDriver( transaction, driver, teiidInstance, status );
+                            drivers.add( new DriverDeployment( transaction, driver ) );
                         }
                     }
                 }
             }
 
-            { // Deploy the connections
+            { // Plan the connections
                 final ConnectionEntry[] entries = dataservice.getConnectionEntries( transaction );
 
                 if ( entries.length != 0 ) {
                     for ( final ConnectionEntry entry : entries ) {
-                        if ( entry.getReference( transaction ) == null ) {
+                        final Connection connection = entry.getReference( transaction );
+
+                        if ( connection == null ) {
                             continue; // nothing to deploy
                         }
 
@@ -514,7 +820,7 @@ public class DataserviceConveyor implements StringConstants {
                                 deploy = true;
                                 break;
                             case IF_MISSING:
-                                deploy = true; // TODO determine if not already deployed
+                                deploy = !deployed.hasDataSource( connection.getName( transaction ) );
                                 break;
                             case NEVER:
                             default:
@@ -522,13 +828,13 @@ public class DataserviceConveyor implements StringConstants {
                         }
 
                         if ( deploy ) {
-                            deployConnection( transaction, entry, teiidInstance, status );
+                            connections.add( new ConnectionDeployment( transaction, entry, teiidInstance ) );
                         }
                     }
                 }
             }
 
-            { // deploy service VDB
+            { // Plan the service VDB
                 final Vdb serviceVdb = dataservice.getServiceVdb( transaction );
 
                 if ( serviceVdb != null ) {
@@ -540,7 +846,7 @@ public class DataserviceConveyor implements StringConstants {
                             deploy = true;
                             break;
                         case IF_MISSING:
-                            deploy = true; // TODO determine if not already deployed
+                            deploy = !deployed.hasVdb( serviceVdb.getName( transaction ) );
                             break;
                         case NEVER:
                         default:
@@ -548,10 +854,12 @@ public class DataserviceConveyor implements StringConstants {
                     }
 
                     if ( deploy ) {
-                        deployVdb( transaction, entry, teiidInstance, status );
+                        vdbs.add( new VdbDeployment( transaction, entry ) );
                     }
-                // No Service VDB - log error
+                // No Service VDB - deploy the drivers and connections then log error
                 } else {
+                    deploy( plan( drivers, connections, Collections.< Deployment >emptyList() ), teiidInstance, status );
+
                     String errorMsg = Messages.getString(Messages.DataserviceConveyor.DATA_SERVICE_VDB_NOT_FOUND,dsName);
                     status.addErrorMessage(errorMsg);
                     return status;
@@ -559,15 +867,14 @@ public class DataserviceConveyor implements StringConstants {
                 
             }
 
-            //
-            // TODO need to guarantee the ordering of the vdbs
-            //
-            { // Deploy the VDBs
+            { // Plan the VDBs
                 final VdbEntry[] entries = dataservice.getVdbEntries( transaction );
 
                 if ( entries.length != 0 ) {
                     for ( final VdbEntry entry : entries ) {
-                        if ( entry.getReference( transaction ) == null ) {
+                        final Vdb vdb = entry.getReference( transaction );
+
+                        if ( vdb == null ) {
                             continue; // nothing to deploy
                         }
 
@@ -578,7 +885,7 @@ public class DataserviceConveyor implements StringConstants {
                                 deploy = true;
                                 break;
                             case IF_MISSING:
-                                deploy = true; // TODO determine if not already deployed
+                                deploy = !deployed.hasVdb( vdb.getName( transaction ) );
                                 break;
                             case NEVER:
                             default:
@@ -586,12 +893,16 @@ public class DataserviceConveyor implements StringConstants {
                         }
 
                         if ( deploy ) {
-                            deployVdb( transaction, entry, teiidInstance, status );
+                            vdbs.add( new VdbDeployment( transaction, entry ) );
                         }
                     }
                 }
             }
 
+            if ( !deploy( plan( drivers, connections, vdbs ), teiidInstance, status ) ) {
+                return status;
+            }
+
             status.addProgressMessage( Messages.getString( Messages.DataserviceConveyor.DATA_SERVICE_SUCCESSFULLY_DEPLOYED,
                                                            dsName ) );
         } catch (Exception ex) {
@@ -600,4 +911,4 @@ public class DataserviceConveyor implements StringConstants {
 
         return status;
     }
-}
\ No newline at end of file
+}
@@ -7,6 +7,7 @@
 */
 package org.komodo.relational.dataservice.internal;
 
+import java.io.OutputStream;
 import java.util.Properties;
 
 import org.komodo.relational.Messages;
@@ -64,6 +65,25 @@ public class VdbEntryImpl extends RelationalObjectImpl implements VdbEntry {
         return vdb.export( uow, properties );
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.repository.Exportable#export(org.komodo.spi.repository.Repository.UnitOfWork, java.util.Properties,
+     *      java.io.OutputStream)
+     */
+    @Override
+    public void export( final UnitOfWork uow,
+                        final Properties properties,
+                        final OutputStream stream ) throws KException {
+        final Vdb vdb = getReference( uow );
+
+        if ( vdb == null ) {
+            throw new KException( Messages.getString( Relational.EXPORT_FAILED_NO_CONTENT, getAbsolutePath() ) );
+        }
+
+        vdb.export( uow, properties, stream );
+    }
+
     /**
      * {@inheritDoc}
      *
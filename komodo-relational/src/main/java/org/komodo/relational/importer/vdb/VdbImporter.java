@@ -21,12 +21,18 @@
  */
 package org.komodo.relational.importer.vdb;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import java.nio.charset.StandardCharsets;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.komodo.importer.AbstractImporter;
 import org.komodo.importer.ImportMessages;
 import org.komodo.importer.ImportOptions;
@@ -42,15 +48,81 @@ import org.komodo.spi.repository.KomodoType;
 import org.komodo.spi.repository.Repository;
 import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.utils.ArgCheck;
+import org.komodo.utils.FileUtils;
 import org.modeshape.jcr.JcrLexicon;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
 
 /**
  *
  */
 public class VdbImporter extends AbstractImporter {
 
+    /**
+     * The maximum number of bytes read when looking for the VDB name.
+     */
+    private static final int NAME_PEEK_LIMIT = 64 * 1024;
+
+    private static final XMLInputFactory XML_INPUT_FACTORY;
+
+    static {
+        XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+    }
+
+    /**
+     * Stops reading after a fixed number of bytes and does not close the wrapped stream.
+     */
+    private static class BoundedInputStream extends FilterInputStream {
+
+        private int remaining;
+
+        BoundedInputStream(InputStream stream, int limit) {
+            super(stream);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (this.remaining <= 0)
+                return -1;
+
+            int result = super.read();
+            if (result != -1)
+                --this.remaining;
+
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (this.remaining <= 0)
+                return -1;
+
+            int result = super.read(b, off, Math.min(len, this.remaining));
+            if (result > 0)
+                this.remaining -= result;
+
+            return result;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long result = super.skip(Math.min(n, this.remaining));
+            this.remaining -= result;
+            return result;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+            // leave the wrapped stream open
+        }
+    }
+
     /**
      * constructor
      *
@@ -67,12 +139,27 @@ public class VdbImporter extends AbstractImporter {
                                                                      KomodoObject parentObject,
                                                                      ImportOptions importOptions,
                                                                      ImportMessages importMessages) throws KException {
+        executeImport(transaction,
+                      new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                      parentObject,
+                      importOptions,
+                      importMessages);
+    }
+
+    @Override
+    protected void executeImport(UnitOfWork transaction,
+                                 InputStream content,
+                                 KomodoObject parentObject,
+                                 ImportOptions importOptions,
+                                 ImportMessages importMessages) throws KException {
 
         String vdbName = importOptions.getOption(OptionKeys.NAME).toString();
         String vdbFilePath = importOptions.getOption(OptionKeys.VDB_FILE_PATH).toString();
 
         Vdb vdb = getWorkspaceManager(transaction).createVdb(transaction, parentObject, vdbName, vdbFilePath);
         KomodoObject fileNode = vdb.addChild(transaction, JcrLexicon.CONTENT.getString(), null);
+
+        // the content is copied into a binary so the xml is never held in memory as a whole
         fileNode.setProperty(transaction, JcrLexicon.DATA.getString(), content);
     }
 
@@ -117,30 +204,44 @@ public class VdbImporter extends AbstractImporter {
     }
 
     /**
+     * Only the start of the document is parsed. The stream is not closed.
+     *
      * @param vdbStream the vdb input stream
-     * @return the name of the vdb specified in the xml
+     * @return the name of the vdb specified in the xml or <code>null</code> if not found
      */
     public static String extractVdbName(InputStream vdbStream) {
         if (vdbStream == null)
             return null;
 
+        XMLStreamReader reader = null;
+
         try {
-            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-            DocumentBuilder db = dbf.newDocumentBuilder();
-            Document doc = db.parse(vdbStream);
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(vdbStream);
+
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT)
+                    continue;
 
-            Element docElement = doc.getDocumentElement();
-            String docNodeName = docElement.getNodeName();
-            String vdbTag = KomodoType.VDB.getAliases().iterator().next();
+                // only the root element is of interest
+                String vdbTag = KomodoType.VDB.getAliases().iterator().next();
+                if (! vdbTag.equals(reader.getLocalName()))
+                    return null;
 
-            if (! vdbTag.equals(docNodeName)) {
-                return null;
+                return reader.getAttributeValue(null, "name"); //$NON-NLS-1$
             }
 
-            return docElement.getAttribute("name"); //$NON-NLS-1$
+            return null;
         } catch (Exception ex) {
             // Don't need to worry about the exception
             return null;
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ex) {
+                    // nothing to do
+                }
+            }
         }
     }
 
@@ -174,9 +275,11 @@ public class VdbImporter extends AbstractImporter {
         ArgCheck.isNotNull(vdbStream);
 
         try {
-            String vdbXml = toString(vdbStream);
-            ByteArrayInputStream vdbNameStream = new ByteArrayInputStream(vdbXml.getBytes("UTF-8")); //$NON-NLS-1$
-            overrideName(vdbNameStream, importOptions);
+            // peek at the start of the stream for the name then rewind and import the whole stream
+            BufferedInputStream vdbXml = new BufferedInputStream(vdbStream, FileUtils.DEFAULT_BUFFER_SIZE);
+            vdbXml.mark(NAME_PEEK_LIMIT);
+            overrideName(new BoundedInputStream(vdbXml, NAME_PEEK_LIMIT), importOptions);
+            vdbXml.reset();
 
             doImport(uow, vdbXml, parentObject, importOptions, importMessages);
         } catch (Exception ex) {
@@ -196,10 +299,8 @@ public class VdbImporter extends AbstractImporter {
     public void importVdb(UnitOfWork uow, File vdbXmlFile, KomodoObject parentObject, ImportOptions importOptions, ImportMessages importMessages) {
         if (!validFile(vdbXmlFile, importMessages)) return;
 
-        try {
-            overrideName(new FileInputStream(vdbXmlFile), importOptions);
-
-            doImport(uow, toString(vdbXmlFile), parentObject, importOptions, importMessages);
+        try (InputStream vdbStream = new FileInputStream(vdbXmlFile)) {
+            importVdb(uow, vdbStream, parentObject, importOptions, importMessages);
         } catch (Exception ex) {
             importMessages.addErrorMessage(ex.getLocalizedMessage());
         }
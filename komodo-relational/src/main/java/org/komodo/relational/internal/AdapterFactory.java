@@ -21,19 +21,116 @@
  */
 package org.komodo.relational.internal;
 
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import org.komodo.relational.TypeResolver;
+import org.komodo.repository.KomodoTypeRegistry.TypeSignature;
+import org.komodo.repository.ObjectImpl;
+import org.komodo.repository.RepositoryImpl.UnitOfWorkImpl;
 import org.komodo.spi.repository.KomodoObject;
 import org.komodo.spi.repository.KomodoType;
 import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.spi.repository.Repository.UnitOfWork.State;
 import org.komodo.utils.ArgCheck;
+import org.komodo.utils.KLog;
 
 /**
  * Factory dedicated to adapting a {@link KomodoObject} into its
  * relational object instance.
+ *
+ * Objects resolved during a transaction are remembered by that transaction so that
+ * resolving the same path again is a lookup. When the resolver of the object's type
+ * identifier cannot resolve it, the resolvers that previously resolved objects with the
+ * same node type signature are tried before falling back to checking every resolver.
  */
 public class AdapterFactory {
 
+    /**
+     * A snapshot of how objects have been adapted since startup.
+     */
+    public static class Statistics {
+
+        private final long adaptations;
+        private final long cacheHits;
+        private final long dispatchHits;
+        private final long fallbackScans;
+        private final long unresolved;
+
+        Statistics(long adaptations, long cacheHits, long dispatchHits, long fallbackScans, long unresolved) {
+            this.adaptations = adaptations;
+            this.cacheHits = cacheHits;
+            this.dispatchHits = dispatchHits;
+            this.fallbackScans = fallbackScans;
+            this.unresolved = unresolved;
+        }
+
+        /**
+         * @return the number of objects that needed adapting
+         */
+        public long getAdaptations() {
+            return adaptations;
+        }
+
+        /**
+         * @return the number of adaptations answered by an object already resolved in the same transaction
+         */
+        public long getCacheHits() {
+            return cacheHits;
+        }
+
+        /**
+         * @return the number of adaptations answered by a resolver remembered for the object's type signature
+         */
+        public long getDispatchHits() {
+            return dispatchHits;
+        }
+
+        /**
+         * @return the number of times every resolver had to be checked
+         */
+        public long getFallbackScans() {
+            return fallbackScans;
+        }
+
+        /**
+         * @return the number of objects no resolver could resolve
+         */
+        public long getUnresolved() {
+            return unresolved;
+        }
+
+        @Override
+        public String toString() {
+            return "adaptations=" + adaptations + ", cacheHits=" + cacheHits + ", dispatchHits=" + dispatchHits //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                   + ", fallbackScans=" + fallbackScans + ", unresolved=" + unresolved; //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+    private static final KLog LOGGER = KLog.getLogger();
+
+    /**
+     * The resolvers, in the order they were found, that resolved objects the type identifier resolver could not. Type
+     * signatures are shared by the {@link org.komodo.repository.KomodoTypeRegistry} so the number of keys is bounded by
+     * the number of node type combinations used.
+     */
+    private static final ConcurrentMap< TypeSignature, CopyOnWriteArrayList< TypeResolver< ? > > > DISPATCH = new ConcurrentHashMap<>();
+
+    private static final AtomicLong ADAPTATIONS = new AtomicLong();
+    private static final AtomicLong CACHE_HITS = new AtomicLong();
+    private static final AtomicLong DISPATCH_HITS = new AtomicLong();
+    private static final AtomicLong FALLBACK_SCANS = new AtomicLong();
+    private static final AtomicLong UNRESOLVED = new AtomicLong();
+
+    /**
+     * @return a snapshot of the adaptation counters (never <code>null</code>)
+     */
+    public static Statistics getStatistics() {
+        return new Statistics(ADAPTATIONS.get(), CACHE_HITS.get(), DISPATCH_HITS.get(), FALLBACK_SCANS.get(), UNRESOLVED.get());
+    }
+
     /**
      */
     public AdapterFactory() {
@@ -67,31 +164,31 @@ public class AdapterFactory {
         if (adaptedClass.isInstance(object))
             return (T) object;
 
+        ADAPTATIONS.incrementAndGet();
+
         KomodoObject result = null;
 
         try {
             KomodoObject kObject = (KomodoObject) object;
-            KomodoType type = kObject.getTypeIdentifier(transaction);
-            TypeResolverRegistry registry = TypeResolverRegistry.getInstance();
-            TypeResolver< ? > resolver = registry.getResolver(type);
-
-            if (resolver != null && resolver.resolvable(transaction, kObject))
-                result = resolver.resolve(transaction, kObject);
-
-            if (result == null) {
-                // Failed with the type identifier so try to be safe than sorry
-                // and iterate through all resolvers to check this object is really
-                // not resolvable.
-                for (final TypeResolver< ? > aResolver : registry.getResolvers()) {
-                    if (aResolver.resolvable(transaction, kObject)) {
-                        result = aResolver.resolve(transaction, kObject);
-                        break;
-                    }
+            UnitOfWorkImpl uow = (transaction instanceof UnitOfWorkImpl) ? (UnitOfWorkImpl) transaction : null;
+            String path = kObject.getAbsolutePath();
+
+            if (uow != null)
+                result = uow.getResolved(path);
+
+            if (result != null) {
+                CACHE_HITS.incrementAndGet();
+            } else {
+                result = resolve(transaction, kObject);
+
+                if (result == null) {
+                    UNRESOLVED.incrementAndGet();
+                    return null; // Type cannot be resolved so cannot be adapted
                 }
-            }
 
-            if (result == null)
-                return null; // Type cannot be resolved so cannot be adapted
+                if (uow != null)
+                    uow.cacheResolved(path, result);
+            }
 
         } catch (final Exception e) {
             // No need to log error
@@ -106,4 +203,62 @@ public class AdapterFactory {
         return (T) result;
     }
 
+    private KomodoObject resolve(UnitOfWork transaction, KomodoObject kObject) throws Exception {
+        KomodoType type = kObject.getTypeIdentifier(transaction);
+        TypeResolverRegistry registry = TypeResolverRegistry.getInstance();
+        TypeResolver< ? > resolver = registry.getResolver(type);
+
+        if (resolver != null && resolver.resolvable(transaction, kObject))
+            return resolver.resolve(transaction, kObject);
+
+        // Failed with the type identifier so try the resolvers that succeeded
+        // before for nodes with the same types
+        TypeSignature signature = null;
+        List< TypeResolver< ? > > candidates = null;
+
+        if (kObject instanceof ObjectImpl) {
+            signature = ((ObjectImpl) kObject).getTypeSignature(transaction);
+            candidates = DISPATCH.get(signature);
+        }
+
+        if (candidates != null) {
+            for (final TypeResolver< ? > candidate : candidates) {
+                if (candidate != resolver && candidate.resolvable(transaction, kObject)) {
+                    DISPATCH_HITS.incrementAndGet();
+                    return candidate.resolve(transaction, kObject);
+                }
+            }
+        }
+
+        // Be safe rather than sorry and iterate through all resolvers to
+        // check this object is really not resolvable.
+        FALLBACK_SCANS.incrementAndGet();
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("AdapterFactory: checking all resolvers for {0}", kObject.getAbsolutePath()); //$NON-NLS-1$
+        }
+
+        for (final TypeResolver< ? > aResolver : registry.getResolvers()) {
+            if (aResolver.resolvable(transaction, kObject)) {
+                if (signature != null) {
+                    CopyOnWriteArrayList< TypeResolver< ? > > known = DISPATCH.get(signature);
+
+                    if (known == null) {
+                        final CopyOnWriteArrayList< TypeResolver< ? > > created = new CopyOnWriteArrayList<>();
+                        known = DISPATCH.putIfAbsent(signature, created);
+
+                        if (known == null)
+                            known = created;
+                    }
+
+                    known.addIfAbsent(aResolver);
+                }
+
+                return aResolver.resolve(transaction, kObject);
+            }
+        }
+
+        return null;
+    }
+
 }
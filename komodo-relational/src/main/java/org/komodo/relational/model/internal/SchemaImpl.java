@@ -21,6 +21,9 @@
  */
 package org.komodo.relational.model.internal;
 
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Properties;
 import javax.jcr.Node;
 import org.komodo.core.KomodoLexicon;
@@ -78,7 +81,32 @@ public class SchemaImpl extends RelationalObjectImpl implements Schema {
             visitor.visit( schemaNode );
             result.append( visitor.getDdl() );
 
-            return result.toString().getBytes();
+            return result.toString().getBytes( StandardCharsets.UTF_8 );
+        } catch ( final Exception e ) {
+            throw handleError( e );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.repository.Exportable#export(org.komodo.spi.repository.Repository.UnitOfWork, java.util.Properties,
+     *      java.io.OutputStream)
+     */
+    @Override
+    public void export( final UnitOfWork transaction,
+                        final Properties properties,
+                        final OutputStream stream ) throws KException {
+        ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
+        ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
+        ArgCheck.isNotNull( stream, "stream" ); //$NON-NLS-1$
+
+        try {
+            final DdlNodeVisitor visitor = new DdlNodeVisitor( TeiidVersionProvider.getInstance().getTeiidVersion(),
+                                                               false,
+                                                               new OutputStreamWriter( stream, StandardCharsets.UTF_8 ) );
+            visitor.visit( node( transaction ) );
+            visitor.finish();
         } catch ( final Exception e ) {
             throw handleError( e );
         }
@@ -21,6 +21,9 @@
  */
 package org.komodo.relational.model.internal;
 
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -1043,14 +1046,18 @@ public class TableImpl extends RelationalObjectImpl implements Table {
         setStatementOption( transaction, StandardOption.UUID.name(), newUuid );
     }
 
-    private String exportDdl(UnitOfWork transaction, Properties exportProperties) throws Exception {
+    private VisitorExclusions[] exclusions(Properties exportProperties) {
         List<VisitorExclusions> exclusions = new ArrayList<VisitorExclusions>();
         if( exportProperties != null && !exportProperties.isEmpty() ) {
             if(exportProperties.containsKey(ExportConstants.EXCLUDE_TABLE_CONSTRAINTS_KEY)) {
                 exclusions.add(VisitorExclusions.EXCLUDE_TABLE_CONSTRAINTS);
             }
         }
-        DdlNodeVisitor visitor = new DdlNodeVisitor(TeiidVersionProvider.getInstance().getTeiidVersion(), false, exclusions.toArray(new VisitorExclusions[0]));
+        return exclusions.toArray(new VisitorExclusions[0]);
+    }
+
+    private String exportDdl(UnitOfWork transaction, Properties exportProperties) throws Exception {
+        DdlNodeVisitor visitor = new DdlNodeVisitor(TeiidVersionProvider.getInstance().getTeiidVersion(), false, exclusions(exportProperties));
         visitor.visit(node(transaction));
 
         String result = visitor.getDdl();
@@ -1079,13 +1086,41 @@ public class TableImpl extends RelationalObjectImpl implements Table {
                              result);
             }
 
-            return result.getBytes();
+            return result.getBytes(StandardCharsets.UTF_8);
 
         } catch (final Exception e) {
             throw handleError(e);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.repository.Exportable#export(org.komodo.spi.repository.Repository.UnitOfWork, java.util.Properties,
+     *      java.io.OutputStream)
+     */
+    @Override
+    public void export( final UnitOfWork transaction,
+                        final Properties exportProperties,
+                        final OutputStream stream ) throws KException {
+        ArgCheck.isNotNull(transaction);
+        ArgCheck.isNotNull(stream, "stream"); //$NON-NLS-1$
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("tableimpl-export: transaction = {0}", transaction.getName()); //$NON-NLS-1$
+        }
+
+        try {
+            DdlNodeVisitor visitor = new DdlNodeVisitor(TeiidVersionProvider.getInstance().getTeiidVersion(), false,
+                                                        new OutputStreamWriter(stream, StandardCharsets.UTF_8),
+                                                        exclusions(exportProperties));
+            visitor.visit(node(transaction));
+            visitor.finish();
+        } catch (final Exception e) {
+            throw handleError(e);
+        }
+    }
+
     @Override
     public DocumentType getDocumentType(UnitOfWork transaction) throws KException {
         return DocumentType.DDL;
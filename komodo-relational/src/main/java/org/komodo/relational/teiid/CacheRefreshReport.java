@@ -0,0 +1,117 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.relational.teiid;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes what a refresh of a {@link CachedTeiid cached teiid} changed. Artifacts whose fingerprint matches the cached one
+ * are not touched and are reported as unchanged.
+ */
+public class CacheRefreshReport {
+
+    private final List< String > added = new ArrayList<>();
+    private final List< String > updated = new ArrayList<>();
+    private final List< String > removed = new ArrayList<>();
+    private final List< String > unchanged = new ArrayList<>();
+
+    /**
+     * @param name
+     *        the name of the artifact added to the cache (cannot be empty)
+     */
+    public void added( final String name ) {
+        this.added.add( name );
+    }
+
+    /**
+     * @param name
+     *        the name of the cached artifact that was replaced (cannot be empty)
+     */
+    public void updated( final String name ) {
+        this.updated.add( name );
+    }
+
+    /**
+     * @param name
+     *        the name of the artifact removed from the cache (cannot be empty)
+     */
+    public void removed( final String name ) {
+        this.removed.add( name );
+    }
+
+    /**
+     * @param name
+     *        the name of the cached artifact that was left alone (cannot be empty)
+     */
+    public void unchanged( final String name ) {
+        this.unchanged.add( name );
+    }
+
+    /**
+     * @return the names of the artifacts added to the cache (never <code>null</code>)
+     */
+    public List< String > getAdded() {
+        return Collections.unmodifiableList( this.added );
+    }
+
+    /**
+     * @return the names of the cached artifacts that were replaced (never <code>null</code>)
+     */
+    public List< String > getUpdated() {
+        return Collections.unmodifiableList( this.updated );
+    }
+
+    /**
+     * @return the names of the artifacts removed from the cache (never <code>null</code>)
+     */
+    public List< String > getRemoved() {
+        return Collections.unmodifiableList( this.removed );
+    }
+
+    /**
+     * @return the names of the cached artifacts that were left alone (never <code>null</code>)
+     */
+    public List< String > getUnchanged() {
+        return Collections.unmodifiableList( this.unchanged );
+    }
+
+    /**
+     * @return <code>true</code> if the refresh added, updated, or removed a cached artifact
+     */
+    public boolean hasChanges() {
+        return !this.added.isEmpty() || !this.updated.isEmpty() || !this.removed.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "added=" + this.added + ", updated=" + this.updated + ", removed=" + this.removed //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+               + ", unchanged=" + this.unchanged.size(); //$NON-NLS-1$
+    }
+
+}
@@ -235,10 +235,11 @@ public interface CachedTeiid extends RelationalObject, TeiidArchetype {
      *        the transaction (cannot be <code>null</code> or have a state that is not {@link State#NOT_STARTED})
      * @param teiidInstance the teiid instance
      * @param vdbNames the Vdb names
+     * @return the report of the cached VDBs that were added, updated, removed or left unchanged (never <code>null</code>)
      * @throws KException
      *         if an error occurs
      */
-    void refreshVdbs(final UnitOfWork transaction, TeiidInstance teiidInstance, final String... vdbNames) throws KException;
+    CacheRefreshReport refreshVdbs(final UnitOfWork transaction, TeiidInstance teiidInstance, final String... vdbNames) throws KException;
 
     /**
      * Refresh connections with the supplied names
@@ -246,10 +247,11 @@ public interface CachedTeiid extends RelationalObject, TeiidArchetype {
      *        the transaction (cannot be <code>null</code> or have a state that is not {@link State#NOT_STARTED})
      * @param teiidInstance the teiid instance
      * @param connectionNames the connection names
+     * @return the report of the cached connections that were added, updated, removed or left unchanged (never <code>null</code>)
      * @throws KException
      *         if an error occurs
      */
-    void refreshConnections(final UnitOfWork transaction, TeiidInstance teiidInstance, String... connectionNames) throws KException;
+    CacheRefreshReport refreshConnections(final UnitOfWork transaction, TeiidInstance teiidInstance, String... connectionNames) throws KException;
 
     /**
      * Refresh Translators with the supplied names
@@ -257,10 +259,11 @@ public interface CachedTeiid extends RelationalObject, TeiidArchetype {
      *        the transaction (cannot be <code>null</code> or have a state that is not {@link State#NOT_STARTED})
      * @param teiidInstance the teiid instance
      * @param translatorNames the translator names
+     * @return the report of the cached translators that were added, updated, removed or left unchanged (never <code>null</code>)
      * @throws KException
      *         if an error occurs
      */
-    void refreshTranslators(final UnitOfWork transaction, TeiidInstance teiidInstance, String... translatorNames) throws KException;
+    CacheRefreshReport refreshTranslators(final UnitOfWork transaction, TeiidInstance teiidInstance, String... translatorNames) throws KException;
 
     /**
      * Refresh Drivers with the supplied names
@@ -268,10 +271,11 @@ public interface CachedTeiid extends RelationalObject, TeiidArchetype {
      *        the transaction (cannot be <code>null</code> or have a state that is not {@link State#NOT_STARTED})
      * @param teiidInstance the teiid instance
      * @param driverNames the driver names
+     * @return the report of the cached drivers that were added, updated, removed or left unchanged (never <code>null</code>)
      * @throws KException
      *         if an error occurs
      */
-    void refreshDrivers(final UnitOfWork transaction, TeiidInstance teiidInstance, String... driverNames) throws KException;
+    CacheRefreshReport refreshDrivers(final UnitOfWork transaction, TeiidInstance teiidInstance, String... driverNames) throws KException;
 
     /**
      * Refresh Templates with the supplied names
@@ -279,10 +283,11 @@ public interface CachedTeiid extends RelationalObject, TeiidArchetype {
      *        the transaction (cannot be <code>null</code> or have a state that is not {@link State#NOT_STARTED})
      * @param teiidInstance the teiid instance
      * @param templateNames the template names
+     * @return the report of the cached templates that were added, updated, removed or left unchanged (never <code>null</code>)
      * @throws KException
      *         if an error occurs
      */
-    void refreshTemplates(final UnitOfWork transaction, TeiidInstance teiidInstance, String... templateNames) throws KException;
+    CacheRefreshReport refreshTemplates(final UnitOfWork transaction, TeiidInstance teiidInstance, String... templateNames) throws KException;
 
     /**
      * @param uow
@@ -0,0 +1,578 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.relational.teiid;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.komodo.relational.Messages;
+import org.komodo.relational.teiid.internal.CachedTeiidImpl;
+import org.komodo.repository.RepositoryImpl.UnitOfWorkImpl;
+import org.komodo.repository.SynchronousCallback;
+import org.komodo.spi.KException;
+import org.komodo.spi.repository.KomodoObject;
+import org.komodo.spi.repository.Repository;
+import org.komodo.spi.repository.Repository.UnitOfWork;
+import org.komodo.spi.repository.Repository.UnitOfWork.State;
+import org.komodo.spi.repository.RepositoryObserver;
+import org.komodo.spi.runtime.TeiidInstance;
+import org.komodo.utils.ArgCheck;
+import org.komodo.utils.KLog;
+
+/**
+ * Keeps the {@link CachedTeiid cached teiid} content in sync with its teiid server on a background thread so that clients
+ * never have to wait on teiid admin calls just to read the cache.
+ * <p>
+ * Refresh requests for a teiid that arrive before its pending synchronization has started are coalesced into that
+ * synchronization. Each teiid that has been requested is also re-synchronized at the interval set by the
+ * {@link #POLL_INTERVAL_PROPERTY poll interval system property} until it is deleted. Clients read the last synchronized
+ * content and may bound how stale it is allowed to be.
+ */
+public class TeiidCacheSynchronizer {
+
+    /**
+     * The kinds of cached content that can be refreshed.
+     */
+    public enum Kind {
+
+        /**
+         * The deployed VDBs
+         */
+        VDBS,
+
+        /**
+         * The data source connections
+         */
+        CONNECTIONS,
+
+        /**
+         * The translators
+         */
+        TRANSLATORS,
+
+        /**
+         * The drivers
+         */
+        DRIVERS,
+
+        /**
+         * The data source templates
+         */
+        TEMPLATES
+    }
+
+    /**
+     * The system property for the number of milliseconds between polls of the teiid servers. A value of zero or less disables
+     * polling.
+     */
+    public static final String POLL_INTERVAL_PROPERTY = "komodo.teiidCache.pollInterval"; //$NON-NLS-1$
+
+    /**
+     * The default number of milliseconds between polls of the teiid servers.
+     */
+    public static final long DEFAULT_POLL_INTERVAL = 60 * 1000;
+
+    /**
+     * The number of milliseconds to wait for a synchronization to finish.
+     */
+    public static final long SYNC_TIMEOUT = 3 * 60 * 1000;
+
+    private static final KLog LOGGER = KLog.getLogger();
+
+    private static final Map< Repository.Id, TeiidCacheSynchronizer > INSTANCES = new ConcurrentHashMap<>();
+
+    /**
+     * @param repository
+     *        the repository whose teiid cache is being synchronized (cannot be <code>null</code>)
+     * @return the singleton instance for the repository (never <code>null</code>)
+     */
+    public static TeiidCacheSynchronizer getInstance( final Repository repository ) {
+        ArgCheck.isNotNull( repository, "repository" ); //$NON-NLS-1$
+        return INSTANCES.computeIfAbsent( repository.getId(), id -> new TeiidCacheSynchronizer( repository ) );
+    }
+
+    /**
+     * Primarily used in tests to stop and remove the instance of a repository.
+     *
+     * @param repository
+     *        the repository whose instance is removed
+     */
+    public static void uncacheInstance( final Repository repository ) {
+        if ( repository == null ) {
+            return;
+        }
+
+        final TeiidCacheSynchronizer instance = INSTANCES.remove( repository.getId() );
+        if ( instance != null ) {
+            instance.shutdown();
+        }
+    }
+
+    /**
+     * The work still to be done for a teiid. A request is no longer updated once its synchronization has started.
+     */
+    private static class Request {
+
+        private final Teiid teiid;
+        private boolean full;
+        private final Set< Kind > allOf = EnumSet.noneOf( Kind.class );
+        private final Map< Kind, Set< String > > named = new EnumMap<>( Kind.class );
+        private final CompletableFuture< Void > future = new CompletableFuture<>();
+
+        Request( final Teiid teiid ) {
+            this.teiid = teiid;
+        }
+
+        void merge( final Kind kind,
+                    final String... names ) {
+            if ( this.full ) {
+                return;
+            }
+
+            if ( kind == null ) {
+                this.full = true;
+                this.allOf.clear();
+                this.named.clear();
+            } else if ( ( names == null ) || ( names.length == 0 ) ) {
+                this.allOf.add( kind );
+                this.named.remove( kind );
+            } else if ( !this.allOf.contains( kind ) ) {
+                Set< String > kindNames = this.named.get( kind );
+                if ( kindNames == null ) {
+                    kindNames = new LinkedHashSet<>();
+                    this.named.put( kind, kindNames );
+                }
+
+                for ( final String name : names ) {
+                    if ( name != null ) {
+                        kindNames.add( name );
+                    }
+                }
+            }
+        }
+
+        String[] namesOf( final Kind kind ) {
+            if ( this.full || this.allOf.contains( kind ) ) {
+                return new String[ 0 ];
+            }
+
+            final Set< String > kindNames = this.named.get( kind );
+            return ( kindNames == null ) ? null : kindNames.toArray( new String[ kindNames.size() ] );
+        }
+    }
+
+    private final Repository repository;
+    private final long pollInterval;
+    private final ScheduledExecutorService executor;
+
+    // keyed by teiid path, guarded by itself
+    private final Map< String, Request > pending = new HashMap<>();
+
+    // keyed by teiid path
+    private final Map< String, Teiid > known = new ConcurrentHashMap<>();
+
+    // keyed by teiid path, the time the last successful full synchronization started
+    private final Map< String, Long > lastSynced = new ConcurrentHashMap<>();
+
+    private TeiidCacheSynchronizer( final Repository repository ) {
+        this.repository = repository;
+        this.pollInterval = Long.getLong( POLL_INTERVAL_PROPERTY, DEFAULT_POLL_INTERVAL );
+
+        final ScheduledThreadPoolExecutor threadPool = new ScheduledThreadPoolExecutor( 1, runnable -> {
+            final Thread thread = new Thread( runnable, "teiid-cache-synchronizer" ); //$NON-NLS-1$
+            thread.setDaemon( true );
+            return thread;
+        } );
+        threadPool.setExecuteExistingDelayedTasksAfterShutdownPolicy( false );
+        this.executor = threadPool;
+
+        if ( this.pollInterval > 0 ) {
+            this.executor.scheduleWithFixedDelay( () -> poll(), this.pollInterval, this.pollInterval, TimeUnit.MILLISECONDS );
+        }
+
+        repository.addObserver( new RepositoryObserver() {
+
+            @Override
+            public void eventOccurred() {
+                // Disposal observer
+                if ( Repository.State.NOT_REACHABLE == repository.getState() || !repository.ping() ) {
+                    uncacheInstance( repository );
+                }
+            }
+
+            @Override
+            public void errorOccurred( final Throwable e ) {
+                // Nothing to do
+            }
+        } );
+    }
+
+    private void poll() {
+        for ( final Map.Entry< String, Teiid > entry : this.known.entrySet() ) {
+            final String key = entry.getKey();
+
+            try {
+                if ( exists( key ) ) {
+                    requestSync( entry.getValue() );
+                } else {
+                    LOGGER.debug( "TeiidCacheSynchronizer: {0} no longer exists", key ); //$NON-NLS-1$
+                    forget( key );
+                }
+            } catch ( final Exception ex ) {
+                // an exception would cancel all later polls
+                LOGGER.error( Messages.getString( Messages.CachedTeiid.SYNC_ERROR, key, ex.getLocalizedMessage() ), ex );
+            }
+        }
+    }
+
+    private boolean exists( final String key ) throws Exception {
+        final UnitOfWork uow = this.repository.createTransaction( Repository.SYSTEM_USER, "teiid-cache-poll", true, null ); //$NON-NLS-1$
+
+        try {
+            return ( ( UnitOfWorkImpl )uow ).getSession().nodeExists( key );
+        } finally {
+            uow.rollback();
+        }
+    }
+
+    /**
+     * Stops synchronizing a teiid, for example because it has been deleted. The teiid is synchronized again if it is requested
+     * later.
+     *
+     * @param teiid
+     *        the teiid no longer synchronized (cannot be <code>null</code>)
+     */
+    public void forget( final Teiid teiid ) {
+        ArgCheck.isNotNull( teiid, "teiid" ); //$NON-NLS-1$
+        forget( teiid.getAbsolutePath() );
+    }
+
+    private void forget( final String key ) {
+        this.known.remove( key );
+        this.lastSynced.remove( key );
+    }
+
+    /**
+     * Requests a synchronization of all the cached content of a teiid.
+     *
+     * @param teiid
+     *        the teiid whose cache is synchronized (cannot be <code>null</code>)
+     * @return the future completed when the synchronization has finished (never <code>null</code>)
+     */
+    public Future< Void > requestSync( final Teiid teiid ) {
+        return request( teiid, null );
+    }
+
+    /**
+     * Requests a refresh of the cached content of a teiid. Refreshes requested before the pending synchronization of the teiid
+     * has started are done together. As synchronizations run one at a time in request order, waiting on the last returned
+     * future also waits on all earlier requests.
+     *
+     * @param teiid
+     *        the teiid whose cache is refreshed (cannot be <code>null</code>)
+     * @param kind
+     *        the kind of content refreshed (cannot be <code>null</code>)
+     * @param names
+     *        the names of the artifacts refreshed (can be <code>null</code> or empty if all artifacts of the kind are refreshed)
+     * @return the future completed when the refresh has finished (never <code>null</code>)
+     */
+    public Future< Void > requestRefresh( final Teiid teiid,
+                                          final Kind kind,
+                                          final String... names ) {
+        ArgCheck.isNotNull( kind, "kind" ); //$NON-NLS-1$
+        return request( teiid, kind, names );
+    }
+
+    /**
+     * Requests a refresh of the cached content of a teiid and waits for it to finish.
+     *
+     * @param teiid
+     *        the teiid whose cache is refreshed (cannot be <code>null</code>)
+     * @param kind
+     *        the kind of content refreshed (cannot be <code>null</code>)
+     * @param names
+     *        the names of the artifacts refreshed (can be <code>null</code> or empty if all artifacts of the kind are refreshed)
+     * @throws KException
+     *         if the refresh failed or did not finish in time
+     * @see #requestRefresh(Teiid, Kind, String...)
+     */
+    public void awaitRefresh( final Teiid teiid,
+                              final Kind kind,
+                              final String... names ) throws KException {
+        await( teiid, requestRefresh( teiid, kind, names ) );
+    }
+
+    /**
+     * Obtains the last synchronized cache of a teiid. Only waits on a synchronization if the teiid has no cache yet or the cache
+     * is older than the staleness bound. A background synchronization is requested when the cache has expired.
+     *
+     * @param teiid
+     *        the teiid whose cache is being requested (cannot be <code>null</code>)
+     * @param maxStaleness
+     *        the maximum age in milliseconds the cached content can have (use {@link Long#MAX_VALUE} if any age is acceptable)
+     * @return the cached teiid (never <code>null</code>)
+     * @throws KException
+     *         if the synchronization failed or did not finish in time
+     */
+    public CachedTeiid getCachedTeiid( final Teiid teiid,
+                                       final long maxStaleness ) throws KException {
+        ArgCheck.isNotNull( teiid, "teiid" ); //$NON-NLS-1$
+        final String key = teiid.getAbsolutePath();
+        this.known.putIfAbsent( key, teiid );
+
+        CachedTeiid cachedTeiid = null;
+        Long synced = this.lastSynced.get( key );
+        final UnitOfWork uow = this.repository.createTransaction( Repository.SYSTEM_USER, "getCachedTeiid", true, null ); //$NON-NLS-1$
+
+        try {
+            cachedTeiid = findCachedTeiid( uow, teiid );
+
+            // nothing synchronized since startup so use the time the cache was imported
+            if ( ( cachedTeiid != null ) && ( synced == null ) ) {
+                synced = cachedTeiid.getTimestamp( uow );
+            }
+        } finally {
+            uow.rollback();
+        }
+
+        final long age = ( synced == null ) ? Long.MAX_VALUE : ( System.currentTimeMillis() - synced );
+
+        if ( ( cachedTeiid != null ) && ( age <= maxStaleness ) ) {
+            if ( age > CachedTeiid.DEFAULT_TEIID_CACHE_THRESHOLD ) {
+                requestSync( teiid );
+            }
+
+            return cachedTeiid;
+        }
+
+        await( teiid, requestSync( teiid ) );
+
+        final UnitOfWork findTx = this.repository.createTransaction( Repository.SYSTEM_USER, "getCachedTeiid", true, null ); //$NON-NLS-1$
+        try {
+            cachedTeiid = findCachedTeiid( findTx, teiid );
+        } finally {
+            findTx.rollback();
+        }
+
+        if ( cachedTeiid == null ) {
+            throw new KException( Messages.getString( Messages.CachedTeiid.NOT_CACHED, key ) );
+        }
+
+        return cachedTeiid;
+    }
+
+    private CachedTeiid findCachedTeiid( final UnitOfWork uow,
+                                         final Teiid teiid ) throws KException {
+        final KomodoObject teiidCache = this.repository.komodoTeiidCache( uow );
+        final String id = teiid.getName( uow );
+
+        if ( !teiidCache.hasChild( uow, id ) ) {
+            return null;
+        }
+
+        final KomodoObject child = teiidCache.getChild( uow, id );
+        return new CachedTeiidImpl( uow, this.repository, child.getAbsolutePath() );
+    }
+
+    private Future< Void > request( final Teiid teiid,
+                                    final Kind kind,
+                                    final String... names ) {
+        ArgCheck.isNotNull( teiid, "teiid" ); //$NON-NLS-1$
+        final String key = teiid.getAbsolutePath();
+        this.known.putIfAbsent( key, teiid );
+
+        synchronized ( this.pending ) {
+            Request request = this.pending.get( key );
+
+            if ( request == null ) {
+                request = new Request( teiid );
+                this.pending.put( key, request );
+                this.executor.execute( () -> sync( key ) );
+            }
+
+            request.merge( kind, names );
+            return request.future;
+        }
+    }
+
+    /**
+     * Waits for a requested synchronization or refresh to finish.
+     *
+     * @param teiid
+     *        the teiid whose cache is being synchronized or refreshed (cannot be <code>null</code>)
+     * @param future
+     *        the future returned when the synchronization or refresh was requested (cannot be <code>null</code>)
+     * @throws KException
+     *         if the synchronization or refresh failed or did not finish in time
+     */
+    public void await( final Teiid teiid,
+                       final Future< Void > future ) throws KException {
+        try {
+            future.get( SYNC_TIMEOUT, TimeUnit.MILLISECONDS );
+        } catch ( final TimeoutException ex ) {
+            throw new KException( Messages.getString( Messages.CachedTeiid.SYNC_TIMEOUT, teiid.getAbsolutePath(), SYNC_TIMEOUT ) );
+        } catch ( final ExecutionException ex ) {
+            if ( ex.getCause() instanceof KException ) {
+                throw ( KException )ex.getCause();
+            }
+
+            throw new KException( ex.getCause() );
+        } catch ( final InterruptedException ex ) {
+            Thread.currentThread().interrupt();
+            throw new KException( ex );
+        }
+    }
+
+    private void sync( final String key ) {
+        final Request request;
+
+        synchronized ( this.pending ) {
+            request = this.pending.remove( key );
+        }
+
+        if ( request == null ) {
+            return;
+        }
+
+        final long started = System.currentTimeMillis();
+
+        try {
+            UnitOfWork uow = createTransaction( "teiid-cache-import" ); //$NON-NLS-1$
+            final CachedTeiid cachedTeiid;
+            final boolean imported;
+
+            try {
+                cachedTeiid = request.teiid.importContent( uow );
+                imported = ( cachedTeiid.getTimestamp( uow ) >= started );
+                commit( uow );
+            } catch ( final Exception ex ) {
+                rollback( uow );
+                throw ex;
+            }
+
+            // a newly imported cache is already up-to-date
+            if ( !imported ) {
+                uow = createTransaction( "teiid-cache-refresh" ); //$NON-NLS-1$
+
+                try {
+                    final TeiidInstance teiidInstance = request.teiid.getTeiidInstance( uow );
+
+                    for ( final Kind kind : Kind.values() ) {
+                        final String[] names = request.namesOf( kind );
+
+                        if ( names != null ) {
+                            final CacheRefreshReport report = refresh( uow, cachedTeiid, teiidInstance, kind, names );
+                            LOGGER.debug( "TeiidCacheSynchronizer: refreshed {0} of {1}: {2}", kind, key, report ); //$NON-NLS-1$
+                        }
+                    }
+
+                    commit( uow );
+                } catch ( final Exception ex ) {
+                    rollback( uow );
+                    throw ex;
+                }
+            }
+
+            if ( request.full || imported ) {
+                this.lastSynced.put( key, started );
+            }
+
+            request.future.complete( null );
+        } catch ( final Throwable ex ) {
+            LOGGER.error( Messages.getString( Messages.CachedTeiid.SYNC_ERROR, key, ex.getLocalizedMessage() ), ex );
+            request.future.completeExceptionally( ex );
+        }
+    }
+
+    private CacheRefreshReport refresh( final UnitOfWork uow,
+                                        final CachedTeiid cachedTeiid,
+                                        final TeiidInstance teiidInstance,
+                                        final Kind kind,
+                                        final String[] names ) throws KException {
+        switch ( kind ) {
+            case VDBS:
+                return cachedTeiid.refreshVdbs( uow, teiidInstance, names );
+            case CONNECTIONS:
+                return cachedTeiid.refreshConnections( uow, teiidInstance, names );
+            case TRANSLATORS:
+                return cachedTeiid.refreshTranslators( uow, teiidInstance, names );
+            case DRIVERS:
+                return cachedTeiid.refreshDrivers( uow, teiidInstance, names );
+            case TEMPLATES:
+                return cachedTeiid.refreshTemplates( uow, teiidInstance, names );
+            default:
+                throw new IllegalArgumentException( kind.name() );
+        }
+    }
+
+    private UnitOfWork createTransaction( final String name ) throws KException {
+        return this.repository.createTransaction( Repository.SYSTEM_USER, name, false, new SynchronousCallback() );
+    }
+
+    private void commit( final UnitOfWork uow ) throws Exception {
+        uow.commit();
+
+        // wait for the sequencers to finish
+        final SynchronousCallback callback = ( SynchronousCallback )uow.getCallback();
+        if ( !callback.await( SYNC_TIMEOUT, TimeUnit.MILLISECONDS ) ) {
+            throw new KException( Messages.getString( Messages.CachedTeiid.SYNC_TIMEOUT, uow.getName(), SYNC_TIMEOUT ) );
+        }
+
+        if ( uow.getError() != null ) {
+            throw uow.getError();
+        }
+
+        if ( callback.hasError() ) {
+            throw new KException( callback.error() );
+        }
+    }
+
+    private void rollback( final UnitOfWork uow ) {
+        if ( ( uow.getState() == State.NOT_STARTED ) || ( uow.getState() == State.RUNNING ) ) {
+            uow.rollback();
+        }
+    }
+
+    private void shutdown() {
+        this.executor.shutdownNow();
+
+        synchronized ( this.pending ) {
+            for ( final Request request : this.pending.values() ) {
+                request.future.cancel( false );
+            }
+
+            this.pending.clear();
+        }
+    }
+
+}
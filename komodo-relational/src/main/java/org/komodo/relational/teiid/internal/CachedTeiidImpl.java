@@ -23,14 +23,21 @@ package org.komodo.relational.teiid.internal;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
 import org.komodo.core.KomodoLexicon;
 import org.komodo.core.KomodoLexicon.TeiidArchetype;
 import org.komodo.relational.Messages;
@@ -39,6 +46,7 @@ import org.komodo.relational.connection.internal.ConnectionImpl;
 import org.komodo.relational.internal.RelationalObjectImpl;
 import org.komodo.relational.resource.Driver;
 import org.komodo.relational.resource.internal.DriverImpl;
+import org.komodo.relational.teiid.CacheRefreshReport;
 import org.komodo.relational.teiid.CachedTeiid;
 import org.komodo.relational.teiid.Teiid;
 import org.komodo.relational.template.Template;
@@ -109,20 +117,7 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
     public CachedTeiidImpl(UnitOfWork transaction, Teiid srcTeiid, String path) throws KException {
         this(transaction, srcTeiid.getRepository(), path);
 
-        this.setVersion(transaction, srcTeiid.getVersion(transaction));
-        this.setHost(transaction, srcTeiid.getHost(transaction));
-
-        this.setAdminUser(transaction, srcTeiid.getAdminUser(transaction));
-        this.setAdminPassword(transaction, srcTeiid.getAdminPassword(transaction));
-        this.setAdminPort(transaction, srcTeiid.getAdminPort(transaction));
-        this.setAdminSecure(transaction, srcTeiid.isAdminSecure(transaction));
-
-        this.setJdbcUsername(transaction, srcTeiid.getJdbcUsername(transaction));
-        this.setJdbcPassword(transaction, srcTeiid.getJdbcPassword(transaction));
-        this.setJdbcPort(transaction, srcTeiid.getJdbcPort(transaction));
-        this.setJdbcSecure(transaction, srcTeiid.isJdbcSecure(transaction));
-
-        this.setTimestamp(transaction, System.currentTimeMillis());
+        this.copySettings(transaction, srcTeiid);
         
         // Add child folders which will contain the various types
         this.addChild(transaction, CachedTeiid.VDBS_FOLDER, KomodoLexicon.Folder.NODE_TYPE);
@@ -632,13 +627,68 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
         return null;
     }
 
+    private void copySettings(UnitOfWork transaction, Teiid srcTeiid) throws KException {
+        this.setVersion(transaction, srcTeiid.getVersion(transaction));
+        this.setHost(transaction, srcTeiid.getHost(transaction));
+
+        this.setAdminUser(transaction, srcTeiid.getAdminUser(transaction));
+        this.setAdminPassword(transaction, srcTeiid.getAdminPassword(transaction));
+        this.setAdminPort(transaction, srcTeiid.getAdminPort(transaction));
+        this.setAdminSecure(transaction, srcTeiid.isAdminSecure(transaction));
+
+        this.setJdbcUsername(transaction, srcTeiid.getJdbcUsername(transaction));
+        this.setJdbcPassword(transaction, srcTeiid.getJdbcPassword(transaction));
+        this.setJdbcPort(transaction, srcTeiid.getJdbcPort(transaction));
+        this.setJdbcSecure(transaction, srcTeiid.isJdbcSecure(transaction));
+
+        this.setTimestamp(transaction, System.currentTimeMillis());
+    }
+
+    /**
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> or have a state that is not {@link State#NOT_STARTED})
+     * @param srcTeiid
+     *        the source teiid object
+     * @return <code>true</code> if this is a cache of the same server (host, ports and version) as the source teiid
+     * @throws KException
+     *         if error occurs
+     */
+    boolean isCacheOf(UnitOfWork transaction, Teiid srcTeiid) throws KException {
+        return StringUtils.equals(getHost(transaction), srcTeiid.getHost(transaction))
+               && getAdminPort(transaction) == srcTeiid.getAdminPort(transaction)
+               && getJdbcPort(transaction) == srcTeiid.getJdbcPort(transaction)
+               && StringUtils.equals(getVersion(transaction).toString(), srcTeiid.getVersion(transaction).toString());
+    }
+
+    /**
+     * Brings the settings of this cache up to date with the source teiid and resets its timestamp. The cached content is
+     * left in place so it can be refreshed incrementally.
+     *
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> or have a state that is not {@link State#NOT_STARTED})
+     * @param srcTeiid
+     *        the source teiid object
+     * @throws KException
+     *         if error occurs
+     */
+    void renew(UnitOfWork transaction, Teiid srcTeiid) throws KException {
+        copySettings(transaction, srcTeiid);
+
+        String[] folders = { CachedTeiid.VDBS_FOLDER, CachedTeiid.CONNECTIONS_FOLDER, CachedTeiid.TRANSLATORS_FOLDER,
+                             CachedTeiid.DRIVERS_FOLDER, CachedTeiid.TEMPLATES_FOLDER };
+        for (String folder : folders) {
+            if (! hasChild(transaction, folder, KomodoLexicon.Folder.NODE_TYPE))
+                addChild(transaction, folder, KomodoLexicon.Folder.NODE_TYPE);
+        }
+    }
+
     /* (non-Javadoc)
      * @see org.komodo.relational.teiid.CachedTeiid#refreshVdbs(org.komodo.spi.repository.Repository.UnitOfWork, org.komodo.spi.runtime.TeiidInstance, java.lang.String[])
      */
     @Override
-    public void refreshVdbs(UnitOfWork transaction,
-                            TeiidInstance teiidInstance,
-                            String... vdbNames) throws KException {
+    public CacheRefreshReport refreshVdbs(UnitOfWork transaction,
+                                          TeiidInstance teiidInstance,
+                                          String... vdbNames) throws KException {
         ArgCheck.isNotNull(transaction, "transaction"); //$NON-NLS-1$
         ArgCheck.isNotNull(teiidInstance, "teiidInstance"); //$NON-NLS-1$
         ArgCheck.isTrue((transaction.getState() == State.NOT_STARTED), "transaction state is not NOT_STARTED"); //$NON-NLS-1$
@@ -652,50 +702,52 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
         } catch (Exception ex) {
             throw new KException(ex);
         }
-        
+
+        final CacheRefreshReport report = new CacheRefreshReport();
         if(!super.hasChild(transaction, CachedTeiid.VDBS_FOLDER, KomodoLexicon.Folder.NODE_TYPE)) {
-            return;
+            return report;
         }
         KomodoObject folderNode = super.getChild(transaction, CachedTeiid.VDBS_FOLDER, KomodoLexicon.Folder.NODE_TYPE);
+        final Map<String, String> cachedFingerprints = getFingerprints(transaction, folderNode);
+        final Map<String, String> fingerprints = new HashMap<String, String>(cachedFingerprints);
 
-        // No names supplied, remove all from the cache then refresh all
+        // No names supplied, refresh all and remove the cached vdbs no longer on the server
         if( vdbNames==null || vdbNames.length==0 ) {
-            KomodoObject[] kobjs = folderNode.getChildren(transaction);
-            for(KomodoObject kobj : kobjs) {
-                kobj.remove(transaction);
-            }
-
-            // Update with the Server VDBS
             Collection<TeiidVdb> teiidVdbs;
             try {
                 teiidVdbs = teiidInstance.getVdbs();
             } catch (Exception ex) {
                 throw new KException(Messages.getString(Messages.CachedTeiid.GET_SERVER_VDBS_ERROR));
             }
+
+            Set<String> serverNames = new HashSet<String>();
             for(TeiidVdb teiidVdb : teiidVdbs) {
-                updateVdb(transaction, folderNode, teiidVdb);
+                serverNames.add(teiidVdb.getName());
+                refreshVdb(transaction, folderNode, teiidVdb, fingerprints, report);
             }
-        }
-        
-        // Names supplied, update only the specified vdbs.
-        for(String vdbName : vdbNames) {
-            TeiidVdb teiidVdb;
-            try {
-                teiidVdb = teiidInstance.getVdb(vdbName);
-            } catch (Exception ex) {
-                throw new KException(Messages.getString(Messages.CachedTeiid.GET_SERVER_VDB_ERROR, vdbName));
-            }
-            // No server vdb found, remove the cached vdb
-            if(teiidVdb==null) {
-                if(folderNode.hasChild(transaction, vdbName, VdbLexicon.Vdb.VIRTUAL_DATABASE)) {
-                    KomodoObject existingObj = folderNode.getChild(transaction, vdbName, VdbLexicon.Vdb.VIRTUAL_DATABASE);
-                    existingObj.remove(transaction);
+
+            removeStale(transaction, folderNode, serverNames, fingerprints, report);
+        } else {
+            // Names supplied, refresh only the specified vdbs.
+            for(String vdbName : vdbNames) {
+                TeiidVdb teiidVdb;
+                try {
+                    teiidVdb = teiidInstance.getVdb(vdbName);
+                } catch (Exception ex) {
+                    throw new KException(Messages.getString(Messages.CachedTeiid.GET_SERVER_VDB_ERROR, vdbName));
+                }
+                // No server vdb found, remove the cached vdb
+                if(teiidVdb==null) {
+                    removeCached(transaction, folderNode, vdbName, VdbLexicon.Vdb.VIRTUAL_DATABASE, fingerprints, report);
+                // Update the cached vdb
+                } else {
+                    refreshVdb(transaction, folderNode, teiidVdb, fingerprints, report);
                 }
-            // Update the cached vdb
-            } else {
-                updateVdb(transaction, folderNode, teiidVdb);
             }
         }
+
+        setFingerprints(transaction, folderNode, cachedFingerprints, fingerprints);
+        return report;
     }
 
     // ######################################
@@ -719,9 +771,9 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
      * @see org.komodo.relational.teiid.CachedTeiid#refreshConnections(org.komodo.spi.repository.Repository.UnitOfWork, org.komodo.spi.runtime.TeiidInstance, java.lang.String[])
      */
     @Override
-    public void refreshConnections(UnitOfWork transaction,
-                                   TeiidInstance teiidInstance,
-                                   String... connectionNames) throws KException {
+    public CacheRefreshReport refreshConnections(UnitOfWork transaction,
+                                                 TeiidInstance teiidInstance,
+                                                 String... connectionNames) throws KException {
         ArgCheck.isNotNull(transaction, "transaction"); //$NON-NLS-1$
         ArgCheck.isTrue((transaction.getState() == State.NOT_STARTED), "transaction state is not NOT_STARTED"); //$NON-NLS-1$
         ArgCheck.isTrue(RepositoryImpl.isSystemTx(transaction), "transaction should be owned by " + Repository.SYSTEM_USER);
@@ -734,61 +786,63 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
         } catch (Exception ex) {
             throw new KException(ex);
         }
-        
+
+        final CacheRefreshReport report = new CacheRefreshReport();
         if(!super.hasChild(transaction, CachedTeiid.CONNECTIONS_FOLDER, KomodoLexicon.Folder.NODE_TYPE)) {
-            return;
+            return report;
         }
         KomodoObject folderNode = super.getChild(transaction, CachedTeiid.CONNECTIONS_FOLDER, KomodoLexicon.Folder.NODE_TYPE);
+        final Map<String, String> cachedFingerprints = getFingerprints(transaction, folderNode);
+        final Map<String, String> fingerprints = new HashMap<String, String>(cachedFingerprints);
 
-        // No names supplied, remove all from the cache then refresh all
+        // No names supplied, refresh all and remove the cached connections no longer on the server
         if( connectionNames==null || connectionNames.length==0 ) {
-            KomodoObject[] kobjs = folderNode.getChildren(transaction);
-            for(KomodoObject kobj : kobjs) {
-                kobj.remove(transaction);
-            }
-
-            // Update with the Server DataSources
             Collection<TeiidDataSource> teiidDataSources;
             try {
                 teiidDataSources = teiidInstance.getDataSources();
             } catch (Exception ex) {
                 throw new KException(Messages.getString(Messages.CachedTeiid.GET_SERVER_DATA_SOURCES_ERROR));
             }
+
+            Set<String> serverNames = new HashSet<String>();
             for(TeiidDataSource teiidDataSource : teiidDataSources) {
-                updateConnection(transaction, folderNode, teiidDataSource);
+                serverNames.add(teiidDataSource.getName());
+                refreshConnection(transaction, folderNode, teiidDataSource, fingerprints, report);
             }
-        }
-        
-        // Names supplied, update only the specified Connections.
-        for(String connectionName : connectionNames) {
-            connectionName = removeJavaContext(connectionName);
 
-            TeiidDataSource teiidDataSource;
-            try {
-                teiidDataSource = teiidInstance.getDataSource(connectionName);
-            } catch (Exception ex) {
-                throw new KException(Messages.getString(Messages.CachedTeiid.GET_SERVER_DATA_SOURCE_ERROR,connectionName, ex.getLocalizedMessage()));
-            }
-            // No server datasource found, remove the cached connector
-            if(teiidDataSource==null) {
-                if(folderNode.hasChild(transaction, connectionName, DataVirtLexicon.Connection.NODE_TYPE)) {
-                    KomodoObject existingObj = folderNode.getChild(transaction, connectionName, DataVirtLexicon.Connection.NODE_TYPE);
-                    existingObj.remove(transaction);
+            removeStale(transaction, folderNode, serverNames, fingerprints, report);
+        } else {
+            // Names supplied, refresh only the specified Connections.
+            for(String connectionName : connectionNames) {
+                connectionName = removeJavaContext(connectionName);
+
+                TeiidDataSource teiidDataSource;
+                try {
+                    teiidDataSource = teiidInstance.getDataSource(connectionName);
+                } catch (Exception ex) {
+                    throw new KException(Messages.getString(Messages.CachedTeiid.GET_SERVER_DATA_SOURCE_ERROR,connectionName, ex.getLocalizedMessage()));
+                }
+                // No server datasource found, remove the cached connector
+                if(teiidDataSource==null) {
+                    removeCached(transaction, folderNode, connectionName, DataVirtLexicon.Connection.NODE_TYPE, fingerprints, report);
+                // Update the cached source
+                } else {
+                    refreshConnection(transaction, folderNode, teiidDataSource, fingerprints, report);
                 }
-            // Update the cached source
-            } else { 
-                updateConnection(transaction, folderNode, teiidDataSource);
             }
         }
+
+        setFingerprints(transaction, folderNode, cachedFingerprints, fingerprints);
+        return report;
     }
 
     /* (non-Javadoc)
      * @see org.komodo.relational.teiid.CachedTeiid#refreshTranslators(org.komodo.spi.repository.Repository.UnitOfWork, org.komodo.spi.runtime.TeiidInstance, java.lang.String[])
      */
     @Override
-    public void refreshTranslators(UnitOfWork transaction,
-                                   TeiidInstance teiidInstance,
-                                   String... translatorNames) throws KException {
+    public CacheRefreshReport refreshTranslators(UnitOfWork transaction,
+                                                 TeiidInstance teiidInstance,
+                                                 String... translatorNames) throws KException {
         ArgCheck.isNotNull(transaction, "transaction"); //$NON-NLS-1$
         ArgCheck.isTrue((transaction.getState() == State.NOT_STARTED), "transaction state is not NOT_STARTED"); //$NON-NLS-1$
         ArgCheck.isTrue(RepositoryImpl.isSystemTx(transaction), "transaction should be owned by " + Repository.SYSTEM_USER);
@@ -801,59 +855,61 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
         } catch (Exception ex) {
             throw new KException(ex);
         }
-        
+
+        final CacheRefreshReport report = new CacheRefreshReport();
         if(!super.hasChild(transaction, CachedTeiid.TRANSLATORS_FOLDER, KomodoLexicon.Folder.NODE_TYPE)) {
-            return;
+            return report;
         }
         KomodoObject folderNode = super.getChild(transaction, CachedTeiid.TRANSLATORS_FOLDER, KomodoLexicon.Folder.NODE_TYPE);
+        final Map<String, String> cachedFingerprints = getFingerprints(transaction, folderNode);
+        final Map<String, String> fingerprints = new HashMap<String, String>(cachedFingerprints);
 
-        // No names supplied, remove all from the cache then refresh all
+        // No names supplied, refresh all and remove the cached translators no longer on the server
         if( translatorNames==null || translatorNames.length==0 ) {
-            KomodoObject[] kobjs = folderNode.getChildren(transaction);
-            for(KomodoObject kobj : kobjs) {
-                kobj.remove(transaction);
-            }
-
-            // Update with the Server Translators
             Collection<TeiidTranslator> teiidTranslators;
             try {
                 teiidTranslators = teiidInstance.getTranslators();
             } catch (Exception ex) {
                 throw new KException(Messages.getString(Messages.CachedTeiid.GET_SERVER_TRANSLATORS_ERROR));
             }
+
+            Set<String> serverNames = new HashSet<String>();
             for(TeiidTranslator teiidTranslator : teiidTranslators) {
-                updateTranslator(transaction, folderNode, teiidTranslator);
-            }
-        }
-        
-        // Names supplied, update only the specified Translators.
-        for(String translatorName : translatorNames) {
-            TeiidTranslator teiidTranslator;
-            try {
-                teiidTranslator = teiidInstance.getTranslator(translatorName);
-            } catch (Exception ex) {
-                throw new KException(Messages.getString(Messages.CachedTeiid.GET_SERVER_TRANSLATOR_ERROR,translatorName));
+                serverNames.add(teiidTranslator.getName());
+                refreshTranslator(transaction, folderNode, teiidTranslator, fingerprints, report);
             }
-            // No server translator found, remove the cached translator
-            if(teiidTranslator==null) {
-                if(folderNode.hasChild(transaction, translatorName, VdbLexicon.Translator.TRANSLATOR)) {
-                    KomodoObject existingObj = folderNode.getChild(transaction, translatorName, VdbLexicon.Translator.TRANSLATOR);
-                    existingObj.remove(transaction);
+
+            removeStale(transaction, folderNode, serverNames, fingerprints, report);
+        } else {
+            // Names supplied, refresh only the specified Translators.
+            for(String translatorName : translatorNames) {
+                TeiidTranslator teiidTranslator;
+                try {
+                    teiidTranslator = teiidInstance.getTranslator(translatorName);
+                } catch (Exception ex) {
+                    throw new KException(Messages.getString(Messages.CachedTeiid.GET_SERVER_TRANSLATOR_ERROR,translatorName));
+                }
+                // No server translator found, remove the cached translator
+                if(teiidTranslator==null) {
+                    removeCached(transaction, folderNode, translatorName, VdbLexicon.Translator.TRANSLATOR, fingerprints, report);
+                // Update the cached translator
+                } else {
+                    refreshTranslator(transaction, folderNode, teiidTranslator, fingerprints, report);
                 }
-            // Update the cached translator
-            } else {
-                updateTranslator(transaction, folderNode, teiidTranslator);
             }
         }
+
+        setFingerprints(transaction, folderNode, cachedFingerprints, fingerprints);
+        return report;
     }
 
     /* (non-Javadoc)
      * @see org.komodo.relational.teiid.CachedTeiid#refreshDrivers(org.komodo.spi.repository.Repository.UnitOfWork, org.komodo.spi.runtime.TeiidInstance, java.lang.String[])
      */
     @Override
-    public void refreshDrivers(UnitOfWork transaction,
-                               TeiidInstance teiidInstance,
-                               String... driverNames) throws KException {
+    public CacheRefreshReport refreshDrivers(UnitOfWork transaction,
+                                             TeiidInstance teiidInstance,
+                                             String... driverNames) throws KException {
         ArgCheck.isNotNull(transaction, "transaction"); //$NON-NLS-1$
         ArgCheck.isTrue((transaction.getState() == State.NOT_STARTED), "transaction state is not NOT_STARTED"); //$NON-NLS-1$
         ArgCheck.isTrue(RepositoryImpl.isSystemTx(transaction), "transaction should be owned by " + Repository.SYSTEM_USER);
@@ -866,11 +922,14 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
         } catch (Exception ex) {
             throw new KException(ex);
         }
-        
+
+        final CacheRefreshReport report = new CacheRefreshReport();
         if(!super.hasChild(transaction, CachedTeiid.DRIVERS_FOLDER, KomodoLexicon.Folder.NODE_TYPE)) {
-            return;
+            return report;
         }
         KomodoObject folderNode = super.getChild(transaction, CachedTeiid.DRIVERS_FOLDER, KomodoLexicon.Folder.NODE_TYPE);
+        final Map<String, String> cachedFingerprints = getFingerprints(transaction, folderNode);
+        final Map<String, String> fingerprints = new HashMap<String, String>(cachedFingerprints);
 
         Set<String> dsTypeNames;
         try {
@@ -878,44 +937,43 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
         } catch (Exception ex) {
             throw new KException(Messages.getString(Messages.CachedTeiid.GET_SERVER_DRIVERS_ERROR));
         }
-        
-        // No names supplied, remove all from the cache then refresh all
-        if( driverNames==null || driverNames.length==0 ) {
-            KomodoObject[] kobjs = folderNode.getChildren(transaction);
-            for(KomodoObject kobj : kobjs) {
-                kobj.remove(transaction);
-            }
 
+        // No names supplied, refresh all and remove the cached drivers no longer on the server
+        if( driverNames==null || driverNames.length==0 ) {
+            Set<String> serverNames = new HashSet<String>();
             for(String dsTypeName : dsTypeNames) {
                 if (dsTypeName == null)
                     continue; // Seems to be a null driver installed in wildfly 10.0.1 by default
 
-                updateDriver(transaction, folderNode, dsTypeName);
+                serverNames.add(dsTypeName);
+                refreshDriver(transaction, folderNode, dsTypeName, fingerprints, report);
             }
-        }
-        
-        // Names supplied, update only the specified Drivers.
-        for(String driverName : driverNames) {
-            // No server driver found, remove the cached driver
-            if(!dsTypeNames.contains(driverName)) {
-                if(folderNode.hasChild(transaction, driverName, DataVirtLexicon.ResourceFile.DRIVER_FILE_NODE_TYPE)) {
-                    KomodoObject existingObj = folderNode.getChild(transaction, driverName, DataVirtLexicon.ResourceFile.DRIVER_FILE_NODE_TYPE);
-                    existingObj.remove(transaction);
+
+            removeStale(transaction, folderNode, serverNames, fingerprints, report);
+        } else {
+            // Names supplied, refresh only the specified Drivers.
+            for(String driverName : driverNames) {
+                // No server driver found, remove the cached driver
+                if(!dsTypeNames.contains(driverName)) {
+                    removeCached(transaction, folderNode, driverName, DataVirtLexicon.ResourceFile.DRIVER_FILE_NODE_TYPE, fingerprints, report);
+                // Update the cached driver
+                } else {
+                    refreshDriver(transaction, folderNode, driverName, fingerprints, report);
                 }
-            // Update the cached driver
-            } else {
-                updateDriver(transaction, folderNode, driverName);
             }
         }
+
+        setFingerprints(transaction, folderNode, cachedFingerprints, fingerprints);
+        return report;
     }
 
     /* (non-Javadoc)
      * @see org.komodo.relational.teiid.CachedTeiid#refreshTemplates(org.komodo.spi.repository.Repository.UnitOfWork, org.komodo.spi.runtime.TeiidInstance, java.lang.String[])
      */
     @Override
-    public void refreshTemplates(UnitOfWork transaction,
-                               TeiidInstance teiidInstance,
-                               String... templateNames) throws KException {
+    public CacheRefreshReport refreshTemplates(UnitOfWork transaction,
+                                               TeiidInstance teiidInstance,
+                                               String... templateNames) throws KException {
         ArgCheck.isNotNull(transaction, "transaction"); //$NON-NLS-1$
         ArgCheck.isTrue((transaction.getState() == State.NOT_STARTED), "transaction state is not NOT_STARTED"); //$NON-NLS-1$
         ArgCheck.isTrue(RepositoryImpl.isSystemTx(transaction), "transaction should be owned by " + Repository.SYSTEM_USER);
@@ -929,19 +987,18 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
             throw new KException(ex);
         }
 
+        final CacheRefreshReport report = new CacheRefreshReport();
         if(!super.hasChild(transaction, CachedTeiid.TEMPLATES_FOLDER, KomodoLexicon.Folder.NODE_TYPE)) {
-            return;
+            return report;
         }
         KomodoObject folderNode = super.getChild(transaction, CachedTeiid.TEMPLATES_FOLDER, KomodoLexicon.Folder.NODE_TYPE);
+        final Map<String, String> cachedFingerprints = getFingerprints(transaction, folderNode);
+        final Map<String, String> fingerprints = new HashMap<String, String>(cachedFingerprints);
 
         Collection<String> tempNames = new ArrayList<String>();
-        // No names supplied, remove all from the cache then refresh all
-        if( templateNames==null || templateNames.length==0 ) {
-            KomodoObject[] kobjs = folderNode.getChildren(transaction);
-            for(KomodoObject kobj : kobjs) {
-                kobj.remove(transaction);
-            }
-
+        final boolean refreshAll = ( templateNames==null || templateNames.length==0 );
+        // No names supplied, refresh all and remove the cached templates no longer on the server
+        if( refreshAll ) {
             try {
                 tempNames = teiidInstance.getDataSourceTemplateNames();
             } catch (Exception ex) {
@@ -954,6 +1011,7 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
         }
 
         // Names supplied, update only the specified Templates.
+        Set<String> serverNames = new HashSet<String>();
         for(String tempName : tempNames) {
             if (tempName == null)
                 continue;
@@ -967,31 +1025,216 @@ public class CachedTeiidImpl extends RelationalObjectImpl implements CachedTeiid
 
             // No server template found, remove the cached template
             if(teiidTempProperties == null) {
-                if(folderNode.hasChild(transaction, tempName, DataVirtLexicon.Template.NODE_TYPE)) {
-                    KomodoObject existingObj = folderNode.getChild(transaction, tempName, DataVirtLexicon.Template.NODE_TYPE);
-                    existingObj.remove(transaction);
-                }
+                removeCached(transaction, folderNode, tempName, DataVirtLexicon.Template.NODE_TYPE, fingerprints, report);
             // Update the cached template
             } else {
-                updateTemplate(transaction, folderNode, tempName, teiidTempProperties);
+                serverNames.add(tempName);
+                refreshTemplate(transaction, folderNode, tempName, teiidTempProperties, fingerprints, report);
             }
         }
+
+        if ( refreshAll ) {
+            removeStale(transaction, folderNode, serverNames, fingerprints, report);
+        }
+
+        setFingerprints(transaction, folderNode, cachedFingerprints, fingerprints);
+        return report;
     }
 
     /*
-     * Update cached VDB with the supplied TeiidVdb.
+     * Computes a fingerprint of the supplied values. Properties are ordered by key so that the fingerprint does not depend on
+     * their iteration order.
      */
-    private void updateVdb(UnitOfWork transaction, KomodoObject vdbsFolder, TeiidVdb teiidVdb) throws KException {
-        String vdbName = teiidVdb.getName();
-        
+    private static String fingerprint(Object... values) throws KException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+
+            for (Object value : values) {
+                if (value instanceof Properties) {
+                    Map<String, String> sorted = new TreeMap<String, String>();
+                    for (Entry<Object, Object> entry : ((Properties)value).entrySet()) {
+                        sorted.put(String.valueOf(entry.getKey()), String.valueOf(entry.getValue()));
+                    }
+                    value = sorted;
+                }
+
+                digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte)0);
+            }
+
+            StringBuilder result = new StringBuilder();
+            for (byte b : digest.digest()) {
+                result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return result.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new KException(ex);
+        }
+    }
+
+    /*
+     * Gets the fingerprints, keyed by artifact name, of the artifacts cached in the supplied folder.
+     */
+    private Map<String, String> getFingerprints(UnitOfWork transaction, KomodoObject folder) throws KException {
+        Map<String, String> result = new HashMap<String, String>();
+        Property prop = folder.getRawProperty(transaction, KomodoLexicon.CachedTeiid.FINGERPRINTS);
+        if (prop == null)
+            return result;
+
+        String[] values = prop.isMultiple(transaction) ? prop.getStringValues(transaction) : new String[] { prop.getStringValue(transaction) };
+        for (String value : values) {
+            int index = value.indexOf(SPACE);
+            if (index > 0)
+                result.put(value.substring(index + 1), value.substring(0, index));
+        }
+
+        return result;
+    }
+
+    /*
+     * Saves the fingerprints of the artifacts cached in the supplied folder if they have changed.
+     */
+    private void setFingerprints(UnitOfWork transaction, KomodoObject folder,
+                                 Map<String, String> cachedFingerprints, Map<String, String> fingerprints) throws KException {
+        if (fingerprints.equals(cachedFingerprints))
+            return;
+
+        // remove first so the property can change between single and multi-valued
+        if (folder.hasRawProperty(transaction, KomodoLexicon.CachedTeiid.FINGERPRINTS))
+            folder.setProperty(transaction, KomodoLexicon.CachedTeiid.FINGERPRINTS, (Object[])null);
+
+        if (fingerprints.isEmpty())
+            return;
+
+        List<String> values = new ArrayList<String>(fingerprints.size());
+        for (Entry<String, String> entry : fingerprints.entrySet()) {
+            values.add(entry.getValue() + SPACE + entry.getKey());
+        }
+        folder.setProperty(transaction, KomodoLexicon.CachedTeiid.FINGERPRINTS, values.toArray());
+    }
+
+    /*
+     * Determines if the cached artifact is current. If not, the new fingerprint is recorded and the caller must replace the
+     * cached artifact.
+     */
+    private boolean isCurrent(UnitOfWork transaction, KomodoObject folder, String name, String nodeType, String fingerprint,
+                              Map<String, String> fingerprints, CacheRefreshReport report) throws KException {
+        if (folder.hasChild(transaction, name, nodeType)) {
+            if (fingerprint.equals(fingerprints.get(name))) {
+                report.unchanged(name);
+                return true;
+            }
+
+            report.updated(name);
+        } else {
+            report.added(name);
+        }
+
+        fingerprints.put(name, fingerprint);
+        return false;
+    }
+
+    /*
+     * Removes the named artifact from the cache.
+     */
+    private void removeCached(UnitOfWork transaction, KomodoObject folder, String name, String nodeType,
+                              Map<String, String> fingerprints, CacheRefreshReport report) throws KException {
+        fingerprints.remove(name);
+
+        if(folder.hasChild(transaction, name, nodeType)) {
+            KomodoObject existingObj = folder.getChild(transaction, name, nodeType);
+            existingObj.remove(transaction);
+            report.removed(name);
+        }
+    }
+
+    /*
+     * Removes the cached artifacts that are no longer found on the server.
+     */
+    private void removeStale(UnitOfWork transaction, KomodoObject folder, Set<String> serverNames,
+                             Map<String, String> fingerprints, CacheRefreshReport report) throws KException {
+        for (KomodoObject kobj : folder.getChildren(transaction)) {
+            String name = kobj.getName(transaction);
+            if (! serverNames.contains(name)) {
+                kobj.remove(transaction);
+                report.removed(name);
+            }
+        }
+
+        fingerprints.keySet().retainAll(serverNames);
+    }
+
+    private void refreshVdb(UnitOfWork transaction, KomodoObject vdbsFolder, TeiidVdb teiidVdb,
+                            Map<String, String> fingerprints, CacheRefreshReport report) throws KException {
         // Export the vdb content into a string
         String content = null;
-        // Output the content to a temp file
-        File tempFile = null;
         try {
             content = teiidVdb.export();
-            if (content == null || StringUtils.isEmpty(content)) return;
+        } catch (Exception ex) {
+            throw new KException(ex);
+        }
+        if (content == null || StringUtils.isEmpty(content)) return;
+
+        String fingerprint = fingerprint(teiidVdb.getVersion(), teiidVdb.isActive(), teiidVdb.isLoading(),
+                                         teiidVdb.hasFailed(), teiidVdb.getProperties(), content);
+        if (! isCurrent(transaction, vdbsFolder, teiidVdb.getName(), VdbLexicon.Vdb.VIRTUAL_DATABASE, fingerprint, fingerprints, report))
+            updateVdb(transaction, vdbsFolder, teiidVdb.getName(), content);
+    }
+
+    private void refreshConnection(UnitOfWork transaction, KomodoObject connectionsFolder, TeiidDataSource teiidDS,
+                                   Map<String, String> fingerprints, CacheRefreshReport report) throws KException {
+        String fingerprint = fingerprint(teiidDS.getType(), teiidDS.getJndiName(), teiidDS.getProperties());
+        if (! isCurrent(transaction, connectionsFolder, teiidDS.getName(), DataVirtLexicon.Connection.NODE_TYPE, fingerprint, fingerprints, report))
+            updateConnection(transaction, connectionsFolder, teiidDS);
+    }
+
+    private void refreshTranslator(UnitOfWork transaction, KomodoObject translatorsFolder, TeiidTranslator teiidTranslator,
+                                   Map<String, String> fingerprints, CacheRefreshReport report) throws KException {
+        String fingerprint = fingerprint(teiidTranslator.getDescription(), teiidTranslator.getType(), teiidTranslator.getProperties());
+        if (! isCurrent(transaction, translatorsFolder, teiidTranslator.getName(), VdbLexicon.Translator.TRANSLATOR, fingerprint, fingerprints, report))
+            updateTranslator(transaction, translatorsFolder, teiidTranslator);
+    }
 
+    private void refreshDriver(UnitOfWork transaction, KomodoObject driversFolder, String driverName,
+                               Map<String, String> fingerprints, CacheRefreshReport report) throws KException {
+        // only the driver name is cached
+        String fingerprint = fingerprint(driverName);
+        if (! isCurrent(transaction, driversFolder, driverName, DataVirtLexicon.ResourceFile.DRIVER_FILE_NODE_TYPE, fingerprint, fingerprints, report))
+            updateDriver(transaction, driversFolder, driverName);
+    }
+
+    private void refreshTemplate(UnitOfWork transaction, KomodoObject templatesFolder, String templateName,
+                                 Collection<TeiidPropertyDefinition> teiidTempProperties,
+                                 Map<String, String> fingerprints, CacheRefreshReport report) throws KException {
+        List<Object> values = new ArrayList<Object>();
+        for (TeiidPropertyDefinition definition : teiidTempProperties) {
+            values.add(definition.getName());
+            values.add(definition.getDisplayName());
+            values.add(definition.getDescription());
+            values.add(definition.getCategory());
+            values.add(definition.getDefaultValue());
+            values.add(definition.getPropertyTypeClassName());
+            values.add(definition.getAllowedValues());
+            values.add(definition.isConstrainedToAllowedValues());
+            values.add(definition.isAdvanced());
+            values.add(definition.isMasked());
+            values.add(definition.isModifiable());
+            values.add(definition.isRequired());
+            values.add(definition.getProperties());
+        }
+
+        String fingerprint = fingerprint(values.toArray());
+        if (! isCurrent(transaction, templatesFolder, templateName, DataVirtLexicon.Template.NODE_TYPE, fingerprint, fingerprints, report))
+            updateTemplate(transaction, templatesFolder, templateName, teiidTempProperties);
+    }
+
+    /*
+     * Update cached VDB with the supplied exported VDB content.
+     */
+    private void updateVdb(UnitOfWork transaction, KomodoObject vdbsFolder, String vdbName, String content) throws KException {
+        // Output the content to a temp file
+        File tempFile = null;
+        try {
             tempFile = File.createTempFile(VDB_PREFIX, XML_SUFFIX);
             Files.write(Paths.get(tempFile.getPath()), content.getBytes());
         } catch (Exception ex) {
@@ -842,6 +842,7 @@ public class TeiidImpl extends RelationalChildRestrictedObject implements Teiid,
         else
             expireThreshold = expProp.getLongValue(transaction);
 
+        CachedTeiid cachedTeiid = null;
         final String id = getName(transaction);
         if (teiidCache.hasChild(transaction, id)) {
             KomodoObject child = teiidCache.getChild(transaction, id);
@@ -852,18 +853,28 @@ public class TeiidImpl extends RelationalChildRestrictedObject implements Teiid,
             // Expiration time of 10 mins has elapsed or not
             if ((timestamp + expireThreshold) > current)
                 return currCTeiid;
+
+            //
+            // Cache of the same server has expired so refresh its content in place
+            //
+            if (currCTeiid.isCacheOf(transaction, this)) {
+                currCTeiid.renew(transaction, this);
+                cachedTeiid = currCTeiid;
+            }
         }
 
         //
         // Either cache teiid does not exist or should be overwritten
         //
-        ServerManager mgr = ServerManager.getInstance(getRepository());
-        CachedTeiid cachedTeiid = mgr.createCachedTeiid(transaction, this);
+        if (cachedTeiid == null) {
+            ServerManager mgr = ServerManager.getInstance(getRepository());
+            cachedTeiid = mgr.createCachedTeiid(transaction, this);
+        }
 
         // Gets a teiid instance and connects if not connected
         TeiidInstance teiidInstance = getConnectedTeiidInstance(transaction);
 
-        // Do a full refresh of each type
+        // Do a full refresh of each type, only changed content is re-written
         try {
             // VDBs
             cachedTeiid.refreshVdbs(transaction, teiidInstance);
@@ -22,7 +22,14 @@
 package org.komodo.relational.vdb.internal;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
@@ -167,6 +174,70 @@ public class VdbImpl extends RelationalObjectImpl implements Vdb {
 
     }
 
+    /**
+     * Holds back whitespace until more content follows it so that trailing whitespace is never written. This makes a streamed
+     * manifest match the trimmed manifest.
+     */
+    private static class TrailingWhitespaceWriter extends FilterWriter {
+
+        private final StringBuilder pending = new StringBuilder();
+
+        TrailingWhitespaceWriter( final Writer out ) {
+            super( out );
+        }
+
+        private int lastContent( final CharSequence chars,
+                                 final int off,
+                                 final int len ) {
+            for ( int i = off + len - 1; i >= off; --i ) {
+                if ( !Character.isWhitespace( chars.charAt( i ) ) ) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        private void writeContent( final CharSequence chars,
+                                   final int off,
+                                   final int len ) throws IOException {
+            final int last = lastContent( chars, off, len );
+
+            if ( last == -1 ) {
+                this.pending.append( chars, off, off + len );
+                return;
+            }
+
+            if ( this.pending.length() != 0 ) {
+                this.out.append( this.pending );
+                this.pending.setLength( 0 );
+            }
+
+            this.out.append( chars, off, last + 1 );
+            this.pending.append( chars, last + 1, off + len );
+        }
+
+        @Override
+        public void write( final int c ) throws IOException {
+            writeContent( String.valueOf( ( char )c ), 0, 1 );
+        }
+
+        @Override
+        public void write( final char[] cbuf,
+                           final int off,
+                           final int len ) throws IOException {
+            writeContent( CharBuffer.wrap( cbuf ), off, len );
+        }
+
+        @Override
+        public void write( final String str,
+                           final int off,
+                           final int len ) throws IOException {
+            writeContent( str, off, len );
+        }
+
+    }
+
     private class VdbManifestImpl implements VdbManifest {
 
         private final String xml;
@@ -174,20 +245,7 @@ public class VdbImpl extends RelationalObjectImpl implements Vdb {
         VdbManifestImpl( final UnitOfWork transaction,
                          final VdbImpl vdb, final Properties exportProperties ) throws KException {
             final StringWriter writer = new StringWriter();
-
-            try {
-                final XMLOutputFactory xof = XMLOutputFactory.newInstance();
-                final XMLStreamWriter xsw = xof.createXMLStreamWriter(writer);
-
-                final VdbNodeVisitor visitor = new VdbNodeVisitor(TeiidVersionProvider.getInstance().getTeiidVersion(), xsw);
-                if( exportProperties != null && !exportProperties.isEmpty() ) {
-                	boolean useTabs = exportProperties.containsKey(ExportConstants.USE_TABS_PROP_KEY);
-                	visitor.setShowTabs(useTabs);
-                }
-                visitor.visit(vdb.node(transaction));
-            } catch (final Exception e) {
-                throw new KException(e);
-            }
+            vdb.writeManifest( transaction, exportProperties, writer );
 
             // Create an XML Document from the filled writer
             this.xml = writer.toString().trim();
@@ -221,7 +279,7 @@ public class VdbImpl extends RelationalObjectImpl implements Vdb {
          */
         @Override
         public byte[] export( final UnitOfWork transaction, Properties properties) {
-            return this.xml == null ? new byte[0] : this.xml.getBytes();
+            return this.xml == null ? new byte[0] : this.xml.getBytes( StandardCharsets.UTF_8 );
         }
 
         @Override
@@ -340,6 +398,48 @@ public class VdbImpl extends RelationalObjectImpl implements Vdb {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.repository.Exportable#export(org.komodo.spi.repository.Repository.UnitOfWork, java.util.Properties,
+     *      java.io.OutputStream)
+     */
+    @Override
+    public void export( final UnitOfWork transaction,
+                        final Properties properties,
+                        final OutputStream stream ) throws KException {
+        ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
+        ArgCheck.isTrue( ( transaction.getState() == State.NOT_STARTED ), "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
+        ArgCheck.isNotNull( stream, "stream" ); //$NON-NLS-1$
+
+        final Writer writer = new TrailingWhitespaceWriter( new OutputStreamWriter( stream, StandardCharsets.UTF_8 ) );
+        writeManifest( transaction, properties, writer );
+
+        try {
+            writer.flush();
+        } catch ( final IOException e ) {
+            throw new KException( e );
+        }
+    }
+
+    private void writeManifest( final UnitOfWork transaction,
+                                final Properties exportProperties,
+                                final Writer writer ) throws KException {
+        try {
+            final XMLOutputFactory xof = XMLOutputFactory.newInstance();
+            final XMLStreamWriter xsw = xof.createXMLStreamWriter(writer);
+
+            final VdbNodeVisitor visitor = new VdbNodeVisitor(TeiidVersionProvider.getInstance().getTeiidVersion(), xsw);
+            if( exportProperties != null && !exportProperties.isEmpty() ) {
+            	boolean useTabs = exportProperties.containsKey(ExportConstants.USE_TABS_PROP_KEY);
+            	visitor.setShowTabs(useTabs);
+            }
+            visitor.visit(node(transaction));
+        } catch (final Exception e) {
+            throw new KException(e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -24,7 +24,6 @@ package org.komodo.relational.workspace;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 import org.komodo.core.KomodoLexicon;
@@ -98,15 +97,17 @@ public class WorkspaceManager extends ObjectImpl implements RelationalObject {
      */
     public static final int TYPE_ID = WorkspaceManager.class.hashCode();
 
+    private static final AdapterFactory ADAPTER_FACTORY = new AdapterFactory();
+
     // @formatter:off
-    private static final String FIND_ALL_QUERY_PATTERN = "SELECT [jcr:path] FROM [%s]" //$NON-NLS-1$
-                                                         + " WHERE ISDESCENDANTNODE('%s')" //$NON-NLS-1$
-                                                         + " ORDER BY [jcr:path] ASC"; //$NON-NLS-1$
-
-    private static final String FIND_MATCHING_QUERY_PATTERN = "SELECT [jcr:path] FROM [%s]"  //$NON-NLS-1$
-                                                              + " WHERE ISDESCENDANTNODE('%s')" //$NON-NLS-1$
-                                                              + " AND [jcr:name] LIKE '%s'" //$NON-NLS-1$
-                                                              + " ORDER BY [jcr:path] ASC"; //$NON-NLS-1$
+    private static final String FIND_QUERY_PATTERN = "SELECT [jcr:path] FROM [%s]" //$NON-NLS-1$
+                                                     + " WHERE ISDESCENDANTNODE('%s')"; //$NON-NLS-1$
+
+    private static final String MATCHING_NAME_CLAUSE = " AND [jcr:name] LIKE '%s'"; //$NON-NLS-1$
+
+    private static final String PRIMARY_TYPE_CLAUSE = " AND [jcr:primaryType] = '%s'"; //$NON-NLS-1$
+
+    private static final String ORDER_BY_PATH = " ORDER BY [jcr:path] ASC"; //$NON-NLS-1$
     // @formatter:on
 
     private static class CacheKey {
@@ -571,6 +572,40 @@ public class WorkspaceManager extends ObjectImpl implements RelationalObject {
                                 String parentPath,
                                 final String namePattern,
                                 boolean includeSubTypes) throws KException {
+        return findByType( transaction, type, parentPath, namePattern, includeSubTypes, 0, Repository.NO_LIMIT );
+    }
+
+    /**
+     * Finds one page of the objects of the specified type. The paging is done by the repository query so only the objects of
+     * the requested page are loaded.
+     *
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> and must have a state of
+     *        {@link org.komodo.spi.repository.Repository.UnitOfWork.State#NOT_STARTED})
+     * @param type
+     *        the lexicon node type name of objects being found (cannot be empty)
+     * @param parentPath
+     *        the parent path whose children recursively will be checked (can be empty if searching from the workspace root)
+     * @param namePattern
+     *        the regex used to match object names (can be empty if all objects of the given type are being requested)
+     * @param includeSubTypes
+     *        determines whether sub types are included in the return
+     * @param offset
+     *        the number of leading objects, ordered by path, to skip (zero or negative if none are skipped)
+     * @param limit
+     *        the maximum number of paths returned (negative or {@link Repository#NO_LIMIT} if all are returned)
+     * @return the paths of the requested page of objects under the specified parent path with the specified type (never
+     *         <code>null</code> but can be empty)
+     * @throws KException
+     *         if an error occurs
+     */
+    public String[] findByType( final UnitOfWork transaction,
+                                final String type,
+                                String parentPath,
+                                final String namePattern,
+                                final boolean includeSubTypes,
+                                final long offset,
+                                final long limit ) throws KException {
         ArgCheck.isNotNull( transaction, "transaction" ); //$NON-NLS-1$
         ArgCheck.isTrue( ( transaction.getState() == org.komodo.spi.repository.Repository.UnitOfWork.State.NOT_STARTED ),
                          "transaction state must be NOT_STARTED and was " + transaction.getState() ); //$NON-NLS-1$
@@ -581,24 +616,20 @@ public class WorkspaceManager extends ObjectImpl implements RelationalObject {
         }
 
         try {
-            String queryText = null;
+            final StringBuilder queryText = new StringBuilder( String.format( FIND_QUERY_PATTERN, type, parentPath ) );
 
-            if ( StringUtils.isBlank( namePattern ) ) {
-                queryText = String.format( FIND_ALL_QUERY_PATTERN, type, parentPath );
-            } else {
-                queryText = String.format( FIND_MATCHING_QUERY_PATTERN, type, parentPath, namePattern );
+            if ( !StringUtils.isBlank( namePattern ) ) {
+                queryText.append( String.format( MATCHING_NAME_CLAUSE, namePattern ) );
             }
 
-            final List< KomodoObject > kObjs = getRepository().query( transaction, queryText );
-            List< KomodoObject > results = new ArrayList< > ();
-            for( final KomodoObject kObj : kObjs ) {
-                if(includeSubTypes) {
-                    results.add(kObj);
-                } else if ( type.equals(kObj.getPrimaryType(transaction).getName()) ) {
-                    results.add(kObj);
-                }
+            // filter by primary type in the query so that the offset and limit count only matching objects
+            if ( !includeSubTypes ) {
+                queryText.append( String.format( PRIMARY_TYPE_CLAUSE, type ) );
             }
 
+            queryText.append( ORDER_BY_PATH );
+
+            final List< KomodoObject > results = getRepository().query( transaction, queryText.toString(), offset, limit );
             final int numPaths = results.size();
 
             if ( numPaths == 0 ) {
@@ -913,9 +944,7 @@ public class WorkspaceManager extends ObjectImpl implements RelationalObject {
         ArgCheck.isTrue( ( transaction.getState() == org.komodo.spi.repository.Repository.UnitOfWork.State.NOT_STARTED ),
                          "transaction state is not NOT_STARTED" ); //$NON-NLS-1$
 
-        AdapterFactory adapter = new AdapterFactory( );
-        T kobject = adapter.adapt(transaction, object, resolvedClass);
-        return kobject;
+        return ADAPTER_FACTORY.adapt(transaction, object, resolvedClass);
     }
 
     /**
@@ -29,12 +29,20 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 import java.util.TimeZone;
@@ -47,6 +55,7 @@ import org.junit.Test;
 import org.komodo.importer.ImportMessages;
 import org.komodo.importer.ImportOptions;
 import org.komodo.importer.ImportOptions.OptionKeys;
+import org.komodo.relational.DeployStatus;
 import org.komodo.relational.RelationalModelTest;
 import org.komodo.relational.RelationalObject.Filter;
 import org.komodo.relational.connection.Connection;
@@ -65,12 +74,16 @@ import org.komodo.relational.resource.DdlFile;
 import org.komodo.relational.resource.Driver;
 import org.komodo.relational.resource.ResourceFile;
 import org.komodo.relational.resource.UdfFile;
+import org.komodo.relational.teiid.Teiid;
 import org.komodo.relational.vdb.Vdb;
 import org.komodo.relational.workspace.WorkspaceManager;
 import org.komodo.spi.repository.KomodoObject;
 import org.komodo.spi.repository.KomodoType;
 import org.komodo.spi.repository.Property;
+import org.komodo.spi.runtime.TeiidDataSource;
+import org.komodo.spi.runtime.TeiidInstance;
 import org.komodo.test.utils.TestUtilities;
+import org.teiid.modeshape.sequencer.dataservice.DataServiceEntry.PublishPolicy;
 import org.teiid.modeshape.sequencer.dataservice.lexicon.DataVirtLexicon;
 import org.teiid.modeshape.sequencer.vdb.lexicon.VdbLexicon;
 import org.w3c.dom.Document;
@@ -872,4 +885,46 @@ public final class DataserviceImplTest extends RelationalModelTest {
             }
         }
     }
+
+    @Test
+    public void shouldOnlyDeployMissingConnections() throws Exception {
+        final String[] names = { "existingConnection", "missingConnection" };
+        final Connection[] connections = new Connection[ names.length ];
+
+        for ( int i = 0; i < names.length; ++i ) {
+            connections[ i ] = this.mgr.createConnection( getTransaction(), null, names[ i ] );
+            connections[ i ].setDriverName( getTransaction(), "h2" );
+            connections[ i ].setJndiName( getTransaction(), "java:/" + names[ i ] );
+            connections[ i ].setJdbc( getTransaction(), true );
+        }
+
+        commit(); // needed so that searching for reference will work
+
+        for ( final Connection connection : connections ) {
+            final ConnectionEntry entry = this.dataservice.addConnection( getTransaction(), connection );
+            entry.setPublishPolicy( getTransaction(), PublishPolicy.IF_MISSING );
+        }
+
+        commit();
+
+        final TeiidDataSource existing = mock( TeiidDataSource.class );
+        when( existing.getName() ).thenReturn( names[ 0 ] );
+
+        final TeiidInstance teiidInstance = mock( TeiidInstance.class );
+        when( teiidInstance.getDataSources() ).thenReturn( Collections.singletonList( existing ) );
+
+        final Teiid teiid = mock( Teiid.class );
+        when( teiid.getTeiidInstance( getTransaction() ) ).thenReturn( teiidInstance );
+
+        final DeployStatus status = this.dataservice.deploy( getTransaction(), teiid );
+
+        // existing data sources are read once for all the entries
+        verify( teiidInstance, times( 1 ) ).getDataSources();
+        verify( teiidInstance, times( 1 ) ).getOrCreateDataSource( anyString(), anyString(), anyString(), any( Properties.class ) );
+        verify( teiidInstance ).getOrCreateDataSource( eq( names[ 1 ] ),
+                                                       eq( "java:/" + names[ 1 ] ),
+                                                       eq( "h2" ),
+                                                       any( Properties.class ) );
+        assertThat( status.getDeploymentTimes().keySet(), is( Collections.singleton( names[ 1 ] ) ) );
+    }
 }
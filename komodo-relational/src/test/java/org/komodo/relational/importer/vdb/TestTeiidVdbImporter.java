@@ -24,9 +24,12 @@ package org.komodo.relational.importer.vdb;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
@@ -416,6 +419,25 @@ public class TestTeiidVdbImporter extends AbstractImporterTest {
         verifyTweetExampleNode(vdbNode, TWITTER_MODEL, TWITTER_VIEW_MODEL, TWEET_EXAMPLE_DDL);
     }
 
+    @Test
+    public void testExtractVdbNameReadsOnlyDocumentStart() throws Exception {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<vdb name=\"BigVdb\" version=\"1\">");
+        for (int i = 0; i < 50000; ++i) {
+            xml.append("<property name=\"prop").append(i).append("\" value=\"value\"/>");
+        }
+        xml.append("</vdb>");
+
+        ByteArrayInputStream vdbStream = new ByteArrayInputStream(xml.toString().getBytes(StandardCharsets.UTF_8));
+        assertEquals("BigVdb", VdbImporter.extractVdbName(vdbStream));
+        assertTrue(vdbStream.available() > 0);
+    }
+
+    @Test
+    public void testExtractVdbNameNotAVdb() throws Exception {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<dataservice name=\"NotAVdb\"/>";
+        assertNull(VdbImporter.extractVdbName(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))));
+    }
+
     @Test
     public void testBasicVdbImportCannotCreateVdb() throws Exception {
         // Import the original vdb import first
@@ -28,6 +28,8 @@ import static org.hamcrest.core.IsNull.notNullValue;
 import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Properties;
 import org.junit.Before;
@@ -668,4 +670,19 @@ public final class ModelImplTest extends RelationalModelTest {
         assertThat( exportedDdl.contains("CREATE FOREIGN TABLE table1"), is( true ) );
     }
 
+    @Test
+    public void shouldStreamSameDdlAsBytes() throws Exception {
+        final int numTables = 500; // enough DDL to be written in more than one chunk
+
+        for ( int i = 0; i < numTables; ++i ) {
+            this.model.addTable( getTransaction(), "table" + i );
+        }
+
+        final byte[] bytes = this.model.export( getTransaction(), new Properties() );
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        this.model.export( getTransaction(), new Properties(), stream );
+
+        assertThat( new String( stream.toByteArray(), StandardCharsets.UTF_8 ), is( new String( bytes ) ) );
+    }
+
 }
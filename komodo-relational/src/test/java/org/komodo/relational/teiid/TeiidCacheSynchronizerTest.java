@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.relational.teiid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import org.komodo.relational.RelationalModelTest;
+import org.komodo.relational.teiid.TeiidCacheSynchronizer.Kind;
+import org.komodo.spi.repository.Repository.UnitOfWork;
+import org.komodo.spi.runtime.TeiidInstance;
+
+@SuppressWarnings( { "javadoc", "nls" } )
+public final class TeiidCacheSynchronizerTest extends RelationalModelTest {
+
+    @After
+    public void uncache() {
+        TeiidCacheSynchronizer.uncacheInstance( _repo );
+        System.clearProperty( TeiidCacheSynchronizer.POLL_INTERVAL_PROPERTY );
+    }
+
+    @Test
+    public void shouldCoalesceRefreshesRequestedWhileSyncing() throws Exception {
+        final CountDownLatch importing = new CountDownLatch( 1 );
+        final CountDownLatch release = new CountDownLatch( 1 );
+        final List< List< String > > refreshed = Collections.synchronizedList( new ArrayList< List< String > >() );
+
+        final CachedTeiid cachedTeiid = mock( CachedTeiid.class );
+        when( cachedTeiid.getTimestamp( any( UnitOfWork.class ) ) ).thenReturn( 0L );
+        when( cachedTeiid.refreshVdbs( any( UnitOfWork.class ), any( TeiidInstance.class ), any( String[].class ) ) ).then( invocation -> {
+            final Object[] args = invocation.getArguments();
+            refreshed.add( Arrays.asList( Arrays.copyOfRange( args, 2, args.length, String[].class ) ) );
+            return new CacheRefreshReport();
+        } );
+
+        final Teiid teiid = mock( Teiid.class );
+        when( teiid.getAbsolutePath() ).thenReturn( "/tko:komodo/tko:servers/" + this.name.getMethodName() );
+        when( teiid.getTeiidInstance( any( UnitOfWork.class ) ) ).thenReturn( mock( TeiidInstance.class ) );
+        when( teiid.importContent( any( UnitOfWork.class ) ) ).then( invocation -> {
+            importing.countDown();
+            release.await( 10, TimeUnit.SECONDS );
+            return cachedTeiid;
+        } );
+
+        final TeiidCacheSynchronizer synchronizer = TeiidCacheSynchronizer.getInstance( _repo );
+        final Future< Void > first = synchronizer.requestRefresh( teiid, Kind.VDBS, "a" );
+        assertTrue( importing.await( 10, TimeUnit.SECONDS ) );
+
+        // the first sync has started so these are coalesced into a second one
+        final Future< Void > second = synchronizer.requestRefresh( teiid, Kind.VDBS, "b" );
+        final Future< Void > third = synchronizer.requestRefresh( teiid, Kind.VDBS, "c", "b" );
+        assertTrue( second == third );
+
+        release.countDown();
+        third.get( 10, TimeUnit.SECONDS );
+        assertTrue( first.isDone() );
+
+        assertEquals( 2, refreshed.size() );
+        assertEquals( Arrays.asList( "a" ), refreshed.get( 0 ) );
+        assertEquals( Arrays.asList( "b", "c" ), refreshed.get( 1 ) );
+    }
+
+    @Test
+    public void shouldStopPollingTeiidThatNoLongerExists() throws Exception {
+        System.setProperty( TeiidCacheSynchronizer.POLL_INTERVAL_PROPERTY, "50" );
+
+        final CachedTeiid cachedTeiid = mock( CachedTeiid.class );
+        when( cachedTeiid.getTimestamp( any( UnitOfWork.class ) ) ).thenReturn( Long.MAX_VALUE );
+
+        // the path of a teiid that is not in the repository
+        final Teiid teiid = mock( Teiid.class );
+        when( teiid.getAbsolutePath() ).thenReturn( "/tko:komodo/tko:servers/" + this.name.getMethodName() );
+        when( teiid.importContent( any( UnitOfWork.class ) ) ).thenReturn( cachedTeiid );
+
+        final TeiidCacheSynchronizer synchronizer = TeiidCacheSynchronizer.getInstance( _repo );
+        synchronizer.requestSync( teiid ).get( 10, TimeUnit.SECONDS );
+
+        Thread.sleep( 500 );
+        verify( teiid, times( 1 ) ).importContent( any( UnitOfWork.class ) );
+    }
+
+}
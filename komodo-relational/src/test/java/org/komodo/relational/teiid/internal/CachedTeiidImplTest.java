@@ -22,19 +22,29 @@
 package org.komodo.relational.teiid.internal;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import java.io.File;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
 import org.junit.Before;
 import org.junit.Test;
 import org.komodo.core.KomodoLexicon;
 import org.komodo.relational.RelationalModelFactory;
 import org.komodo.relational.RelationalModelTest;
 import org.komodo.relational.model.Model;
+import org.komodo.relational.teiid.CacheRefreshReport;
 import org.komodo.relational.teiid.CachedTeiid;
 import org.komodo.relational.teiid.Teiid;
+import org.komodo.relational.vdb.Translator;
 import org.komodo.relational.vdb.Vdb;
 import org.komodo.relational.vdb.internal.VdbImpl;
 import org.komodo.spi.repository.KomodoObject;
@@ -42,7 +52,9 @@ import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.spi.repository.Repository.UnitOfWork.State;
 import org.komodo.spi.runtime.HostProvider;
 import org.komodo.spi.runtime.TeiidAdminInfo;
+import org.komodo.spi.runtime.TeiidInstance;
 import org.komodo.spi.runtime.TeiidJdbcInfo;
+import org.komodo.spi.runtime.TeiidTranslator;
 import org.komodo.spi.runtime.version.TeiidVersion;
 import org.komodo.spi.runtime.version.TeiidVersionProvider;
 import org.komodo.test.utils.TestUtilities;
@@ -157,4 +169,52 @@ public final class CachedTeiidImplTest extends RelationalModelTest {
         Model[] models = vdb.getModels(getTransaction());
         assertEquals(5, models.length);
     }
+
+    private TeiidTranslator mockTranslator(String name, String description) {
+        TeiidTranslator translator = mock(TeiidTranslator.class);
+        when(translator.getName()).thenReturn(name);
+        when(translator.getDescription()).thenReturn(description);
+        when(translator.getType()).thenReturn(name);
+        when(translator.getProperties()).thenReturn(new Properties());
+        return translator;
+    }
+
+    @Test
+    public void shouldOnlyRewriteChangedTranslators() throws Exception {
+        CachedTeiid cachedTeiid = RelationalModelFactory.createCachedTeiid(sysTx(), _repo, this.teiid);
+        sysCommit();
+
+        List<TeiidTranslator> translators = new ArrayList<>();
+        translators.add(mockTranslator("oracle", "Oracle translator"));
+        translators.add(mockTranslator("mysql", "MySQL translator"));
+
+        TeiidInstance teiidInstance = mock(TeiidInstance.class);
+        when(teiidInstance.isConnected()).thenReturn(true);
+        when(teiidInstance.getTranslators()).thenReturn(translators);
+
+        CacheRefreshReport report = cachedTeiid.refreshTranslators(sysTx(), teiidInstance);
+        sysCommit();
+        assertEquals(2, report.getAdded().size());
+        assertTrue(report.hasChanges());
+        assertEquals(2, cachedTeiid.getTranslators(getTransaction()).length);
+
+        // nothing changed on the server
+        report = cachedTeiid.refreshTranslators(sysTx(), teiidInstance);
+        sysCommit();
+        assertFalse(report.hasChanges());
+        assertEquals(2, report.getUnchanged().size());
+
+        // one translator changed and one removed
+        translators.clear();
+        translators.add(mockTranslator("oracle", "Changed translator"));
+
+        report = cachedTeiid.refreshTranslators(sysTx(), teiidInstance);
+        sysCommit();
+        assertEquals(Collections.singletonList("oracle"), report.getUpdated());
+        assertEquals(Collections.singletonList("mysql"), report.getRemoved());
+
+        Translator[] cached = cachedTeiid.getTranslators(getTransaction());
+        assertEquals(1, cached.length);
+        assertEquals("Changed translator", cached[0].getDescription(getTransaction()));
+    }
 }
@@ -29,7 +29,9 @@ import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -241,6 +243,27 @@ public final class VdbImplTest extends RelationalModelTest {
         assertTrue( manifest.length > 0 );
     }
 
+    @Test
+    public void shouldStreamSameExportAsBytes() throws Exception {
+        { // setup
+            this.vdb.setVdbName( getTransaction(), "twitter" );
+            this.vdb.setDescription( getTransaction(), "Shows how to call Web Services" );
+
+            final Model twitter = this.vdb.addModel( getTransaction(), "twitter" );
+            twitter.setModelType( getTransaction(), Model.Type.PHYSICAL );
+
+            final Translator translator = this.vdb.addTranslator( getTransaction(), "rest", "ws" );
+            translator.setProperty( getTransaction(), "DefaultBinding", "HTTP" );
+        }
+
+        // test
+        final byte[] manifest = this.vdb.export( getTransaction(), new Properties() );
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        this.vdb.export( getTransaction(), new Properties(), stream );
+
+        assertThat( new String( stream.toByteArray(), StandardCharsets.UTF_8 ), is( new String( manifest ) ) );
+    }
+
     @Test
     public void shouldFailConstructionIfNotVdb() {
         if ( RelationalObjectImpl.VALIDATE_INITIAL_STATE ) {
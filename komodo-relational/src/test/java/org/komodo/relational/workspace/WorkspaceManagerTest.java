@@ -25,6 +25,8 @@ import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsCollectionContaining.hasItems;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
 import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -44,6 +46,7 @@ import org.komodo.relational.RelationalModelTest;
 import org.komodo.relational.connection.Connection;
 import org.komodo.relational.dataservice.Dataservice;
 import org.komodo.relational.folder.Folder;
+import org.komodo.relational.internal.AdapterFactory;
 import org.komodo.relational.model.AccessPattern;
 import org.komodo.relational.model.DataTypeResultSet;
 import org.komodo.relational.model.ForeignKey;
@@ -56,6 +59,7 @@ import org.komodo.relational.model.Procedure;
 import org.komodo.relational.model.ProcedureResultSet;
 import org.komodo.relational.model.PushdownFunction;
 import org.komodo.relational.model.Schema;
+import org.komodo.relational.model.SchemaElement.SchemaElementType;
 import org.komodo.relational.model.StoredProcedure;
 import org.komodo.relational.model.Table;
 import org.komodo.relational.model.TabularResultSet;
@@ -246,6 +250,32 @@ public final class WorkspaceManagerTest extends RelationalModelTest {
         assertThat( this.wsMgr.findByType( getTransaction(), VdbLexicon.Vdb.VIRTUAL_DATABASE, null, "a*", false ).length, is( 0 ) );
     }
 
+    @Test
+    public void shouldFindPageOfObjects() throws Exception {
+        final String prefix = this.name.getMethodName();
+
+        for ( int i = 0; i < 7; ++i ) {
+            createVdb( ( prefix + i ), ( VDB_PATH + i ) );
+        }
+
+        createDataservice();
+
+        commit(); // must save before running a query
+
+        final String[] all = this.wsMgr.findByType( getTransaction(), VdbLexicon.Vdb.VIRTUAL_DATABASE, null, null, false );
+        assertThat( all.length, is( 7 ) );
+
+        final String[] first = this.wsMgr.findByType( getTransaction(), VdbLexicon.Vdb.VIRTUAL_DATABASE, null, null, false, 0, 3 );
+        final String[] second = this.wsMgr.findByType( getTransaction(), VdbLexicon.Vdb.VIRTUAL_DATABASE, null, null, false, 3, 3 );
+        final String[] last = this.wsMgr.findByType( getTransaction(), VdbLexicon.Vdb.VIRTUAL_DATABASE, null, null, false, 6, 3 );
+
+        assertThat( first, is( Arrays.copyOfRange( all, 0, 3 ) ) );
+        assertThat( second, is( Arrays.copyOfRange( all, 3, 6 ) ) );
+        assertThat( last, is( Arrays.copyOfRange( all, 6, 7 ) ) );
+        assertThat( this.wsMgr.findByType( getTransaction(), VdbLexicon.Vdb.VIRTUAL_DATABASE, null, null, false, 7, 3 ).length,
+                    is( 0 ) );
+    }
+
     @Test
     public void shouldFindModels() throws Exception {
         Vdb parent = createVdb();
@@ -544,6 +574,44 @@ public final class WorkspaceManagerTest extends RelationalModelTest {
         assertThat(this.wsMgr.resolve(getTransaction(), kobject, StoredProcedure.class), is(instanceOf(StoredProcedure.class)));
     }
 
+    @Test
+    public void shouldResolveSameObjectWithinTransaction() throws Exception {
+        final Model model = createModel();
+        final Table table = model.addTable(getTransaction(), "table");
+        final KomodoObject kobject = new ObjectImpl(_repo, table.getAbsolutePath(), table.getIndex());
+        final Table resolved = this.wsMgr.resolve(getTransaction(), kobject, Table.class);
+        final long cacheHits = AdapterFactory.getStatistics().getCacheHits();
+
+        assertThat(this.wsMgr.resolve(getTransaction(), kobject, Table.class), is(sameInstance(resolved)));
+        assertThat(AdapterFactory.getStatistics().getCacheHits(), is(cacheHits + 1));
+        assertNull(this.wsMgr.resolve(getTransaction(), kobject, View.class));
+    }
+
+    @Test
+    public void shouldNotCheckAllResolversForEveryStoredProcedure() throws Exception {
+        final Model model = createModel();
+        final Procedure first = model.addStoredProcedure(getTransaction(), "first");
+        final Procedure second = model.addStoredProcedure(getTransaction(), "second");
+        this.wsMgr.resolve(getTransaction(), new ObjectImpl(_repo, first.getAbsolutePath(), first.getIndex()), StoredProcedure.class);
+        final long fallbackScans = AdapterFactory.getStatistics().getFallbackScans();
+
+        final KomodoObject kobject = new ObjectImpl(_repo, second.getAbsolutePath(), second.getIndex());
+        assertThat(this.wsMgr.resolve(getTransaction(), kobject, StoredProcedure.class), is(instanceOf(StoredProcedure.class)));
+        assertThat(AdapterFactory.getStatistics().getFallbackScans(), is(fallbackScans));
+    }
+
+    @Test
+    public void shouldResolveNewTypeAfterSchemaElementTypeChangesWithinTransaction() throws Exception {
+        final Model model = createModel();
+        final StoredProcedure procedure = model.addStoredProcedure(getTransaction(), "procedure");
+        final KomodoObject kobject = new ObjectImpl(_repo, procedure.getAbsolutePath(), procedure.getIndex());
+        assertThat(this.wsMgr.resolve(getTransaction(), kobject, StoredProcedure.class), is(instanceOf(StoredProcedure.class)));
+
+        procedure.setSchemaElementType(getTransaction(), SchemaElementType.VIRTUAL);
+        assertThat(this.wsMgr.resolve(getTransaction(), kobject, StoredProcedure.class), is(nullValue()));
+        assertThat(this.wsMgr.resolve(getTransaction(), kobject, VirtualProcedure.class), is(instanceOf(VirtualProcedure.class)));
+    }
+
     @Test
     public void shouldResolveTabularResultSet() throws Exception {
         final Model model = createModel();
@@ -45,6 +45,8 @@ import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
+import javax.jcr.Node;
+import javax.jcr.RepositoryException;
 
 import org.komodo.core.KEngine;
 import org.komodo.repository.ObjectImpl;
@@ -1245,6 +1247,17 @@ public class WorkspaceStatusImpl implements PropertyProvider, WorkspaceStatus {
             return this.delegate;
         }
 
+        /**
+         * {@inheritDoc}
+         *
+         * @see org.komodo.repository.RepositoryImpl.UnitOfWorkImpl#getNode(java.lang.String)
+         */
+        @Override
+        public Node getNode( final String absPath ) throws RepositoryException {
+            // share the node cache of the delegate since both use the same session
+            return ( ( RepositoryImpl.UnitOfWorkImpl )this.delegate ).getNode( absPath );
+        }
+
         /**
          * {@inheritDoc}
          *
@@ -1310,6 +1323,78 @@ public class WorkspaceStatusImpl implements PropertyProvider, WorkspaceStatus {
             }
         }
 
+        /**
+         * {@inheritDoc}
+         *
+         * @see org.komodo.repository.RepositoryImpl.UnitOfWorkImpl#getResolved(java.lang.String)
+         */
+        @Override
+        public KomodoObject getResolved( final String absPath ) {
+            return ( ( RepositoryImpl.UnitOfWorkImpl )this.delegate ).getResolved( absPath );
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see org.komodo.repository.RepositoryImpl.UnitOfWorkImpl#cacheResolved(java.lang.String,
+         *      org.komodo.spi.repository.KomodoObject)
+         */
+        @Override
+        public void cacheResolved( final String absPath,
+                                   final KomodoObject resolvedObject ) {
+            ( ( RepositoryImpl.UnitOfWorkImpl )this.delegate ).cacheResolved( absPath, resolvedObject );
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see org.komodo.repository.RepositoryImpl.UnitOfWorkImpl#uncacheResolved(java.lang.String)
+         */
+        @Override
+        public void uncacheResolved( final String absPath ) {
+            ( ( RepositoryImpl.UnitOfWorkImpl )this.delegate ).uncacheResolved( absPath );
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see org.komodo.repository.RepositoryImpl.UnitOfWorkImpl#sharedChangesMade()
+         */
+        @Override
+        public void sharedChangesMade() {
+            ( ( RepositoryImpl.UnitOfWorkImpl )this.delegate ).sharedChangesMade();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see org.komodo.repository.RepositoryImpl.UnitOfWorkImpl#hasSharedChanges()
+         */
+        @Override
+        public boolean hasSharedChanges() {
+            return ( ( RepositoryImpl.UnitOfWorkImpl )this.delegate ).hasSharedChanges();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see org.komodo.repository.RepositoryImpl.UnitOfWorkImpl#afterCommit(java.lang.Runnable)
+         */
+        @Override
+        public void afterCommit( final Runnable action ) {
+            ( ( RepositoryImpl.UnitOfWorkImpl )this.delegate ).afterCommit( action );
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @see org.komodo.repository.RepositoryImpl.UnitOfWorkImpl#uncacheNodes()
+         */
+        @Override
+        public void uncacheNodes() {
+            ( ( RepositoryImpl.UnitOfWorkImpl )this.delegate ).uncacheNodes();
+        }
+
     }
 
     /* (non-Javadoc)
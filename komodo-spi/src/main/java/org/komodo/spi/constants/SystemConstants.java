@@ -37,6 +37,24 @@ public interface SystemConstants {
      */
     String LOG_FILE_NAME = StringConstants.KOMODO + StringConstants.DOT + StringConstants.LOG;
 
+    /**
+     * The system property that can be set to <code>true</code> so that log messages are written by a background thread instead
+     * of the thread logging them. Default is <code>false</code>.
+     */
+    String LOG_ASYNC = "komodo.log.async"; //$NON-NLS-1$
+
+    /**
+     * The system property that can be set with the number of log messages that can be waiting to be written when logging
+     * asynchronously. Default is <code>8192</code>.
+     */
+    String LOG_BUFFER_SIZE = "komodo.log.bufferSize"; //$NON-NLS-1$
+
+    /**
+     * The system property that can be set to <code>drop</code> or <code>block</code> to say what happens to a log message
+     * when logging asynchronously and the buffer is full. Default is <code>block</code>.
+     */
+    String LOG_WHEN_FULL = "komodo.log.whenFull"; //$NON-NLS-1$
+
     /**
      * The environmental variable that can be set with the directory VDB Builder will use while running. Default is
      * <code>${user.home}/.komodo/vdbbuilder</code>
@@ -0,0 +1,49 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.spi.query;
+
+import java.util.List;
+
+/**
+ * The results of a query read one row at a time. Only the rows of the requested page are read and rows are fetched from the
+ * server as they are needed, so the whole result never has to be held in memory.
+ */
+public interface QSCursor extends AutoCloseable {
+
+    /**
+     * @return the columns of the result (never <code>null</code>)
+     */
+    List<QSColumn> getColumns();
+
+    /**
+     * @return the next row or <code>null</code> if there are no more rows in the page
+     * @throws Exception if error occurs
+     */
+    QSRow next() throws Exception;
+
+    /**
+     * Releases the statement and connection of the query.
+     */
+    @Override
+    void close();
+
+}
@@ -33,6 +33,11 @@ public interface QueryService {
      */
     int NO_OFFSET = 0;
 
+    /**
+     * The default number of rows fetched from the server at one time
+     */
+    int DEFAULT_FETCH_SIZE = 500;
+
     /**
      * Query the given vdb (using jdbc) with the given query
      *
@@ -45,4 +50,18 @@ public interface QueryService {
      */
     QSResult query(String vdb, String query, int offet, int limit) throws Exception;
 
+    /**
+     * Query the given vdb (using jdbc) with the given query. The rows are read as the cursor is advanced
+     * so must be consumed before the cursor is closed.
+     *
+     * @param vdb the target vdb
+     * @param query the target query
+     * @param offset the minimum number result to return
+     * @param limit the number of results to return at one time
+     * @param fetchSize the number of rows fetched from the server at one time (zero or less uses the default)
+     * @return a cursor over the result of the query which the caller must close (never <code>null</code>)
+     * @throws Exception if error occurs
+     */
+    QSCursor openCursor(String vdb, String query, int offset, int limit, int fetchSize) throws Exception;
+
 }
@@ -21,6 +21,8 @@
  */
 package org.komodo.spi.repository;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Properties;
 import org.komodo.spi.KException;
 import org.komodo.spi.repository.Repository.UnitOfWork;
@@ -58,4 +60,27 @@ public interface Exportable {
      */
     byte[] export( final UnitOfWork transaction, Properties properties ) throws KException;
 
+    /**
+     * Writes the current object state to the supplied stream. The stream is flushed but not closed. Exportables whose content can
+     * be large should override this so that the content is written as it is generated rather than built up in memory first.
+     *
+     * @param transaction
+     *        the transaction (can be <code>null</code> if update should be automatically committed)
+     * @param properties (can be <code>null</code> or empty)
+     * @param stream
+     *        the stream the content is written to (cannot be <code>null</code>)
+     * @throws KException
+     *         if an error occurs
+     */
+    default void export( final UnitOfWork transaction,
+                         final Properties properties,
+                         final OutputStream stream ) throws KException {
+        try {
+            stream.write( export( transaction, properties ) );
+            stream.flush();
+        } catch ( final IOException e ) {
+            throw new KException( e );
+        }
+    }
+
 }
@@ -285,6 +285,22 @@ public interface KomodoObject extends KNode {
      */
     String[] getRawPropertyNames( final UnitOfWork transaction ) throws KException;
 
+    /**
+     * Reads the name, type identifier, child state, parent path, and optionally the property values of this object in one pass.
+     * The property values are the ones {@link #getProperty(UnitOfWork, String)} returns for the names returned by
+     * {@link #getPropertyNames(UnitOfWork)} and by the {@link #getPropertyDescriptors(UnitOfWork) property descriptors}.
+     *
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> or have a state that is not {@link State#NOT_STARTED})
+     * @param includeProperties
+     *        <code>true</code> if the property values should be read
+     * @return the snapshot (never <code>null</code>)
+     * @throws KException
+     *         if an error occurs
+     */
+    NodeSnapshot getSnapshot( final UnitOfWork transaction,
+                              final boolean includeProperties ) throws KException;
+
     /**
      * @return a unique identifier for the object class
      */
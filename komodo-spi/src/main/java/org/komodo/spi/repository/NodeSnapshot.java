@@ -0,0 +1,219 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.spi.repository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.komodo.spi.KException;
+import org.komodo.spi.repository.Repository.UnitOfWork;
+import org.komodo.spi.repository.Repository.UnitOfWork.State;
+
+/**
+ * The state of a {@link KomodoObject} read in one pass. A snapshot is not updated when the object changes.
+ *
+ * @see KomodoObject#getSnapshot(org.komodo.spi.repository.Repository.UnitOfWork, boolean)
+ */
+public class NodeSnapshot {
+
+    /**
+     * Reads a snapshot one accessor at a time. Used for objects that do not provide their own snapshot.
+     *
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> or have a state that is not {@link State#NOT_STARTED})
+     * @param kobject
+     *        the object whose snapshot is being read (cannot be <code>null</code>)
+     * @param includeProperties
+     *        <code>true</code> if the property values should be read
+     * @return the snapshot (never <code>null</code>)
+     * @throws KException
+     *         if an error occurs
+     */
+    public static NodeSnapshot read( final UnitOfWork transaction,
+                                     final KomodoObject kobject,
+                                     final boolean includeProperties ) throws KException {
+        Map< String, Object > values = null;
+
+        if ( includeProperties ) {
+            values = new LinkedHashMap<>();
+
+            for ( final String name : kobject.getPropertyNames( transaction ) ) {
+                addValue( transaction, kobject, name, values );
+            }
+
+            for ( final PropertyDescriptor descriptor : kobject.getPropertyDescriptors( transaction ) ) {
+                if ( !values.containsKey( descriptor.getName() ) ) {
+                    addValue( transaction, kobject, descriptor.getName(), values );
+                }
+            }
+        }
+
+        final KomodoObject parent = kobject.getParent( transaction );
+        return new NodeSnapshot( kobject.getAbsolutePath(),
+                                 kobject.getName( transaction ),
+                                 kobject.getTypeIdentifier( transaction ),
+                                 kobject.hasChildren( transaction ),
+                                 ( ( parent == null ) ? null : parent.getAbsolutePath() ),
+                                 values );
+    }
+
+    private static void addValue( final UnitOfWork transaction,
+                                  final KomodoObject kobject,
+                                  final String name,
+                                  final Map< String, Object > values ) throws KException {
+        final Property property = kobject.getProperty( transaction, name );
+
+        if ( property != null ) {
+            values.put( name, ( property.isMultiple( transaction ) ? property.getValues( transaction )
+                                                                  : property.getValue( transaction ) ) );
+        }
+    }
+
+    private final String absolutePath;
+    private final String name;
+    private final KomodoType typeIdentifier;
+    private final boolean hasChildren;
+    private final String parentPath;
+    private final boolean includesProperties;
+    private final Map< String, Object > values;
+
+    /**
+     * @param absolutePath
+     *        the absolute path of the object (cannot be empty)
+     * @param name
+     *        the name of the object (cannot be empty)
+     * @param typeIdentifier
+     *        the type identifier of the object (cannot be <code>null</code>)
+     * @param hasChildren
+     *        <code>true</code> if the object has children
+     * @param parentPath
+     *        the absolute path of the parent (can be <code>null</code> if the object has no parent)
+     * @param values
+     *        the property values keyed by property name, an <code>Object[]</code> for multi-valued properties (can be
+     *        <code>null</code> if the properties were not read)
+     */
+    public NodeSnapshot( final String absolutePath,
+                         final String name,
+                         final KomodoType typeIdentifier,
+                         final boolean hasChildren,
+                         final String parentPath,
+                         final Map< String, Object > values ) {
+        this.absolutePath = absolutePath;
+        this.name = name;
+        this.typeIdentifier = typeIdentifier;
+        this.hasChildren = hasChildren;
+        this.parentPath = parentPath;
+        this.includesProperties = ( values != null );
+        this.values = ( ( values == null ) ? Collections.< String, Object >emptyMap() : Collections.unmodifiableMap( values ) );
+    }
+
+    /**
+     * @return the absolute path of the object (never empty)
+     */
+    public String getAbsolutePath() {
+        return this.absolutePath;
+    }
+
+    /**
+     * @return the name of the object (never empty)
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * @return the absolute path of the parent or <code>null</code> if the object has no parent
+     */
+    public String getParentPath() {
+        return this.parentPath;
+    }
+
+    /**
+     * @return the names of the properties that have a value, in the order the object reported them (never <code>null</code>)
+     */
+    public Set< String > getPropertyNames() {
+        return this.values.keySet();
+    }
+
+    /**
+     * @return the type identifier of the object (never <code>null</code>)
+     */
+    public KomodoType getTypeIdentifier() {
+        return this.typeIdentifier;
+    }
+
+    /**
+     * @param propertyName
+     *        the name of the property whose value is being requested (cannot be empty)
+     * @return the single value, the <code>Object[]</code> of a multi-valued property, or <code>null</code> if the property has
+     *         no value
+     */
+    public Object getValue( final String propertyName ) {
+        return this.values.get( propertyName );
+    }
+
+    /**
+     * @param propertyName
+     *        the name of the single-valued property whose value is being requested (cannot be empty)
+     * @return the value as a string or <code>null</code> if the property has no value
+     */
+    public String getStringValue( final String propertyName ) {
+        final Object value = this.values.get( propertyName );
+        return ( ( value == null ) ? null : value.toString() );
+    }
+
+    /**
+     * @return <code>true</code> if the object has children
+     */
+    public boolean hasChildren() {
+        return this.hasChildren;
+    }
+
+    /**
+     * @return <code>true</code> if the property values were read when this snapshot was taken
+     */
+    public boolean includesProperties() {
+        return this.includesProperties;
+    }
+
+    /**
+     * @param propertyName
+     *        the name of the property being checked (cannot be empty)
+     * @return <code>true</code> if the property has multiple values
+     */
+    public boolean isMultiple( final String propertyName ) {
+        return ( this.values.get( propertyName ) instanceof Object[] );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "NodeSnapshot [path=" + this.absolutePath + ", type=" + this.typeIdentifier + ", values=" + this.values.keySet() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+               + "]"; //$NON-NLS-1$
+    }
+
+}
@@ -36,6 +36,11 @@ public interface Repository {
      */
     String SYSTEM_USER = "SYSTEM";
 
+    /**
+     * Indicates a query result should not be limited in size
+     */
+    long NO_LIMIT = -1;
+
     /**
      * The nature of the operation being conducted
      * and to be vetted by the security system
@@ -344,6 +349,22 @@ public interface Repository {
      */
     List<KomodoObject> query(UnitOfWork transaction, String query) throws KException;
 
+    /**
+     * @param transaction
+     *        the transaction (cannot be <code>null</code> or have a state that is not
+     *        {@link org.komodo.spi.repository.Repository.UnitOfWork.State#NOT_STARTED})
+     * @param query
+     *        the SQL query
+     * @param offset
+     *        the number of leading results to skip (zero or negative if none are skipped)
+     * @param limit
+     *        the maximum number of results to return (negative or {@link #NO_LIMIT} if all results are returned)
+     *
+     * @return the {@link KomodoObject}s resulting from the search
+     * @throws KException if error occurs
+     */
+    List<KomodoObject> query(UnitOfWork transaction, String query, long offset, long limit) throws KException;
+
     /**
      * @param transaction
      *        the transaction (cannot be <code>null</code> or have a state that is not
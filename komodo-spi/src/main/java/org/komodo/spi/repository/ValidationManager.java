@@ -27,6 +27,7 @@ import org.komodo.spi.KException;
 import org.komodo.spi.outcome.Outcome;
 import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.spi.repository.validation.Result;
+import org.komodo.spi.repository.validation.ResultSink;
 import org.komodo.spi.repository.validation.Rule;
 
 /**
@@ -117,6 +118,26 @@ public interface ValidationManager {
      */
     Result[] evaluate( final UnitOfWork uow, final KomodoObject kObject, boolean full  ) throws KException;
 
+    /**
+     * Evaluate the supplied object using all applicable rules for the object, handing each result to the sink as soon as it is
+     * available instead of collecting them. When doing a full validation with a transaction that has no unsaved changes, the
+     * descendants are evaluated in parallel.
+     * @param uow the transaction
+     * @param kObject the object to validate
+     * @param full <code>true</code> will validate the node and all of its descendants.  <code>false</code> only validates the supplied node.
+     * @param minLevel results less severe than this level are not given to the sink (can be <code>null</code> if all results are wanted)
+     * @param stopOnError <code>true</code> if evaluation should stop after the first {@link Outcome.Level#ERROR error} result
+     * @param sink the receiver of the results (cannot be <code>null</code>)
+     * @return <code>true</code> if all applicable rules were evaluated, <code>false</code> if evaluation was stopped early
+     * @throws KException if an error occurs
+     */
+    boolean evaluate( final UnitOfWork uow,
+                      final KomodoObject kObject,
+                      final boolean full,
+                      final Outcome.Level minLevel,
+                      final boolean stopOnError,
+                      final ResultSink sink ) throws KException;
+
     /**
      * Evaluate the supplied object using the specified rules (if the rule is applicable for the object).
      * @param uow the transaction
@@ -0,0 +1,263 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.spi.runtime;
+
+import java.util.Collection;
+
+/**
+ * Waits for a teiid instance to finish deploying or undeploying an artifact. The instance is polled, often at first and then
+ * less often, until the artifact is ready, has failed or the deadline has passed.
+ */
+public class DeploymentWaiter {
+
+    /**
+     * The result of waiting for an artifact
+     */
+    public enum Outcome {
+
+        /**
+         * The artifact is deployed and active, or has been removed
+         */
+        READY,
+
+        /**
+         * The artifact failed to deploy
+         */
+        FAILED,
+
+        /**
+         * The deadline passed before the artifact was ready
+         */
+        TIMED_OUT
+
+    }
+
+    /**
+     * Checks the state of the artifact being waited for.
+     */
+    public interface Probe {
+
+        /**
+         * @return the outcome if the artifact has finished deploying or undeploying or <code>null</code> to keep waiting
+         * @throws Exception
+         *         if the state cannot be determined
+         */
+        Outcome check() throws Exception;
+
+    }
+
+    /**
+     * The time, in milliseconds, before the instance is checked a second time.
+     */
+    public static final long INITIAL_INTERVAL = 50;
+
+    /**
+     * The longest time, in milliseconds, between checks of the instance.
+     */
+    public static final long MAX_INTERVAL = 1000;
+
+    private final TeiidInstance teiidInstance;
+
+    private final long timeout;
+
+    /**
+     * @param teiidInstance
+     *        the teiid instance being deployed to (cannot be <code>null</code>)
+     * @param timeout
+     *        the maximum time, in milliseconds, that a wait can take
+     */
+    public DeploymentWaiter( final TeiidInstance teiidInstance,
+                             final long timeout ) {
+        this.teiidInstance = teiidInstance;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Polls the probe until it returns an outcome or the timeout has passed. The interval between checks doubles each time up to
+     * {@link #MAX_INTERVAL}.
+     *
+     * @param probe
+     *        the check of the artifact (cannot be <code>null</code>)
+     * @return the outcome (never <code>null</code>)
+     * @throws Exception
+     *         if the probe fails or the thread is interrupted
+     */
+    public Outcome await( final Probe probe ) throws Exception {
+        final long deadline = System.currentTimeMillis() + this.timeout;
+        long interval = INITIAL_INTERVAL;
+
+        while ( true ) {
+            final Outcome outcome = probe.check();
+
+            if ( outcome != null ) {
+                return outcome;
+            }
+
+            final long remaining = deadline - System.currentTimeMillis();
+
+            if ( remaining <= 0 ) {
+                return Outcome.TIMED_OUT;
+            }
+
+            Thread.sleep( Math.min( interval, remaining ) );
+            interval = Math.min( interval * 2, MAX_INTERVAL );
+        }
+    }
+
+    /**
+     * Must be called once the deploy call has returned. A deploy replaces any earlier deployment of the VDB before it returns, so
+     * the VDB found is always the new one, even if it became active between two checks.
+     *
+     * @param vdbName
+     *        the name of the VDB (cannot be empty)
+     * @return {@link Outcome#READY} once the VDB is active or {@link Outcome#FAILED} if it failed to load
+     * @throws Exception
+     *         if an error occurs
+     */
+    public Outcome awaitVdbDeployed( final String vdbName ) throws Exception {
+        return await( new Probe() {
+
+            @Override
+            public Outcome check() throws Exception {
+                // one request to the instance rather than one for each of isVdbActive, isVdbLoading and hasVdbFailed
+                final TeiidVdb vdb = teiidInstance.getVdb( vdbName );
+
+                if ( vdb == null || vdb.isLoading() ) {
+                    return null;
+                }
+
+                if ( vdb.isActive() ) {
+                    return Outcome.READY;
+                }
+
+                return ( vdb.hasFailed() ? Outcome.FAILED : null );
+            }
+
+        } );
+    }
+
+    /**
+     * @param vdbName
+     *        the name of the VDB (cannot be empty)
+     * @return {@link Outcome#READY} once the VDB is no longer on the instance
+     * @throws Exception
+     *         if an error occurs
+     */
+    public Outcome awaitVdbRemoved( final String vdbName ) throws Exception {
+        return await( new Probe() {
+
+            @Override
+            public Outcome check() throws Exception {
+                return ( teiidInstance.hasVdb( vdbName ) ? null : Outcome.READY );
+            }
+
+        } );
+    }
+
+    /**
+     * @param dataSourceName
+     *        the name of the data source (cannot be empty)
+     * @return {@link Outcome#READY} once the data source exists
+     * @throws Exception
+     *         if an error occurs
+     */
+    public Outcome awaitDataSourceDeployed( final String dataSourceName ) throws Exception {
+        return await( new Probe() {
+
+            @Override
+            public Outcome check() throws Exception {
+                return ( teiidInstance.dataSourceExists( dataSourceName ) ? Outcome.READY : null );
+            }
+
+        } );
+    }
+
+    /**
+     * @param dataSourceName
+     *        the name of the data source (cannot be empty)
+     * @return {@link Outcome#READY} once the data source no longer exists
+     * @throws Exception
+     *         if an error occurs
+     */
+    public Outcome awaitDataSourceRemoved( final String dataSourceName ) throws Exception {
+        return await( new Probe() {
+
+            @Override
+            public Outcome check() throws Exception {
+                return ( teiidInstance.dataSourceExists( dataSourceName ) ? null : Outcome.READY );
+            }
+
+        } );
+    }
+
+    /**
+     * @param driverName
+     *        the name of the driver (cannot be empty)
+     * @return {@link Outcome#READY} once a driver whose name starts with the given name is on the instance
+     * @throws Exception
+     *         if an error occurs
+     */
+    public Outcome awaitDriverDeployed( final String driverName ) throws Exception {
+        return await( new Probe() {
+
+            @Override
+            public Outcome check() throws Exception {
+                return ( hasDriver( driverName ) ? Outcome.READY : null );
+            }
+
+        } );
+    }
+
+    /**
+     * @param driverName
+     *        the name of the driver (cannot be empty)
+     * @return {@link Outcome#READY} once no driver whose name starts with the given name is on the instance
+     * @throws Exception
+     *         if an error occurs
+     */
+    public Outcome awaitDriverRemoved( final String driverName ) throws Exception {
+        return await( new Probe() {
+
+            @Override
+            public Outcome check() throws Exception {
+                return ( hasDriver( driverName ) ? null : Outcome.READY );
+            }
+
+        } );
+    }
+
+    private boolean hasDriver( final String driverName ) throws Exception {
+        final Collection< ConnectionDriver > drivers = this.teiidInstance.getDataSourceDrivers();
+
+        if ( drivers != null ) {
+            for ( final ConnectionDriver driver : drivers ) {
+                // deployed driver names can have a suffix added by the server
+                if ( driver.getName().startsWith( driverName ) ) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+}
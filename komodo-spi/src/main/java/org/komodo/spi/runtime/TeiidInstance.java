@@ -149,6 +149,11 @@ public interface TeiidInstance extends ExecutionAdmin, HostProvider {
      */
     String getConnectionError();
 
+    /**
+     * @return a description of the usage of the caches of admin listings and schemas shared by the instances of this host
+     */
+    String getCacheStatistics();
+
     /**
      * Construct a vdb data source
      * 
@@ -0,0 +1,140 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.spi.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.junit.Test;
+import org.komodo.spi.runtime.DeploymentWaiter.Outcome;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+@SuppressWarnings( {"javadoc", "nls"} )
+public class TestDeploymentWaiter {
+
+    private static final String VDB_NAME = "myVdb";
+
+    /**
+     * A VDB that starts loading when first asked for and becomes active or fails once the delay has passed.
+     */
+    private static TeiidInstance instanceDeployingVdb( final long delay,
+                                                       final boolean fails ) throws Exception {
+        final long readyAt = System.currentTimeMillis() + delay;
+
+        final TeiidVdb vdb = mock( TeiidVdb.class );
+        when( vdb.isLoading() ).thenAnswer( new Answer< Boolean >() {
+
+            @Override
+            public Boolean answer( final InvocationOnMock invocation ) {
+                return ( System.currentTimeMillis() < readyAt );
+            }
+
+        } );
+        when( vdb.isActive() ).thenReturn( !fails );
+        when( vdb.hasFailed() ).thenReturn( fails );
+
+        final TeiidInstance teiidInstance = mock( TeiidInstance.class );
+        when( teiidInstance.getVdb( VDB_NAME ) ).thenReturn( vdb );
+        return teiidInstance;
+    }
+
+    @Test
+    public void shouldReturnSoonAfterVdbIsActive() throws Exception {
+        final TeiidInstance teiidInstance = instanceDeployingVdb( 200, false );
+        final long start = System.currentTimeMillis();
+
+        assertEquals( Outcome.READY, new DeploymentWaiter( teiidInstance, 10000 ).awaitVdbDeployed( VDB_NAME ) );
+
+        // the VDB becomes active part way through the backoff so it is noticed long before the deadline
+        final long elapsed = System.currentTimeMillis() - start;
+        assertTrue( "took " + elapsed + "ms", elapsed < 2000 );
+    }
+
+    @Test
+    public void shouldReturnWhenVdbFails() throws Exception {
+        final TeiidInstance teiidInstance = instanceDeployingVdb( 100, true );
+        assertEquals( Outcome.FAILED, new DeploymentWaiter( teiidInstance, 10000 ).awaitVdbDeployed( VDB_NAME ) );
+    }
+
+    @Test
+    public void shouldTimeOutWhenVdbNeverDeploys() throws Exception {
+        final TeiidInstance teiidInstance = mock( TeiidInstance.class );
+        final long start = System.currentTimeMillis();
+
+        assertEquals( Outcome.TIMED_OUT, new DeploymentWaiter( teiidInstance, 300 ).awaitVdbDeployed( VDB_NAME ) );
+
+        final long elapsed = System.currentTimeMillis() - start;
+        assertTrue( "took " + elapsed + "ms", elapsed >= 300 && elapsed < 2000 );
+    }
+
+    @Test
+    public void shouldReturnReadyWhenRedeployFinishesBetweenPolls() throws Exception {
+        // the redeployed VDB loads for less time than the first interval between checks
+        final long readyAt = System.currentTimeMillis() + ( DeploymentWaiter.INITIAL_INTERVAL / 2 );
+
+        final TeiidVdb vdb = mock( TeiidVdb.class );
+        when( vdb.isLoading() ).thenAnswer( new Answer< Boolean >() {
+
+            @Override
+            public Boolean answer( final InvocationOnMock invocation ) {
+                return ( System.currentTimeMillis() < readyAt );
+            }
+
+        } );
+        when( vdb.isActive() ).thenReturn( true );
+
+        final TeiidInstance teiidInstance = mock( TeiidInstance.class );
+        when( teiidInstance.getVdb( VDB_NAME ) ).thenReturn( vdb );
+
+        final long start = System.currentTimeMillis();
+        assertEquals( Outcome.READY, new DeploymentWaiter( teiidInstance, 10000 ).awaitVdbDeployed( VDB_NAME ) );
+
+        final long elapsed = System.currentTimeMillis() - start;
+        assertTrue( "took " + elapsed + "ms", elapsed < 1000 );
+    }
+
+    @Test
+    public void shouldReturnReadyWhenRedeployedVdbIsAlreadyActive() throws Exception {
+        final TeiidVdb vdb = mock( TeiidVdb.class );
+        when( vdb.isActive() ).thenReturn( true );
+
+        final TeiidInstance teiidInstance = mock( TeiidInstance.class );
+        when( teiidInstance.getVdb( VDB_NAME ) ).thenReturn( vdb );
+
+        assertEquals( Outcome.READY, new DeploymentWaiter( teiidInstance, 10000 ).awaitVdbDeployed( VDB_NAME ) );
+        verify( teiidInstance, times( 1 ) ).getVdb( VDB_NAME );
+    }
+
+    @Test
+    public void shouldReturnImmediatelyWhenDataSourceAlreadyRemoved() throws Exception {
+        final TeiidInstance teiidInstance = mock( TeiidInstance.class );
+        when( teiidInstance.dataSourceExists( "myDs" ) ).thenReturn( false );
+
+        assertEquals( Outcome.READY, new DeploymentWaiter( teiidInstance, 10000 ).awaitDataSourceRemoved( "myDs" ) );
+        verify( teiidInstance, times( 1 ) ).dataSourceExists( "myDs" );
+    }
+
+}
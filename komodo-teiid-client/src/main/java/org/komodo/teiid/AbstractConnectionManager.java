@@ -29,6 +29,8 @@ import org.komodo.spi.runtime.TeiidConnectionInfo;
 
 public abstract class AbstractConnectionManager implements StringConstants {
 
+    private final ConnectionPool connectionPool = new ConnectionPool(this::getConnection);
+
     /**
      * @return the implementation of the TeiidDriver
      */
@@ -72,6 +74,30 @@ public abstract class AbstractConnectionManager implements StringConstants {
             }
         }
 
+    /**
+     * @param vdb the target vdb
+     * @param host the host
+     * @param port the port
+     * @param user the user
+     * @param password the password
+     * @param secure should connection be secure
+     *
+     * @return a pooled connection to the vdb that is returned to the pool when closed
+     * @throws Exception if error occurs
+     */
+    public Connection getPooledConnection(String vdb, String host, int port,
+                                                                                  String user, String password,
+                                                                                  boolean secure) throws Exception {
+        return connectionPool.borrow(vdb, host, port, user, password, secure);
+    }
+
+    /**
+     * @return the pool of the connections obtained through {@link #getPooledConnection(String, String, int, String, String, boolean)}
+     */
+    public ConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
     public AbstractConnectionManager() {
         super();
     }
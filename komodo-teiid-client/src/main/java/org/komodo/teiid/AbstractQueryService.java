@@ -26,7 +26,12 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
 import org.komodo.spi.query.QSColumn;
+import org.komodo.spi.query.QSCursor;
 import org.komodo.spi.query.QSResult;
 import org.komodo.spi.query.QSRow;
 import org.komodo.spi.query.QueryService;
@@ -36,6 +41,19 @@ import org.komodo.utils.KLog;
 
 public abstract class AbstractQueryService implements QueryService {
 
+    /**
+     * The system property for the number of rows fetched from the server at one time. Default is {@value #DEFAULT_FETCH_SIZE}.
+     */
+    public static final String FETCH_SIZE_PROPERTY = "komodo.teiid.query.fetchSize"; //$NON-NLS-1$
+
+    private static final Pattern SELECT = Pattern.compile("^\\s*SELECT\\b", Pattern.CASE_INSENSITIVE); //$NON-NLS-1$
+
+    /*
+     * Queries that may already be paged, that end with an OPTION clause or a statement terminator or whose end may be
+     * commented out are not rewritten
+     */
+    private static final Pattern NOT_PAGEABLE = Pattern.compile("\\b(LIMIT|OFFSET|FETCH|INTO|OPTION)\\b|;|--|/\\*", Pattern.CASE_INSENSITIVE); //$NON-NLS-1$
+
     private final DataTypeManager dataTypeManager;
 
     private final String user;
@@ -48,6 +66,76 @@ public abstract class AbstractQueryService implements QueryService {
 
     private final boolean secure;
 
+    private class ResultCursor implements QSCursor {
+
+        private final Connection connection;
+        private final Statement statement;
+        private final ResultSet rs;
+        private final List<QSColumn> columns = new ArrayList<>();
+        private int skip;
+        private int remaining;
+
+        ResultCursor(Connection connection, Statement statement, ResultSet rs, int skip, int limit) throws SQLException {
+            this.connection = connection;
+            this.statement = statement;
+            this.rs = rs;
+            this.skip = skip;
+            this.remaining = limit;
+
+            ResultSetMetaData rsmd = rs.getMetaData();
+            int columnCount = rsmd.getColumnCount();
+
+            //
+            // Populate the columns
+            //
+            for (int i = 1; i <= columnCount; ++i) {
+                String columnName = rsmd.getColumnName(i);
+                String columnLabel = rsmd.getColumnLabel(i);
+                String colTypeName = rsmd.getColumnTypeName(i);
+                DataTypeName typeName = dataTypeManager.getDataTypeName(colTypeName);
+                QSColumn column = new QSColumn(typeName, columnName, columnLabel);
+                columns.add(column);
+            }
+        }
+
+        @Override
+        public List<QSColumn> getColumns() {
+            return Collections.unmodifiableList(columns);
+        }
+
+        @Override
+        public QSRow next() throws Exception {
+            if (remaining == 0)
+                return null;
+
+            while (rs.next()) {
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+
+                QSRow row = new QSRow();
+                for (int i = 1; i <= columns.size(); ++i) {
+                    Object value = rs.getObject(i);
+                    row.add(value);
+                }
+
+                if (remaining > 0)
+                    remaining--;
+
+                return row;
+            }
+
+            remaining = 0;
+            return null;
+        }
+
+        @Override
+        public void close() {
+            closeQuietly(connection, statement, rs);
+        }
+    }
+
     public AbstractQueryService(DataTypeManager dataTypeManager,
                                                             String host, int port, String user, String password, boolean isSecure) {
         this.dataTypeManager = dataTypeManager;
@@ -58,10 +146,48 @@ public abstract class AbstractQueryService implements QueryService {
         this.secure = isSecure;
     }
 
+    /**
+     * @param query the query
+     * @param skip the number of rows to skip
+     * @param limit the maximum number of rows to return or {@link #NO_LIMIT}
+     * @return the query with the page applied or <code>null</code> if the query cannot safely be rewritten
+     */
+    protected static String pageQuery(String query, int skip, int limit) {
+        if (skip <= 0 && limit <= NO_LIMIT)
+            return query;
+
+        String sql = query.trim();
+        if (!SELECT.matcher(sql).find() || NOT_PAGEABLE.matcher(sql).find())
+            return null;
+
+        if (limit > NO_LIMIT)
+            return sql + " LIMIT " + Math.max(skip, 0) + ", " + limit; //$NON-NLS-1$ //$NON-NLS-2$
+
+        return sql + " OFFSET " + skip + " ROWS"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
     @Override
     public QSResult query(String vdb, String query, int offset, int limit) throws Exception {
         QSResult result = new QSResult();
 
+        try (QSCursor cursor = openCursor(vdb, query, offset, limit, 0)) {
+            for (QSColumn column : cursor.getColumns()) {
+                result.addColumn(column);
+            }
+
+            QSRow row;
+            while ((row = cursor.next()) != null) {
+                result.addRow(row);
+            }
+        }
+
+        KLog.getLogger().debug("Query executed and returning {0} results", result.getRows().size());
+
+        return result;
+    }
+
+    @Override
+    public QSCursor openCursor(String vdb, String query, int offset, int limit, int fetchSize) throws Exception {
         KLog.getLogger().debug("Commencing query execution: {0}", query);
 
         Connection connection = null;
@@ -75,63 +201,48 @@ public abstract class AbstractQueryService implements QueryService {
                 throw new Exception("Failed to make a connection to '" + vdb + "' as user '" + user + "'");
 
             statement = connection.createStatement();
+            statement.setFetchSize(fetchSize > 0 ? fetchSize : Integer.getInteger(FETCH_SIZE_PROPERTY, DEFAULT_FETCH_SIZE));
+
+            // the offset is the (1-based) number of the first row returned
+            int skip = offset > NO_OFFSET ? offset - 1 : 0;
+            String pagedQuery = pageQuery(query, skip, limit);
+
+            if (pagedQuery != null) {
+                // the server skips and limits the rows
+                skip = 0;
+                query = pagedQuery;
+            } else if (limit > NO_LIMIT) {
+                // the server stops after the last row of the page
+                statement.setMaxRows(skip + limit);
+            }
 
             KLog.getLogger().debug("Executing SQL Statement for query {0} with offset of {1} and limit of {2}",
                                                        query, offset, limit);
             rs = statement.executeQuery(query);
 
-            ResultSetMetaData rsmd = rs.getMetaData();
-            int columns = rsmd.getColumnCount();
-
-            //
-            // Populate the columns
-            //
-            for (int i = 1; i <= columns; ++i) {
-                String columnName = rsmd.getColumnName(i);
-                String columnLabel = rsmd.getColumnLabel(i);
-                String colTypeName = rsmd.getColumnTypeName(i);
-                DataTypeName typeName = dataTypeManager.getDataTypeName(colTypeName);
-                QSColumn column = new QSColumn(typeName, columnName, columnLabel);
-                result.addColumn(column);
-            }
-
-            int rowNum = 0;
-            while (rs.next()) {
-                rowNum++;
-
-                if (offset > NO_OFFSET && rowNum < offset) {
-                    continue;
-                }
-
-                if (limit > NO_LIMIT && result.getRows().size() >= limit) {
-                    break;
-                }
-
-                QSRow row = new QSRow();
-                for (int i = 1; i <= columns; ++i) {
-                    Object value = rs.getObject(i);
-                    row.add(value);
-                }
-
-                result.addRow(row);
-            }
-
-            KLog.getLogger().debug("Query executed and returning {0} results", result.getRows().size());
+            return new ResultCursor(connection, statement, rs, skip, limit > NO_LIMIT ? limit : NO_LIMIT);
+        } catch (Exception ex) {
+            closeQuietly(connection, statement, rs);
+            throw ex;
+        }
+    }
 
-            return result;
-        } finally {
-            try {
-                if (rs != null)
-                    rs.close();
+    private static void closeQuietly(Connection connection, Statement statement, ResultSet rs) {
+        try {
+            if (rs != null)
+                rs.close();
 
-                if (statement != null)
-                    statement.close();
+            if (statement != null)
+                statement.close();
+        } catch (SQLException e1) {
+            // ignore
+        }
 
-                if (connection != null)
-                    connection.close();
-            } catch (SQLException e1) {
-                // ignore
-            }
+        try {
+            if (connection != null)
+                connection.close();
+        } catch (SQLException e1) {
+            // ignore
         }
     }
 
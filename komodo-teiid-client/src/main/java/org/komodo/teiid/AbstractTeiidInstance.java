@@ -40,6 +40,7 @@ import org.komodo.spi.constants.StringConstants;
 import org.komodo.spi.outcome.Outcome;
 import org.komodo.spi.outcome.OutcomeFactory;
 import org.komodo.spi.runtime.ConnectionDriver;
+import org.komodo.spi.runtime.DeploymentWaiter;
 import org.komodo.spi.runtime.EventManager;
 import org.komodo.spi.runtime.ExecutionConfigurationEvent;
 import org.komodo.spi.runtime.HostProvider;
@@ -377,6 +378,9 @@ public abstract class AbstractTeiidInstance implements TeiidInstance, StringCons
 
     @Override
     public void reconnect() {
+        // Connections made before the reconnect may no longer be usable
+        invalidatePool(null);
+
         try {
             // Call disconnect() first to clear out Server & admin caches
             getEventManager().permitListeners(false);
@@ -413,9 +417,14 @@ public abstract class AbstractTeiidInstance implements TeiidInstance, StringCons
 
             deploy(PING_VDB, new ByteArrayInputStream(TEST_VDB.getBytes()));
 
-            Thread.sleep(2000);
+            // Allow up to 2 secs for the ping VDB to become active
+            DeploymentWaiter.Outcome pingVdbOutcome = new DeploymentWaiter(this, 2000).awaitVdbDeployed(PING_VDB_NAME);
 
             try {
+                if (pingVdbOutcome != DeploymentWaiter.Outcome.READY) {
+                    throw new Exception(Messages.getString(Messages.ExecutionAdmin.pingVdbNotActive, getUrl(), pingVdbOutcome));
+                }
+
                 teiidJdbcConnection = getConnectionManager().getConnection(
                                                                       PING_VDB_NAME,
                                                                       getHost(),
@@ -595,7 +604,12 @@ public abstract class AbstractTeiidInstance implements TeiidInstance, StringCons
         }
 
         properties.setProperty(TeiidInstance.DATASOURCE_DISPLAYNAME, displayName);
-        createDataSource(dsName, typeName, properties);
+        try {
+            createDataSource(dsName, typeName, properties);
+        } finally {
+            // Pooled connections may be bound to a previous version of the source
+            invalidatePool(null);
+        }
 
         // Check that local name list contains new dsName
         TeiidDataSource tds = getDataSource(dsName);
@@ -696,13 +710,11 @@ public abstract class AbstractTeiidInstance implements TeiidInstance, StringCons
         ArgCheck.isNotNull(deploymentName, "deploymentName"); //$NONNLS1$
         ArgCheck.isNotNull(inStream, "inStream"); //$NONNLS1$
 
-        deploy(deploymentName, inStream);
-
-        // Give a 0.5 sec pause for the VDB to finish loading metadata.
         try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            // ignore
+            deploy(deploymentName, inStream);
+        } finally {
+            // The deployment name need not be the vdb name so invalidate all the vdbs of the host
+            invalidatePool(null);
         }
     }
 
@@ -726,17 +738,11 @@ public abstract class AbstractTeiidInstance implements TeiidInstance, StringCons
 
         try {
             deploy(driverName, iStream);
-
-            // Give a 0.5 sec pause for the driver to finish loading.
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                // ignore
-            }
-
         } catch (Exception ex) {
             // Jar deployment failed
             throw ex;
+        } finally {
+            invalidatePool(null);
         }
     }
 
@@ -750,6 +756,8 @@ public abstract class AbstractTeiidInstance implements TeiidInstance, StringCons
         } catch (Exception ex) {
             // Jar deployment failed
             throw ex;
+        } finally {
+            invalidatePool(null);
         }
     }
 
@@ -785,18 +793,33 @@ public abstract class AbstractTeiidInstance implements TeiidInstance, StringCons
             } catch (Exception ex) {
                 // Jar deployment failed
                 throw new Exception(Messages.getString(Messages.ExecutionAdmin.jarDeploymentFailed, theFile.getPath()), ex);
+            } finally {
+                invalidatePool(null);
             }
         }
     }
 
     protected abstract void undeploy(String name) throws Exception;
 
+    /**
+     * Closes the pooled connections made to this instance so that none outlives a change to what is deployed.
+     *
+     * @param vdbName the vdb whose connections are invalidated (can be <code>null</code> to invalidate all the vdbs)
+     */
+    protected void invalidatePool(String vdbName) {
+        getConnectionManager().getConnectionPool().invalidate(getHost(), vdbName);
+    }
+
     @Override
     public void undeployDynamicVdb(String vdbName) throws Exception {
         connect();
         TeiidVdb vdb = getVdb(vdbName);
         if (vdb != null) {
-            undeploy(appendDynamicVdbSuffix(vdbName));
+            try {
+                undeploy(appendDynamicVdbSuffix(vdbName));
+            } finally {
+                invalidatePool(vdbName);
+            }
         }
         vdb = getVdb(vdbName);
 
@@ -809,7 +832,11 @@ public abstract class AbstractTeiidInstance implements TeiidInstance, StringCons
         connect();
         TeiidVdb vdb = getVdb(vdbName);
         if (vdb != null) {
-            undeploy(appendVdbExtension(vdbName));
+            try {
+                undeploy(appendVdbExtension(vdbName));
+            } finally {
+                invalidatePool(vdbName);
+            }
         }
         vdb = getVdb(vdbName);
 
@@ -0,0 +1,211 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.teiid;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.komodo.utils.ArgCheck;
+
+/**
+ * A read-through cache of the listings returned by a teiid admin connection. Entries expire once the time to live has passed
+ * and are all discarded when an instance changes what is deployed or is disconnected.
+ */
+public class AdminCache {
+
+    /**
+     * Reads a listing from the admin connection.
+     *
+     * @param <T> the type of the listing
+     */
+    public interface Loader<T> {
+
+        /**
+         * @return the listing (can be <code>null</code>)
+         * @throws Exception if error occurs
+         */
+        T load() throws Exception;
+    }
+
+    /**
+     * A snapshot of the cache usage.
+     */
+    public static class Statistics {
+
+        private final long hits;
+        private final long misses;
+        private final long invalidations;
+
+        Statistics(long hits, long misses, long invalidations) {
+            this.hits = hits;
+            this.misses = misses;
+            this.invalidations = invalidations;
+        }
+
+        /**
+         * @return the number of listings returned from the cache
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * @return the number of listings read from the admin connection
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * @return the number of times the whole cache has been discarded
+         */
+        public long getInvalidations() {
+            return invalidations;
+        }
+
+        @Override
+        public String toString() {
+            return "hits=" + hits + ", misses=" + misses + ", invalidations=" + invalidations; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
+    }
+
+    private static class Entry {
+
+        private final Object value;
+        private final long expires;
+        private final long generation;
+
+        Entry(Object value, long expires, long generation) {
+            this.value = value;
+            this.expires = expires;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * System property for the time in milliseconds that a listing is cached
+     */
+    public static final String TIME_TO_LIVE_PROPERTY = "komodo.teiid.adminCache.ttl"; //$NON-NLS-1$
+
+    /**
+     * Default time in milliseconds that a listing is cached
+     */
+    public static final long DEFAULT_TIME_TO_LIVE = 3000;
+
+    /*
+     * An instance is created for each request so the caches are kept for each admin host and port and shared by every
+     * instance connected to it
+     */
+    private static final Map<String, AdminCache> HOST_CACHES = new ConcurrentHashMap<>();
+
+    /**
+     * @param host the admin host (cannot be empty)
+     * @param port the admin port
+     * @return the cache shared by every instance connected to the admin host and port (never <code>null</code>)
+     */
+    public static AdminCache forHost(String host, int port) {
+        ArgCheck.isNotEmpty(host, "host"); //$NON-NLS-1$
+
+        String hostKey = host + ':' + port;
+        AdminCache cache = HOST_CACHES.get(hostKey);
+        if (cache == null) {
+            AdminCache newCache = new AdminCache();
+            cache = HOST_CACHES.putIfAbsent(hostKey, newCache);
+            if (cache == null)
+                cache = newCache;
+        }
+
+        return cache;
+    }
+
+    private final long timeToLive;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a cache whose time to live is set using the {@link #TIME_TO_LIVE_PROPERTY} system property.
+     */
+    public AdminCache() {
+        this(Long.getLong(TIME_TO_LIVE_PROPERTY, DEFAULT_TIME_TO_LIVE));
+    }
+
+    /**
+     * @param timeToLive the time in milliseconds that a listing is cached (zero or less disables caching)
+     */
+    public AdminCache(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * @param key identifies the listing (cannot be <code>null</code>)
+     * @param loader reads the listing when it is not cached or has expired (cannot be <code>null</code>)
+     * @return the listing
+     * @throws Exception if the loader fails
+     */
+    @SuppressWarnings( "unchecked" )
+    public <T> T get(String key, Loader<T> loader) throws Exception {
+        ArgCheck.isNotNull(key, "key"); //$NON-NLS-1$
+        ArgCheck.isNotNull(loader, "loader"); //$NON-NLS-1$
+
+        long now = System.currentTimeMillis();
+        long current = generation.get();
+        Entry entry = entries.get(key);
+
+        if (entry != null && entry.generation == current && entry.expires > now) {
+            hits.incrementAndGet();
+            return (T) entry.value;
+        }
+
+        misses.incrementAndGet();
+        T value = loader.load();
+
+        //
+        // A listing read while the cache was being invalidated may already be stale so it is not kept
+        //
+        if (timeToLive > 0 && generation.get() == current) {
+            entries.put(key, new Entry(value, now + timeToLive, current));
+        }
+
+        return value;
+    }
+
+    /**
+     * Discards every cached listing.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * @return a snapshot of the cache usage (never <code>null</code>)
+     */
+    public Statistics getStatistics() {
+        return new Statistics(hits.get(), misses.get(), generation.get());
+    }
+}
@@ -0,0 +1,471 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.teiid;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.komodo.utils.ArgCheck;
+import org.komodo.utils.KLog;
+
+/**
+ * A bounded pool of teiid jdbc connections. Connections are pooled per vdb, host, port, user and secure flag (the password is
+ * also compared so a connection is only ever handed to a caller with the same credentials). Closing a borrowed connection
+ * returns it to the pool. Idle connections are validated when borrowed and closed once they have been idle for longer than the
+ * idle timeout.
+ */
+public class ConnectionPool {
+
+    /**
+     * Creates the physical connections of the pool.
+     */
+    public interface ConnectionFactory {
+
+        /**
+         * @param vdb the target vdb
+         * @param host the host
+         * @param port the port
+         * @param user the user
+         * @param password the password
+         * @param secure should connection be secure
+         * @return a new connection to the vdb
+         * @throws Exception if error occurs
+         */
+        Connection create(String vdb, String host, int port, String user, String password, boolean secure) throws Exception;
+    }
+
+    /**
+     * A snapshot of the pool usage.
+     */
+    public static class Statistics {
+
+        private final int active;
+        private final int idle;
+        private final long borrowed;
+        private final long created;
+        private final long totalWaitMillis;
+        private final long maxWaitMillis;
+
+        Statistics(int active, int idle, long borrowed, long created, long totalWaitMillis, long maxWaitMillis) {
+            this.active = active;
+            this.idle = idle;
+            this.borrowed = borrowed;
+            this.created = created;
+            this.totalWaitMillis = totalWaitMillis;
+            this.maxWaitMillis = maxWaitMillis;
+        }
+
+        /**
+         * @return the number of connections currently borrowed
+         */
+        public int getActive() {
+            return active;
+        }
+
+        /**
+         * @return the number of connections currently idle in the pool
+         */
+        public int getIdle() {
+            return idle;
+        }
+
+        /**
+         * @return the number of times a connection has been borrowed
+         */
+        public long getBorrowed() {
+            return borrowed;
+        }
+
+        /**
+         * @return the number of physical connections that have been created
+         */
+        public long getCreated() {
+            return created;
+        }
+
+        /**
+         * @return the average time in milliseconds spent waiting for a connection to become available
+         */
+        public long getAverageWaitMillis() {
+            return borrowed == 0 ? 0 : totalWaitMillis / borrowed;
+        }
+
+        /**
+         * @return the longest time in milliseconds spent waiting for a connection to become available
+         */
+        public long getMaxWaitMillis() {
+            return maxWaitMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "active=" + active + ", idle=" + idle + ", borrowed=" + borrowed + ", created=" + created //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+                   + ", averageWait=" + getAverageWaitMillis() + "ms, maxWait=" + maxWaitMillis + "ms"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
+    }
+
+    /**
+     * The system property for the maximum number of connections per vdb and user. Default is {@value #DEFAULT_MAX_ACTIVE}.
+     */
+    public static final String MAX_ACTIVE_PROPERTY = "komodo.teiid.pool.maxActive"; //$NON-NLS-1$
+
+    /**
+     * The default maximum number of connections per vdb and user.
+     */
+    public static final int DEFAULT_MAX_ACTIVE = 8;
+
+    /**
+     * The system property for the number of milliseconds a connection can be idle before it is closed. Default is
+     * {@value #DEFAULT_IDLE_TIMEOUT}.
+     */
+    public static final String IDLE_TIMEOUT_PROPERTY = "komodo.teiid.pool.idleTimeout"; //$NON-NLS-1$
+
+    /**
+     * The default number of milliseconds a connection can be idle before it is closed.
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT = 5 * 60 * 1000;
+
+    /**
+     * The number of milliseconds to wait for a connection when all the connections of a vdb and user are in use.
+     */
+    public static final long BORROW_TIMEOUT = 30 * 1000;
+
+    /**
+     * The number of seconds to wait for an idle connection to be validated.
+     */
+    public static final int VALIDATION_TIMEOUT = 5;
+
+    private static final KLog LOGGER = KLog.getLogger();
+
+    private static class Key {
+
+        private final String vdb;
+        private final String host;
+        private final int port;
+        private final String user;
+        private final String password;
+        private final boolean secure;
+
+        Key(String vdb, String host, int port, String user, String password, boolean secure) {
+            this.vdb = vdb;
+            this.host = host;
+            this.port = port;
+            this.user = user;
+            this.password = password;
+            this.secure = secure;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(vdb, host, port, user, secure);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Key))
+                return false;
+
+            Key other = (Key) obj;
+            return port == other.port && secure == other.secure && Objects.equals(vdb, other.vdb)
+                   && Objects.equals(host, other.host) && Objects.equals(user, other.user)
+                   && Objects.equals(password, other.password);
+        }
+
+        @Override
+        public String toString() {
+            return user + "@" + host + ":" + port + "/" + vdb; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
+    }
+
+    private static class Idle {
+
+        private final Connection connection;
+        private final long generation;
+        private final long since = System.currentTimeMillis();
+
+        Idle(Connection connection, long generation) {
+            this.connection = connection;
+            this.generation = generation;
+        }
+    }
+
+    private class Partition {
+
+        private final Key key;
+        private final Semaphore permits = new Semaphore(maxActive, true);
+        private final Deque<Idle> idle = new ConcurrentLinkedDeque<>();
+        private final AtomicLong generation = new AtomicLong();
+
+        Partition(Key key) {
+            this.key = key;
+        }
+
+        void invalidate() {
+            generation.incrementAndGet();
+
+            Idle entry;
+            while ((entry = idle.poll()) != null) {
+                closeQuietly(entry.connection);
+            }
+        }
+    }
+
+    private final ConnectionFactory factory;
+    private final int maxActive;
+    private final long idleTimeout;
+    private final Map<Key, Partition> partitions = new ConcurrentHashMap<>();
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong borrowed = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong totalWaitMillis = new AtomicLong();
+    private final AtomicLong maxWaitMillis = new AtomicLong();
+
+    private ScheduledExecutorService evictor;
+
+    /**
+     * Creates a pool sized using the {@link #MAX_ACTIVE_PROPERTY} and {@link #IDLE_TIMEOUT_PROPERTY} system properties.
+     *
+     * @param factory the factory of the physical connections (cannot be <code>null</code>)
+     */
+    public ConnectionPool(ConnectionFactory factory) {
+        this(factory,
+             Integer.getInteger(MAX_ACTIVE_PROPERTY, DEFAULT_MAX_ACTIVE),
+             Long.getLong(IDLE_TIMEOUT_PROPERTY, DEFAULT_IDLE_TIMEOUT));
+    }
+
+    /**
+     * @param factory the factory of the physical connections (cannot be <code>null</code>)
+     * @param maxActive the maximum number of connections per vdb and user (must be greater than zero)
+     * @param idleTimeout the number of milliseconds a connection can be idle before it is closed
+     */
+    public ConnectionPool(ConnectionFactory factory, int maxActive, long idleTimeout) {
+        ArgCheck.isNotNull(factory, "factory"); //$NON-NLS-1$
+        ArgCheck.isTrue(maxActive > 0, "maxActive must be greater than zero"); //$NON-NLS-1$
+        this.factory = factory;
+        this.maxActive = maxActive;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * @param vdb the target vdb
+     * @param host the host
+     * @param port the port
+     * @param user the user
+     * @param password the password
+     * @param secure should connection be secure
+     * @return a pooled connection to the vdb which is returned to the pool when closed (never <code>null</code>)
+     * @throws Exception if no connection became available in time or a new connection could not be created
+     */
+    public Connection borrow(String vdb, String host, int port, String user, String password, boolean secure) throws Exception {
+        Key key = new Key(vdb, host, port, user, password, secure);
+        Partition partition = partitions.computeIfAbsent(key, Partition::new);
+
+        long start = System.currentTimeMillis();
+        if (!partition.permits.tryAcquire(BORROW_TIMEOUT, TimeUnit.MILLISECONDS))
+            throw new SQLException("Timed out waiting for a connection to " + key); //$NON-NLS-1$
+
+        long waited = System.currentTimeMillis() - start;
+        totalWaitMillis.addAndGet(waited);
+        maxWaitMillis.accumulateAndGet(waited, Math::max);
+        borrowed.incrementAndGet();
+
+        try {
+            Connection connection = null;
+            long generation = partition.generation.get();
+
+            Idle entry;
+            while (connection == null && (entry = partition.idle.pollFirst()) != null) {
+                if (entry.generation == generation && isValid(entry.connection))
+                    connection = entry.connection;
+                else
+                    closeQuietly(entry.connection);
+            }
+
+            if (connection == null) {
+                connection = factory.create(vdb, host, port, user, password, secure);
+                if (connection == null)
+                    throw new SQLException("Failed to make a connection to " + key); //$NON-NLS-1$
+
+                created.incrementAndGet();
+                startEvictor();
+            }
+
+            active.incrementAndGet();
+            return wrap(partition, connection, generation);
+        } catch (Exception ex) {
+            partition.permits.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Closes the idle connections of a vdb and makes sure the connections currently borrowed are closed rather than returned
+     * to the pool.
+     *
+     * @param host the host of the teiid instance
+     * @param vdb the vdb whose connections are invalidated (can be <code>null</code> to invalidate all the vdbs of the host)
+     */
+    public void invalidate(String host, String vdb) {
+        for (Partition partition : partitions.values()) {
+            if (Objects.equals(host, partition.key.host) && (vdb == null || vdb.equals(partition.key.vdb)))
+                partition.invalidate();
+        }
+    }
+
+    /**
+     * Closes all the idle connections and makes sure the connections currently borrowed are closed rather than returned to the
+     * pool.
+     */
+    public void invalidateAll() {
+        for (Partition partition : partitions.values()) {
+            partition.invalidate();
+        }
+    }
+
+    /**
+     * @return a snapshot of the pool usage (never <code>null</code>)
+     */
+    public Statistics getStatistics() {
+        int idle = 0;
+        for (Partition partition : partitions.values()) {
+            idle += partition.idle.size();
+        }
+
+        return new Statistics(active.get(), idle, borrowed.get(), created.get(), totalWaitMillis.get(), maxWaitMillis.get());
+    }
+
+    private void release(Partition partition, Connection connection, long generation) {
+        active.decrementAndGet();
+
+        try {
+            if (generation == partition.generation.get() && !connection.isClosed()) {
+                if (!connection.getAutoCommit())
+                    connection.rollback();
+
+                // if invalidated meanwhile the connection is discarded on its next borrow
+                partition.idle.offerFirst(new Idle(connection, generation));
+            } else
+                closeQuietly(connection);
+        } catch (SQLException ex) {
+            LOGGER.debug("ConnectionPool.release: discarding connection to {0}", ex, partition.key); //$NON-NLS-1$
+            closeQuietly(connection);
+        } finally {
+            partition.permits.release();
+        }
+    }
+
+    private Connection wrap(final Partition partition, final Connection connection, final long generation) {
+        InvocationHandler handler = new InvocationHandler() {
+
+            private boolean closed = false;
+
+            @Override
+            public synchronized Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                String name = method.getName();
+
+                if ("close".equals(name) && method.getParameterCount() == 0) { //$NON-NLS-1$
+                    if (!closed) {
+                        closed = true;
+                        release(partition, connection, generation);
+                    }
+
+                    return null;
+                }
+
+                if ("isClosed".equals(name) && method.getParameterCount() == 0) //$NON-NLS-1$
+                    return closed || connection.isClosed();
+
+                if (closed)
+                    throw new SQLException("Connection has been returned to the pool"); //$NON-NLS-1$
+
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+            }
+        };
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, handler);
+    }
+
+    private boolean isValid(Connection connection) {
+        try {
+            return !connection.isClosed() && connection.isValid(VALIDATION_TIMEOUT);
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    private void evictIdle() {
+        long expired = System.currentTimeMillis() - idleTimeout;
+
+        for (Partition partition : partitions.values()) {
+            Iterator<Idle> iter = partition.idle.descendingIterator();
+            while (iter.hasNext()) {
+                Idle entry = iter.next();
+                if (entry.since < expired && partition.idle.removeFirstOccurrence(entry))
+                    closeQuietly(entry.connection);
+            }
+        }
+    }
+
+    private synchronized void startEvictor() {
+        if (evictor != null || idleTimeout <= 0)
+            return;
+
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "teiid-connection-pool-evictor"); //$NON-NLS-1$
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long period = Math.max(1000, idleTimeout / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            // ignore
+        }
+    }
+}
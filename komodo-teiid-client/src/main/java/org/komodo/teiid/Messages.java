@@ -77,6 +77,7 @@ public class Messages implements StringConstants {
         invalidPropertyValue,
         cannotConnectToServer,
         instanceDeployUndeployProblemPingingTeiidJdbc,
+        pingVdbNotActive,
         invalidPropertyEditorConstrainedValue,
         invalidPropertyEditorValue,
         invalidNullPropertyValue,
@@ -0,0 +1,335 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.teiid;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.komodo.spi.constants.SystemConstants;
+import org.komodo.utils.ArgCheck;
+import org.komodo.utils.KEnvironment;
+import org.komodo.utils.KLog;
+
+/**
+ * A disk-backed cache of the schema DDL generated by teiid for the models of deployed vdbs. Each schema is stored gzipped in its
+ * own file. Once the files take up more than the maximum size the least recently used are deleted. Keys should include whatever
+ * changes when the vdb is redeployed so that a redeployed vdb is never answered with its old schema.
+ */
+public class SchemaCache {
+
+    /**
+     * Reads a schema from the teiid instance.
+     */
+    public interface Loader {
+
+        /**
+         * @return the schema DDL (can be <code>null</code>)
+         * @throws Exception if error occurs
+         */
+        String load() throws Exception;
+    }
+
+    /**
+     * A snapshot of the cache usage.
+     */
+    public static class Statistics {
+
+        private final long hits;
+        private final long misses;
+        private final int entries;
+        private final long size;
+
+        Statistics(long hits, long misses, int entries, long size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.entries = entries;
+            this.size = size;
+        }
+
+        /**
+         * @return the number of schemas read from the cache
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * @return the number of schemas read from the teiid instance
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * @return the number of schemas in the cache
+         */
+        public int getEntries() {
+            return entries;
+        }
+
+        /**
+         * @return the size in bytes of the compressed schemas in the cache
+         */
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return "hits=" + hits + ", misses=" + misses + ", entries=" + entries + ", size=" + size; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+        }
+    }
+
+    /**
+     * System property for the maximum size in bytes of the compressed schemas kept on disk
+     */
+    public static final String MAX_SIZE_PROPERTY = "komodo.teiid.schemaCache.maxSize"; //$NON-NLS-1$
+
+    /**
+     * Default maximum size in bytes of the compressed schemas kept on disk
+     */
+    public static final long DEFAULT_MAX_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The name of the directory, within the komodo data directory, holding the cached schemas
+     */
+    public static final String DIRECTORY_NAME = "schema-cache"; //$NON-NLS-1$
+
+    private static final String EXTENSION = ".ddl.gz"; //$NON-NLS-1$
+
+    private static SchemaCache instance;
+
+    /**
+     * @return the cache kept in the komodo data directory (never <code>null</code>)
+     */
+    public static synchronized SchemaCache getInstance() {
+        if (instance == null) {
+            KEnvironment.checkDataDirProperty();
+            File directory = new File(System.getProperty(SystemConstants.ENGINE_DATA_DIR), DIRECTORY_NAME);
+            instance = new SchemaCache(directory, Long.getLong(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE));
+        }
+
+        return instance;
+    }
+
+    private final File directory;
+
+    private final long maxSize;
+
+    /*
+     * The size of each cached file keyed by file name, least recently used first
+     */
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long size;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param directory the directory the schemas are stored in (cannot be <code>null</code>)
+     * @param maxSize the maximum size in bytes of the compressed schemas kept in the directory
+     */
+    public SchemaCache(File directory, long maxSize) {
+        ArgCheck.isNotNull(directory, "directory"); //$NON-NLS-1$
+        this.directory = directory;
+        this.maxSize = maxSize;
+
+        directory.mkdirs();
+        File[] files = directory.listFiles();
+
+        if (files != null) {
+            //
+            // Schemas cached by an earlier run are kept in the order they were last used
+            //
+            Arrays.sort(files, new Comparator<File>() {
+
+                @Override
+                public int compare(File file1, File file2) {
+                    return Long.compare(file1.lastModified(), file2.lastModified());
+                }
+            });
+
+            for (File file : files) {
+                if (file.getName().endsWith(EXTENSION)) {
+                    index.put(file.getName(), file.length());
+                    size += file.length();
+                }
+            }
+
+            evict();
+        }
+    }
+
+    /**
+     * @param key identifies the schema (cannot be empty)
+     * @param loader reads the schema when it is not cached (cannot be <code>null</code>)
+     * @return the schema DDL
+     * @throws Exception if the loader fails
+     */
+    public String get(String key, Loader loader) throws Exception {
+        ArgCheck.isNotEmpty(key, "key"); //$NON-NLS-1$
+        ArgCheck.isNotNull(loader, "loader"); //$NON-NLS-1$
+
+        String fileName = fileName(key);
+        String ddl = read(fileName);
+
+        if (ddl != null) {
+            hits.incrementAndGet();
+            return ddl;
+        }
+
+        misses.incrementAndGet();
+        ddl = loader.load();
+
+        if (ddl != null) {
+            write(fileName, ddl);
+        }
+
+        return ddl;
+    }
+
+    /**
+     * Deletes every cached schema.
+     */
+    public synchronized void clear() {
+        for (String fileName : index.keySet()) {
+            new File(directory, fileName).delete();
+        }
+
+        index.clear();
+        size = 0;
+    }
+
+    /**
+     * @return a snapshot of the cache usage (never <code>null</code>)
+     */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(hits.get(), misses.get(), index.size(), size);
+    }
+
+    private String read(String fileName) {
+        synchronized (this) {
+            if (index.get(fileName) == null) { // also marks the schema as recently used
+                return null;
+            }
+        }
+
+        File file = new File(directory, fileName);
+
+        try (Reader reader = new InputStreamReader(new GZIPInputStream(new FileInputStream(file)), StandardCharsets.UTF_8)) {
+            StringBuilder ddl = new StringBuilder();
+            char[] buffer = new char[8192];
+            int read;
+
+            while ((read = reader.read(buffer)) != -1) {
+                ddl.append(buffer, 0, read);
+            }
+
+            // Remembers the use for the next run
+            file.setLastModified(System.currentTimeMillis());
+            return ddl.toString();
+        } catch (IOException ex) {
+            KLog.getLogger().debug("Discarding unreadable cached schema {0}", ex, file); //$NON-NLS-1$
+            remove(fileName);
+            return null;
+        }
+    }
+
+    private void write(String fileName, String ddl) {
+        File temp = null;
+
+        try {
+            temp = File.createTempFile("schema", ".tmp", directory); //$NON-NLS-1$ //$NON-NLS-2$
+
+            try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(new FileOutputStream(temp)), StandardCharsets.UTF_8)) {
+                writer.write(ddl);
+            }
+
+            long length = temp.length();
+            Files.move(temp.toPath(), new File(directory, fileName).toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+            synchronized (this) {
+                Long previous = index.put(fileName, length);
+                size += length - (previous == null ? 0 : previous);
+                evict();
+            }
+        } catch (IOException ex) {
+            // The cache is an optimisation so the schema is still returned
+            KLog.getLogger().debug("Failed to cache schema in {0}", ex, directory); //$NON-NLS-1$
+
+            if (temp != null) {
+                temp.delete();
+            }
+        }
+    }
+
+    private synchronized void remove(String fileName) {
+        Long length = index.remove(fileName);
+
+        if (length != null) {
+            size -= length;
+        }
+
+        new File(directory, fileName).delete();
+    }
+
+    private synchronized void evict() {
+        Iterator<Map.Entry<String, Long>> iter = index.entrySet().iterator();
+
+        while (size > maxSize && iter.hasNext()) {
+            Map.Entry<String, Long> entry = iter.next();
+            new File(directory, entry.getKey()).delete();
+            size -= entry.getValue();
+            iter.remove();
+        }
+    }
+
+    private static String fileName(String key) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+        StringBuilder name = new StringBuilder();
+
+        for (byte b : digest.digest(key.getBytes(StandardCharsets.UTF_8))) {
+            name.append(String.format("%02x", b)); //$NON-NLS-1$
+        }
+
+        return name.append(EXTENSION).toString();
+    }
+}
@@ -33,7 +33,7 @@ public class ConnectionManager extends AbstractConnectionManager implements Stri
 
     private static ConnectionManager instance;
 
-    public static ConnectionManager getInstance() {
+    public static synchronized ConnectionManager getInstance() {
         if (instance == null)
             instance = new ConnectionManager();
 
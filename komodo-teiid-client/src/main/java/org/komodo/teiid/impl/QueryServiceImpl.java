@@ -37,6 +37,6 @@ public class QueryServiceImpl extends AbstractQueryService {
     @Override
     protected Connection getConnection(String vdb, String host, int port,
                                                                            String user, String password, boolean secure) throws Exception {
-        return ConnectionManager.getInstance().getConnection(vdb, host, port, user, password, secure);
+        return ConnectionManager.getInstance().getPooledConnection(vdb, host, port, user, password, secure);
     }
 }
@@ -23,7 +23,8 @@ package org.komodo.teiid.impl;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.SQLException;
@@ -32,8 +33,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.komodo.spi.outcome.Outcome;
 import org.komodo.spi.outcome.OutcomeFactory;
 import org.komodo.spi.runtime.ConnectionDriver;
@@ -48,8 +53,10 @@ import org.komodo.spi.runtime.TeiidVdb;
 import org.komodo.spi.runtime.version.DefaultTeiidVersion.Version;
 import org.komodo.spi.runtime.version.TeiidVersion;
 import org.komodo.teiid.AbstractConnectionManager;
+import org.komodo.teiid.AdminCache;
 import org.komodo.teiid.AbstractTeiidInstance;
 import org.komodo.teiid.Messages;
+import org.komodo.teiid.SchemaCache;
 import org.komodo.utils.KLog;
 import org.teiid.adminapi.Admin;
 import org.teiid.adminapi.PropertyDefinition;
@@ -63,6 +70,43 @@ public class TeiidInstanceImpl extends AbstractTeiidInstance {
 
     private Admin admin;
 
+    /*
+     * The admin getVDB and getSchema signatures differ between teiid 8 and 9 so they are looked up once for each admin
+     * connection rather than on every call
+     */
+    private volatile MethodHandle getVdbHandle;
+
+    private volatile MethodHandle getSchemaHandle;
+
+    /*
+     * Teiid does not report when a vdb was deployed so the schema cache keys use a stamp that changes with each deploy and
+     * undeploy made to the admin host. An instance is created for each request so the stamps are kept for each admin host
+     * and port and shared by every instance connected to it. Deployments made before the first instance connected to the
+     * host share the stamp of when the host was first seen. Deploys made by other clients of the host are not seen so every
+     * stamp also carries the current period of STAMP_TTL, which bounds how long such a deploy can be served a stale schema.
+     */
+    private static class DeploymentStamps {
+
+        private static final long STAMP_TTL = TimeUnit.MINUTES.toMillis(10);
+
+        private final String createdStamp = Long.toString(System.currentTimeMillis());
+
+        private final AtomicLong deploymentCount = new AtomicLong();
+
+        private final Map<String, String> stamps = new ConcurrentHashMap<>();
+
+        void record(String deploymentName) {
+            stamps.put(deploymentName, createdStamp + DOT + deploymentCount.incrementAndGet());
+        }
+
+        String get(String deploymentName) {
+            String stamp = stamps.get(deploymentName);
+            return (stamp == null ? createdStamp : stamp) + DOT + (System.currentTimeMillis() / STAMP_TTL);
+        }
+    }
+
+    private static final Map<String, DeploymentStamps> DEPLOYMENT_STAMPS = new ConcurrentHashMap<>();
+
     private final TeiidArtifactFactory factory = new TeiidArtifactFactory();
 
     private final JbossExtensions ext = new JbossExtensions();
@@ -71,6 +115,14 @@ public class TeiidInstanceImpl extends AbstractTeiidInstance {
         super(parent, teiidVersion, jdbcInfo);
     }
 
+    /*
+     * Used by tests to supply the admin connection
+     */
+    TeiidInstanceImpl(TeiidParent parent, final TeiidVersion teiidVersion, TeiidJdbcInfo jdbcInfo, Admin admin) {
+        this(parent, teiidVersion, jdbcInfo);
+        this.admin = admin;
+    }
+
     @Override
     protected AbstractConnectionManager getConnectionManager() {
         return ConnectionManager.getInstance();
@@ -145,14 +197,85 @@ public class TeiidInstanceImpl extends AbstractTeiidInstance {
 
     @Override
     public void disconnect() {
-        if (this.admin != null) {
-            this.admin.close();
-            this.admin = null;
+        synchronized(TEIID_INSTANCE_LOCK) {
+            if (this.admin != null) {
+                this.admin.close();
+                this.admin = null;
+            }
+
+            this.getVdbHandle = null;
+            this.getSchemaHandle = null;
         }
 
+        adminCache().invalidate();
         notifyRefresh();
     }
 
+    private AdminCache adminCache() {
+        return AdminCache.forHost(getHost(), getTeiidAdminInfo().getPort());
+    }
+
+    @Override
+    public String getCacheStatistics() {
+        return "admin: " + adminCache().getStatistics() + "; schema: " + SchemaCache.getInstance().getStatistics(); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private MethodHandle getVdbHandle() throws Exception {
+        MethodHandle handle = this.getVdbHandle;
+        if (handle != null)
+            return handle;
+
+        synchronized(TEIID_INSTANCE_LOCK) {
+            if (this.getVdbHandle == null) {
+                String methodName = "getVDB";
+                if (getVersion().isGreaterThan(Version.TEIID_9_0)) {
+                    this.getVdbHandle = MethodHandles.publicLookup().unreflect(admin.getClass().getMethod(methodName,
+                                                                                                          String.class,
+                                                                                                          String.class));
+                } else {
+                    this.getVdbHandle = MethodHandles.publicLookup().unreflect(admin.getClass().getMethod(methodName,
+                                                                                                          String.class,
+                                                                                                          int.class));
+                }
+            }
+
+            return this.getVdbHandle;
+        }
+    }
+
+    private MethodHandle getSchemaHandle() throws Exception {
+        MethodHandle handle = this.getSchemaHandle;
+        if (handle != null)
+            return handle;
+
+        synchronized(TEIID_INSTANCE_LOCK) {
+            if (this.getSchemaHandle == null) {
+                String methodName = "getSchema";
+                if (getVersion().isGreaterThan(Version.TEIID_9_0)) {
+                    this.getSchemaHandle = MethodHandles.publicLookup().unreflect(admin.getClass().getMethod(methodName,
+                                                                                                             String.class, String.class, String.class,
+                                                                                                             EnumSet.class, String.class));
+                } else {
+                    this.getSchemaHandle = MethodHandles.publicLookup().unreflect(admin.getClass().getMethod(methodName,
+                                                                                                             String.class, int.class, String.class,
+                                                                                                             EnumSet.class, String.class));
+                }
+            }
+
+            return this.getSchemaHandle;
+        }
+    }
+
+    private static Object invoke(MethodHandle handle, Object... args) throws Exception {
+        try {
+            return handle.invokeWithArguments(args);
+        } catch (Exception | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new Exception(ex);
+        }
+    }
+
     @Override
     protected Outcome pingAdmin() throws Exception {
         if (admin == null) {
@@ -216,7 +339,12 @@ public class TeiidInstanceImpl extends AbstractTeiidInstance {
     @Override
     public void deleteDataSource(String dsName) throws Exception {
         connect();
-        admin.deleteDataSource(dsName);
+        try {
+            admin.deleteDataSource(dsName);
+        } finally {
+            adminCache().invalidate();
+            invalidatePool(null);
+        }
     }
 
     @Override
@@ -237,22 +365,32 @@ public class TeiidInstanceImpl extends AbstractTeiidInstance {
     @Override
     public Collection<TeiidDataSource> getDataSources() throws Exception {
         connect();
-        Collection<String> dsNames = admin.getDataSourceNames();
-        if (dsNames.isEmpty())
-            return Collections.emptyList();
-
-        List<TeiidDataSource> dsSources = new ArrayList<>();
-        for (String dsName : dsNames) {
-            TeiidDataSource dataSource = getDataSource(dsName);
-            dsSources.add(dataSource);
-        }
+        return adminCache().get("dataSources", new AdminCache.Loader<Collection<TeiidDataSource>>() { //$NON-NLS-1$
+
+            @Override
+            public Collection<TeiidDataSource> load() throws Exception {
+                Collection<String> dsNames = admin.getDataSourceNames();
+                if (dsNames.isEmpty())
+                    return Collections.emptyList();
+
+                List<TeiidDataSource> dsSources = new ArrayList<>();
+                for (String dsName : dsNames) {
+                    TeiidDataSource dataSource = getDataSource(dsName);
+                    dsSources.add(dataSource);
+                }
 
-        return dsSources;
+                return Collections.unmodifiableList(dsSources);
+            }
+        });
     }
 
     @Override
     protected void createDataSource(String deploymentName, String templateName, Properties properties) throws Exception {
-        admin.createDataSource(deploymentName, templateName, properties);
+        try {
+            admin.createDataSource(deploymentName, templateName, properties);
+        } finally {
+            adminCache().invalidate();
+        }
     }
 
     @Override
@@ -270,16 +408,22 @@ public class TeiidInstanceImpl extends AbstractTeiidInstance {
     @Override
     public Collection<TeiidTranslator> getTranslators() throws Exception {
         connect();
-        Collection<? extends Translator> translators = admin.getTranslators();
-        if (translators.isEmpty())
-            return Collections.emptyList();
+        return adminCache().get("translators", new AdminCache.Loader<Collection<TeiidTranslator>>() { //$NON-NLS-1$
 
-        List<TeiidTranslator> teiidTranslators = new ArrayList<>();
-        for (Translator translator : translators) {
-            teiidTranslators.add(factory.createTranslator(translator));
-        }
+            @Override
+            public Collection<TeiidTranslator> load() throws Exception {
+                Collection<? extends Translator> translators = admin.getTranslators();
+                if (translators.isEmpty())
+                    return Collections.emptyList();
 
-        return teiidTranslators;
+                List<TeiidTranslator> teiidTranslators = new ArrayList<>();
+                for (Translator translator : translators) {
+                    teiidTranslators.add(factory.createTranslator(translator));
+                }
+
+                return Collections.unmodifiableList(teiidTranslators);
+            }
+        });
     }
 
     private boolean isDynamic(VDB vdb) {
@@ -310,34 +454,36 @@ public class TeiidInstanceImpl extends AbstractTeiidInstance {
     @Override
     public Collection<TeiidVdb> getVdbs() throws Exception {
         connect();
-        Collection<? extends VDB> vdbs = admin.getVDBs();
-        if (vdbs.isEmpty())
-            return Collections.emptyList();
+        return adminCache().get("vdbs", new AdminCache.Loader<Collection<TeiidVdb>>() { //$NON-NLS-1$
 
-        List<TeiidVdb> teiidVdbs = new ArrayList<>();
-        for (VDB vdb : vdbs) {
-            if (! isDynamic(vdb))
-                continue;
+            @Override
+            public Collection<TeiidVdb> load() throws Exception {
+                Collection<? extends VDB> vdbs = admin.getVDBs();
+                if (vdbs.isEmpty())
+                    return Collections.emptyList();
 
-            teiidVdbs.add(factory.createVdb(vdb));
-        }
+                List<TeiidVdb> teiidVdbs = new ArrayList<>();
+                for (VDB vdb : vdbs) {
+                    if (! isDynamic(vdb))
+                        continue;
 
-        return teiidVdbs;
+                    teiidVdbs.add(factory.createVdb(vdb));
+                }
+
+                return Collections.unmodifiableList(teiidVdbs);
+            }
+        });
     }
 
     @Override
     public TeiidVdb getVdb(String name) throws Exception {
         connect();
 
-        String methodName = "getVDB";
-        Method method;
         VDB vdb;
         if (getVersion().isGreaterThan(Version.TEIID_9_0)) {
-            method = admin.getClass().getMethod(methodName, String.class, String.class);
-            vdb = (VDB) method.invoke(admin, name, "1");
+            vdb = (VDB) invoke(getVdbHandle(), admin, name, "1");
         } else {
-            method = admin.getClass().getMethod(methodName, String.class, int.class);
-            vdb = (VDB) method.invoke(admin, name, 1);
+            vdb = (VDB) invoke(getVdbHandle(), admin, name, 1);
         }
 
         if (vdb == null)
@@ -363,29 +509,69 @@ public class TeiidInstanceImpl extends AbstractTeiidInstance {
 
     @Override
     protected void deploy(String name, InputStream stream) throws Exception {
-        admin.deploy(name, stream);
+        try {
+            admin.deploy(name, stream);
+        } finally {
+            recordDeployment(name);
+            adminCache().invalidate();
+        }
     }
 
     @Override
     protected void undeploy(String name) throws Exception {
-        admin.undeploy(name);
+        try {
+            admin.undeploy(name);
+        } finally {
+            recordDeployment(name);
+            adminCache().invalidate();
+        }
+    }
+
+    /*
+     * Gives the deployment a new stamp so that schemas cached for its previous deployment are no longer used
+     */
+    private void recordDeployment(String deploymentName) {
+        deploymentStamps().record(deploymentName);
+    }
+
+    private DeploymentStamps deploymentStamps() {
+        String hostKey = getHost() + COLON + getTeiidAdminInfo().getPort();
+        DeploymentStamps stamps = DEPLOYMENT_STAMPS.get(hostKey);
+        if (stamps == null) {
+            DeploymentStamps newStamps = new DeploymentStamps();
+            stamps = DEPLOYMENT_STAMPS.putIfAbsent(hostKey, newStamps);
+            if (stamps == null)
+                stamps = newStamps;
+        }
+
+        return stamps;
     }
 
     @Override
-    public String getSchema(String vdbName, String vdbVersion, String modelName) throws Exception {
+    public String getSchema(final String vdbName, final String vdbVersion, final String modelName) throws Exception {
         connect();
 
-        String methodName = "getSchema";
-        Method method;
+        TeiidVdb vdb = getVdb(vdbName);
+        if (vdb == null || vdb.getDeployedName() == null)
+            return loadSchema(vdbName, vdbVersion, modelName);
+
+        String stamp = deploymentStamps().get(vdb.getDeployedName());
+        String key = getHost() + COLON + getTeiidAdminInfo().getPort() + FORWARD_SLASH + vdbName + FORWARD_SLASH + vdbVersion
+                     + FORWARD_SLASH + modelName + FORWARD_SLASH + vdb.getDeployedName() + FORWARD_SLASH + stamp;
+
+        return SchemaCache.getInstance().get(key, new SchemaCache.Loader() {
+
+            @Override
+            public String load() throws Exception {
+                return loadSchema(vdbName, vdbVersion, modelName);
+            }
+        });
+    }
+
+    private String loadSchema(String vdbName, String vdbVersion, String modelName) throws Exception {
         if (getVersion().isGreaterThan(Version.TEIID_9_0)) {
-            method = admin.getClass().getMethod(methodName,
-                                                                                    String.class, String.class, String.class,
-                                                                                    EnumSet.class, String.class);
-            return (String) method.invoke(admin, vdbName, vdbVersion, modelName, null, null);
+            return (String) invoke(getSchemaHandle(), admin, vdbName, vdbVersion, modelName, null, null);
         } else {
-            method = admin.getClass().getMethod(methodName,
-                                                String.class, int.class, String.class,
-                                                EnumSet.class, String.class);
             int version;
             try {
                 version = (int) Double.parseDouble(vdbVersion);
@@ -398,7 +584,7 @@ public class TeiidInstanceImpl extends AbstractTeiidInstance {
                 }
             }
 
-            return (String) method.invoke(admin, vdbName, version, modelName, null, null);
+            return (String) invoke(getSchemaHandle(), admin, vdbName, version, modelName, null, null);
         }
     }
 
@@ -409,17 +595,23 @@ public class TeiidInstanceImpl extends AbstractTeiidInstance {
     }
 
     @Override
-    public Collection<TeiidPropertyDefinition> getTemplatePropertyDefns(String templateName) throws Exception {
+    public Collection<TeiidPropertyDefinition> getTemplatePropertyDefns(final String templateName) throws Exception {
         connect();
-        Collection<? extends PropertyDefinition> propDefs = this.admin.getTemplatePropertyDefinitions(templateName);
-        if (propDefs.isEmpty())
-            return Collections.emptyList();
+        return adminCache().get("templatePropertyDefns/" + templateName, new AdminCache.Loader<Collection<TeiidPropertyDefinition>>() { //$NON-NLS-1$
 
-        List<TeiidPropertyDefinition> teiidPropDefs = new ArrayList<>();
-        for (PropertyDefinition propDef : propDefs) {
-            teiidPropDefs.add(factory.createPropertyDefinition(propDef));
-        }
+            @Override
+            public Collection<TeiidPropertyDefinition> load() throws Exception {
+                Collection<? extends PropertyDefinition> propDefs = admin.getTemplatePropertyDefinitions(templateName);
+                if (propDefs.isEmpty())
+                    return Collections.emptyList();
 
-        return teiidPropDefs;
+                List<TeiidPropertyDefinition> teiidPropDefs = new ArrayList<>();
+                for (PropertyDefinition propDef : propDefs) {
+                    teiidPropDefs.add(factory.createPropertyDefinition(propDef));
+                }
+
+                return Collections.unmodifiableList(teiidPropDefs);
+            }
+        });
     }
 }
@@ -21,6 +21,9 @@
  */
 package org.komodo.teiid.impl;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.jcr.Node;
 import org.komodo.spi.query.QueryService;
 import org.komodo.spi.query.TeiidService;
@@ -37,10 +40,29 @@ import org.teiid.query.sql.lang.Command;
 
 public class TeiidServiceImpl implements TeiidService {
 
+    /**
+     * The maximum number of parsed commands kept by {@link #nodeConvert(String, Object)}
+     */
+    private static final int COMMAND_CACHE_SIZE = 256;
+
     private final TeiidVersion version;
 
     private DataTypeManager dataTypeManager;
 
+    /**
+     * Parsed commands keyed by their sql, least recently used first. A service only
+     * parses sql of its own teiid version so the version is not part of the key.
+     */
+    private final Map<String, Command> commandCache = Collections.synchronizedMap(new LinkedHashMap<String, Command>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Command> eldest) {
+            return size() > COMMAND_CACHE_SIZE;
+        }
+    });
+
     public TeiidServiceImpl() {
         this.version = new DefaultTeiidVersion(ApplicationInfo.getInstance().getReleaseNumber());
     }
@@ -65,15 +87,30 @@ public class TeiidServiceImpl implements TeiidService {
         if (sql == null)
             return;
 
-        QueryParser parser = new QueryParser();
-        Command command = parser.parseDesignerCommand(sql);
-            
         NodeGenerator generator = new NodeGenerator((Node) parent, getDataTypeManager(), getVersion());
-        generator.visitObject(command);
+        generator.visitObject(parse(sql));
         if (generator.errorOccurred())
             throw generator.getError();
     }
 
+    /**
+     * @param sql the sql to parse
+     * @return a command of the sql that is not shared with the cache
+     * @throws Exception if the sql cannot be parsed
+     */
+    Command parse(String sql) throws Exception {
+        Command cached = commandCache.get(sql);
+        if (cached != null)
+            return (Command) cached.clone();
+
+        QueryParser parser = new QueryParser();
+        Command command = parser.parseDesignerCommand(sql);
+
+        // cache a copy since the caller is free to change the returned command
+        commandCache.put(sql, (Command) command.clone());
+        return command;
+    }
+
     @Override
     public TeiidInstance getTeiidInstance(TeiidParent teiidParent, TeiidJdbcInfo jdbcInfo) throws Exception {
         return new TeiidInstanceImpl(teiidParent, getVersion(), jdbcInfo);
@@ -85,6 +122,6 @@ public class TeiidServiceImpl implements TeiidService {
     }
 
     public void dispose() {
-        // Nothing required
+        commandCache.clear();
     }
 }
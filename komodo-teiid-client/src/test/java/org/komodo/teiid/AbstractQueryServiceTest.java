@@ -0,0 +1,161 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.teiid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import org.junit.Before;
+import org.junit.Test;
+import org.komodo.spi.query.QSCursor;
+import org.komodo.spi.query.QueryService;
+import org.komodo.spi.type.DataTypeManager;
+import org.komodo.spi.type.DataTypeManager.DataTypeName;
+
+@SuppressWarnings( {"javadoc", "nls"} )
+public class AbstractQueryServiceTest {
+
+    private static final String[] STATES = { "Florida", "Washington", "Missouri", "Montana" };
+
+    private Connection connection;
+
+    private Statement statement;
+
+    private ResultSet rs;
+
+    private AbstractQueryService queryService;
+
+    @Before
+    public void setup() throws Exception {
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnName(1)).thenReturn("Name");
+        when(metaData.getColumnLabel(1)).thenReturn("Name");
+        when(metaData.getColumnTypeName(1)).thenReturn("string");
+
+        // a result set of all the states, as returned when the server does not page the query
+        rs = mock(ResultSet.class);
+        when(rs.getMetaData()).thenReturn(metaData);
+        when(rs.next()).thenReturn(true, true, true, true, false);
+        when(rs.getObject(1)).thenReturn(STATES[0], STATES[1], STATES[2], STATES[3]);
+
+        statement = mock(Statement.class);
+        when(statement.executeQuery(anyString())).thenReturn(rs);
+
+        connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+
+        DataTypeManager dataTypeManager = mock(DataTypeManager.class);
+        when(dataTypeManager.getDataTypeName("string")).thenReturn(DataTypeName.STRING);
+
+        queryService = new AbstractQueryService(dataTypeManager, "localhost", 31000, "user", "password", false) {
+
+            @Override
+            protected Connection getConnection(String vdb, String host, int port, String user, String password,
+                                               boolean secure) {
+                return connection;
+            }
+        };
+    }
+
+    @Test
+    public void shouldNotPageUnlimitedQuery() {
+        String query = "SELECT * FROM state";
+        assertEquals(query, AbstractQueryService.pageQuery(query, 0, QueryService.NO_LIMIT));
+    }
+
+    @Test
+    public void shouldPushPageIntoSelect() {
+        assertEquals("SELECT * FROM state ORDER BY id LIMIT 4, 10",
+                     AbstractQueryService.pageQuery("SELECT * FROM state ORDER BY id ", 4, 10));
+        assertEquals("select * from state LIMIT 0, 10", AbstractQueryService.pageQuery("select * from state", 0, 10));
+        assertEquals("SELECT * FROM state OFFSET 4 ROWS", AbstractQueryService.pageQuery("SELECT * FROM state", 4, QueryService.NO_LIMIT));
+    }
+
+    @Test
+    public void shouldNotRewriteQueriesThatCannotBePaged() {
+        assertNull(AbstractQueryService.pageQuery("SELECT * FROM state LIMIT 5", 4, 10));
+        assertNull(AbstractQueryService.pageQuery("SELECT * FROM state -- all states", 4, 10));
+        assertNull(AbstractQueryService.pageQuery("EXEC getStates()", 4, 10));
+        assertNull(AbstractQueryService.pageQuery("SELECT * FROM state ORDER BY id;", 4, 10));
+        assertNull(AbstractQueryService.pageQuery("SELECT * FROM state OPTION NOCACHE", 4, 10));
+        assertNull(AbstractQueryService.pageQuery("select * from state option makedep state", 4, QueryService.NO_LIMIT));
+    }
+
+    @Test
+    public void shouldLetServerPageSelect() throws Exception {
+        try (QSCursor cursor = queryService.openCursor("states", "SELECT Name FROM state", 2, 2, 0)) {
+            assertEquals("Name", cursor.getColumns().get(0).getColumnName());
+            assertEquals(STATES[0], cursor.next().getValues().get(0));
+        }
+
+        verify(statement).executeQuery("SELECT Name FROM state LIMIT 1, 2");
+        verify(statement, never()).setMaxRows(anyInt());
+    }
+
+    @Test
+    public void shouldSkipRowsOfQueryThatCannotBePaged() throws Exception {
+        try (QSCursor cursor = queryService.openCursor("states", "EXEC getStates()", 2, 2, 0)) {
+            assertEquals(STATES[1], cursor.next().getValues().get(0));
+            assertEquals(STATES[2], cursor.next().getValues().get(0));
+            assertNull(cursor.next());
+        }
+
+        verify(statement).executeQuery("EXEC getStates()");
+        verify(statement).setMaxRows(3);
+    }
+
+    @Test
+    public void shouldReturnAllRowsWhenUnlimited() throws Exception {
+        try (QSCursor cursor = queryService.openCursor("states", "SELECT Name FROM state", QueryService.NO_OFFSET,
+                                                      QueryService.NO_LIMIT, 0)) {
+            for (String state : STATES) {
+                assertEquals(state, cursor.next().getValues().get(0));
+            }
+
+            assertNull(cursor.next());
+        }
+
+        verify(statement).executeQuery("SELECT Name FROM state");
+    }
+
+    @Test
+    public void shouldReleaseResultsWhenCursorClosed() throws Exception {
+        QSCursor cursor = queryService.openCursor("states", "SELECT Name FROM state", QueryService.NO_OFFSET,
+                                                  QueryService.NO_LIMIT, 5);
+        cursor.close();
+
+        verify(statement).setFetchSize(5);
+        verify(rs).close();
+        verify(statement).close();
+        verify(connection).close();
+    }
+}
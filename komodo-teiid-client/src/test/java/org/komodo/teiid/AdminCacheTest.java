@@ -0,0 +1,110 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.teiid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+@SuppressWarnings( {"javadoc", "nls"} )
+public class AdminCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final AdminCache.Loader<String> loader = () -> "listing" + loads.incrementAndGet();
+
+    @Test
+    public void shouldReturnCachedListing() throws Exception {
+        AdminCache cache = new AdminCache(60000);
+
+        assertEquals("listing1", cache.get("vdbs", loader));
+        assertEquals("listing1", cache.get("vdbs", loader));
+        assertEquals(1, loads.get());
+
+        AdminCache.Statistics stats = cache.getStatistics();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+    }
+
+    @Test
+    public void shouldCacheEachKeySeparately() throws Exception {
+        AdminCache cache = new AdminCache(60000);
+
+        assertEquals("listing1", cache.get("vdbs", loader));
+        assertEquals("listing2", cache.get("translators", loader));
+        assertEquals("listing1", cache.get("vdbs", loader));
+        assertEquals(2, cache.getStatistics().getMisses());
+    }
+
+    @Test
+    public void shouldReloadAfterInvalidate() throws Exception {
+        AdminCache cache = new AdminCache(60000);
+
+        cache.get("vdbs", loader);
+        cache.invalidate();
+
+        assertEquals("listing2", cache.get("vdbs", loader));
+        assertEquals(1, cache.getStatistics().getInvalidations());
+    }
+
+    @Test
+    public void shouldReloadExpiredListing() throws Exception {
+        AdminCache cache = new AdminCache(50);
+
+        cache.get("vdbs", loader);
+        Thread.sleep(100);
+
+        assertEquals("listing2", cache.get("vdbs", loader));
+        assertEquals(0, cache.getStatistics().getHits());
+    }
+
+    @Test
+    public void shouldNotCacheWhenTimeToLiveIsZero() throws Exception {
+        AdminCache cache = new AdminCache(0);
+
+        cache.get("vdbs", loader);
+        cache.get("vdbs", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void shouldNotKeepListingReadDuringInvalidate() throws Exception {
+        AdminCache cache = new AdminCache(60000);
+
+        cache.get("vdbs", () -> {
+            cache.invalidate(); // a deploy finished while the listing was being read
+            return "stale";
+        });
+
+        assertEquals("listing1", cache.get("vdbs", loader));
+    }
+
+    @Test
+    public void shouldShareCacheOfSameHostAndPort() {
+        assertSame(AdminCache.forHost("shared-host", 9990), AdminCache.forHost("shared-host", 9990));
+        assertNotSame(AdminCache.forHost("shared-host", 9990), AdminCache.forHost("shared-host", 9993));
+        assertNotSame(AdminCache.forHost("shared-host", 9990), AdminCache.forHost("other-host", 9990));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.teiid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+@SuppressWarnings( {"javadoc", "nls"} )
+public class ConnectionPoolTest {
+
+    private List<Connection> physical;
+
+    private ConnectionPool pool;
+
+    @Before
+    public void setup() {
+        physical = new ArrayList<>();
+        pool = new ConnectionPool((vdb, host, port, user, password, secure) -> {
+            Connection connection = mock(Connection.class);
+            when(connection.isValid(anyInt())).thenReturn(true);
+            when(connection.getAutoCommit()).thenReturn(true);
+            physical.add(connection);
+            return connection;
+        }, 2, 0);
+    }
+
+    @Test
+    public void shouldReuseReturnedConnection() throws Exception {
+        Connection first = pool.borrow("vdb", "localhost", 31000, "user", "pwd", false);
+        first.close();
+        assertTrue(first.isClosed());
+
+        Connection second = pool.borrow("vdb", "localhost", 31000, "user", "pwd", false);
+        second.close();
+
+        assertEquals(1, physical.size());
+        verify(physical.get(0), never()).close();
+
+        ConnectionPool.Statistics stats = pool.getStatistics();
+        assertEquals(0, stats.getActive());
+        assertEquals(1, stats.getIdle());
+        assertEquals(2, stats.getBorrowed());
+        assertEquals(1, stats.getCreated());
+    }
+
+    @Test
+    public void shouldNotShareConnectionsBetweenCredentials() throws Exception {
+        pool.borrow("vdb", "localhost", 31000, "user", "pwd", false).close();
+        pool.borrow("vdb", "localhost", 31000, "user", "other", false).close();
+        pool.borrow("other", "localhost", 31000, "user", "pwd", false).close();
+
+        assertEquals(3, physical.size());
+    }
+
+    @Test
+    public void shouldDiscardInvalidConnection() throws Exception {
+        pool.borrow("vdb", "localhost", 31000, "user", "pwd", false).close();
+        when(physical.get(0).isValid(anyInt())).thenReturn(false);
+
+        pool.borrow("vdb", "localhost", 31000, "user", "pwd", false).close();
+
+        assertEquals(2, physical.size());
+        verify(physical.get(0)).close();
+    }
+
+    @Test
+    public void shouldCloseConnectionsOfInvalidatedVdb() throws Exception {
+        Connection idle = pool.borrow("vdb", "localhost", 31000, "user", "pwd", false);
+        Connection active = pool.borrow("vdb", "localhost", 31000, "user", "pwd", false);
+        idle.close();
+
+        pool.invalidate("localhost", "vdb");
+        verify(physical.get(0)).close();
+
+        // returned after the invalidation so closed rather than pooled
+        active.close();
+        verify(physical.get(1)).close();
+        assertEquals(0, pool.getStatistics().getIdle());
+    }
+}
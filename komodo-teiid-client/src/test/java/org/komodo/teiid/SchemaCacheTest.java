@@ -0,0 +1,132 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.teiid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.komodo.utils.FileUtils;
+
+@SuppressWarnings( {"javadoc", "nls"} )
+public class SchemaCacheTest {
+
+    private static final String DDL = "CREATE FOREIGN TABLE customers (id integer, name string);";
+
+    private File directory;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final SchemaCache.Loader loader = () -> {
+        loads.incrementAndGet();
+        return DDL;
+    };
+
+    @Before
+    public void setup() throws Exception {
+        directory = Files.createTempDirectory("schema-cache").toFile();
+    }
+
+    @After
+    public void teardown() {
+        FileUtils.removeDirectoryAndChildren(directory);
+    }
+
+    @Test
+    public void shouldAnswerRepeatRequestFromDisk() throws Exception {
+        SchemaCache cache = new SchemaCache(directory, SchemaCache.DEFAULT_MAX_SIZE);
+
+        assertEquals(DDL, cache.get("host:9990/vdb/1/model/vdb-vdb.xml/1", loader));
+        assertEquals(DDL, cache.get("host:9990/vdb/1/model/vdb-vdb.xml/1", loader));
+        assertEquals(1, loads.get());
+
+        SchemaCache.Statistics stats = cache.getStatistics();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getEntries());
+    }
+
+    @Test
+    public void shouldLoadAgainForNewDeployment() throws Exception {
+        SchemaCache cache = new SchemaCache(directory, SchemaCache.DEFAULT_MAX_SIZE);
+
+        cache.get("host:9990/vdb/1/model/vdb-vdb.xml/1", loader);
+        cache.get("host:9990/vdb/1/model/vdb-vdb.xml/2", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void shouldKeepSchemasAcrossInstances() throws Exception {
+        new SchemaCache(directory, SchemaCache.DEFAULT_MAX_SIZE).get("key", loader);
+
+        SchemaCache cache = new SchemaCache(directory, SchemaCache.DEFAULT_MAX_SIZE);
+        assertEquals(DDL, cache.get("key", loader));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void shouldCompressSchemas() throws Exception {
+        StringBuilder ddl = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            ddl.append("CREATE FOREIGN TABLE table").append(i).append(" (id integer, name string);\n");
+        }
+
+        SchemaCache cache = new SchemaCache(directory, SchemaCache.DEFAULT_MAX_SIZE);
+        assertEquals(ddl.toString(), cache.get("key", () -> ddl.toString()));
+        assertTrue(cache.getStatistics().getSize() < ddl.length() / 10);
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedSchema() throws Exception {
+        SchemaCache sizing = new SchemaCache(directory, SchemaCache.DEFAULT_MAX_SIZE);
+        sizing.get("first", loader);
+        long entrySize = sizing.getStatistics().getSize();
+
+        // room for two schemas, the first is already on disk
+        SchemaCache cache = new SchemaCache(directory, entrySize * 2);
+        cache.get("second", loader);
+        cache.get("first", loader);
+        cache.get("third", loader);
+
+        assertEquals(2, cache.getStatistics().getEntries());
+        assertEquals(3, loads.get());
+
+        cache.get("first", loader);
+        assertEquals(3, loads.get());
+
+        cache.get("second", loader);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void shouldNotCacheMissingSchema() throws Exception {
+        SchemaCache cache = new SchemaCache(directory, SchemaCache.DEFAULT_MAX_SIZE);
+
+        cache.get("key", () -> null);
+        assertEquals(0, cache.getStatistics().getEntries());
+    }
+}
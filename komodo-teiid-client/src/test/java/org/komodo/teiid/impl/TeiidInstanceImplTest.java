@@ -0,0 +1,181 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.teiid.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.UUID;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.komodo.spi.constants.SystemConstants;
+import org.komodo.spi.runtime.TeiidJdbcInfo;
+import org.komodo.spi.runtime.TeiidParent;
+import org.komodo.spi.runtime.version.DefaultTeiidVersion.Version;
+import org.komodo.spi.runtime.version.TeiidVersion;
+import org.komodo.test.utils.DummyEventManager;
+import org.teiid.adminapi.Admin;
+import org.teiid.adminapi.Admin.SchemaObjectType;
+import org.teiid.adminapi.impl.VDBMetaData;
+
+@SuppressWarnings( {"javadoc", "nls", "unchecked"} )
+public class TeiidInstanceImplTest {
+
+    private static final String VDB_NAME = "customers";
+
+    private static final String DEPLOYED_NAME = VDB_NAME + "-vdb.xml";
+
+    private static final String MODEL_NAME = "accounts";
+
+    private static final String DDL = "CREATE FOREIGN TABLE customers (id integer, name string);";
+
+    /*
+     * The admin connection is supplied so the parent does not need to be running
+     */
+    private static class MockedTeiidInstance extends TeiidInstanceImpl {
+
+        MockedTeiidInstance(TeiidParent parent, TeiidJdbcInfo jdbcInfo, Admin admin) {
+            super(parent, Version.TEIID_9_1.get(), jdbcInfo, admin);
+        }
+
+        @Override
+        public boolean isParentConnected() {
+            return true;
+        }
+
+        @Override
+        public TeiidVersion getVersion() {
+            return Version.TEIID_9_1.get();
+        }
+    }
+
+    private TeiidParent parent;
+
+    private TeiidJdbcInfo jdbcInfo;
+
+    @BeforeClass
+    public static void setupDataDirectory() throws Exception {
+        if (System.getProperty(SystemConstants.ENGINE_DATA_DIR) == null)
+            System.setProperty(SystemConstants.ENGINE_DATA_DIR, Files.createTempDirectory("komodo-data").toString());
+    }
+
+    @Before
+    public void setup() {
+        //
+        // A host of its own for each test so the state shared by instances of the same host does not leak between tests
+        //
+        parent = mock(TeiidParent.class);
+        when(parent.getHost()).thenReturn("test-" + UUID.randomUUID());
+        when(parent.getPort()).thenReturn(9990);
+        when(parent.getEventManager()).thenReturn(new DummyEventManager());
+
+        jdbcInfo = mock(TeiidJdbcInfo.class);
+        when(jdbcInfo.getHostProvider()).thenReturn(parent);
+    }
+
+    private Admin createAdmin() throws Exception {
+        VDBMetaData vdb = new VDBMetaData();
+        vdb.setName(VDB_NAME);
+        vdb.setVersion(1);
+        vdb.setXmlDeployment(true);
+        vdb.addProperty("deployment-name", DEPLOYED_NAME);
+
+        Admin admin = mock(Admin.class);
+        when(admin.getVDB(anyString(), anyString())).thenReturn(vdb);
+        doReturn(Collections.emptyList()).when(admin).getTranslators();
+        when(admin.getSchema(anyString(), anyString(), anyString(), (EnumSet<SchemaObjectType>) any(), (String) any())).thenReturn(DDL);
+        return admin;
+    }
+
+    private void verifySchemaLoads(Admin admin, int loads) throws Exception {
+        verify(admin, times(loads)).getSchema(anyString(), anyString(), anyString(), (EnumSet<SchemaObjectType>) any(), (String) any());
+    }
+
+    @Test
+    public void shouldShareCachedSchemaBetweenInstancesOfSameHost() throws Exception {
+        Admin admin1 = createAdmin();
+        Admin admin2 = createAdmin();
+        TeiidInstanceImpl instance1 = new MockedTeiidInstance(parent, jdbcInfo, admin1);
+        TeiidInstanceImpl instance2 = new MockedTeiidInstance(parent, jdbcInfo, admin2);
+
+        assertEquals(DDL, instance1.getSchema(VDB_NAME, "1", MODEL_NAME));
+        assertEquals(DDL, instance2.getSchema(VDB_NAME, "1", MODEL_NAME));
+
+        verifySchemaLoads(admin1, 1);
+        verifySchemaLoads(admin2, 0);
+    }
+
+    @Test
+    public void shouldLoadSchemaAgainAfterAnotherInstanceRedeploys() throws Exception {
+        Admin admin1 = createAdmin();
+        Admin admin2 = createAdmin();
+        TeiidInstanceImpl instance1 = new MockedTeiidInstance(parent, jdbcInfo, admin1);
+        TeiidInstanceImpl instance2 = new MockedTeiidInstance(parent, jdbcInfo, admin2);
+
+        instance1.getSchema(VDB_NAME, "1", MODEL_NAME);
+        instance2.deploy(DEPLOYED_NAME, new ByteArrayInputStream(new byte[0]));
+        instance1.getSchema(VDB_NAME, "1", MODEL_NAME);
+
+        verifySchemaLoads(admin1, 2);
+        verifySchemaLoads(admin2, 0);
+    }
+
+    @Test
+    public void shouldShareCachedListingsBetweenInstancesOfSameHost() throws Exception {
+        Admin admin1 = createAdmin();
+        Admin admin2 = createAdmin();
+        TeiidInstanceImpl instance1 = new MockedTeiidInstance(parent, jdbcInfo, admin1);
+        TeiidInstanceImpl instance2 = new MockedTeiidInstance(parent, jdbcInfo, admin2);
+
+        instance1.getTranslators();
+        instance2.getTranslators();
+
+        verify(admin1, times(1)).getTranslators();
+        verify(admin2, times(0)).getTranslators();
+        assertTrue(instance2.getCacheStatistics().contains("admin: hits=1, misses=1, invalidations=0"));
+    }
+
+    @Test
+    public void shouldReloadListingsAfterAnotherInstanceDeploys() throws Exception {
+        Admin admin1 = createAdmin();
+        Admin admin2 = createAdmin();
+        TeiidInstanceImpl instance1 = new MockedTeiidInstance(parent, jdbcInfo, admin1);
+        TeiidInstanceImpl instance2 = new MockedTeiidInstance(parent, jdbcInfo, admin2);
+
+        instance1.getTranslators();
+        instance2.deploy(DEPLOYED_NAME, new ByteArrayInputStream(new byte[0]));
+        instance1.getTranslators();
+
+        verify(admin1, times(2)).getTranslators();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.teiid.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.teiid.query.sql.lang.Command;
+import org.teiid.query.sql.lang.Query;
+import org.teiid.query.sql.symbol.ElementSymbol;
+
+@SuppressWarnings( {"javadoc", "nls"} )
+public class TeiidServiceImplTest {
+
+    private static final String SQL = "SELECT name FROM customers";
+
+    private TeiidServiceImpl service;
+
+    @Before
+    public void setup() {
+        service = new TeiidServiceImpl();
+    }
+
+    @After
+    public void cleanup() {
+        service.dispose();
+    }
+
+    @Test
+    public void shouldReturnEqualCommandsForSameSql() throws Exception {
+        Command first = service.parse(SQL);
+        Command second = service.parse(SQL);
+
+        assertEquals(first, second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void shouldNotShareFirstParsedCommandWithCache() throws Exception {
+        Query first = (Query) service.parse(SQL);
+        first.getSelect().addSymbol(new ElementSymbol("id"));
+
+        assertEquals(SQL, service.parse(SQL).toString());
+    }
+
+    @Test
+    public void shouldCloneCachedCommand() throws Exception {
+        service.parse(SQL);
+
+        Query cached = (Query) service.parse(SQL);
+        cached.getSelect().addSymbol(new ElementSymbol("id"));
+
+        assertEquals(SQL, service.parse(SQL).toString());
+    }
+
+    @Test
+    public void shouldParseDifferentSqlSeparately() throws Exception {
+        service.parse(SQL);
+
+        assertEquals("SELECT id FROM customers", service.parse("SELECT id FROM customers").toString());
+    }
+}
@@ -0,0 +1,537 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import org.komodo.spi.logging.KLogger;
+
+/**
+ * A logger that hands messages to a background thread which writes them using another logger. Logging threads only claim a
+ * slot in a bounded ring buffer, so they never wait on each other or on the log file. The message arguments are formatted by
+ * the background thread, so they should not be changed after being logged.
+ */
+public class AsyncKLogger implements KLogger {
+
+    /**
+     * What to do with a message when the buffer is full.
+     */
+    public enum WhenFull {
+
+        /**
+         * Wait until the background thread has made room for the message.
+         */
+        BLOCK,
+
+        /**
+         * Discard the message. The number of discarded messages is logged as a warning once there is room again.
+         */
+        DROP
+
+    }
+
+    /**
+     * The default number of messages that can be waiting to be written.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos( 10 );
+    private static final long FULL_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos( 50 );
+
+    private enum Kind {
+        DEBUG,
+        ERROR,
+        INFO,
+        TRACE,
+        WARN
+    }
+
+    private static class Message {
+
+        private final Kind kind;
+        private final String message;
+        private final Throwable throwable;
+        private final Object[] args;
+
+        Message( final Kind kind,
+                 final String message,
+                 final Throwable throwable,
+                 final Object[] args ) {
+            this.kind = kind;
+            this.message = message;
+            this.throwable = throwable;
+            this.args = args;
+        }
+
+    }
+
+    private final KLogger delegate;
+    private final WhenFull whenFull;
+    private final Thread writer;
+
+    /*
+     * A bounded multi-producer ring buffer. A slot can be claimed by a producer when its sequence equals the tail position and
+     * can be read by the writer when its sequence is one past the head position.
+     */
+    private final int mask;
+    private final AtomicReferenceArray< Message > slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // only used by the writer thread
+
+    private final AtomicLong dropped = new AtomicLong();
+    private long droppedReported; // only used by the writer thread
+    private volatile long written;
+    private volatile boolean waiting;
+    private volatile boolean running = true;
+
+    // set by dispose, after which messages are no longer put in the buffer
+    private volatile boolean closed;
+
+    // the number of threads that may be putting a message in the buffer
+    private final AtomicInteger producers = new AtomicInteger();
+
+    /**
+     * @param delegate
+     *        the logger that writes the messages (cannot be <code>null</code>)
+     * @param bufferSize
+     *        the number of messages that can be waiting to be written, rounded up to a power of two (must be positive)
+     * @param whenFull
+     *        what to do with a message when the buffer is full (cannot be <code>null</code>)
+     */
+    public AsyncKLogger( final KLogger delegate,
+                         final int bufferSize,
+                         final WhenFull whenFull ) {
+        if ( delegate == null ) {
+            throw new IllegalArgumentException( "delegate" ); //$NON-NLS-1$
+        }
+
+        if ( bufferSize < 1 ) {
+            throw new IllegalArgumentException( "bufferSize" ); //$NON-NLS-1$
+        }
+
+        if ( whenFull == null ) {
+            throw new IllegalArgumentException( "whenFull" ); //$NON-NLS-1$
+        }
+
+        this.delegate = delegate;
+        this.whenFull = whenFull;
+
+        final int capacity = ( bufferSize == 1 ) ? 1 : Integer.highestOneBit( bufferSize - 1 ) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>( capacity );
+        this.sequences = new AtomicLongArray( capacity );
+
+        for ( int i = 0; i < capacity; ++i ) {
+            this.sequences.set( i, i );
+        }
+
+        this.writer = new Thread( new Runnable() {
+
+            @Override
+            public void run() {
+                drain();
+            }
+
+        }, "komodo-log-writer" ); //$NON-NLS-1$
+        this.writer.setDaemon( true );
+        this.writer.start();
+    }
+
+    /**
+     * @return the number of messages discarded because the buffer was full
+     */
+    public long getDroppedCount() {
+        return this.dropped.get();
+    }
+
+    /**
+     * Waits until the messages logged before this call have been written.
+     */
+    public void flush() {
+        if ( Thread.currentThread() == this.writer ) {
+            return;
+        }
+
+        final long target = this.tail.get();
+
+        while ( ( this.written < target ) && this.writer.isAlive() ) {
+            LockSupport.unpark( this.writer );
+            LockSupport.parkNanos( this, FULL_WAIT_NANOS );
+        }
+    }
+
+    private boolean offer( final Message message ) {
+        long pos = this.tail.get();
+
+        while ( true ) {
+            final int index = ( int )( pos & this.mask );
+            final long diff = this.sequences.get( index ) - pos;
+
+            if ( diff == 0 ) {
+                if ( this.tail.compareAndSet( pos, pos + 1 ) ) {
+                    this.slots.lazySet( index, message );
+                    this.sequences.set( index, pos + 1 );
+                    return true;
+                }
+            } else if ( diff < 0 ) {
+                return false; // the writer has not read this slot yet
+            }
+
+            pos = this.tail.get();
+        }
+    }
+
+    private Message poll() {
+        final int index = ( int )( this.head & this.mask );
+
+        if ( this.sequences.get( index ) != ( this.head + 1 ) ) {
+            return null;
+        }
+
+        final Message message = this.slots.get( index );
+        this.slots.lazySet( index, null );
+        this.sequences.set( index, this.head + this.mask + 1 );
+        ++this.head;
+        return message;
+    }
+
+    private void enqueue( final Kind kind,
+                          final String message,
+                          final Throwable throwable,
+                          final Object[] args ) {
+        final Message msg = new Message( kind, message, throwable, args );
+
+        if ( Thread.currentThread() == this.writer ) {
+            write( msg ); // the delegate is logging about itself
+            return;
+        }
+
+        this.producers.incrementAndGet();
+
+        try {
+            if ( this.closed || !this.writer.isAlive() ) {
+                write( msg ); // nothing is left to write the buffer
+                return;
+            }
+
+            while ( !offer( msg ) ) {
+                if ( this.whenFull == WhenFull.DROP ) {
+                    this.dropped.incrementAndGet();
+                    return;
+                }
+
+                LockSupport.unpark( this.writer );
+                LockSupport.parkNanos( this, FULL_WAIT_NANOS );
+            }
+        } finally {
+            this.producers.decrementAndGet();
+        }
+
+        if ( this.waiting ) {
+            LockSupport.unpark( this.writer );
+        }
+    }
+
+    private void drain() {
+        while ( true ) {
+            final Message message = poll();
+
+            if ( message == null ) {
+                if ( !this.running && ( this.head == this.tail.get() ) ) {
+                    return; // disposed once everything logged before it was written
+                }
+
+                this.waiting = true;
+
+                if ( this.sequences.get( ( int )( this.head & this.mask ) ) != ( this.head + 1 ) ) {
+                    LockSupport.parkNanos( this, IDLE_WAIT_NANOS );
+                }
+
+                this.waiting = false;
+                continue;
+            }
+
+            write( message );
+            this.written = this.head;
+
+            final long lost = this.dropped.get();
+
+            if ( lost != this.droppedReported ) {
+                write( new Message( Kind.WARN,
+                                    "{0} log messages were dropped because the log buffer was full", //$NON-NLS-1$
+                                    null,
+                                    new Object[] { ( lost - this.droppedReported ) } ) );
+                this.droppedReported = lost;
+            }
+        }
+    }
+
+    private void write( final Message msg ) {
+        try {
+            switch ( msg.kind ) {
+                case DEBUG:
+                    if ( msg.throwable == null ) {
+                        this.delegate.debug( msg.message, msg.args );
+                    } else {
+                        this.delegate.debug( msg.message, msg.throwable, msg.args );
+                    }
+                    break;
+                case ERROR:
+                    if ( msg.throwable == null ) {
+                        this.delegate.error( msg.message, msg.args );
+                    } else {
+                        this.delegate.error( msg.message, msg.throwable, msg.args );
+                    }
+                    break;
+                case INFO:
+                    if ( msg.throwable == null ) {
+                        this.delegate.info( msg.message, msg.args );
+                    } else {
+                        this.delegate.info( msg.message, msg.throwable, msg.args );
+                    }
+                    break;
+                case TRACE:
+                    if ( msg.throwable == null ) {
+                        this.delegate.trace( msg.message, msg.args );
+                    } else {
+                        this.delegate.trace( msg.message, msg.throwable, msg.args );
+                    }
+                    break;
+                case WARN:
+                    if ( msg.throwable == null ) {
+                        this.delegate.warn( msg.message, msg.args );
+                    } else {
+                        this.delegate.warn( msg.message, msg.throwable, msg.args );
+                    }
+                    break;
+                default:
+                    break;
+            }
+        } catch ( final RuntimeException e ) {
+            // one bad message must not stop the writer
+        }
+    }
+
+    /**
+     * Closes the buffer to new messages, waits for the writer thread to write the messages already in it and stop, and then
+     * disposes of the delegate logger. Messages logged once the buffer is closed are written by the thread logging them.
+     *
+     * @see org.komodo.spi.logging.KLogger#dispose()
+     */
+    @Override
+    public void dispose() {
+        this.closed = true;
+
+        // threads that saw the buffer open finish putting their messages in it
+        while ( this.producers.get() != 0 ) {
+            LockSupport.unpark( this.writer );
+            LockSupport.parkNanos( this, FULL_WAIT_NANOS );
+        }
+
+        this.running = false;
+
+        if ( Thread.currentThread() != this.writer ) {
+            LockSupport.unpark( this.writer );
+
+            try {
+                this.writer.join();
+            } catch ( final InterruptedException e ) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        this.delegate.dispose();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.logging.KLogger#getLogPath()
+     */
+    @Override
+    public String getLogPath() throws Exception {
+        return this.delegate.getLogPath();
+    }
+
+    /**
+     * Writes the waiting messages to the current log path before changing it.
+     *
+     * @see org.komodo.spi.logging.KLogger#setLogPath(java.lang.String)
+     */
+    @Override
+    public void setLogPath( final String logPath ) throws Exception {
+        flush();
+        this.delegate.setLogPath( logPath );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.logging.KLogger#setLevel(java.util.logging.Level)
+     */
+    @Override
+    public void setLevel( final Level level ) throws Exception {
+        this.delegate.setLevel( level );
+    }
+
+    @Override
+    public void info( final String message,
+                      final Object... args ) {
+        if ( isInfoEnabled() ) {
+            enqueue( Kind.INFO, message, null, args );
+        }
+    }
+
+    @Override
+    public void info( final String message,
+                      final Throwable throwable,
+                      final Object... args ) {
+        if ( isInfoEnabled() ) {
+            enqueue( Kind.INFO, message, throwable, args );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.logging.KLogger#isInfoEnabled()
+     */
+    @Override
+    public boolean isInfoEnabled() {
+        return this.delegate.isInfoEnabled();
+    }
+
+    @Override
+    public void warn( final String message,
+                      final Object... args ) {
+        if ( isWarnEnabled() ) {
+            enqueue( Kind.WARN, message, null, args );
+        }
+    }
+
+    @Override
+    public void warn( final String message,
+                      final Throwable throwable,
+                      final Object... args ) {
+        if ( isWarnEnabled() ) {
+            enqueue( Kind.WARN, message, throwable, args );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.logging.KLogger#isWarnEnabled()
+     */
+    @Override
+    public boolean isWarnEnabled() {
+        return this.delegate.isWarnEnabled();
+    }
+
+    @Override
+    public void error( final String message,
+                       final Object... args ) {
+        if ( isErrorEnabled() ) {
+            enqueue( Kind.ERROR, message, null, args );
+        }
+    }
+
+    @Override
+    public void error( final String message,
+                       final Throwable throwable,
+                       final Object... args ) {
+        if ( isErrorEnabled() ) {
+            enqueue( Kind.ERROR, message, throwable, args );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.logging.KLogger#isErrorEnabled()
+     */
+    @Override
+    public boolean isErrorEnabled() {
+        return this.delegate.isErrorEnabled();
+    }
+
+    @Override
+    public void debug( final String message,
+                       final Object... args ) {
+        if ( isDebugEnabled() ) {
+            enqueue( Kind.DEBUG, message, null, args );
+        }
+    }
+
+    @Override
+    public void debug( final String message,
+                       final Throwable throwable,
+                       final Object... args ) {
+        if ( isDebugEnabled() ) {
+            enqueue( Kind.DEBUG, message, throwable, args );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.logging.KLogger#isDebugEnabled()
+     */
+    @Override
+    public boolean isDebugEnabled() {
+        return this.delegate.isDebugEnabled();
+    }
+
+    @Override
+    public void trace( final String message,
+                       final Object... args ) {
+        if ( isTraceEnabled() ) {
+            enqueue( Kind.TRACE, message, null, args );
+        }
+    }
+
+    @Override
+    public void trace( final String message,
+                       final Throwable throwable,
+                       final Object... args ) {
+        if ( isTraceEnabled() ) {
+            enqueue( Kind.TRACE, message, throwable, args );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.komodo.spi.logging.KLogger#isTraceEnabled()
+     */
+    @Override
+    public boolean isTraceEnabled() {
+        return this.delegate.isTraceEnabled();
+    }
+
+}
@@ -33,7 +33,7 @@ import org.modeshape.common.logging.Logger;
  */
 public class ModeshapeKLogger implements KLogger {
 
-    private Logger logger;
+    private volatile Logger logger;
 
     @Override
     public void dispose() {
@@ -117,7 +117,7 @@ public class ModeshapeKLogger implements KLogger {
      */
     @Override
     public boolean isWarnEnabled() {
-        return isWarnEnabled();
+        return getLogger().isWarnEnabled();
     }
 
     @Override
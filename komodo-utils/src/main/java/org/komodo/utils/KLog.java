@@ -21,24 +21,27 @@
  */
 package org.komodo.utils;
 
+import java.util.Locale;
 import java.util.logging.Level;
+import org.komodo.logging.AsyncKLogger;
+import org.komodo.logging.AsyncKLogger.WhenFull;
 import org.komodo.logging.ModeshapeKLogger;
+import org.komodo.spi.constants.SystemConstants;
 import org.komodo.spi.logging.KLogger;
 
 /**
- *
+ * The Komodo logger. Logging does not lock, and the level is checked before a message is passed on so disabled messages cost
+ * only the check. Setting the {@link SystemConstants#LOG_ASYNC} system property to <code>true</code> writes messages on a
+ * background thread.
  */
 public class KLog implements KLogger {
 
-    private static KLog instance;
+    private static final KLog instance = new KLog();
 
     /**
      * @return singleton instance of this logger
      */
     public static KLog getLogger() {
-        if (instance == null)
-            instance = new KLog();
-
         return instance;
     }
 
@@ -48,7 +51,19 @@ public class KLog implements KLogger {
      *
      */
     private KLog() {
-        kLogger = new ModeshapeKLogger();
+        final KLogger logger = new ModeshapeKLogger();
+
+        if (Boolean.getBoolean(SystemConstants.LOG_ASYNC)) {
+            final int bufferSize = Integer.getInteger(SystemConstants.LOG_BUFFER_SIZE, AsyncKLogger.DEFAULT_BUFFER_SIZE);
+            final String full = System.getProperty(SystemConstants.LOG_WHEN_FULL, WhenFull.BLOCK.name());
+            WhenFull whenFull = WhenFull.BLOCK;
+
+            if (WhenFull.DROP.name().equals(full.toUpperCase(Locale.ENGLISH)))
+                whenFull = WhenFull.DROP;
+
+            kLogger = new AsyncKLogger(logger, Math.max(1, bufferSize), whenFull);
+        } else
+            kLogger = logger;
     }
 
     @Override
@@ -78,16 +93,18 @@ public class KLog implements KLogger {
      * @see org.komodo.spi.logging.KLogger#info(java.lang.String, java.lang.Object[])
      */
     @Override
-    public synchronized void info(String message, Object... args) {
-        kLogger.info(message, args);
+    public void info(String message, Object... args) {
+        if (kLogger.isInfoEnabled())
+            kLogger.info(message, args);
     }
 
     /* (non-Javadoc)
      * @see org.komodo.spi.logging.KLogger#info(java.lang.String, java.lang.Throwable, java.lang.Object[])
      */
     @Override
-    public synchronized void info(String message, Throwable throwable, Object... args) {
-        kLogger.info(message, throwable, args);
+    public void info(String message, Throwable throwable, Object... args) {
+        if (kLogger.isInfoEnabled())
+            kLogger.info(message, throwable, args);
     }
 
     /**
@@ -104,16 +121,18 @@ public class KLog implements KLogger {
      * @see org.komodo.spi.logging.KLogger#warn(java.lang.String, java.lang.Object[])
      */
     @Override
-    public synchronized void warn(String message, Object... args) {
-        kLogger.warn(message, args);
+    public void warn(String message, Object... args) {
+        if (kLogger.isWarnEnabled())
+            kLogger.warn(message, args);
     }
 
     /* (non-Javadoc)
      * @see org.komodo.spi.logging.KLogger#warn(java.lang.String, java.lang.Throwable, java.lang.Object[])
      */
     @Override
-    public synchronized void warn(String message, Throwable throwable, Object... args) {
-        kLogger.warn(message, throwable, args);
+    public void warn(String message, Throwable throwable, Object... args) {
+        if (kLogger.isWarnEnabled())
+            kLogger.warn(message, throwable, args);
     }
 
     /**
@@ -130,16 +149,18 @@ public class KLog implements KLogger {
      * @see org.komodo.spi.logging.KLogger#error(java.lang.String, java.lang.Object[])
      */
     @Override
-    public synchronized void error(String message, Object... args) {
-        kLogger.error(message, args);
+    public void error(String message, Object... args) {
+        if (kLogger.isErrorEnabled())
+            kLogger.error(message, args);
     }
 
     /* (non-Javadoc)
      * @see org.komodo.spi.logging.KLogger#error(java.lang.String, java.lang.Throwable, java.lang.Object[])
      */
     @Override
-    public synchronized void error(String message, Throwable throwable, Object... args) {
-        kLogger.error(message, throwable, args);
+    public void error(String message, Throwable throwable, Object... args) {
+        if (kLogger.isErrorEnabled())
+            kLogger.error(message, throwable, args);
     }
 
     /**
@@ -156,16 +177,18 @@ public class KLog implements KLogger {
      * @see org.komodo.spi.logging.KLogger#debug(java.lang.String, java.lang.Object[])
      */
     @Override
-    public synchronized void debug(String message, Object... args) {
-        kLogger.debug(message, args);
+    public void debug(String message, Object... args) {
+        if (kLogger.isDebugEnabled())
+            kLogger.debug(message, args);
     }
 
     /* (non-Javadoc)
      * @see org.komodo.spi.logging.KLogger#debug(java.lang.String, java.lang.Throwable, java.lang.Object[])
      */
     @Override
-    public synchronized void debug(String message, Throwable throwable, Object... args) {
-        kLogger.debug(message, throwable, args);
+    public void debug(String message, Throwable throwable, Object... args) {
+        if (kLogger.isDebugEnabled())
+            kLogger.debug(message, throwable, args);
     }
 
     /**
@@ -182,16 +205,18 @@ public class KLog implements KLogger {
      * @see org.komodo.spi.logging.KLogger#trace(java.lang.String, java.lang.Object[])
      */
     @Override
-    public synchronized void trace(String message, Object... args) {
-        kLogger.trace(message, args);
+    public void trace(String message, Object... args) {
+        if (kLogger.isTraceEnabled())
+            kLogger.trace(message, args);
     }
 
     /* (non-Javadoc)
      * @see org.komodo.spi.logging.KLogger#trace(java.lang.String, java.lang.Throwable, java.lang.Object[])
      */
     @Override
-    public synchronized void trace(String message, Throwable throwable, Object... args) {
-        kLogger.trace(message, throwable, args);
+    public void trace(String message, Throwable throwable, Object... args) {
+        if (kLogger.isTraceEnabled())
+            kLogger.trace(message, throwable, args);
     }
 
     /**
@@ -0,0 +1,341 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import org.junit.After;
+import org.junit.Test;
+import org.komodo.logging.AsyncKLogger;
+import org.komodo.logging.AsyncKLogger.WhenFull;
+import org.komodo.spi.logging.KLogger;
+
+@SuppressWarnings( {"javadoc", "nls"} )
+public class TestAsyncKLogger {
+
+    /**
+     * Records the messages it is asked to log. The first message can be held until released.
+     */
+    private static class RecordingLogger implements KLogger {
+
+        private final List< String > infos = Collections.synchronizedList( new ArrayList< String >() );
+        private final List< String > warnings = Collections.synchronizedList( new ArrayList< String >() );
+        private final CountDownLatch writing = new CountDownLatch( 1 );
+        private final CountDownLatch release;
+        private boolean debugEnabled = true;
+
+        RecordingLogger( final boolean hold ) {
+            this.release = new CountDownLatch( hold ? 1 : 0 );
+        }
+
+        private void record( final List< String > messages,
+                             final String message,
+                             final Object... args ) {
+            this.writing.countDown();
+
+            try {
+                this.release.await( 10, TimeUnit.SECONDS );
+            } catch ( final InterruptedException e ) {
+                Thread.currentThread().interrupt();
+            }
+
+            messages.add( ( args.length == 0 ) ? message : message.replace( "{0}", String.valueOf( args[ 0 ] ) ) );
+        }
+
+        @Override
+        public void dispose() {
+        }
+
+        @Override
+        public String getLogPath() {
+            return null;
+        }
+
+        @Override
+        public void setLogPath( final String logPath ) {
+        }
+
+        @Override
+        public void setLevel( final Level level ) {
+        }
+
+        @Override
+        public void info( final String message,
+                          final Object... args ) {
+            record( this.infos, message, args );
+        }
+
+        @Override
+        public void info( final String message,
+                          final Throwable throwable,
+                          final Object... args ) {
+            record( this.infos, message, args );
+        }
+
+        @Override
+        public boolean isInfoEnabled() {
+            return true;
+        }
+
+        @Override
+        public void warn( final String message,
+                          final Object... args ) {
+            record( this.warnings, message, args );
+        }
+
+        @Override
+        public void warn( final String message,
+                          final Throwable throwable,
+                          final Object... args ) {
+            record( this.warnings, message, args );
+        }
+
+        @Override
+        public boolean isWarnEnabled() {
+            return true;
+        }
+
+        @Override
+        public void error( final String message,
+                           final Object... args ) {
+        }
+
+        @Override
+        public void error( final String message,
+                           final Throwable throwable,
+                           final Object... args ) {
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+            return true;
+        }
+
+        @Override
+        public void debug( final String message,
+                           final Object... args ) {
+            record( this.infos, message, args );
+        }
+
+        @Override
+        public void debug( final String message,
+                           final Throwable throwable,
+                           final Object... args ) {
+            record( this.infos, message, args );
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+            return this.debugEnabled;
+        }
+
+        @Override
+        public void trace( final String message,
+                           final Object... args ) {
+        }
+
+        @Override
+        public void trace( final String message,
+                           final Throwable throwable,
+                           final Object... args ) {
+        }
+
+        @Override
+        public boolean isTraceEnabled() {
+            return false;
+        }
+
+    }
+
+    private AsyncKLogger logger;
+
+    private static int countWriters() {
+        int count = 0;
+
+        for ( final Thread thread : Thread.getAllStackTraces().keySet() ) {
+            if ( "komodo-log-writer".equals( thread.getName() ) ) {
+                ++count;
+            }
+        }
+
+        return count;
+    }
+
+    @After
+    public void dispose() {
+        if ( this.logger != null ) {
+            this.logger.dispose();
+            this.logger = null;
+        }
+    }
+
+    @Test
+    public void shouldWriteMessagesInOrder() throws Exception {
+        final RecordingLogger delegate = new RecordingLogger( false );
+        logger = new AsyncKLogger( delegate, 4, WhenFull.BLOCK );
+
+        for ( int i = 0; i < 100; ++i ) {
+            logger.info( "message {0}", i );
+        }
+
+        logger.flush();
+        assertEquals( 100, delegate.infos.size() );
+
+        for ( int i = 0; i < 100; ++i ) {
+            assertEquals( "message " + i, delegate.infos.get( i ) );
+        }
+
+        assertEquals( 0, logger.getDroppedCount() );
+    }
+
+    @Test
+    public void shouldNotQueueDisabledMessages() throws Exception {
+        final RecordingLogger delegate = new RecordingLogger( false );
+        delegate.debugEnabled = false;
+        logger = new AsyncKLogger( delegate, 4, WhenFull.BLOCK );
+
+        logger.debug( "hidden" );
+        logger.info( "shown" );
+        logger.flush();
+
+        assertEquals( Collections.singletonList( "shown" ), delegate.infos );
+    }
+
+    @Test
+    public void shouldDropMessagesWhenFull() throws Exception {
+        final RecordingLogger delegate = new RecordingLogger( true );
+        logger = new AsyncKLogger( delegate, 2, WhenFull.DROP );
+
+        logger.info( "first" );
+        assertTrue( delegate.writing.await( 10, TimeUnit.SECONDS ) ); // the writer is now held on the first message
+
+        for ( int i = 0; i < 5; ++i ) {
+            logger.info( "next {0}", i );
+        }
+
+        assertEquals( 3, logger.getDroppedCount() );
+
+        delegate.release.countDown();
+        logger.flush();
+
+        assertEquals( 3, delegate.infos.size() );
+        assertEquals( "first", delegate.infos.get( 0 ) );
+        assertEquals( "next 0", delegate.infos.get( 1 ) );
+        assertEquals( "next 1", delegate.infos.get( 2 ) );
+    }
+
+    @Test
+    public void shouldBlockUntilThereIsRoom() throws Exception {
+        final RecordingLogger delegate = new RecordingLogger( true );
+        logger = new AsyncKLogger( delegate, 2, WhenFull.BLOCK );
+
+        logger.info( "first" );
+        assertTrue( delegate.writing.await( 10, TimeUnit.SECONDS ) );
+
+        final Thread producer = new Thread( new Runnable() {
+
+            @Override
+            public void run() {
+                for ( int i = 0; i < 5; ++i ) {
+                    logger.info( "next {0}", i );
+                }
+            }
+
+        } );
+        producer.start();
+        producer.join( 200 );
+        assertTrue( producer.isAlive() ); // waiting for room in the buffer
+
+        delegate.release.countDown();
+        producer.join( 10000 );
+        logger.flush();
+
+        assertEquals( 6, delegate.infos.size() );
+        assertEquals( 0, logger.getDroppedCount() );
+    }
+
+    @Test
+    public void shouldStopWriterWhenDisposed() throws Exception {
+        final int writersBefore = countWriters();
+        final RecordingLogger delegate = new RecordingLogger( false );
+        logger = new AsyncKLogger( delegate, 4, WhenFull.BLOCK );
+        assertEquals( writersBefore + 1, countWriters() );
+
+        logger.info( "before" );
+        logger.dispose();
+        assertEquals( writersBefore, countWriters() );
+        assertEquals( Collections.singletonList( "before" ), delegate.infos );
+
+        // written by the logging thread once there is no writer
+        logger.info( "after" );
+        assertEquals( 2, delegate.infos.size() );
+        logger = null;
+    }
+
+    @Test
+    public void shouldNotLoseMessagesLoggedWhileDisposing() throws Exception {
+        final RecordingLogger delegate = new RecordingLogger( false );
+        logger = new AsyncKLogger( delegate, 4, WhenFull.BLOCK );
+
+        final int producerCount = 4;
+        final int messageCount = 1000;
+        final CountDownLatch started = new CountDownLatch( producerCount );
+        final List< Thread > producers = new ArrayList<>();
+
+        for ( int i = 0; i < producerCount; ++i ) {
+            final Thread producer = new Thread( new Runnable() {
+
+                @Override
+                public void run() {
+                    started.countDown();
+
+                    for ( int j = 0; j < messageCount; ++j ) {
+                        logger.info( "message {0}", j );
+                    }
+                }
+
+            } );
+            producers.add( producer );
+            producer.start();
+        }
+
+        assertTrue( started.await( 10, TimeUnit.SECONDS ) );
+        final AsyncKLogger disposed = logger;
+        disposed.dispose();
+
+        for ( final Thread producer : producers ) {
+            producer.join( 10000 );
+        }
+
+        // every message was either written before the writer stopped or by its own thread afterwards
+        assertEquals( producerCount * messageCount, delegate.infos.size() );
+        assertEquals( 0, disposed.getDroppedCount() );
+        logger = null;
+    }
+
+}
@@ -25,10 +25,14 @@ package org.komodo.storage.file;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import java.io.File;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Properties;
 import org.junit.After;
 import org.junit.Before;
@@ -40,7 +44,9 @@ import org.komodo.spi.repository.Repository.UnitOfWork.State;
 import org.komodo.spi.storage.StorageConnector;
 import org.komodo.spi.storage.StorageTree;
 import org.komodo.test.utils.TestUtilities;
-import org.komodo.utils.FileUtils;;
+import org.komodo.utils.FileUtils;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 public class TestFileStorageConnector implements StringConstants {
 
@@ -60,6 +66,23 @@ public class TestFileStorageConnector implements StringConstants {
 
     private FileStorageConnector connector;
 
+    private static void mockExport(final Exportable artifact,
+                                   final UnitOfWork transaction,
+                                   final Properties parameters,
+                                   final byte[] content) throws Exception {
+        when(artifact.export(transaction, parameters)).thenReturn(content);
+        doAnswer(new Answer<Void>() {
+
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                OutputStream stream = (OutputStream) invocation.getArguments()[2];
+                stream.write(content);
+                return null;
+            }
+
+        }).when(artifact).export(eq(transaction), eq(parameters), any(OutputStream.class));
+    }
+
     @Before
     public void setup() throws Exception {
         String tmpDirPath = System.getProperty("java.io.tmpdir");
@@ -188,7 +211,7 @@ public class TestFileStorageConnector implements StringConstants {
 
         Exportable artifact = mock(Exportable.class);
         String sampleExample = TestUtilities.streamToString(TestUtilities.sampleExample());
-        when(artifact.export(transaction, parameters)).thenReturn(sampleExample.getBytes());
+        mockExport(artifact, transaction, parameters, sampleExample.getBytes());
         when(artifact.getName(transaction)).thenReturn(TestUtilities.SAMPLE_VDB_FILE);
 
         connector.write(artifact, transaction, parameters);
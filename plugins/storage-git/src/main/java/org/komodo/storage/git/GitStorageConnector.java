@@ -21,17 +21,26 @@
  */
 package org.komodo.storage.git;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.RebaseResult;
 import org.eclipse.jgit.api.RebaseResult.Status;
@@ -274,10 +283,204 @@ public class GitStorageConnector implements StorageConnector {
         }
     }
 
+    /**
+     * An open repository. Connectors with the same destination share the handle so the
+     * repository is opened once and access to its working tree is serialized.
+     */
+    private static class RepositoryHandle {
+
+        private final Git git;
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        RepositoryHandle(Git git) {
+            this.git = git;
+        }
+
+        boolean isValid() {
+            return git.getRepository().getDirectory().exists();
+        }
+    }
+
+    /**
+     * Open repositories keyed by the absolute path of their destination
+     */
+    private static final Map<String, RepositoryHandle> HANDLES = new HashMap<>();
+
+    /**
+     * Writes artifacts to the repository as a single commit and push.
+     * The repository is locked until the batch is closed so a batch should always
+     * be used in a try-with-resources block.
+     *
+     * @see GitStorageConnector#beginBatch(Properties)
+     */
+    private class WriteBatch implements AutoCloseable {
+
+        private final RepositoryHandle handle;
+
+        private final Properties batchParameters;
+
+        private final String timestamp;
+
+        private final List<String> artifactNames = new ArrayList<>();
+
+        private String branchName;
+
+        private boolean closed;
+
+        private WriteBatch(RepositoryHandle handle, Properties batchParameters) {
+            this.handle = handle;
+            this.batchParameters = batchParameters;
+
+            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss_SSS");
+            this.timestamp = sdf.format(new Date());
+        }
+
+        private void checkOpen() {
+            ArgCheck.isTrue(! closed, "batch is closed");
+        }
+
+        /**
+         * Exports the artifact into the working tree and stages it. Nothing is committed
+         * until {@link #commit()} is called.
+         *
+         * @param artifact the artifact to write
+         * @param transaction the transaction
+         * @param parameters the parameters of the artifact, including its file path
+         * @throws Exception if error occurs
+         */
+        public void write(Exportable artifact, UnitOfWork transaction, Properties parameters) throws Exception {
+            checkOpen();
+            ArgCheck.isNotNull(parameters);
+            String destination = getFilePath(parameters);
+            ArgCheck.isNotEmpty(destination);
+
+            String artifactName = artifact.getName(transaction);
+
+            if (branchName == null) {
+                //
+                // Checkout a throw away branch for committing then
+                // to be merged back onto main.
+                //
+                branchName = artifactName + HYPHEN + timestamp;
+                git.checkout()
+                    .setName(branchName)
+                    .setCreateBranch(true)
+                    .setForce(true)
+                    .setStartPoint(getBranch())
+                    .call();
+            }
+
+            destination = exportToWorkTree(artifact, transaction, parameters, destination);
+
+            // Stage the file(s) for committing
+            git.add()
+                .addFilepattern(destination)
+                .call();
+
+            artifactNames.add(artifactName);
+        }
+
+        /**
+         * Commits the staged artifacts, merges them into the main branch and pushes the change
+         * back to the remote. The batch is closed afterwards.
+         *
+         * @throws Exception if error occurs
+         */
+        public void commit() throws Exception {
+            checkOpen();
+
+            try {
+                if (artifactNames.isEmpty())
+                    return;
+
+                //
+                // Commit the file(s)
+                //
+                String author = batchParameters.getProperty(GitStorageConnector.AUTHOR_NAME_PROPERTY, "anonymous");
+                String authorEmail = batchParameters.getProperty(GitStorageConnector.AUTHOR_EMAIL_PROPERTY, "anon@komodo.org");
+                String message = artifactNames.size() == 1 ?
+                                                "Change to artifact " + artifactNames.get(0) + " at " + timestamp :
+                                                "Change to artifacts " + String.join(COMMA + SPACE, artifactNames) + " at " + timestamp;
+
+                RevCommit mergeCommit = git.commit()
+                                                                        .setAuthor(author, authorEmail)
+                                                                        .setCommitter(author, authorEmail)
+                                                                        .setMessage(message)
+                                                                        .call();
+
+                //
+                // Commit was successful
+                // so checkout the main branch
+                //
+                git.checkout()
+                    .setName(getBranch())
+                    .setForce(true)
+                    .call();
+
+                //
+                // Ensure the later push would succeed by refreshing now
+                //
+                refresh();
+
+                //
+                // Merge the branch into the main branch
+                //
+                git.merge()
+                    .include(mergeCommit)
+                    .call();
+
+                //
+                // Push the change back to the remote
+                //
+                git.push()
+                    .setTransportConfigCallback(transportConfigCallback)
+                    .call();
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * Discards anything not yet committed, removes the throw away branch and
+         * releases the repository.
+         */
+        @Override
+        public void close() throws Exception {
+            if (closed)
+                return;
+
+            closed = true;
+
+            try {
+                if (branchName != null) {
+                    git.checkout()
+                        .setName(getBranch())
+                        .setForce(true)
+                        .call();
+
+                    // Remove any files exported by an uncommitted batch
+                    git.clean()
+                        .setCleanDirectories(true)
+                        .call();
+
+                    git.branchDelete()
+                        .setBranchNames(branchName)
+                        .setForce(true)
+                        .call();
+                }
+            } finally {
+                handle.lock.unlock();
+            }
+        }
+    }
+
     private final Properties parameters;
 
     private final StorageConnectorId id;
 
+    private RepositoryHandle handle;
+
     private Git git;
 
     private final CustomTransportConfigCallback transportConfigCallback;
@@ -313,18 +516,40 @@ public class GitStorageConnector implements StorageConnector {
         filesForDisposal .add(disposalFile.getAbsolutePath());
     }
 
-    private void cloneRepository() throws Exception {
+    private RepositoryHandle openRepository() throws Exception {
+        if (handle != null && handle.isValid())
+            return handle;
+
         File destination = new File(getDestination());
-        File destGitDir = new File(destination, ".git");
-        if (destGitDir.exists()) {
-            git = Git.open(destination);
-        } else {
-            git = Git.cloneRepository()
-                            .setURI(getPath())
-                            .setDirectory(destination)
-                            .setTransportConfigCallback(transportConfigCallback)
-                            .call();
+        String key = destination.getAbsolutePath();
+
+        synchronized (HANDLES) {
+            RepositoryHandle existing = HANDLES.get(key);
+            if (existing == null || ! existing.isValid()) {
+                if (existing != null)
+                    existing.git.close();
+
+                File destGitDir = new File(destination, ".git");
+                Git newGit;
+                if (destGitDir.exists()) {
+                    newGit = Git.open(destination);
+                } else {
+                    newGit = Git.cloneRepository()
+                                    .setURI(getPath())
+                                    .setDirectory(destination)
+                                    .setTransportConfigCallback(transportConfigCallback)
+                                    .call();
+                }
+
+                existing = new RepositoryHandle(newGit);
+                HANDLES.put(key, existing);
+            }
+
+            handle = existing;
+            git = existing.git;
         }
+
+        return handle;
     }
 
     @Override
@@ -381,24 +606,57 @@ public class GitStorageConnector implements StorageConnector {
 
     @Override
     public boolean refresh() throws Exception {
-        cloneRepository();
-        ArgCheck.isNotNull(git);
-
-        // Fetch latest information from remote
-        git.fetch()
-            .setTransportConfigCallback(transportConfigCallback)
-            .call();
-
-        // Ensure the original branch is checked out
-        git.checkout()
-            .setName(getBranch())
-            .setForce(true)
-            .call();
-
-        // Rebase the branch against the remote branch
-        RebaseResult rebaseResult = git.rebase().setUpstream("origin" + FORWARD_SLASH + getBranch()).call();
-        Status status = rebaseResult.getStatus();
-        return status.isSuccessful();
+        RepositoryHandle current = openRepository();
+        current.lock.lock();
+
+        try {
+            // Fetch latest information from remote
+            if (remoteMoved()) {
+                git.fetch()
+                    .setTransportConfigCallback(transportConfigCallback)
+                    .call();
+            }
+
+            // Ensure the original branch is checked out
+            git.checkout()
+                .setName(getBranch())
+                .setForce(true)
+                .call();
+
+            // Rebase the branch against the remote branch
+            RebaseResult rebaseResult = git.rebase().setUpstream(Constants.DEFAULT_REMOTE_NAME + FORWARD_SLASH + getBranch()).call();
+            Status status = rebaseResult.getStatus();
+            return status.isSuccessful();
+        } finally {
+            current.lock.unlock();
+        }
+    }
+
+    /**
+     * Compares the remote branch against the remote tracking branch, which only requires
+     * the remote to list its refs rather than a full fetch.
+     *
+     * @return true if the remote branch is not the same as the remote tracking branch
+     * @throws Exception if error occurs
+     */
+    private boolean remoteMoved() throws Exception {
+        Ref trackingRef = git.getRepository().exactRef(Constants.R_REMOTES + Constants.DEFAULT_REMOTE_NAME +
+                                                                                               FORWARD_SLASH + getBranch());
+        if (trackingRef == null || trackingRef.getObjectId() == null)
+            return true;
+
+        String branchRef = Constants.R_HEADS + getBranch();
+        Collection<Ref> remoteRefs = git.lsRemote()
+                                                                .setHeads(true)
+                                                                .setTransportConfigCallback(transportConfigCallback)
+                                                                .call();
+
+        for (Ref remoteRef : remoteRefs) {
+            if (branchRef.equals(remoteRef.getName()))
+                return ! trackingRef.getObjectId().equals(remoteRef.getObjectId());
+        }
+
+        return true;
     }
 
     private String directory(String path, DocumentType documentType) {
@@ -408,36 +666,40 @@ public class GitStorageConnector implements StorageConnector {
         return path.substring(0, path.lastIndexOf(DOT + documentType.toString()));
     }
 
-    @Override
-    public void write(Exportable artifact, UnitOfWork transaction, Properties parameters) throws Exception {
+    /**
+     * Starts a batch of writes that are committed and pushed together. The repository
+     * is locked until the batch is closed.
+     *
+     * @param parameters the parameters of the batch, eg. the commit author
+     * @return the batch
+     * @throws Exception if error occurs
+     */
+    private WriteBatch beginBatch(Properties parameters) throws Exception {
         ArgCheck.isNotNull(parameters);
-        String destination = getFilePath(parameters);
-        ArgCheck.isNotEmpty(destination);
 
-        cloneRepository();
-
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss_SSS");
-        Date now = new Date();
-        String timestamp = sdf.format(now);
-        String artifactName = artifact.getName(transaction);
+        RepositoryHandle current = openRepository();
+        current.lock.lock();
+        return new WriteBatch(current, parameters);
+    }
 
-        //
-        // Checkout a throw away branch for committing then
-        // to be merged back onto main.
-        //
-        String branchName = artifactName + HYPHEN + timestamp;
-        git.checkout()
-            .setName(branchName)
-            .setCreateBranch(true)
-            .setForce(true)
-            .setStartPoint(getBranch())
-            .call();
+    @Override
+    public void write(Exportable artifact, UnitOfWork transaction, Properties parameters) throws Exception {
+        ArgCheck.isNotNull(parameters);
+        ArgCheck.isNotEmpty(getFilePath(parameters));
 
-        //
-        // Write the file contents
-        //
-        byte[] contents = artifact.export(transaction, parameters);
+        try (WriteBatch batch = beginBatch(parameters)) {
+            batch.write(artifact, transaction, parameters);
+            batch.commit();
+        }
+    }
 
+    /**
+     * Write the file contents into the working tree as they are exported
+     *
+     * @return the path of the written file or directory relative to the working tree
+     */
+    private String exportToWorkTree(Exportable artifact, UnitOfWork transaction,
+                                    Properties parameters, String destination) throws Exception {
         File destFile;
         DocumentType documentType = artifact.getDocumentType(transaction);
         if (DocumentType.ZIP.equals(documentType)) {
@@ -448,66 +710,51 @@ public class GitStorageConnector implements StorageConnector {
             destFile = new File(git.getRepository().getWorkTree(), destination);
 
             Files.createDirectories(destFile.toPath());
-            ByteArrayInputStream byteStream = new ByteArrayInputStream(contents);
-            FileUtils.zipExtract(byteStream, destFile);
+
+            File zipFile = File.createTempFile(destFile.getName() + HYPHEN, ZIP_SUFFIX);
+            try {
+                try (OutputStream zipStream = new BufferedOutputStream(new FileOutputStream(zipFile), FileUtils.DEFAULT_BUFFER_SIZE)) {
+                    artifact.export(transaction, parameters, zipStream);
+                }
+
+                try (InputStream zipStream = new FileInputStream(zipFile)) {
+                    FileUtils.zipExtract(zipStream, destFile);
+                }
+            } finally {
+                zipFile.delete();
+            }
         }
         else {
             destFile = new File(git.getRepository().getWorkTree(), destination);
-            FileUtils.write(contents, destFile);
-        }
 
-        // Stage the file(s) for committing
-        git.add()
-            .addFilepattern(destination)
-            .call();
+            File parentDir = destFile.getParentFile();
+            if (parentDir != null)
+                parentDir.mkdirs();
 
-        //
-        // Commit the file(s)
-        //
-        String author = parameters.getProperty(GitStorageConnector.AUTHOR_NAME_PROPERTY, "anonymous");
-        String authorEmail = parameters.getProperty(GitStorageConnector.AUTHOR_EMAIL_PROPERTY, "anon@komodo.org");
-        RevCommit mergeCommit = git.commit()
-                                                                .setAuthor(author, authorEmail)
-                                                                .setCommitter(author, authorEmail)
-                                                                .setMessage("Change to artifact " + artifactName + " at " + timestamp)
-                                                                .call();
-
-        //
-        // Commit was successful
-        // so checkout the main branch
-        //
-        git.checkout()
-            .setName(getBranch())
-            .setForce(true)
-            .call();
-
-        //
-        // Ensure the later push would succeed by refreshing now
-        //
-        refresh();
-
-        //
-        // Merge the branch into the main branch
-        //
-        git.merge()
-            .include(mergeCommit)
-            .call();
+            try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(destFile), FileUtils.DEFAULT_BUFFER_SIZE)) {
+                artifact.export(transaction, parameters, stream);
+            }
+        }
 
-        //
-        // Push the change back to the remote
-        //
-        git.push()
-            .setTransportConfigCallback(transportConfigCallback)
-            .call();
+        return destination;
     }
 
     @Override
     public InputStream read(Properties parameters) throws Exception {
-        cloneRepository();
-
         String fileRef = getFilePath(parameters);
         ArgCheck.isNotNull(fileRef, "RelativeFileRef");
 
+        RepositoryHandle current = openRepository();
+        current.lock.lock();
+
+        try {
+            return read(fileRef);
+        } finally {
+            current.lock.unlock();
+        }
+    }
+
+    private InputStream read(String fileRef) throws Exception {
         File gitFile = new File(git.getRepository().getWorkTree(), fileRef);
         if (! gitFile.exists())
             throw new FileNotFoundException();
@@ -527,8 +774,17 @@ public class GitStorageConnector implements StorageConnector {
 
     @Override
     public StorageTree<String> browse() throws Exception {
-        cloneRepository();
+        RepositoryHandle current = openRepository();
+        current.lock.lock();
+
+        try {
+            return browseHead();
+        } finally {
+            current.lock.unlock();
+        }
+    }
 
+    private StorageTree<String> browseHead() throws Exception {
         StorageTree<String> storageTree = new StorageTree<String>();
 
         Repository repository = git.getRepository();
@@ -574,15 +830,38 @@ public class GitStorageConnector implements StorageConnector {
         return storageTree;
     }
 
+    /**
+     * Closes the open repositories and removes their clones
+     */
+    static void disposeRepositories() {
+        synchronized (HANDLES) {
+            for (Map.Entry<String, RepositoryHandle> entry : HANDLES.entrySet()) {
+                RepositoryHandle shared = entry.getValue();
+                shared.lock.lock();
+                try {
+                    shared.git.close();
+                } finally {
+                    shared.lock.unlock();
+                }
+
+                File destFile = new File(entry.getKey());
+                if (destFile.exists())
+                    FileUtils.removeDirectoryAndChildren(destFile);
+            }
+
+            HANDLES.clear();
+        }
+    }
+
     @Override
     public void dispose() {
-        if (git != null)
-            git.close();
-
-        String destination = getDestination();
-        File destFile = new File(destination);
-        if (destFile.exists())
-            FileUtils.removeDirectoryAndChildren(destFile);
+        //
+        // The repository is shared with other connectors so only release
+        // this connector's reference to it. The clone is removed when the
+        // storage service is disposed.
+        //
+        handle = null;
+        git = null;
 
         if (filesForDisposal != null) {
             for (String filePath : filesForDisposal) {
@@ -60,7 +60,7 @@ public class StorageServiceImpl extends AbstractBundleService implements Storage
 
     @Override
     public void dispose() {
-        // Nothing required
+        GitStorageConnector.disposeRepositories();
     }
 
 }
@@ -25,6 +25,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import java.io.BufferedReader;
@@ -33,6 +36,7 @@ import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
@@ -57,7 +61,9 @@ import org.komodo.spi.repository.Repository.UnitOfWork.State;
 import org.komodo.spi.storage.StorageConnector;
 import org.komodo.spi.storage.StorageTree;
 import org.komodo.test.utils.TestUtilities;
-import org.komodo.utils.FileUtils;;
+import org.komodo.utils.FileUtils;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 public class TestGitStorageConnector implements StringConstants {
 
@@ -125,6 +131,23 @@ public class TestGitStorageConnector implements StringConstants {
         }
     }
 
+    private static void mockExport(final Exportable artifact,
+                                   final UnitOfWork transaction,
+                                   final Properties parameters,
+                                   final byte[] content) throws Exception {
+        when(artifact.export(transaction, parameters)).thenReturn(content);
+        doAnswer(new Answer<Void>() {
+
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                OutputStream stream = (OutputStream) invocation.getArguments()[2];
+                stream.write(content);
+                return null;
+            }
+
+        }).when(artifact).export(eq(transaction), eq(parameters), any(OutputStream.class));
+    }
+
     @Before
     public void setup() throws Exception {
         String tmpDirPath = System.getProperty("java.io.tmpdir");
@@ -242,6 +265,26 @@ public class TestGitStorageConnector implements StringConstants {
         compareFileContents(original, fileToCompare);
     }
 
+    @Test
+    public void testDisposeKeepsSharedRepository() throws Exception {
+        localTmpDir = new File(tmpDir, "localTmpDir-" + timestamp);
+        Properties parameters = new Properties();
+        parameters.setProperty(GitStorageConnector.REPO_DEST_PROPERTY, localTmpDir.getAbsolutePath());
+        parameters.setProperty(GitStorageConnector.REPO_PATH_PROPERTY, myGitDir.getAbsolutePath());
+
+        GitStorageConnector importer = new GitStorageConnector(parameters);
+        importer.refresh();
+        importer.dispose();
+
+        assertTrue(new File(localTmpDir, ".git").exists());
+
+        connector = new GitStorageConnector(parameters);
+        parameters.setProperty(StorageConnector.FILE_PATH_PROPERTY, TEST_VDB_XML);
+        try (InputStream is = connector.read(parameters)) {
+            assertNotNull(is);
+        }
+    }
+
     @Test
     public void testLocalRepositoryReadDirectory() throws Exception {
         localTmpDir = new File(tmpDir, "localTmpDir-" + timestamp);
@@ -322,7 +365,7 @@ public class TestGitStorageConnector implements StringConstants {
 
         Exportable artifact = mock(Exportable.class);
         String sampleExample = TestUtilities.streamToString(TestUtilities.sampleExample());
-        when(artifact.export(transaction, parameters)).thenReturn(sampleExample.getBytes());
+        mockExport(artifact, transaction, parameters, sampleExample.getBytes());
         when(artifact.getName(transaction)).thenReturn(TestUtilities.SAMPLE_VDB_FILE);
 
         connector.write(artifact, transaction, parameters);
@@ -380,7 +423,7 @@ public class TestGitStorageConnector implements StringConstants {
         parameters = new Properties();
         parameters.setProperty(GitStorageConnector.FILE_PATH_PROPERTY, DocumentType.ZIP.fileName(dsName));
 
-        when(artifact.export(transaction, parameters)).thenReturn(usStatesArr);
+        mockExport(artifact, transaction, parameters, usStatesArr);
         when(artifact.getName(transaction)).thenReturn(dsName);
         when(artifact.getDocumentType(transaction)).thenReturn(DocumentType.ZIP);
 
@@ -501,7 +544,7 @@ public class TestGitStorageConnector implements StringConstants {
 
         Exportable artifact = mock(Exportable.class);
         String sampleExample = TestUtilities.streamToString(TestUtilities.sampleExample());
-        when(artifact.export(transaction, parameters)).thenReturn(sampleExample.getBytes());
+        mockExport(artifact, transaction, parameters, sampleExample.getBytes());
         when(artifact.getName(transaction)).thenReturn(TestUtilities.SAMPLE_VDB_FILE);
 
         connector.write(artifact, transaction, parameters);
@@ -589,7 +632,7 @@ public class TestGitStorageConnector implements StringConstants {
 
       Exportable artifact = mock(Exportable.class);
       String sampleExample = TestUtilities.streamToString(TestUtilities.sampleExample());
-      when(artifact.export(transaction, parameters)).thenReturn(sampleExample.getBytes());
+      mockExport(artifact, transaction, parameters, sampleExample.getBytes());
       when(artifact.getName(transaction)).thenReturn(TestUtilities.SAMPLE_VDB_FILE);
 
       connector.write(artifact, transaction, parameters);
@@ -187,6 +187,20 @@ public final class IT_KomodoTeiidServiceGetTests extends AbstractKomodoTeiidServ
         assertEquals(0, vdb.getErrors().size());
     }
 
+    @Test
+    public void shouldNotGetVdbsWithInvalidMaxStaleness() throws Exception {
+        URI uri = UriBuilder.fromUri(_uriBuilder.baseUri())
+                                          .path(V1Constants.TEIID_SEGMENT)
+                                          .path(V1Constants.VDBS_SEGMENT)
+                                          .queryParam("maxStaleness", "a minute")
+                                          .build();
+
+        ClientRequest request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+        ClientResponse<String> response = request.get(String.class);
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+        assertTrue(response.getEntity().contains("a minute"));
+    }
+
     @SuppressWarnings( "incomplete-switch" )
     @Test
     public void shouldGetVdbs() throws Exception {
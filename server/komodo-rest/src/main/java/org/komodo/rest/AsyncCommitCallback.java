@@ -0,0 +1,101 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.rest;
+
+import org.komodo.repository.SynchronousCallback;
+
+/**
+ * A transaction callback that can either be waited on, like a {@link SynchronousCallback}, or notify a listener once the
+ * transaction has been committed. A service uses the listener to resume a suspended request rather than holding the request
+ * thread while the repository sequences the committed changes.
+ */
+public class AsyncCommitCallback extends SynchronousCallback {
+
+    /**
+     * Notified once the transaction has been committed.
+     */
+    public interface CompletionListener {
+
+        /**
+         * @param error
+         *        the error that occurred committing the transaction (<code>null</code> if the commit succeeded)
+         */
+        void completed( final Throwable error );
+    }
+
+    private CompletionListener listener;
+
+    private boolean completed;
+
+    private Throwable error;
+
+    /**
+     * Sets the listener to notify when the transaction has been committed. If the commit has already finished the listener is
+     * notified immediately on the calling thread.
+     *
+     * @param listener
+     *        the listener (cannot be <code>null</code>)
+     */
+    public void setCompletionListener( final CompletionListener listener ) {
+        boolean notifyNow;
+
+        synchronized ( this ) {
+            this.listener = listener;
+            notifyNow = this.completed;
+        }
+
+        if ( notifyNow ) {
+            listener.completed( this.error );
+        }
+    }
+
+    @Override
+    public void respond( final Object results ) {
+        super.respond( results );
+        complete( null );
+    }
+
+    @Override
+    public void errorOccurred( final Throwable error ) {
+        super.errorOccurred( error );
+        complete( error );
+    }
+
+    private void complete( final Throwable error ) {
+        CompletionListener toNotify;
+
+        synchronized ( this ) {
+            if ( this.completed ) {
+                return;
+            }
+
+            this.completed = true;
+            this.error = error;
+            toNotify = this.listener;
+        }
+
+        if ( toNotify != null ) {
+            toNotify.completed( error );
+        }
+    }
+
+}
@@ -548,6 +548,16 @@ public class KomodoRestV1Application extends Application implements RepositoryOb
          */
         String STATUS_SEGMENT = "status"; //$NON-NLS-1$
 
+        /**
+         * The name of the URI path segment for the status of a commit that was still being sequenced when its request was answered
+         */
+        String COMMIT_STATUS_SEGMENT = "commitStatus"; //$NON-NLS-1$
+
+        /**
+         * Placeholder added to an URI to allow a specific commit id
+         */
+        String COMMIT_ID_PLACEHOLDER = "{commitId}"; //$NON-NLS-1$
+
         /**
          * The name of the resource used for importing and exporting artifacts
          */
@@ -558,6 +568,11 @@ public class KomodoRestV1Application extends Application implements RepositoryOb
          */
         String EXPORT = "export"; //$NON-NLS-1$
 
+        /**
+         * The download operation of the import export service
+         */
+        String DOWNLOAD = "download"; //$NON-NLS-1$
+
         /**
          * The import operation of the import export service
          */
@@ -23,13 +23,17 @@ package org.komodo.rest;
 
 import static org.komodo.rest.Messages.Error.COMMIT_TIMEOUT;
 import static org.komodo.rest.Messages.Error.RESOURCE_NOT_FOUND;
+import static org.komodo.rest.Messages.General.COMMIT_PENDING;
 import static org.komodo.rest.Messages.General.GET_OPERATION_NAME;
 import static org.komodo.rest.relational.RelationalMessages.Error.SECURITY_FAILURE_ERROR;
 import java.io.StringWriter;
+import java.net.URI;
 import java.security.Principal;
 import java.util.Base64;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.TimeoutHandler;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
@@ -37,6 +41,7 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.UriInfo;
 import javax.ws.rs.core.Variant;
 import javax.ws.rs.core.Variant.VariantListBuilder;
 import javax.xml.bind.JAXBContext;
@@ -56,10 +61,12 @@ import org.komodo.rest.relational.RelationalMessages;
 import org.komodo.rest.relational.RestEntityFactory;
 import org.komodo.rest.relational.connection.RestConnection;
 import org.komodo.rest.relational.json.KomodoJsonMarshaller;
+import org.komodo.rest.relational.response.KomodoStatusObject;
 import org.komodo.spi.KException;
 import org.komodo.spi.repository.KomodoObject;
 import org.komodo.spi.repository.Repository;
 import org.komodo.spi.repository.Repository.UnitOfWork;
+import org.komodo.spi.repository.Repository.UnitOfWork.State;
 import org.komodo.spi.repository.Repository.UnitOfWorkListener;
 import org.komodo.utils.KLog;
 import org.komodo.utils.StringNameValidator;
@@ -90,6 +97,17 @@ public abstract class KomodoService implements V1Constants {
     private static final int TIMEOUT = 30;
     private static final TimeUnit UNIT = TimeUnit.SECONDS;
 
+    /**
+     * System property for the time in milliseconds that a suspended request waits for its commit before being answered with a
+     * {@link Status#ACCEPTED 202}. Defaults to the commit timeout.
+     */
+    public static final String ASYNC_COMMIT_TIMEOUT_PROPERTY = "komodo.rest.asyncCommitTimeout"; //$NON-NLS-1$
+
+    /**
+     * The commits still being sequenced when the request timed out.
+     */
+    protected static final PendingCommits PENDING_COMMITS = new PendingCommits();
+
     private static final String HTML_NEW_LINE = "<br/>"; //$NON-NLS-1$
 
     /**
@@ -116,8 +134,40 @@ public abstract class KomodoService implements V1Constants {
          * The Komodo Type required.
          */
         String KTYPE = "ktype"; //$NON-NLS-1$
+
+        /**
+         * The least severe validation result level to return. If not present, all results are returned.
+         */
+        String LEVEL = "level"; //$NON-NLS-1$
+
+        /**
+         * Indicates if validation should stop after the first error. Defaults to <code>false</code>.
+         */
+        String STOP_ON_ERROR = "stopOnError"; //$NON-NLS-1$
+
+        /**
+         * The maximum age, in milliseconds, of cached teiid content. If not present, the last synchronized content is returned
+         * whatever its age.
+         */
+        String MAX_STALENESS = "maxStaleness"; //$NON-NLS-1$
+
+        /**
+         * Indicates if query results should be streamed to the client as they are read. Defaults to <code>false</code>.
+         */
+        String STREAM = "stream"; //$NON-NLS-1$
+
+        /**
+         * The number of query result rows fetched from the server, and written to the client, at one time.
+         */
+        String FETCH_SIZE = "fetchSize"; //$NON-NLS-1$
     }
 
+    /**
+     * The response header holding the {@link QueryParamKeys#START start} index of the next page of a collection. It is only
+     * present when more objects are available, and a <code>next</code> link to that page is returned with it.
+     */
+    public static final String NEXT_START_HEADER = "X-Komodo-Next-Start"; //$NON-NLS-1$
+
     private class ErrorResponse {
         private final String error;
 
@@ -363,8 +413,126 @@ public abstract class KomodoService implements V1Constants {
                            .build();
         }
 
-        Throwable error = callback.error();
+        return commitResponse( transaction, acceptableMediaTypes, entity, callback.error() );
+    }
+
+    /**
+     * Commits the transaction without holding the request thread while the repository sequences the changes. The suspended
+     * request is resumed with the same response {@link #commit(UnitOfWork, List, KRestEntity)} would have returned once the
+     * commit finishes. If the commit takes longer than the commit timeout the request is answered with
+     * {@link Status#ACCEPTED 202} and a <code>Location</code> header giving the URI where the outcome can be requested.
+     *
+     * @param transaction
+     *        the transaction created by {@link #createTransaction(SecurityPrincipal, String, boolean)} (cannot be
+     *        <code>null</code>)
+     * @param acceptableMediaTypes
+     *        the media types accepted by the client
+     * @param entity
+     *        the entity returned once the commit succeeds (cannot be <code>null</code>)
+     * @param uriInfo
+     *        the request URI information used to construct the status URI (cannot be <code>null</code>)
+     * @param asyncResponse
+     *        the suspended response (cannot be <code>null</code>)
+     */
+    protected void commit( final UnitOfWork transaction, final List<MediaType> acceptableMediaTypes,
+                           final KRestEntity entity, final UriInfo uriInfo,
+                           final AsyncResponse asyncResponse ) {
+        assert( transaction.getCallback() instanceof AsyncCommitCallback );
+
+        final AsyncCommitCallback callback = ( AsyncCommitCallback )transaction.getCallback();
+        final PendingCommits.Commit pending = PENDING_COMMITS.add( transaction.getName(), transaction.getUserName() );
+        final URI statusUri = uriInfo.getBaseUriBuilder()
+                                     .path( SERVICE_SEGMENT )
+                                     .path( COMMIT_STATUS_SEGMENT )
+                                     .path( pending.getId() )
+                                     .build();
+
+        asyncResponse.setTimeout( Long.getLong( ASYNC_COMMIT_TIMEOUT_PROPERTY, UNIT.toMillis( TIMEOUT ) ), TimeUnit.MILLISECONDS );
+        asyncResponse.setTimeoutHandler( new TimeoutHandler() {
+
+            @Override
+            public void handleTimeout( final AsyncResponse response ) {
+                LOGGER.debug( "commit: '{0}' is still being committed, status at '{1}'", //$NON-NLS-1$
+                              transaction.getName(),
+                              statusUri );
+                response.resume( commitPendingResponse( pending, acceptableMediaTypes, statusUri ) );
+            }
+
+        } );
+
+        callback.setCompletionListener( new AsyncCommitCallback.CompletionListener() {
+
+            @Override
+            public void completed( final Throwable error ) {
+                final Response response = commitResponse( transaction,
+                                                          acceptableMediaTypes,
+                                                          entity,
+                                                          ( transaction.getError() == null ) ? error : transaction.getError() );
+                pending.setResponse( response );
+
+                // nobody will ask for the status unless the client was told to
+                if ( asyncResponse.resume( response ) ) {
+                    PENDING_COMMITS.remove( pending );
+                }
+            }
+
+        } );
+
+        transaction.commit();
+
+        // a transaction that had already finished fails without calling back
+        if ( ( transaction.getState() == State.ERROR ) && !pending.isComplete() ) {
+            callback.errorOccurred( transaction.getError() );
+        }
+    }
+
+    /**
+     * @param user
+     *        the user asking for the status (cannot be <code>null</code>)
+     * @param acceptableMediaTypes
+     *        the media types accepted by the client
+     * @param commitId
+     *        the identifier from the status URI returned when a commit was still being sequenced
+     * @param uriInfo
+     *        the request URI information (cannot be <code>null</code>)
+     * @return the response the commit request would have been answered with, a {@link Status#ACCEPTED 202} if the commit has
+     *         not finished, or a {@link Status#NOT_FOUND 404} if the commit is unknown, belongs to another user, or its outcome
+     *         is no longer kept
+     */
+    protected Response commitStatus( final SecurityPrincipal user, final List<MediaType> acceptableMediaTypes,
+                                     final String commitId, final UriInfo uriInfo ) {
+        final PendingCommits.Commit pending = PENDING_COMMITS.get( commitId );
+
+        if ( ( pending == null ) || !StringUtils.equals( pending.getUserName(), user.getUserName() ) ) {
+            String notFoundMsg = Messages.getString( RESOURCE_NOT_FOUND, commitId, Messages.getString( GET_OPERATION_NAME ) );
+            Object responseEntity = createErrorResponseEntity( acceptableMediaTypes, notFoundMsg );
+            return Response.status( Status.NOT_FOUND ).entity( responseEntity ).build();
+        }
+
+        if ( pending.isComplete() ) {
+            return Response.fromResponse( pending.getResponse() ).build();
+        }
+
+        return commitPendingResponse( pending, acceptableMediaTypes, uriInfo.getRequestUri() );
+    }
+
+    private Response commitPendingResponse( final PendingCommits.Commit pending, final List<MediaType> acceptableMediaTypes,
+                                            final URI statusUri ) {
+        final KomodoStatusObject status = new KomodoStatusObject( "Commit" ); //$NON-NLS-1$
+        status.addAttribute( pending.getTransactionName(),
+                             Messages.getString( COMMIT_PENDING, pending.getTransactionName(), statusUri ) );
+
+        ResponseBuilder builder = Response.status( Status.ACCEPTED ).location( statusUri );
+
+        if ( isAcceptable( acceptableMediaTypes, MediaType.APPLICATION_JSON_TYPE ) ) {
+            builder.entity( KomodoJsonMarshaller.marshall( status ) ).type( MediaType.APPLICATION_JSON );
+        }
+
+        return builder.build();
+    }
 
+    private Response commitResponse( final UnitOfWork transaction, final List<MediaType> acceptableMediaTypes,
+                                     final KRestEntity entity, final Throwable error ) {
         if ( error != null ) {
             // callback was called because of an error condition
             Object responseEntity = createErrorResponseEntity(acceptableMediaTypes, error.getLocalizedMessage());
@@ -378,28 +546,33 @@ public abstract class KomodoService implements V1Constants {
                       transaction.isRollbackOnly() );
         ResponseBuilder builder = null;
 
-        if ( entity == RestBasicEntity.NO_CONTENT ) {
-            builder = Response.noContent();
-        } else if ( entity instanceof ResourceNotFound ) {
-            final ResourceNotFound resourceNotFound = ( ResourceNotFound )entity;
-
-            String notFoundMsg = Messages.getString( RESOURCE_NOT_FOUND,
-                                                     resourceNotFound.getResourceName(),
-                                                     resourceNotFound.getOperationName() );
-            Object responseEntity = createErrorResponseEntity(acceptableMediaTypes, notFoundMsg);
-            builder = Response.status( Status.NOT_FOUND ).entity(responseEntity);
-        } else {
+        try {
+            if ( entity == RestBasicEntity.NO_CONTENT ) {
+                builder = Response.noContent();
+            } else if ( entity instanceof ResourceNotFound ) {
+                final ResourceNotFound resourceNotFound = ( ResourceNotFound )entity;
 
-            //
-            // Json will always be preferred over XML if both or the wildcard are present in the header
-            //
-            if (isAcceptable(acceptableMediaTypes, MediaType.APPLICATION_JSON_TYPE))
-                builder = Response.ok( KomodoJsonMarshaller.marshall( entity ), MediaType.APPLICATION_JSON );
-            else if (isAcceptable(acceptableMediaTypes, MediaType.APPLICATION_XML_TYPE) && entity.supports(MediaType.APPLICATION_XML_TYPE))
-                builder = Response.ok( entity.getXml(), MediaType.APPLICATION_XML );
-            else {
-                builder = notAcceptableMediaTypesBuilder();
+                String notFoundMsg = Messages.getString( RESOURCE_NOT_FOUND,
+                                                         resourceNotFound.getResourceName(),
+                                                         resourceNotFound.getOperationName() );
+                Object responseEntity = createErrorResponseEntity(acceptableMediaTypes, notFoundMsg);
+                builder = Response.status( Status.NOT_FOUND ).entity(responseEntity);
+            } else {
+
+                //
+                // Json will always be preferred over XML if both or the wildcard are present in the header
+                //
+                if (isAcceptable(acceptableMediaTypes, MediaType.APPLICATION_JSON_TYPE))
+                    builder = Response.ok( KomodoJsonMarshaller.marshall( entity ), MediaType.APPLICATION_JSON );
+                else if (isAcceptable(acceptableMediaTypes, MediaType.APPLICATION_XML_TYPE) && entity.supports(MediaType.APPLICATION_XML_TYPE))
+                    builder = Response.ok( entity.getXml(), MediaType.APPLICATION_XML );
+                else {
+                    builder = notAcceptableMediaTypesBuilder();
+                }
             }
+        } catch ( final Exception e ) {
+            Object responseEntity = createErrorResponseEntity(acceptableMediaTypes, e.getLocalizedMessage());
+            builder = Response.status( Status.INTERNAL_SERVER_ERROR ).entity(responseEntity);
         }
 
         return builder.build();
@@ -475,6 +648,36 @@ public abstract class KomodoService implements V1Constants {
         return builder.build();
     }
 
+    /**
+     * Commits the transaction and returns one page of a collection.
+     *
+     * @param transaction
+     *        the transaction (cannot be <code>null</code>)
+     * @param acceptableMediaTypes
+     *        the media types accepted by the client
+     * @param entities
+     *        the entities of the page (cannot be <code>null</code>)
+     * @param uriInfo
+     *        the request URI information used to construct the link to the next page (cannot be <code>null</code>)
+     * @param nextStart
+     *        the start index of the next page or a negative number if this is the last page
+     * @return the response (never <code>null</code>)
+     * @throws Exception
+     *         if an error occurs
+     */
+    protected Response commit( final UnitOfWork transaction, List<MediaType> acceptableMediaTypes,
+                               final List<? extends KRestEntity> entities, final UriInfo uriInfo,
+                               final int nextStart ) throws Exception {
+        final Response response = commit( transaction, acceptableMediaTypes, entities );
+
+        if ( ( nextStart < 0 ) || ( response.getStatus() != Status.OK.getStatusCode() ) ) {
+            return response;
+        }
+
+        final URI next = uriInfo.getRequestUriBuilder().replaceQueryParam( QueryParamKeys.START, nextStart ).build();
+        return Response.fromResponse( response ).header( NEXT_START_HEADER, nextStart ).link( next, "next" ).build(); //$NON-NLS-1$
+    }
+
     /**
      * @param user
      *        the user initiating the transaction
@@ -509,7 +712,7 @@ public abstract class KomodoService implements V1Constants {
      */
     protected UnitOfWork createTransaction(final SecurityPrincipal user, final String name,
                                             final boolean rollbackOnly ) throws KException {
-        final SynchronousCallback callback = new SynchronousCallback();
+        final AsyncCommitCallback callback = new AsyncCommitCallback();
         final UnitOfWork result = this.repo.createTransaction(user.getUserName(), 
                                                                (getClass().getSimpleName() + COLON + name + COLON + System.currentTimeMillis()),
                                                                rollbackOnly, callback );
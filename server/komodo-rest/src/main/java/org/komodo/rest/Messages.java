@@ -119,6 +119,11 @@ public final class Messages {
      */
     public enum General {
 
+        /**
+         * A message indicating a repository commit is still waiting for sequencing to finish.
+         */
+        COMMIT_PENDING,
+
         /**
          * The name of the DELETE operation.
          */
@@ -0,0 +1,179 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.rest;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.ws.rs.core.Response;
+
+/**
+ * Tracks the commits whose requests were answered before sequencing finished so that their outcome can be requested later.
+ * Finished commits are kept for the retention period after which they are discarded.
+ */
+public class PendingCommits {
+
+    /**
+     * A commit being tracked.
+     */
+    public static class Commit {
+
+        private final String id;
+        private final String transactionName;
+        private final String userName;
+        private volatile long completed;
+        private volatile Response response;
+
+        Commit( final String id,
+                final String transactionName,
+                final String userName ) {
+            this.id = id;
+            this.transactionName = transactionName;
+            this.userName = userName;
+        }
+
+        /**
+         * @return the identifier used in the status URI (never empty)
+         */
+        public String getId() {
+            return this.id;
+        }
+
+        /**
+         * @return the name of the committed transaction (never empty)
+         */
+        public String getTransactionName() {
+            return this.transactionName;
+        }
+
+        /**
+         * @return the name of the user who committed the transaction
+         */
+        public String getUserName() {
+            return this.userName;
+        }
+
+        /**
+         * @return <code>true</code> if the commit has finished
+         */
+        public boolean isComplete() {
+            return ( this.response != null );
+        }
+
+        /**
+         * @return the response that the request would have been answered with (<code>null</code> if the commit has not finished)
+         */
+        public Response getResponse() {
+            return this.response;
+        }
+
+        void setResponse( final Response response ) {
+            this.completed = System.currentTimeMillis();
+            this.response = response;
+        }
+    }
+
+    /**
+     * System property for the time in milliseconds that a finished commit is tracked
+     */
+    public static final String RETENTION_PROPERTY = "komodo.rest.pendingCommits.retention"; //$NON-NLS-1$
+
+    /**
+     * Default time in milliseconds that a finished commit is tracked
+     */
+    public static final long DEFAULT_RETENTION = 10 * 60 * 1000;
+
+    private final long retention;
+
+    private final Map< String, Commit > commits = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a tracker whose retention is set using the {@link #RETENTION_PROPERTY} system property.
+     */
+    public PendingCommits() {
+        this( Long.getLong( RETENTION_PROPERTY, DEFAULT_RETENTION ) );
+    }
+
+    /**
+     * @param retention
+     *        the time in milliseconds that a finished commit is tracked
+     */
+    public PendingCommits( final long retention ) {
+        this.retention = retention;
+    }
+
+    /**
+     * @param transactionName
+     *        the name of the transaction being committed (cannot be empty)
+     * @param userName
+     *        the name of the user committing the transaction
+     * @return the tracked commit (never <code>null</code>)
+     */
+    public Commit add( final String transactionName,
+                       final String userName ) {
+        purge();
+
+        final Commit commit = new Commit( UUID.randomUUID().toString(), transactionName, userName );
+        this.commits.put( commit.getId(), commit );
+        return commit;
+    }
+
+    /**
+     * @param id
+     *        the identifier of the commit
+     * @return the commit or <code>null</code> if it is not tracked
+     */
+    public Commit get( final String id ) {
+        return ( id == null ) ? null : this.commits.get( id );
+    }
+
+    /**
+     * @param commit
+     *        the commit that no longer needs to be tracked (cannot be <code>null</code>)
+     */
+    public void remove( final Commit commit ) {
+        this.commits.remove( commit.getId() );
+    }
+
+    /**
+     * @return the number of tracked commits
+     */
+    public int size() {
+        return this.commits.size();
+    }
+
+    private void purge() {
+        final long expired = System.currentTimeMillis() - this.retention;
+        final Iterator< Commit > iter = this.commits.values().iterator();
+
+        while ( iter.hasNext() ) {
+            final Commit commit = iter.next();
+
+            // a commit still sequencing is kept however long it takes
+            if ( commit.isComplete() && ( commit.completed < expired ) ) {
+                iter.remove();
+            }
+        }
+    }
+
+}
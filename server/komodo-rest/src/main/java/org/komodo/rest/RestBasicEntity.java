@@ -23,10 +23,8 @@ package org.komodo.rest;
 
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,8 +37,7 @@ import org.komodo.rest.relational.KomodoRestUriBuilder;
 import org.komodo.spi.KException;
 import org.komodo.spi.repository.KomodoObject;
 import org.komodo.spi.repository.KomodoType;
-import org.komodo.spi.repository.Property;
-import org.komodo.spi.repository.PropertyDescriptor;
+import org.komodo.spi.repository.NodeSnapshot;
 import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.utils.ArgCheck;
 
@@ -106,6 +103,9 @@ public class RestBasicEntity implements KRestEntity {
     // Transient to ensure its never serialized by Gson
     private transient String xml;
 
+    // Transient to ensure its never serialized by Gson
+    private transient NodeSnapshot snapshot;
+
     /**
      * Used for NO_CONTENT and ResourceNotFound
      */
@@ -136,31 +136,56 @@ public class RestBasicEntity implements KRestEntity {
      * @throws KException if error occurs
      */
     protected RestBasicEntity(URI baseUri, KomodoObject kObject, UnitOfWork uow, boolean createCommonLinks) throws KException {
+        this(baseUri, kObject, uow, createCommonLinks, false);
+    }
+
+    /**
+     * @param baseUri the base uri of the REST request
+     * @param kObject the kObject
+     * @param uow the transaction
+     * @param createCommonLinks should the self and parent links be created
+     * @param includeProperties should the property values be read, along with the rest of the object, for later use by
+     *        {@link #addExecutionProperties(UnitOfWork, KomodoObject)} and {@link #getSnapshot()}
+     * @throws KException if error occurs
+     */
+    protected RestBasicEntity(URI baseUri, KomodoObject kObject, UnitOfWork uow, boolean createCommonLinks,
+                              boolean includeProperties) throws KException {
         this(baseUri);
 
         ArgCheck.isNotNull(kObject, "kObject"); //$NON-NLS-1$
         ArgCheck.isNotNull(uow, "uow"); //$NON-NLS-1$
 
-        setId(kObject.getName(uow));
-        setDataPath(kObject.getAbsolutePath());
-        setkType(kObject.getTypeIdentifier(uow));
-        setHasChildren(kObject.hasChildren(uow));
+        this.snapshot = snapshot(kObject, uow, includeProperties);
+
+        setId(this.snapshot.getName());
+        setDataPath(this.snapshot.getAbsolutePath());
+        setkType(this.snapshot.getTypeIdentifier());
+        setHasChildren(this.snapshot.hasChildren());
 
         if (createCommonLinks) {
             KomodoProperties properties = new KomodoProperties();
             properties.addProperty(SEARCH_PATH_PARAMETER, getDataPath());
             addLink(new RestLink(LinkType.SELF, getUriBuilder().searchUri(properties)));
 
-            KomodoObject parent = kObject.getParent(uow);
-            ArgCheck.isNotNull(parent);
+            String parentPath = this.snapshot.getParentPath();
+            ArgCheck.isNotNull(parentPath);
             properties = new KomodoProperties();
-            properties.addProperty(SEARCH_PATH_PARAMETER, parent.getAbsolutePath());
+            properties.addProperty(SEARCH_PATH_PARAMETER, parentPath);
             addLink(new RestLink(LinkType.PARENT, getUriBuilder().searchUri(properties)));
 
             createChildLink();
         }
     }
 
+    private static NodeSnapshot snapshot(KomodoObject kObject, UnitOfWork uow, boolean includeProperties) throws KException {
+        NodeSnapshot result = kObject.getSnapshot(uow, includeProperties);
+
+        if (result == null)
+            result = NodeSnapshot.read(uow, kObject, includeProperties);
+
+        return result;
+    }
+
     protected void createChildLink() {
         KomodoProperties properties;
         properties = new KomodoProperties();
@@ -332,6 +357,13 @@ public class RestBasicEntity implements KRestEntity {
         return this.links.values();
     }
 
+    /**
+     * @return the snapshot of the object this entity was created from (<code>null</code> if not created from an object)
+     */
+    protected NodeSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
     /**
      * @return the properties (never <code>null</code> but can be empty)
      */
@@ -423,39 +455,21 @@ public class RestBasicEntity implements KRestEntity {
      * @throws KException if error occurs
      */
     public void addExecutionProperties(UnitOfWork uow, KomodoObject kObject) throws KException {
-        final List<String> propNames = new ArrayList<>(Arrays.asList(kObject.getPropertyNames(uow))); // props with values
-        final PropertyDescriptor[] descriptors = kObject.getPropertyDescriptors(uow);
-
-        if (descriptors.length != 0) {
-            for (PropertyDescriptor descriptor : descriptors) {
-                String name = descriptor.getName();
-                if (!propNames.contains(name)) {
-                    propNames.add(name);
-                }
-            }
+        NodeSnapshot objectSnapshot = this.snapshot;
+
+        if (objectSnapshot == null || !objectSnapshot.includesProperties()
+            || !objectSnapshot.getAbsolutePath().equals(kObject.getAbsolutePath())) {
+            objectSnapshot = snapshot(kObject, uow, true);
         }
 
         //
         // Execution properties are stored in komodo object without a prefix
         //
-        Iterator<String> propIter = propNames.iterator();
-        while(propIter.hasNext()) {
-            String propName = propIter.next();
-
+        for (String propName : objectSnapshot.getPropertyNames()) {
             if (hasPrefix(propName))
                 continue;
 
-            Property attribute = kObject.getProperty(uow, propName);
-            if (attribute == null)
-                continue;
-
-            if (attribute.isMultiple(uow)) {
-                Object[] values = attribute.getValues(uow);
-                addProperty(propName, values);
-            } else {
-                Object value = attribute.getValue(uow);
-                addProperty(propName, value);
-            }
+            addProperty(propName, objectSnapshot.getValue(propName));
         }
     }
 
@@ -483,6 +497,7 @@ public class RestBasicEntity implements KRestEntity {
         instance.links = this.links;
         instance.uriBuilder = this.uriBuilder;
         instance.xml = this.xml;
+        instance.snapshot = this.snapshot;
     }
 
     @SuppressWarnings( "nls" )
@@ -637,6 +637,16 @@ public final class RelationalMessages {
          */
         VDB_SERVICE_GET_VDB_ERROR,
 
+        /**
+         * An error indicating an error occurred trying to validate the specified VDB.
+         */
+        VDB_SERVICE_VALIDATE_VDB_ERROR,
+
+        /**
+         * An error indicating the validation level requested is not a known level.
+         */
+        VDB_SERVICE_VALIDATE_VDB_INVALID_LEVEL,
+
         /**
          * An error indicating an error occurred trying to obain a VDB's models.
          */
@@ -917,6 +927,21 @@ public final class RelationalMessages {
          */
         TEIID_SERVICE_REQUEST_PARSING_ERROR,
 
+        /**
+         * The maximum staleness requested is not a number of milliseconds
+         */
+        TEIID_SERVICE_INVALID_MAX_STALENESS,
+
+        /**
+         * An artifact failed to deploy on the teiid server
+         */
+        TEIID_SERVICE_DEPLOYMENT_FAILED,
+
+        /**
+         * An artifact was not deployed or undeployed before the deployment wait time passed
+         */
+        TEIID_SERVICE_DEPLOYMENT_TIMED_OUT,
+
         /**
          * The teiid service requires all credentials to contain a value
          */
@@ -1266,7 +1291,12 @@ public final class RelationalMessages {
         /**
          * An import export service storage types missing parameter error
          */
-        IMPORT_EXPORT_SERVICE_MISSING_PARAMETER_ERROR;
+        IMPORT_EXPORT_SERVICE_MISSING_PARAMETER_ERROR,
+
+        /**
+         * An import export service error when the storage type does not produce a downloadable file
+         */
+        IMPORT_EXPORT_SERVICE_NOT_DOWNLOADABLE_ERROR;
 
         /**
          * {@inheritDoc}
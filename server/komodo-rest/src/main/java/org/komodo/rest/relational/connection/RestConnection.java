@@ -74,7 +74,7 @@ public final class RestConnection extends RestBasicEntity {
      * @throws KException if error occurs
      */
     public RestConnection(URI baseUri, Connection connection, UnitOfWork uow) throws KException {
-        super(baseUri, connection, uow, false);
+        super(baseUri, connection, uow, false, true);
 
         setJndiName(connection.getJndiName(uow));
         setDriverName(connection.getDriverName(uow));
@@ -39,6 +39,7 @@ import org.komodo.rest.RestLink.LinkType;
 import org.komodo.rest.relational.KomodoRestUriBuilder.SettingNames;
 import org.komodo.spi.KException;
 import org.komodo.spi.repository.Repository.UnitOfWork;
+import org.teiid.modeshape.sequencer.dataservice.lexicon.DataVirtLexicon;
 
 /**
  * A Dataservice that can be used by GSON to build a JSON document representation.
@@ -102,9 +103,9 @@ public final class RestDataservice extends RestBasicEntity {
      * @throws KException if error occurs
      */
     public RestDataservice(URI baseUri, Dataservice dataService, boolean exportXml, UnitOfWork uow) throws KException {
-        super(baseUri, dataService, uow, false);
+        super(baseUri, dataService, uow, false, true);
 
-        setDescription(dataService.getDescription(uow));
+        setDescription(getSnapshot().getStringValue(DataVirtLexicon.DataService.DESCRIPTION));
 
         addExecutionProperties(uow, dataService);
 
@@ -28,6 +28,9 @@ import org.komodo.rest.Messages;
 import org.komodo.rest.relational.response.RestQueryColumn;
 import org.komodo.rest.relational.response.RestQueryResult;
 import org.komodo.rest.relational.response.RestQueryRow;
+import org.komodo.spi.query.QSColumn;
+import org.komodo.spi.query.QSCursor;
+import org.komodo.spi.query.QSRow;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
@@ -80,4 +83,44 @@ public class QueryResultSerializer extends TypeAdapter<RestQueryResult> {
 
         out.endObject();
     }
+
+    /**
+     * Writes the rows of the cursor as they are read, in the same format as a {@link RestQueryResult}, so the rows never have
+     * to be held in memory.
+     *
+     * @param out the writer (cannot be <code>null</code>)
+     * @param cursor the cursor over the query results (cannot be <code>null</code>)
+     * @param flushSize the number of rows written between flushes of the writer
+     * @throws Exception if the rows cannot be read or written
+     */
+    public static void write(JsonWriter out, QSCursor cursor, int flushSize) throws Exception {
+        out.beginObject();
+
+        if (! cursor.getColumns().isEmpty()) {
+            RestQueryColumn[] columns = new RestQueryColumn[cursor.getColumns().size()];
+            for (int i = 0; i < columns.length; ++i) {
+                QSColumn column = cursor.getColumns().get(i);
+                columns[i] = new RestQueryColumn(column);
+            }
+
+            out.name(RestQueryResult.COLUMNS_LABEL);
+            BUILDER.toJson(columns, RestQueryColumn[].class, out);
+        }
+
+        out.name(RestQueryResult.ROWS_LABEL);
+        out.beginArray();
+
+        int count = 0;
+        QSRow row;
+        while ((row = cursor.next()) != null) {
+            BUILDER.toJson(new RestQueryRow(row), RestQueryRow.class, out);
+
+            if (++count % flushSize == 0)
+                out.flush();
+        }
+
+        out.endArray();
+        out.endObject();
+        out.flush();
+    }
 }
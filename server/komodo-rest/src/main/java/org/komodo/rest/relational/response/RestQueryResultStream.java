@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.rest.relational.response;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import javax.ws.rs.core.StreamingOutput;
+import org.komodo.rest.relational.RelationalMessages;
+import org.komodo.rest.relational.json.QueryResultSerializer;
+import org.komodo.spi.query.QSCursor;
+import org.komodo.utils.ArgCheck;
+import org.komodo.utils.KLog;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Writes the rows of a query cursor to the response, in the same format as a {@link RestQueryResult}, as they are read. The
+ * cursor is closed once the rows have been written. The response status has already been sent by the time a row fails to be
+ * read so the response is aborted rather than completed, otherwise a client could mistake the rows written for the whole result.
+ */
+public class RestQueryResultStream implements StreamingOutput {
+
+    private final QSCursor cursor;
+
+    private final int flushSize;
+
+    /**
+     * @param cursor the cursor over the query results (cannot be <code>null</code>)
+     * @param flushSize the number of rows written between flushes of the response
+     */
+    public RestQueryResultStream(QSCursor cursor, int flushSize) {
+        ArgCheck.isNotNull(cursor, "cursor"); //$NON-NLS-1$
+        this.cursor = cursor;
+        this.flushSize = flushSize;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        JsonWriter writer = new JsonWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+
+        try {
+            QueryResultSerializer.write(writer, cursor, flushSize);
+        } catch (IOException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            String msg = RelationalMessages.getString(RelationalMessages.Error.TEIID_SERVICE_QUERY_ERROR, ex.getLocalizedMessage());
+            KLog.getLogger().error(msg, ex);
+            throw new IOException(msg, ex);
+        } finally {
+            cursor.close();
+        }
+    }
+}
@@ -109,6 +109,11 @@ public final class RestTeiidStatus extends RestTeiid {
      */
     public static final String TEIID_VDB_NAMES_LABEL = "vdbNames";
 
+    /**
+     * Label for the cache statistics
+     */
+    public static final String TEIID_CACHE_STATISTICS_LABEL = "cacheStatistics";
+
     private List<RestConnectionDriver> sourceDrivers = new ArrayList<>();
 
     /**
@@ -149,6 +154,7 @@ public final class RestTeiidStatus extends RestTeiid {
                 setConnectionUrl(teiidInstance.getUrl());
                 setConnected(teiidInstance.isConnected());
                 setConnectionError(teiidInstance.getConnectionError());
+                setCacheStatistics(teiidInstance.getCacheStatistics());
 
                 Collection<TeiidDataSource> dataSources = teiidInstance.getDataSources();
                 setDataSourceSize(dataSources.size());
@@ -223,6 +229,15 @@ public final class RestTeiidStatus extends RestTeiid {
         tuples.put(TEIID_CONNECTION_ERROR_LABEL, connectionError);
     }
 
+    public String getCacheStatistics() {
+        Object statistics = tuples.get(TEIID_CACHE_STATISTICS_LABEL);
+        return statistics != null ? statistics.toString() : null;
+    }
+
+    protected void setCacheStatistics(String statistics) {
+        tuples.put(TEIID_CACHE_STATISTICS_LABEL, statistics);
+    }
+
     public int getDataSourceSize() {
         Object size = tuples.get(TEIID_DATA_SOURCE_SIZE_LABEL);
         return size != null ? Integer.parseInt(size.toString()) : 0;
@@ -30,6 +30,7 @@ import org.komodo.rest.RestLink;
 import org.komodo.rest.RestLink.LinkType;
 import org.komodo.rest.relational.KomodoRestUriBuilder.SettingNames;
 import org.komodo.spi.KException;
+import org.komodo.spi.repository.NodeSnapshot;
 import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.teiid.modeshape.sequencer.vdb.lexicon.VdbLexicon;
 
@@ -85,14 +86,15 @@ public final class RestVdb extends RestBasicEntity {
      * @throws KException if error occurs
      */
     public RestVdb(URI baseUri, Vdb vdb, boolean exportXml, UnitOfWork uow) throws KException {
-        super(baseUri, vdb, uow, false);
+        super(baseUri, vdb, uow, false, true);
 
-        setName(vdb.getName(uow));
-        setDescription(vdb.getDescription(uow));
-        setOriginalFilePath(vdb.getOriginalFilePath(uow));
+        NodeSnapshot snapshot = getSnapshot();
+        setName(snapshot.getName());
+        setDescription(snapshot.getStringValue(VdbLexicon.Vdb.DESCRIPTION));
+        setOriginalFilePath(snapshot.getStringValue(VdbLexicon.Vdb.ORIGINAL_FILE));
 
         setPreview(vdb.isPreview(uow));
-        setConnectionType(vdb.getConnectionType(uow));
+        setConnectionType(snapshot.getStringValue(VdbLexicon.Vdb.CONNECTION_TYPE));
         setVersion(vdb.getVersion(uow));
 
         addExecutionProperties(uow, vdb);
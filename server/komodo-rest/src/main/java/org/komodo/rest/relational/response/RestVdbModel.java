@@ -78,7 +78,7 @@ public final class RestVdbModel extends RestBasicEntity {
      * @throws KException if error occurs
      */
     public RestVdbModel(URI baseUri, Model model, UnitOfWork uow) throws KException {
-        super(baseUri, model, uow, false);
+        super(baseUri, model, uow, false, true);
 
         setDescription(model.getDescription(uow));
         setModelType(model.getModelType(uow));
@@ -84,7 +84,7 @@ public final class RestVdbTranslator extends RestBasicEntity {
      * @throws KException if error occurs
      */
     public RestVdbTranslator(URI baseUri, Translator translator, UnitOfWork uow) throws KException {
-        super(baseUri, translator, uow, false);
+        super(baseUri, translator, uow, false, true);
 
         setDescription(translator.getDescription(uow));
         setType(translator.getType(uow));
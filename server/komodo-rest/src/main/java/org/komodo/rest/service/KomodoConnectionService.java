@@ -57,6 +57,7 @@ import org.komodo.rest.relational.request.KomodoConnectionAttributes;
 import org.komodo.rest.relational.response.KomodoStatusObject;
 import org.komodo.spi.constants.StringConstants;
 import org.komodo.spi.repository.KomodoObject;
+import org.komodo.spi.repository.Repository;
 import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.spi.repository.Repository.UnitOfWork.State;
 import org.komodo.utils.StringUtils;
@@ -118,30 +119,6 @@ public final class KomodoConnectionService extends KomodoService {
         try {
             final String searchPattern = uriInfo.getQueryParameters().getFirst( QueryParamKeys.PATTERN );
 
-            // find connections
-            uow = createTransaction(principal, "getConnections", true ); //$NON-NLS-1$
-            Connection[] connections = null;
-
-            if ( StringUtils.isBlank( searchPattern ) ) {
-                connections = getWorkspaceManager(uow).findConnections( uow );
-                LOGGER.debug( "getConnections:found '{0}' Connections", connections.length ); //$NON-NLS-1$
-            } else {
-                final String[] connectionPaths = getWorkspaceManager(uow).findByType( uow, DataVirtLexicon.Connection.NODE_TYPE, null, searchPattern, false );
-
-                if ( connectionPaths.length == 0 ) {
-                    connections = Connection.NO_CONNECTIONS;
-                } else {
-                    connections = new Connection[ connectionPaths.length ];
-                    int i = 0;
-
-                    for ( final String path : connectionPaths ) {
-                        connections[ i++ ] = getWorkspaceManager(uow).resolve( uow, new ObjectImpl( getWorkspaceManager(uow).getRepository(), path, 0 ), Connection.class );
-                    }
-
-                    LOGGER.debug( "getConnections:found '{0}' Connections using pattern '{1}'", connections.length, searchPattern ); //$NON-NLS-1$
-                }
-            }
-
             int start = 0;
 
             { // start query parameter
@@ -180,26 +157,26 @@ public final class KomodoConnectionService extends KomodoService {
                 }
             }
 
-            final List< RestConnection > entities = new ArrayList< >();
-            int i = 0;
-
-            KomodoProperties properties = new KomodoProperties();
-            for ( final Connection connection : connections ) {
-                if ( ( start == 0 ) || ( i >= start ) ) {
-                    if ( ( size == ALL_AVAILABLE ) || ( entities.size() < size ) ) {                        
-                        RestConnection entity = entityFactory.create(connection, uriInfo.getBaseUri(), uow, properties);
-                        entities.add(entity);
-                        LOGGER.debug("getConnections:Connection '{0}' entity was constructed", connection.getName(uow)); //$NON-NLS-1$
-                    } else {
-                        break;
-                    }
-                }
-
-                ++i;
+            // find connections, asking for one more than the page size to know if there is a next page
+            uow = createTransaction(principal, "getConnections", true ); //$NON-NLS-1$
+            final WorkspaceManager wsMgr = getWorkspaceManager(uow);
+            final long limit = ( size == ALL_AVAILABLE ) ? Repository.NO_LIMIT : ( size + 1 );
+            final String[] paths = wsMgr.findByType( uow, DataVirtLexicon.Connection.NODE_TYPE, null, searchPattern, false, start, limit );
+            LOGGER.debug( "getConnections:found '{0}' Connections starting at '{1}' using pattern '{2}'", paths.length, start, searchPattern ); //$NON-NLS-1$
+
+            final boolean hasNext = ( size != ALL_AVAILABLE ) && ( paths.length > size );
+            final int count = hasNext ? size : paths.length;
+            final List< RestConnection > entities = new ArrayList< >( count );
+            final KomodoProperties properties = new KomodoProperties();
+
+            for ( int i = 0; i < count; ++i ) {
+                final Connection connection = wsMgr.resolve( uow, new ObjectImpl( wsMgr.getRepository(), paths[ i ], 0 ), Connection.class );
+                entities.add( entityFactory.create(connection, uriInfo.getBaseUri(), uow, properties) );
+                LOGGER.debug("getConnections:Connection '{0}' entity was constructed", connection.getName(uow)); //$NON-NLS-1$
             }
 
             // create response
-            return commit( uow, mediaTypes, entities );
+            return commit( uow, mediaTypes, entities, uriInfo, ( hasNext ? ( start + size ) : -1 ) );
 
         } catch ( final Exception e ) {
             if ( ( uow != null ) && ( uow.getState() != State.ROLLED_BACK ) ) {
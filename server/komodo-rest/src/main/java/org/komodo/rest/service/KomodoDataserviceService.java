@@ -35,7 +35,6 @@ import static org.komodo.rest.relational.RelationalMessages.Error.DATASERVICE_SE
 import static org.komodo.rest.relational.RelationalMessages.Error.DATASERVICE_SERVICE_SERVICE_NAME_ERROR;
 import static org.komodo.rest.relational.RelationalMessages.Error.DATASERVICE_SERVICE_SET_SERVICE_ERROR;
 import static org.komodo.rest.relational.RelationalMessages.Error.DATASERVICE_SERVICE_UPDATE_DATASERVICE_ERROR;
-import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -53,6 +52,8 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
@@ -95,6 +96,7 @@ import org.komodo.spi.KException;
 import org.komodo.spi.constants.ExportConstants;
 import org.komodo.spi.constants.StringConstants;
 import org.komodo.spi.repository.KomodoObject;
+import org.komodo.spi.repository.Repository;
 import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.spi.repository.Repository.UnitOfWork.State;
 import org.komodo.spi.runtime.ConnectionDriver;
@@ -207,30 +209,6 @@ public final class KomodoDataserviceService extends KomodoService {
         try {
             final String searchPattern = uriInfo.getQueryParameters().getFirst( QueryParamKeys.PATTERN );
 
-            // find Data services
-            uow = createTransaction(principal, "getDataservices", true ); //$NON-NLS-1$
-            Dataservice[] dataServices = null;
-
-            if ( StringUtils.isBlank( searchPattern ) ) {
-                dataServices = getWorkspaceManager(uow).findDataservices( uow );
-                LOGGER.debug( "getDataservices:found '{0}' Dataservices", dataServices.length ); //$NON-NLS-1$
-            } else {
-                final String[] dataservicePaths = getWorkspaceManager(uow).findByType( uow, DataVirtLexicon.DataService.NODE_TYPE, null, searchPattern, false );
-
-                if ( dataservicePaths.length == 0 ) {
-                    dataServices = Dataservice.NO_DATASERVICES;
-                } else {
-                    dataServices = new Dataservice[ dataservicePaths.length ];
-                    int i = 0;
-
-                    for ( final String path : dataservicePaths ) {
-                        dataServices[ i++ ] = getWorkspaceManager(uow).resolve( uow, new ObjectImpl( getWorkspaceManager(uow).getRepository(), path, 0 ), Dataservice.class );
-                    }
-
-                    LOGGER.debug( "getDataservices:found '{0}' DataServices using pattern '{1}'", dataServices.length, searchPattern ); //$NON-NLS-1$
-                }
-            }
-
             int start = 0;
 
             { // start query parameter
@@ -269,26 +247,26 @@ public final class KomodoDataserviceService extends KomodoService {
                 }
             }
 
-            final List< RestDataservice > entities = new ArrayList< >();
-            int i = 0;
+            // find data services, asking for one more than the page size to know if there is a next page
+            uow = createTransaction(principal, "getDataservices", true ); //$NON-NLS-1$
+            final WorkspaceManager wsMgr = getWorkspaceManager(uow);
+            final long limit = ( size == ALL_AVAILABLE ) ? Repository.NO_LIMIT : ( size + 1 );
+            final String[] paths = wsMgr.findByType( uow, DataVirtLexicon.DataService.NODE_TYPE, null, searchPattern, false, start, limit );
+            LOGGER.debug( "getDataservices:found '{0}' Dataservices starting at '{1}' using pattern '{2}'", paths.length, start, searchPattern ); //$NON-NLS-1$
 
-            KomodoProperties properties = new KomodoProperties();
-            for ( final Dataservice dataService : dataServices ) {
-                if ( ( start == 0 ) || ( i >= start ) ) {
-                    if ( ( size == ALL_AVAILABLE ) || ( entities.size() < size ) ) {
-                        RestDataservice entity = entityFactory.create(dataService, uriInfo.getBaseUri(), uow, properties);
-                        entities.add(entity);
-                        LOGGER.debug("getDataservices:Dataservice '{0}' entity was constructed", dataService.getName(uow)); //$NON-NLS-1$
-                    } else {
-                        break;
-                    }
-                }
+            final boolean hasNext = ( size != ALL_AVAILABLE ) && ( paths.length > size );
+            final int count = hasNext ? size : paths.length;
+            final List< RestDataservice > entities = new ArrayList< >( count );
+            final KomodoProperties properties = new KomodoProperties();
 
-                ++i;
+            for ( int i = 0; i < count; ++i ) {
+                final Dataservice dataService = wsMgr.resolve( uow, new ObjectImpl( wsMgr.getRepository(), paths[ i ], 0 ), Dataservice.class );
+                entities.add( entityFactory.create(dataService, uriInfo.getBaseUri(), uow, properties) );
+                LOGGER.debug("getDataservices:Dataservice '{0}' entity was constructed", dataService.getName(uow)); //$NON-NLS-1$
             }
 
             // create response
-            return commit( uow, mediaTypes, entities );
+            return commit( uow, mediaTypes, entities, uriInfo, ( hasNext ? ( start + size ) : -1 ) );
 
         } catch ( final Exception e ) {
             if ( ( uow != null ) && ( uow.getState() != State.ROLLED_BACK ) ) {
@@ -367,6 +345,8 @@ public final class KomodoDataserviceService extends KomodoService {
 
     /**
      * Create a new DataService in the komodo repository
+     * @param asyncResponse
+     *        the suspended response resumed with a JSON representation of the new dataservice (never <code>null</code>)
      * @param headers
      *        the request headers (never <code>null</code>)
      * @param uriInfo
@@ -375,7 +355,6 @@ public final class KomodoDataserviceService extends KomodoService {
      *        the dataservice name (cannot be empty)
      * @param dataserviceJson
      *        the dataservice JSON representation (cannot be <code>null</code>)
-     * @return a JSON representation of the new dataservice (never <code>null</code>)
      * @throws KomodoRestException
      *         if there is an error creating the DataService
      */
@@ -387,54 +366,63 @@ public final class KomodoDataserviceService extends KomodoService {
                   consumes=MediaType.APPLICATION_JSON
     )
     @ApiResponses(value = {
+        @ApiResponse(code = 202, message = "The change is still being committed. The location gives the URI of its status."),
         @ApiResponse(code = 406, message = "Only JSON is returned by this operation"),
         @ApiResponse(code = 403, message = "An error has occurred.")
     })
-    public Response createDataservice( final @Context HttpHeaders headers,
-                                       final @Context UriInfo uriInfo,
-                                       @ApiParam(
-                                                 value = "Name of the data service",
-                                                 required = true
-                                       )
-                                       final @PathParam( "dataserviceName" ) String dataserviceName,
-                                       @ApiParam(
-                                                 value = "" + 
-                                                         "JSON of the properties of the new data service:<br>" +
-                                                         OPEN_PRE_TAG +
-                                                         OPEN_BRACE + BR +
-                                                         NBSP + "keng\\_\\_id: \"id of the data service\"" + COMMA + BR +
-                                                         NBSP + OPEN_PRE_CMT + "(identical to dataserviceName parameter)" + CLOSE_PRE_CMT + BR + BR +
-                                                         NBSP + "tko__description: \"the description\"" + BR +
-                                                         CLOSE_BRACE +
-                                                         CLOSE_PRE_TAG,
-                                                 required = true
-                                       )
-                                       final String dataserviceJson) throws KomodoRestException {
+    public void createDataservice( final @Suspended AsyncResponse asyncResponse,
+                                   final @Context HttpHeaders headers,
+                                   final @Context UriInfo uriInfo,
+                                   @ApiParam(
+                                             value = "Name of the data service",
+                                             required = true
+                                   )
+                                   final @PathParam( "dataserviceName" ) String dataserviceName,
+                                   @ApiParam(
+                                             value = "" + 
+                                                     "JSON of the properties of the new data service:<br>" +
+                                                     OPEN_PRE_TAG +
+                                                     OPEN_BRACE + BR +
+                                                     NBSP + "keng\\_\\_id: \"id of the data service\"" + COMMA + BR +
+                                                     NBSP + OPEN_PRE_CMT + "(identical to dataserviceName parameter)" + CLOSE_PRE_CMT + BR + BR +
+                                                     NBSP + "tko__description: \"the description\"" + BR +
+                                                     CLOSE_BRACE +
+                                                     CLOSE_PRE_TAG,
+                                             required = true
+                                   )
+                                   final String dataserviceJson) throws KomodoRestException {
 
         SecurityPrincipal principal = checkSecurityContext(headers);
-        if (principal.hasErrorResponse())
-            return principal.getErrorResponse();
+        if (principal.hasErrorResponse()) {
+            asyncResponse.resume(principal.getErrorResponse());
+            return;
+        }
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
-        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE))
-            return notAcceptableMediaTypesBuilder().build();
+        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE)) {
+            asyncResponse.resume(notAcceptableMediaTypesBuilder().build());
+            return;
+        }
 
         // Error if the dataservice name is missing
         if (StringUtils.isBlank( dataserviceName )) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.DATASERVICE_SERVICE_CREATE_MISSING_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.DATASERVICE_SERVICE_CREATE_MISSING_NAME));
+            return;
         }
 
         final RestDataservice restDataservice = KomodoJsonMarshaller.unmarshall( dataserviceJson, RestDataservice.class );
         final String jsonDataserviceName = restDataservice.getId();
         // Error if the name is missing from the supplied json body
         if ( StringUtils.isBlank( jsonDataserviceName ) ) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.DATASERVICE_SERVICE_JSON_MISSING_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.DATASERVICE_SERVICE_JSON_MISSING_NAME));
+            return;
         }
 
         // Error if the name parameter is different than JSON name
         final boolean namesMatch = dataserviceName.equals( jsonDataserviceName );
         if ( !namesMatch ) {
-            return createErrorResponseWithForbidden(mediaTypes, DATASERVICE_SERVICE_SERVICE_NAME_ERROR, dataserviceName, jsonDataserviceName);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, DATASERVICE_SERVICE_SERVICE_NAME_ERROR, dataserviceName, jsonDataserviceName));
+            return;
         }
 
         UnitOfWork uow = null;
@@ -444,11 +432,12 @@ public final class KomodoDataserviceService extends KomodoService {
             
             // Error if the repo already contains a dataservice with the supplied name.
             if ( getWorkspaceManager(uow).hasChild( uow, dataserviceName ) ) {
-                return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.DATASERVICE_SERVICE_CREATE_ALREADY_EXISTS);
+                asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.DATASERVICE_SERVICE_CREATE_ALREADY_EXISTS));
+                return;
             }
 
             // create new Dataservice
-            return doAddDataservice( uow, uriInfo.getBaseUri(), mediaTypes, restDataservice );
+            doAddDataservice( uow, uriInfo, mediaTypes, restDataservice, asyncResponse );
 
         } catch (final Exception e) {
             if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
@@ -459,7 +448,7 @@ public final class KomodoDataserviceService extends KomodoService {
                 throw (KomodoRestException)e;
             }
 
-            return createErrorResponseWithForbidden(mediaTypes, e, DATASERVICE_SERVICE_CREATE_DATASERVICE_ERROR, dataserviceName);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, e, DATASERVICE_SERVICE_CREATE_DATASERVICE_ERROR, dataserviceName));
         }
     }
 
@@ -1460,6 +1449,8 @@ public final class KomodoDataserviceService extends KomodoService {
     
     /**
      * Update a Dataservice in the komodo repository
+     * @param asyncResponse
+     *        the suspended response resumed with a JSON representation of the updated dataservice (never <code>null</code>)
      * @param headers
      *        the request headers (never <code>null</code>)
      * @param uriInfo
@@ -1468,7 +1459,6 @@ public final class KomodoDataserviceService extends KomodoService {
      *        the dataservice name (cannot be empty)
      * @param dataserviceJson
      *        the dataservice JSON representation (cannot be <code>null</code>)
-     * @return a JSON representation of the updated dataservice (never <code>null</code>)
      * @throws KomodoRestException
      *         if there is an error updating the VDB
      */
@@ -1477,41 +1467,48 @@ public final class KomodoDataserviceService extends KomodoService {
     @Produces( MediaType.APPLICATION_JSON )
     @ApiOperation(value = "Update a dataservice in the workspace")
     @ApiResponses(value = {
+        @ApiResponse(code = 202, message = "The change is still being committed. The location gives the URI of its status."),
         @ApiResponse(code = 406, message = "Only JSON is returned by this operation"),
         @ApiResponse(code = 403, message = "An error has occurred.")
     })
-    public Response updateDataservice( final @Context HttpHeaders headers,
-                                       final @Context UriInfo uriInfo,
-                                       @ApiParam(
-                                                 value = "Name of the data service to be updated",
-                                                 required = true
-                                       )
-                                       final @PathParam( "dataserviceName" ) String dataserviceName,
-                                       @ApiParam(
-                                                 value = "" + 
-                                                         "JSON of the data service properties to update:<br>" +
-                                                         OPEN_PRE_TAG +
-                                                         OPEN_BRACE + BR +
-                                                         NBSP + "keng\\_\\_id: \"id of the data service\"" + COMMA + BR +
-                                                         NBSP + OPEN_PRE_CMT + "(identical to dataserviceName parameter)" + CLOSE_PRE_CMT + BR + BR +
-                                                         NBSP + "tko__description: \"the description\"" + BR +
-                                                         CLOSE_BRACE +
-                                                         CLOSE_PRE_TAG,
-                                                 required = true
-                                       )
-                                       final String dataserviceJson) throws KomodoRestException {
+    public void updateDataservice( final @Suspended AsyncResponse asyncResponse,
+                                   final @Context HttpHeaders headers,
+                                   final @Context UriInfo uriInfo,
+                                   @ApiParam(
+                                             value = "Name of the data service to be updated",
+                                             required = true
+                                   )
+                                   final @PathParam( "dataserviceName" ) String dataserviceName,
+                                   @ApiParam(
+                                             value = "" + 
+                                                     "JSON of the data service properties to update:<br>" +
+                                                     OPEN_PRE_TAG +
+                                                     OPEN_BRACE + BR +
+                                                     NBSP + "keng\\_\\_id: \"id of the data service\"" + COMMA + BR +
+                                                     NBSP + OPEN_PRE_CMT + "(identical to dataserviceName parameter)" + CLOSE_PRE_CMT + BR + BR +
+                                                     NBSP + "tko__description: \"the description\"" + BR +
+                                                     CLOSE_BRACE +
+                                                     CLOSE_PRE_TAG,
+                                             required = true
+                                   )
+                                   final String dataserviceJson) throws KomodoRestException {
 
         SecurityPrincipal principal = checkSecurityContext(headers);
-        if (principal.hasErrorResponse())
-            return principal.getErrorResponse();
+        if (principal.hasErrorResponse()) {
+            asyncResponse.resume(principal.getErrorResponse());
+            return;
+        }
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
-        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE))
-            return notAcceptableMediaTypesBuilder().build();
+        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE)) {
+            asyncResponse.resume(notAcceptableMediaTypesBuilder().build());
+            return;
+        }
 
         // Error if the dataservice name is missing 
         if (StringUtils.isBlank( dataserviceName )) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.DATASERVICE_SERVICE_UPDATE_MISSING_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.DATASERVICE_SERVICE_UPDATE_MISSING_NAME));
+            return;
         }
 
 
@@ -1519,7 +1516,8 @@ public final class KomodoDataserviceService extends KomodoService {
         final String jsonDataserviceName = restDataservice.getId();
         // Error if the name is missing from the supplied json body
         if ( StringUtils.isBlank( jsonDataserviceName ) ) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.DATASERVICE_SERVICE_JSON_MISSING_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.DATASERVICE_SERVICE_JSON_MISSING_NAME));
+            return;
         }
 
         UnitOfWork uow = null;
@@ -1529,7 +1527,8 @@ public final class KomodoDataserviceService extends KomodoService {
             final boolean exists = getWorkspaceManager(uow).hasChild( uow, dataserviceName );
             // Error if the specified service does not exist
             if ( !exists ) {
-                return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.DATASERVICE_SERVICE_SERVICE_DNE);
+                asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.DATASERVICE_SERVICE_SERVICE_DNE));
+                return;
             }
 
             // must be an update
@@ -1548,8 +1547,7 @@ public final class KomodoDataserviceService extends KomodoService {
             KomodoProperties properties = new KomodoProperties();
             final RestDataservice entity = entityFactory.create(dataservice, uriInfo.getBaseUri(), uow, properties);
             LOGGER.debug("updateDataservice: dataservice '{0}' entity was updated", dataservice.getName(uow)); //$NON-NLS-1$
-            final Response response = commit( uow, headers.getAcceptableMediaTypes(), entity );
-            return response;
+            commit( uow, headers.getAcceptableMediaTypes(), entity, uriInfo, asyncResponse );
         } catch (final Exception e) {
             if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
                 uow.rollback();
@@ -1559,14 +1557,15 @@ public final class KomodoDataserviceService extends KomodoService {
                 throw (KomodoRestException)e;
             }
 
-            return createErrorResponseWithForbidden(mediaTypes, e, DATASERVICE_SERVICE_UPDATE_DATASERVICE_ERROR);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, e, DATASERVICE_SERVICE_UPDATE_DATASERVICE_ERROR));
         }
     }
 
-    private Response doAddDataservice( final UnitOfWork uow,
-                                       final URI baseUri,
-                                       final List<MediaType> mediaTypes,
-                                       final RestDataservice restDataservice ) throws KomodoRestException {
+    private void doAddDataservice( final UnitOfWork uow,
+                                   final UriInfo uriInfo,
+                                   final List<MediaType> mediaTypes,
+                                   final RestDataservice restDataservice,
+                                   final AsyncResponse asyncResponse ) throws KomodoRestException {
         assert( !uow.isRollbackOnly() );
         assert( uow.getState() == State.NOT_STARTED );
         assert( restDataservice != null );
@@ -1578,9 +1577,8 @@ public final class KomodoDataserviceService extends KomodoService {
             // Transfers the properties from the rest object to the created komodo service.
             setProperties(uow, dataservice, restDataservice);
 
-            final RestDataservice entity = entityFactory.create(dataservice, baseUri, uow );
-            final Response response = commit( uow, mediaTypes, entity );
-            return response;
+            final RestDataservice entity = entityFactory.create(dataservice, uriInfo.getBaseUri(), uow );
+            commit( uow, mediaTypes, entity, uriInfo, asyncResponse );
         } catch ( final Exception e ) {
             if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
                 uow.rollback();
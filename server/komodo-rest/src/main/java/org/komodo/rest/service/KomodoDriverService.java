@@ -43,10 +43,10 @@ import org.komodo.rest.KomodoService;
 import org.komodo.rest.relational.RelationalMessages;
 import org.komodo.rest.relational.response.RestConnectionDriver;
 import org.komodo.spi.constants.StringConstants;
+import org.komodo.spi.repository.Repository;
 import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.spi.repository.Repository.UnitOfWork.State;
 import org.komodo.spi.runtime.ConnectionDriver;
-import org.komodo.utils.StringUtils;
 import org.teiid.modeshape.sequencer.dataservice.lexicon.DataVirtLexicon;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiImplicitParam;
@@ -124,31 +124,6 @@ public final class KomodoDriverService extends KomodoService {
         try {
             final String searchPattern = uriInfo.getQueryParameters().getFirst( QueryParamKeys.PATTERN );
 
-            // find Drivers
-            uow = createTransaction(principal, "getDrivers", true ); //$NON-NLS-1$
-            Driver[] drivers = null;
-            WorkspaceManager wsMgr = getWorkspaceManager(uow);
-
-            if ( StringUtils.isBlank( searchPattern ) ) {
-                drivers = wsMgr.findDrivers( uow );
-                LOGGER.debug( "getDrivers:found '{0}' Drivers", drivers.length ); //$NON-NLS-1$
-            } else {
-                final String[] driverPaths = wsMgr.findByType( uow, DataVirtLexicon.ResourceFile.DRIVER_FILE_NODE_TYPE, null, searchPattern, false );
-
-                if ( driverPaths.length == 0 ) {
-                    drivers = Driver.NO_DRIVERS;
-                } else {
-                    drivers = new Driver[ driverPaths.length ];
-                    int i = 0;
-
-                    for ( final String path : driverPaths ) {
-                        drivers[ i++ ] = wsMgr.resolve( uow, new ObjectImpl( wsMgr.getRepository(), path, 0 ), Driver.class );
-                    }
-
-                    LOGGER.debug( "getDrivers:found '{0}' Drivers using pattern '{1}'", drivers.length, searchPattern ); //$NON-NLS-1$
-                }
-            }
-
             int start = 0;
 
             { // start query parameter
@@ -187,26 +162,25 @@ public final class KomodoDriverService extends KomodoService {
                 }
             }
 
-            final List< RestConnectionDriver > entities = new ArrayList< >();
-            int i = 0;
-
-            for ( final Driver driver : drivers ) {
-                if ( ( start == 0 ) || ( i >= start ) ) {
-                    if ( ( size == ALL_AVAILABLE ) || ( entities.size() < size ) ) {
-                        ConnectionDriver aDriver = new ConnectionDriver(driver.getName(uow),null);
-                        RestConnectionDriver entity = new RestConnectionDriver(aDriver);
-                        entities.add(entity);
-                        LOGGER.debug("getDrivers:Driver '{0}' entity was constructed", driver.getName(uow)); //$NON-NLS-1$
-                    } else {
-                        break;
-                    }
-                }
-
-                ++i;
+            // find drivers, asking for one more than the page size to know if there is a next page
+            uow = createTransaction(principal, "getDrivers", true ); //$NON-NLS-1$
+            final WorkspaceManager wsMgr = getWorkspaceManager(uow);
+            final long limit = ( size == ALL_AVAILABLE ) ? Repository.NO_LIMIT : ( size + 1 );
+            final String[] paths = wsMgr.findByType( uow, DataVirtLexicon.ResourceFile.DRIVER_FILE_NODE_TYPE, null, searchPattern, false, start, limit );
+            LOGGER.debug( "getDrivers:found '{0}' Drivers starting at '{1}' using pattern '{2}'", paths.length, start, searchPattern ); //$NON-NLS-1$
+
+            final boolean hasNext = ( size != ALL_AVAILABLE ) && ( paths.length > size );
+            final int count = hasNext ? size : paths.length;
+            final List< RestConnectionDriver > entities = new ArrayList< >( count );
+
+            for ( int i = 0; i < count; ++i ) {
+                final Driver driver = wsMgr.resolve( uow, new ObjectImpl( wsMgr.getRepository(), paths[ i ], 0 ), Driver.class );
+                entities.add( new RestConnectionDriver( new ConnectionDriver( driver.getName(uow), null ) ) );
+                LOGGER.debug("getDrivers:Driver '{0}' entity was constructed", driver.getName(uow)); //$NON-NLS-1$
             }
 
             // create response
-            return commit( uow, mediaTypes, entities );
+            return commit( uow, mediaTypes, entities, uriInfo, ( hasNext ? ( start + size ) : -1 ) );
 
         } catch ( final Exception e ) {
             if ( ( uow != null ) && ( uow.getState() != State.ROLLED_BACK ) ) {
@@ -23,6 +23,9 @@ package org.komodo.rest.service;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -34,11 +37,14 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import org.komodo.core.KEngine;
 import org.komodo.importer.ImportMessages;
@@ -187,12 +193,60 @@ public class KomodoImportExportService extends KomodoService {
                                        required = true
                              )
                              final String storageAttributes) throws KomodoRestException {
+        return export(headers, storageAttributes, MediaType.APPLICATION_JSON_TYPE, "exportFromWorkspace", new ExportHandler() { //$NON-NLS-1$
+
+            @Override
+            public Response exported(UnitOfWork uow,
+                                     List<MediaType> mediaTypes,
+                                     KomodoStorageAttributes sta,
+                                     Exportable artifact,
+                                     String downloadable) throws Exception {
+                ImportExportStatus status = new ImportExportStatus();
+                status.setName(artifact.getName(uow));
+                status.setType(artifact.getDocumentType(uow).toString());
+
+                //
+                // 2 Return possibilities:
+                // a) Artifact exported to storage but not returned in response
+                // b) Artifact available at server file location so return as content
+                //
+                status.setDownloadable(downloadable != null);
+
+                applyContent(status, downloadable);
+
+                status.setSuccess(true);
+
+                return commit( uow, mediaTypes, status );
+            }
+        });
+    }
+
+    /*
+     * Called with the result of an export before its transaction has been committed
+     */
+    private interface ExportHandler {
+
+        Response exported(UnitOfWork uow,
+                          List<MediaType> mediaTypes,
+                          KomodoStorageAttributes sta,
+                          Exportable artifact,
+                          String downloadable) throws Exception;
+    }
+
+    /*
+     * Exports the artifact described by the storage attributes and lets the handler build the response
+     */
+    private Response export(HttpHeaders headers,
+                            String storageAttributes,
+                            MediaType responseType,
+                            String transactionName,
+                            ExportHandler handler) throws KomodoRestException {
         SecurityPrincipal principal = checkSecurityContext(headers);
         if (principal.hasErrorResponse())
             return principal.getErrorResponse();
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
-        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE))
+        if (! isAcceptable(mediaTypes, responseType))
             return notAcceptableMediaTypesBuilder().build();
 
         KomodoStorageAttributes sta;
@@ -207,10 +261,9 @@ public class KomodoImportExportService extends KomodoService {
             return createErrorResponseWithForbidden(mediaTypes, ex, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_REQUEST_PARSING_ERROR);
         }
 
-        ImportExportStatus status = new ImportExportStatus();
         UnitOfWork uow = null;
         try {
-            uow = createTransaction(principal, "exportFromWorkspace", true); //$NON-NLS-1$
+            uow = createTransaction(principal, transactionName, true);
 
             String artifactPath = sta.getArtifactPath();
             KomodoObject kObject = repo.getFromWorkspace(uow, artifactPath);
@@ -223,30 +276,14 @@ public class KomodoImportExportService extends KomodoService {
                 return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_ARTIFACT_NOT_EXPORTABLE_ERROR, artifactPath);
             }
 
-            DocumentType documentType = artifact.getDocumentType(uow);
             Properties parameters = sta.convertParameters();
             if (! parameters.containsKey(StorageConnector.FILE_PATH_PROPERTY)) {
-                String fileName = documentType.fileName(artifact.getName(uow));
+                String fileName = artifact.getDocumentType(uow).fileName(artifact.getName(uow));
                 parameters.setProperty(StorageConnector.FILE_PATH_PROPERTY, fileName);
             }
 
-            status.setName(artifact.getName(uow));
-            status.setType(documentType.toString());
-
             String downloadable = getWorkspaceManager(uow).exportArtifact(uow, artifact, sta.getStorageType(), parameters);
-
-            //
-            // 2 Return possibilities:
-            // a) Artifact exported to storage but not returned in response
-            // b) Artifact available at server file location so return as content
-            //
-            status.setDownloadable(downloadable != null);
-
-            applyContent(status, downloadable);
-
-            status.setSuccess(true);
-
-            return commit( uow, mediaTypes, status );
+            return handler.exported(uow, mediaTypes, sta, artifact, downloadable);
 
         } catch (final Exception e) {
             if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
@@ -275,8 +312,8 @@ public class KomodoImportExportService extends KomodoService {
             String encContent = encode(content);
             status.setContent(encContent);
 
-            KLog.getLogger().debug("Encrypted content of " + downloadableFile.getAbsolutePath() + ": " + encContent + " SIZE: "
-                                  + downloadableFile.length());
+            KLog.getLogger().debug("Encoded content of {0} SIZE: {1}", downloadableFile.getAbsolutePath(), //$NON-NLS-1$
+                                   downloadableFile.length());
 
         } finally {
             stream.close();
@@ -284,15 +321,87 @@ public class KomodoImportExportService extends KomodoService {
     }
 
     /**
-     * Imports an artifact into the workspace.
+     * Exports an artifact from the workspace and returns the exported file as the response body. The file is streamed to
+     * the client rather than being encoded into a JSON document so the storage type must produce a downloadable file.
+     *
+     * @param headers
+     *        the request headers (never <code>null</code>)
+     * @param uriInfo
+     *        the request URI information (never <code>null</code>)
+     * @param export attributes
+     *        the export attributes JSON representation (cannot be <code>null</code>)
+     * @return the content of the exported file (never <code>null</code>)
+     * @throws KomodoRestException
+     *         if there is a problem with the export
+     */
+    @POST
+    @Path(V1Constants.DOWNLOAD)
+    @Produces( MediaType.APPLICATION_OCTET_STREAM )
+    @Consumes ( { MediaType.APPLICATION_JSON } )
+    @ApiOperation(value = "Exports an artifact using parameters provided in the request body and returns the exported file")
+    @ApiResponses(value = {
+        @ApiResponse(code = 406, message = "Only an octet stream is returned by this operation"),
+        @ApiResponse(code = 403, message = "An error has occurred.")
+    })
+    public Response downloadArtifact( final @Context HttpHeaders headers,
+                             final @Context UriInfo uriInfo,
+                             @ApiParam(
+                                       value = "" +
+                                               "JSON of the storage attributes, as for the export operation. " +
+                                               "The storage type must produce a downloadable file, eg. 'file'",
+                                       required = true
+                             )
+                             final String storageAttributes) throws KomodoRestException {
+        return export(headers, storageAttributes, MediaType.APPLICATION_OCTET_STREAM_TYPE, "downloadFromWorkspace", new ExportHandler() { //$NON-NLS-1$
+
+            @Override
+            public Response exported(UnitOfWork uow,
+                                     List<MediaType> mediaTypes,
+                                     KomodoStorageAttributes sta,
+                                     Exportable artifact,
+                                     String downloadable) throws Exception {
+                if (downloadable == null) {
+                    return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_NOT_DOWNLOADABLE_ERROR,
+                                                            sta.getArtifactPath(), sta.getStorageType());
+                }
+
+                Response response = commit(uow, mediaTypes);
+                if (response.getStatus() != Status.OK.getStatusCode())
+                    return response;
+
+                final File downloadableFile = new File(downloadable);
+                StreamingOutput content = new StreamingOutput() {
+
+                    @Override
+                    public void write(OutputStream output) throws IOException, WebApplicationException {
+                        try (InputStream stream = new FileInputStream(downloadableFile)) {
+                            FileUtils.write(stream, output);
+                        }
+                    }
+                };
+
+                return Response.ok(content, MediaType.APPLICATION_OCTET_STREAM_TYPE)
+                               .header(HttpHeaders.CONTENT_LENGTH, downloadableFile.length())
+                               .header(HttpHeaders.CONTENT_DISPOSITION,
+                                       "attachment; filename=\"" + downloadableFile.getName() + "\"") //$NON-NLS-1$ //$NON-NLS-2$
+                               .build();
+            }
+        });
+    }
+
+    /**
+     * Imports an artifact into the workspace. The request thread is released once the import has been committed and the
+     * response is resumed when the repository has finished sequencing the imported artifact.
      *
+     * @param asyncResponse
+     *        the suspended response resumed with a status object indicating success / failure of the import (never
+     *        <code>null</code>)
      * @param headers
      *        the request headers (never <code>null</code>)
      * @param uriInfo
      *        the request URI information (never <code>null</code>)
      * @param import attributes
      *        the import attributes JSON representation (cannot be <code>null</code>)
-     * @return a status object indicating success / failure of the import
      * @throws KomodoRestException
      *         if there is a problem with the import
      */
@@ -303,10 +412,12 @@ public class KomodoImportExportService extends KomodoService {
     @ApiOperation(value = "Imports an artifact using parameters provided in the request body",
                              response = ImportExportStatus.class)
     @ApiResponses(value = {
+        @ApiResponse(code = 202, message = "The import is still being committed. The location gives the URI of its status."),
         @ApiResponse(code = 406, message = "Only JSON is returned by this operation"),
         @ApiResponse(code = 403, message = "An error has occurred.")
     })
-    public Response importArtifact( final @Context HttpHeaders headers,
+    public void importArtifact( final @Suspended AsyncResponse asyncResponse,
+                             final @Context HttpHeaders headers,
                              final @Context UriInfo uriInfo,
                              @ApiParam(
                                        value = "" + 
@@ -334,22 +445,29 @@ public class KomodoImportExportService extends KomodoService {
                              )
                              final String storageAttributes) throws KomodoRestException {
         SecurityPrincipal principal = checkSecurityContext(headers);
-        if (principal.hasErrorResponse())
-            return principal.getErrorResponse();
+        if (principal.hasErrorResponse()) {
+            asyncResponse.resume(principal.getErrorResponse());
+            return;
+        }
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
-        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE))
-            return notAcceptableMediaTypesBuilder().build();
+        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE)) {
+            asyncResponse.resume(notAcceptableMediaTypesBuilder().build());
+            return;
+        }
 
         KomodoStorageAttributes sta;
         try {
             sta = KomodoJsonMarshaller.unmarshall(storageAttributes, KomodoStorageAttributes.class);
             Response response = checkStorageAttributes(sta, mediaTypes);
-            if (response.getStatus() != Status.OK.getStatusCode())
-                return response;
+            if (response.getStatus() != Status.OK.getStatusCode()) {
+                asyncResponse.resume(response);
+                return;
+            }
 
         } catch (Exception ex) {
-            return createErrorResponseWithForbidden(mediaTypes, ex, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_REQUEST_PARSING_ERROR);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, ex, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_REQUEST_PARSING_ERROR));
+            return;
         }
 
         File cttFile = null;
@@ -375,7 +493,8 @@ public class KomodoImportExportService extends KomodoService {
 
             Properties parameters = sta.convertParameters();
             if (! parameters.containsKey(StorageConnector.FILE_PATH_PROPERTY)) {
-                return createErrorResponse(Status.FORBIDDEN, mediaTypes, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_NO_FILE_PATH_ERROR);
+                asyncResponse.resume(createErrorResponse(Status.FORBIDDEN, mediaTypes, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_NO_FILE_PATH_ERROR));
+                return;
             }
 
             uow = createTransaction(principal, "importToWorkspace", false); //$NON-NLS-1$
@@ -386,7 +505,8 @@ public class KomodoImportExportService extends KomodoService {
             if(!StringUtils.isEmpty(artifactPath)) {
             	importTarget = repo.getFromWorkspace(uow, artifactPath);
                 if (importTarget == null) {
-                    return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_NO_ARTIFACT_ERROR, artifactPath);
+                    asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_NO_ARTIFACT_ERROR, artifactPath));
+                    return;
                 }
             }
 
@@ -414,7 +534,8 @@ public class KomodoImportExportService extends KomodoService {
             
             ImportMessages messages = getWorkspaceManager(uow).importArtifact(uow, importTarget, storageRef, importOptions);
             if (messages.hasError()) {
-                return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_IMPORT_ARTIFACT_ERROR, messages.errorMessagesToString());
+                asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.IMPORT_EXPORT_SERVICE_IMPORT_ARTIFACT_ERROR, messages.errorMessagesToString()));
+                return;
             }
 
             status.setSuccess(true);
@@ -431,16 +552,16 @@ public class KomodoImportExportService extends KomodoService {
             
             status.setType(sta.getDocumentType().toString());
 
-            return commit( uow, mediaTypes, status );
+            commit( uow, mediaTypes, status, uriInfo, asyncResponse );
 
         } catch (final Exception e) {
             if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
                 uow.rollback();
             }
 
-            return createErrorResponse(Status.FORBIDDEN, mediaTypes, e,
-                                       RelationalMessages.Error.IMPORT_EXPORT_SERVICE_IMPORT_ERROR,
-                                       sta.getStorageType());
+            asyncResponse.resume(createErrorResponse(Status.FORBIDDEN, mediaTypes, e,
+                                                     RelationalMessages.Error.IMPORT_EXPORT_SERVICE_IMPORT_ERROR,
+                                                     sta.getStorageType()));
         } finally {
             //
             // Clean up the temporary file if applicable
@@ -35,6 +35,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 import javax.naming.InitialContext;
 import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
@@ -54,6 +55,7 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import org.komodo.core.KEngine;
 import org.komodo.importer.ImportMessages;
@@ -68,6 +70,8 @@ import org.komodo.relational.model.Model.Type;
 import org.komodo.relational.resource.Driver;
 import org.komodo.relational.teiid.CachedTeiid;
 import org.komodo.relational.teiid.Teiid;
+import org.komodo.relational.teiid.TeiidCacheSynchronizer;
+import org.komodo.relational.teiid.TeiidCacheSynchronizer.Kind;
 import org.komodo.relational.template.Template;
 import org.komodo.relational.template.TemplateEntry;
 import org.komodo.relational.vdb.ModelSource;
@@ -96,6 +100,7 @@ import org.komodo.rest.relational.request.KomodoVdbUpdateAttributes;
 import org.komodo.rest.relational.response.KomodoStatusObject;
 import org.komodo.rest.relational.response.RestConnectionDriver;
 import org.komodo.rest.relational.response.RestQueryResult;
+import org.komodo.rest.relational.response.RestQueryResultStream;
 import org.komodo.rest.relational.response.RestTeiid;
 import org.komodo.rest.relational.response.RestTeiidDataSourceJdbcCatalogSchemaInfo;
 import org.komodo.rest.relational.response.RestTeiidStatus;
@@ -105,12 +110,15 @@ import org.komodo.rest.relational.response.RestVdbTranslator;
 import org.komodo.spi.KException;
 import org.komodo.spi.constants.StringConstants;
 import org.komodo.spi.outcome.Outcome;
+import org.komodo.spi.query.QSCursor;
 import org.komodo.spi.query.QSResult;
 import org.komodo.spi.query.QueryService;
 import org.komodo.spi.repository.KomodoObject;
 import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.spi.repository.Repository.UnitOfWork.State;
 import org.komodo.spi.runtime.ConnectionDriver;
+import org.komodo.spi.runtime.DeploymentWaiter;
+import org.komodo.spi.runtime.DeploymentWaiter.Outcome;
 import org.komodo.spi.runtime.ExecutionAdmin;
 import org.komodo.spi.runtime.ExecutionAdmin.ConnectivityType;
 import org.komodo.spi.runtime.TeiidDataSource;
@@ -160,10 +168,15 @@ public class KomodoTeiidService extends KomodoService {
     private final static String UNKNOWN_TRANSLATOR = "unknown"; //$NON-NLS-1$
 
     /**
-     * Time to wait after deploying/undeploying an artifact from the teiid instance
+     * Longest time to wait for an artifact to be deployed to/undeployed from the teiid instance
      */
     private final static int DEPLOYMENT_WAIT_TIME = 10000;
 
+    /**
+     * Status attribute holding the failure or time out of waiting for an artifact
+     */
+    private final static String DEPLOYMENT_ERROR = "deploymentError"; //$NON-NLS-1$
+
     private static class TemplateEntryComparator implements Comparator<TemplateEntry> {
 
         private static String[] priorityNames = {"connection-url", "user-name", "password", "port"};
@@ -254,154 +267,104 @@ public class KomodoTeiidService extends KomodoService {
         }
     }
 
-    private synchronized CachedTeiid importContent(Teiid teiid) throws KException {
-        UnitOfWork uow = null;
-        try {
-            uow = systemTx("import-teiid-content", false);
-            CachedTeiid cachedTeiid = teiid.importContent(uow);
-
-            // Commit the transaction to allow the sequencers to run
-            uow.commit();
-
-            // Await the sequencers to finish
-            awaitCallback(uow);
+    /*
+     * Get the last synchronized cache of the teiid. Only waits on a synchronization if the teiid has not been
+     * cached yet or the cache is older than the staleness bound requested by the client.
+     */
+    private CachedTeiid importContent(Teiid teiid, UriInfo uriInfo) throws KException {
+        long maxStaleness = Long.MAX_VALUE;
+        String staleness = uriInfo.getQueryParameters().getFirst(QueryParamKeys.MAX_STALENESS);
+        if (staleness != null)
+            maxStaleness = Long.parseLong(staleness); // already checked by checkMaxStaleness
 
-            return cachedTeiid;
+        try {
+            return TeiidCacheSynchronizer.getInstance(repo).getCachedTeiid(teiid, maxStaleness);
         } catch (KException ex) {
             KEngine.getInstance().getErrorHandler().error(ex);
-            if (uow != null)
-                uow.rollback();
-
             throw ex;
         }
     }
 
-    private synchronized void refreshCachedDataSources(Teiid teiid, String... dataSourceNames) throws KException {
-        CachedTeiid cachedTeiid = importContent(teiid);
-
-        UnitOfWork uow = null;
+    private void refreshCache(Teiid teiid, Kind kind, String... names) throws KException {
         try {
-            uow = systemTx("refresh-teiid-content", false);
-            TeiidInstance teiidInstance = teiid.getTeiidInstance(uow);
-
-            cachedTeiid.refreshConnections(uow, teiidInstance, dataSourceNames);
-
-            // Commit the transaction to allow the sequencers to run
-            uow.commit();
-
-            // Await the sequencers to finish
-            awaitCallback(uow);
-
+            TeiidCacheSynchronizer.getInstance(repo).awaitRefresh(teiid, kind, names);
         } catch (KException ex) {
             KEngine.getInstance().getErrorHandler().error(ex);
-            if (uow != null)
-                uow.rollback();
-
             throw ex;
         }
     }
 
-    private synchronized void refreshCachedDrivers(Teiid teiid, String... driverNames) throws KException {
-        CachedTeiid cachedTeiid = importContent(teiid);
-
-        UnitOfWork uow = null;
+    private void awaitRefresh(Teiid teiid, Future<Void> refresh) throws KException {
         try {
-            uow = systemTx("refresh-teiid-content", false);
-            TeiidInstance teiidInstance = teiid.getTeiidInstance(uow);
-
-            cachedTeiid.refreshDrivers(uow, teiidInstance, driverNames);
-
-            //
-            // Templates are dependent on which drivers are present
-            // so these should be refreshed as well
-            //
-            cachedTeiid.refreshTemplates(uow, teiidInstance);
-
-            // Commit the transaction to allow the sequencers to run
-            uow.commit();
-
-            // Await the sequencers to finish
-            awaitCallback(uow);
-
+            TeiidCacheSynchronizer.getInstance(repo).await(teiid, refresh);
         } catch (KException ex) {
             KEngine.getInstance().getErrorHandler().error(ex);
-            if (uow != null)
-                uow.rollback();
-
             throw ex;
         }
     }
 
-    private synchronized void refreshCachedVdbs(Teiid teiid, String... vdbNames) throws KException {
-        CachedTeiid cachedTeiid = importContent(teiid);
-
-        UnitOfWork uow = null;
-        try {
-            uow = systemTx("refresh-teiid-content", false);
-            TeiidInstance teiidInstance = teiid.getTeiidInstance(uow);
-
-            cachedTeiid.refreshVdbs(uow, teiidInstance, vdbNames);
-
-            // Commit the transaction to allow the sequencers to run
-            uow.commit();
-
-            // Await the sequencers to finish
-            awaitCallback(uow);
+    private void refreshCachedDataSources(Teiid teiid, String... dataSourceNames) throws KException {
+        refreshCache(teiid, Kind.CONNECTIONS, dataSourceNames);
+    }
 
-        } catch (KException ex) {
-            KEngine.getInstance().getErrorHandler().error(ex);
-            if (uow != null)
-                uow.rollback();
+    private void refreshCachedDrivers(Teiid teiid, String... driverNames) throws KException {
+        Future<Void> driversRefresh = TeiidCacheSynchronizer.getInstance(repo).requestRefresh(teiid, Kind.DRIVERS, driverNames);
 
-            throw ex;
-        }
+        //
+        // Templates are dependent on which drivers are present
+        // so these should be refreshed as well
+        //
+        refreshCache(teiid, Kind.TEMPLATES);
+        awaitRefresh(teiid, driversRefresh);
     }
 
-    private synchronized void refreshCachedFromDataService(Teiid teiid, Dataservice dataService) throws KException {
-        CachedTeiid cachedTeiid = importContent(teiid);
+    private void refreshCachedVdbs(Teiid teiid, String... vdbNames) throws KException {
+        refreshCache(teiid, Kind.VDBS, vdbNames);
+    }
 
+    private void refreshCachedFromDataService(Teiid teiid, Dataservice dataService) throws KException {
         UnitOfWork uow = null;
+        String[] dataSourceNames;
+        String[] driverNames;
+        String[] vdbNames;
         try {
-            uow = systemTx("refresh-teiid-content", false);
-            TeiidInstance teiidInstance = teiid.getTeiidInstance(uow);
+            uow = systemTx("refresh-teiid-content", true);
 
             // DataSources
             Connection[] dataSources = dataService.getConnections(uow);
-            String[] dataSourceNames = new String[dataSources.length];
+            dataSourceNames = new String[dataSources.length];
             for (int i = 0; i < dataSources.length; i++) {
                 dataSourceNames[i] = dataSources[i].getJndiName(uow);
             }
-            cachedTeiid.refreshConnections(uow, teiidInstance, dataSourceNames);
 
             // Drivers
             Driver[] drivers = dataService.getDrivers(uow);
-            String[] driverNames = new String[drivers.length];
+            driverNames = new String[drivers.length];
             for (int i = 0; i < drivers.length; i++) {
                 driverNames[i] = drivers[i].getName(uow);
             }
-            cachedTeiid.refreshDrivers(uow, teiidInstance, driverNames);
 
             // VDBs
             Vdb[] vdbs = dataService.getVdbs(uow);
-            String[] vdbNames = new String[vdbs.length];
+            vdbNames = new String[vdbs.length];
             for (int i = 0; i < vdbs.length; i++) {
                 vdbNames[i] = vdbs[i].getName(uow);
             }
-            cachedTeiid.refreshVdbs(uow, teiidInstance, vdbNames);
-
-            // Commit the transaction to allow the sequencers to run
-            uow.commit();
-
-            // Await the sequencers to finish
-            awaitCallback(uow);
-
         } catch (KException ex) {
             KEngine.getInstance().getErrorHandler().error(ex);
+            throw ex;
+        } finally {
             if (uow != null)
                 uow.rollback();
-
-            throw ex;
         }
+
+        // Refreshes are coalesced so they are requested together and each is then checked for failure
+        TeiidCacheSynchronizer synchronizer = TeiidCacheSynchronizer.getInstance(repo);
+        Future<Void> dataSourcesRefresh = synchronizer.requestRefresh(teiid, Kind.CONNECTIONS, dataSourceNames);
+        Future<Void> driversRefresh = synchronizer.requestRefresh(teiid, Kind.DRIVERS, driverNames);
+        refreshCache(teiid, Kind.VDBS, vdbNames);
+        awaitRefresh(teiid, dataSourcesRefresh);
+        awaitRefresh(teiid, driversRefresh);
     }
 
     private String getSchema(UnitOfWork uow, String vdbName, String modelName) throws Exception {
@@ -439,6 +402,22 @@ public class KomodoTeiidService extends KomodoService {
         return Response.ok().build();
     }
 
+    private Response checkMaxStaleness(UriInfo uriInfo, List<MediaType> mediaTypes) {
+        String staleness = uriInfo.getQueryParameters().getFirst(QueryParamKeys.MAX_STALENESS);
+        if (staleness == null)
+            return Response.ok().build();
+
+        try {
+            if (Long.parseLong(staleness) >= 0)
+                return Response.ok().build();
+        } catch (NumberFormatException ex) {
+            // reported below
+        }
+
+        return createErrorResponse(Status.BAD_REQUEST, mediaTypes, RelationalMessages.Error.TEIID_SERVICE_INVALID_MAX_STALENESS,
+                                   staleness);
+    }
+
     private Response checkFileAttributes(KomodoFileAttributes kfa, List<MediaType> mediaTypes) throws Exception {
         if (kfa == null || (kfa.getName() == null && kfa.getContent() == null))
             return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.TEIID_SERVICE_FILE_ATTRIB_NO_PARAMETERS);
@@ -452,6 +431,49 @@ public class KomodoTeiidService extends KomodoService {
         return Response.ok().build();
     }
 
+    /**
+     * @param teiidInstance the teiid instance being deployed to
+     * @return a waiter that returns as soon as the deployed/undeployed artifact is ready or {@link #DEPLOYMENT_WAIT_TIME} has passed
+     */
+    private DeploymentWaiter deploymentWaiter(TeiidInstance teiidInstance) {
+        return new DeploymentWaiter(teiidInstance, DEPLOYMENT_WAIT_TIME);
+    }
+
+    /**
+     * @param artifactName the name of the artifact waited for
+     * @param outcome the result of waiting for the artifact
+     * @return the error message for a failed or timed out wait or <code>null</code> if the artifact is ready
+     */
+    private String deploymentError(String artifactName, Outcome outcome) {
+        switch (outcome) {
+            case FAILED:
+                return RelationalMessages.getString(RelationalMessages.Error.TEIID_SERVICE_DEPLOYMENT_FAILED, artifactName);
+            case TIMED_OUT:
+                return RelationalMessages.getString(RelationalMessages.Error.TEIID_SERVICE_DEPLOYMENT_TIMED_OUT,
+                                                    artifactName, DEPLOYMENT_WAIT_TIME);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Adds the error, if any, of waiting for an artifact to the deployment status
+     */
+    private void addDeploymentError(DeployStatus deployStatus, String artifactName, Outcome outcome) {
+        String error = deploymentError(artifactName, outcome);
+        if (error != null)
+            deployStatus.addErrorMessage(error);
+    }
+
+    /**
+     * Adds the error, if any, of waiting for an artifact to the status object
+     */
+    private void addDeploymentError(KomodoStatusObject status, String artifactName, Outcome outcome) {
+        String error = deploymentError(artifactName, outcome);
+        if (error != null)
+            status.addAttribute(DEPLOYMENT_ERROR, error);
+    }
+
     private boolean hasDataSourceDriver(String driverName, Teiid teiidNode) throws Exception {
 
         UnitOfWork uow = null;
@@ -782,11 +804,16 @@ public class KomodoTeiidService extends KomodoService {
             return principal.getErrorResponse();
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+
+        Response stalenessResponse = checkMaxStaleness(uriInfo, mediaTypes);
+        if (stalenessResponse.getStatus() != Status.OK.getStatusCode())
+            return stalenessResponse;
+
         UnitOfWork uow = null;
 
         try {
             Teiid teiidNode = getDefaultTeiid();
-            CachedTeiid cachedTeiid = importContent(teiidNode);
+            CachedTeiid cachedTeiid = importContent(teiidNode, uriInfo);
 
             // find VDBs
             uow = createTransaction(principal, "getVdbs", true); //$NON-NLS-1$
@@ -853,11 +880,16 @@ public class KomodoTeiidService extends KomodoService {
             return principal.getErrorResponse();
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+
+        Response stalenessResponse = checkMaxStaleness(uriInfo, mediaTypes);
+        if (stalenessResponse.getStatus() != Status.OK.getStatusCode())
+            return stalenessResponse;
+
         
         UnitOfWork uow = null;
         try {
             Teiid teiidNode = getDefaultTeiid();
-            CachedTeiid cachedTeiid = importContent(teiidNode);
+            CachedTeiid cachedTeiid = importContent(teiidNode, uriInfo);
 
             // find VDB
             uow = createTransaction(principal, "getVdb-" + vdbName, true); //$NON-NLS-1$
@@ -915,11 +947,15 @@ public class KomodoTeiidService extends KomodoService {
         if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE))
             return notAcceptableMediaTypesBuilder().build();
 
+        Response stalenessResponse = checkMaxStaleness(uriInfo, mediaTypes);
+        if (stalenessResponse.getStatus() != Status.OK.getStatusCode())
+            return stalenessResponse;
+
         UnitOfWork uow = null;
 
         try {
             Teiid teiidNode = getDefaultTeiid();
-            CachedTeiid cachedTeiid = importContent(teiidNode);
+            CachedTeiid cachedTeiid = importContent(teiidNode, uriInfo);
 
             // find VDB
             uow = createTransaction(principal, "vdbsFromTeiid", false); //$NON-NLS-1$
@@ -1318,10 +1354,11 @@ public class KomodoTeiidService extends KomodoService {
             teiidInstance.undeployDynamicVdb(vdbName);
 
             // Await the undeployment to end
-            Thread.sleep(DEPLOYMENT_WAIT_TIME);
+            Outcome outcome = deploymentWaiter(teiidInstance).awaitVdbRemoved(vdbName);
 
             String title = RelationalMessages.getString(RelationalMessages.Info.VDB_DEPLOYMENT_STATUS_TITLE);
             KomodoStatusObject status = new KomodoStatusObject(title);
+            addDeploymentError(status, vdbName, outcome);
             if (! hasDynamicVdb(vdbName, teiidNode)) {
                 // Make sure Vdb state is current in the cachedTeiid
                 refreshCachedVdbs(teiidNode, vdbName);
@@ -1400,7 +1437,8 @@ public class KomodoTeiidService extends KomodoService {
             teiidInstance.deleteDataSource(connectionName);
 
             // Await the undeployment to end
-            Thread.sleep(DEPLOYMENT_WAIT_TIME);
+            Outcome outcome = deploymentWaiter(teiidInstance).awaitDataSourceRemoved(connectionName);
+            addDeploymentError(status, connectionName, outcome);
 
             if (! hasDataSource(connectionName, teiidNode)) {
                 // Make sure DataSource state is current in cachedTeiid
@@ -1517,11 +1555,16 @@ public class KomodoTeiidService extends KomodoService {
             return principal.getErrorResponse();
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+
+        Response stalenessResponse = checkMaxStaleness(uriInfo, mediaTypes);
+        if (stalenessResponse.getStatus() != Status.OK.getStatusCode())
+            return stalenessResponse;
+
         UnitOfWork uow = null;
 
         try {
             Teiid teiidNode = getDefaultTeiid();
-            CachedTeiid cachedTeiid = importContent(teiidNode);
+            CachedTeiid cachedTeiid = importContent(teiidNode, uriInfo);
 
             // find translators
             uow = createTransaction(principal, "getTranslators", true); //$NON-NLS-1$
@@ -1580,12 +1623,16 @@ public class KomodoTeiidService extends KomodoService {
             return principal.getErrorResponse();
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+
+        Response stalenessResponse = checkMaxStaleness(uriInfo, mediaTypes);
+        if (stalenessResponse.getStatus() != Status.OK.getStatusCode())
+            return stalenessResponse;
+
         UnitOfWork uow = null;
 
         try {
             Teiid teiidNode = getDefaultTeiid();
-            refreshCachedDataSources(teiidNode);
-            CachedTeiid cachedTeiid = importContent(teiidNode);
+            CachedTeiid cachedTeiid = importContent(teiidNode, uriInfo);
 
             uow = createTransaction(principal, "getConnections", true); //$NON-NLS-1$
 
@@ -1649,11 +1696,16 @@ public class KomodoTeiidService extends KomodoService {
             return principal.getErrorResponse();
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+
+        Response stalenessResponse = checkMaxStaleness(uriInfo, mediaTypes);
+        if (stalenessResponse.getStatus() != Status.OK.getStatusCode())
+            return stalenessResponse;
+
         
         UnitOfWork uow = null;
         try {
             Teiid teiidNode = getDefaultTeiid();
-            CachedTeiid cachedTeiid = importContent(teiidNode);
+            CachedTeiid cachedTeiid = importContent(teiidNode, uriInfo);
 
             // find DataSource
             uow = createTransaction(principal, "getConnection-" + connectionName, true); //$NON-NLS-1$
@@ -1713,11 +1765,16 @@ public class KomodoTeiidService extends KomodoService {
             return principal.getErrorResponse();
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+
+        Response stalenessResponse = checkMaxStaleness(uriInfo, mediaTypes);
+        if (stalenessResponse.getStatus() != Status.OK.getStatusCode())
+            return stalenessResponse;
+
         UnitOfWork uow = null;
 
         try {
             Teiid teiidNode = getDefaultTeiid();
-            CachedTeiid cachedTeiid = importContent(teiidNode);
+            CachedTeiid cachedTeiid = importContent(teiidNode, uriInfo);
 
             // find Connection
             uow = createTransaction(principal, "getConnectionDefaultTranslator-" + connectionName, true); //$NON-NLS-1$
@@ -1781,11 +1838,15 @@ public class KomodoTeiidService extends KomodoService {
         if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE))
             return notAcceptableMediaTypesBuilder().build();
 
+        Response stalenessResponse = checkMaxStaleness(uriInfo, mediaTypes);
+        if (stalenessResponse.getStatus() != Status.OK.getStatusCode())
+            return stalenessResponse;
+
         UnitOfWork uow = null;
 
         try {
             Teiid teiidNode = getDefaultTeiid();
-            CachedTeiid cachedTeiid = importContent(teiidNode);
+            CachedTeiid cachedTeiid = importContent(teiidNode, uriInfo);
 
             // find Connections
             uow = createTransaction(principal, "connectionsFromTeiid", false); //$NON-NLS-1$
@@ -1867,11 +1928,16 @@ public class KomodoTeiidService extends KomodoService {
             return principal.getErrorResponse();
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+
+        Response stalenessResponse = checkMaxStaleness(uriInfo, mediaTypes);
+        if (stalenessResponse.getStatus() != Status.OK.getStatusCode())
+            return stalenessResponse;
+
         UnitOfWork uow = null;
 
         try {
             Teiid teiidNode = getDefaultTeiid();
-            CachedTeiid cachedTeiid = importContent(teiidNode);
+            CachedTeiid cachedTeiid = importContent(teiidNode, uriInfo);
 
             // find drivers
             uow = createTransaction(principal, "getDrivers", true); //$NON-NLS-1$
@@ -2010,7 +2076,7 @@ public class KomodoTeiidService extends KomodoService {
             teiidInstance.deployDriver(driverName, driverFile);
 
             // Await the deployment to end
-            Thread.sleep(DEPLOYMENT_WAIT_TIME);
+            Outcome outcome = deploymentWaiter(teiidInstance).awaitDriverDeployed(driverName);
 
             // Make sure Driver state is current in the cachedTeiid
             refreshCachedDrivers(teiidNode, driverName);
@@ -2018,6 +2084,7 @@ public class KomodoTeiidService extends KomodoService {
             String title = RelationalMessages.getString(RelationalMessages.Info.DRIVER_DEPLOYMENT_STATUS_TITLE);
             KomodoStatusObject status = new KomodoStatusObject(title);
             status.addAttribute("deploymentSuccess", Boolean.FALSE.toString());
+            addDeploymentError(status, driverName, outcome);
 
             if (hasDataSourceDriver(driverName, teiidNode)) {
                 status.addAttribute("deploymentSuccess", Boolean.TRUE.toString());
@@ -2086,10 +2153,11 @@ public class KomodoTeiidService extends KomodoService {
             teiidInstance.undeployDriver(driverName);
 
             // Await the undeployment to end
-            Thread.sleep(DEPLOYMENT_WAIT_TIME);
+            Outcome outcome = deploymentWaiter(teiidInstance).awaitDriverRemoved(driverName);
 
             String title = RelationalMessages.getString(RelationalMessages.Info.DRIVER_DEPLOYMENT_STATUS_TITLE);
             KomodoStatusObject status = new KomodoStatusObject(title);
+            addDeploymentError(status, driverName, outcome);
             if (! hasDataSourceDriver(driverName, teiidNode)) {
                 refreshCachedDrivers(teiidNode, driverName);
 
@@ -2146,12 +2214,17 @@ public class KomodoTeiidService extends KomodoService {
             return principal.getErrorResponse();
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+
+        Response stalenessResponse = checkMaxStaleness(uriInfo, mediaTypes);
+        if (stalenessResponse.getStatus() != Status.OK.getStatusCode())
+            return stalenessResponse;
+
         UnitOfWork uow = null;
         java.sql.Connection connection = null;
 
         try {
             Teiid teiidNode = getDefaultTeiid();
-            CachedTeiid cachedTeiid = importContent(teiidNode);
+            CachedTeiid cachedTeiid = importContent(teiidNode, uriInfo);
 
             uow = createTransaction(principal, "getDeployableStatus", true); //$NON-NLS-1$
 
@@ -2290,11 +2363,9 @@ public class KomodoTeiidService extends KomodoService {
             //
             // Deploy the data service
             //
+            // the conveyor waits for each deployment and reports any that failed or timed out
             DeployStatus deployStatus = dataService.deploy(uow, teiidNode);
 
-            // Await the deployment to end
-            Thread.sleep(DEPLOYMENT_WAIT_TIME);
-
             String title = RelationalMessages.getString(RelationalMessages.Info.DATA_SERVICE_DEPLOYMENT_STATUS_TITLE);
             KomodoStatusObject status = new KomodoStatusObject(title);
 
@@ -2421,7 +2492,11 @@ public class KomodoTeiidService extends KomodoService {
             DeployStatus deployStatus = dataSource.deploy(uow, teiidNode);
 
             // Await the deployment to end
-            Thread.sleep(DEPLOYMENT_WAIT_TIME);
+            if (deployStatus.ok()) {
+                String dataSourceName = dataSource.getName(uow);
+                Outcome outcome = deploymentWaiter(teiidNode.getTeiidInstance(uow)).awaitDataSourceDeployed(dataSourceName);
+                addDeploymentError(deployStatus, dataSourceName, outcome);
+            }
 
             // Make sure Datasource is current in the CachedTeiid
             refreshCachedDataSources(teiidNode, dataSource.getJndiName(uow));
@@ -2690,10 +2765,16 @@ public class KomodoTeiidService extends KomodoService {
             //
             // Deploy the VDB
             //
+            TeiidInstance teiidInstance = teiidNode.getTeiidInstance(uow);
+            String vdbName = vdb.getName(uow);
+
             DeployStatus deployStatus = vdb.deploy(uow, teiidNode);
 
             // Await the deployment to end
-            Thread.sleep(DEPLOYMENT_WAIT_TIME);
+            if (deployStatus.ok()) {
+                Outcome outcome = deploymentWaiter(teiidInstance).awaitVdbDeployed(vdbName);
+                addDeploymentError(deployStatus, vdbName, outcome);
+            }
             
             // Make sure Vdb is current in the CachedTeiid
             refreshCachedVdbs(teiidNode, vdb.getName(uow));
@@ -2851,6 +2932,28 @@ public class KomodoTeiidService extends KomodoService {
             LOGGER.debug("Establishing query service for query {0} on vdb {1}", query, vdbName);
             QueryService queryService = teiidNode.getQueryService(uow);
 
+            if (Boolean.parseBoolean(uriInfo.getQueryParameters().getFirst(QueryParamKeys.STREAM))) {
+                int fetchSize = 0;
+                String fetchParam = uriInfo.getQueryParameters().getFirst(QueryParamKeys.FETCH_SIZE);
+                if (fetchParam != null) {
+                    try {
+                        fetchSize = Integer.parseInt(fetchParam);
+                    } catch (NumberFormatException ex) {
+                        // ignore and use the default
+                    }
+                }
+
+                uow.rollback();
+
+                // Execute now so query errors are still reported as error responses
+                final QSCursor cursor = queryService.openCursor(vdbName, query, kqa.getOffset(), kqa.getLimit(), fetchSize);
+                final int flushSize = fetchSize > 0 ? fetchSize : QueryService.DEFAULT_FETCH_SIZE;
+
+                final StreamingOutput stream = new RestQueryResultStream(cursor, flushSize);
+
+                return Response.ok(stream, MediaType.APPLICATION_JSON_TYPE).build();
+            }
+
             QSResult result = queryService.query(vdbName, query, kqa.getOffset(), kqa.getLimit());
             RestQueryResult restResult = new RestQueryResult(result);
 
@@ -2999,6 +3102,11 @@ public class KomodoTeiidService extends KomodoService {
             return principal.getErrorResponse();
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+
+        Response stalenessResponse = checkMaxStaleness(uriInfo, mediaTypes);
+        if (stalenessResponse.getStatus() != Status.OK.getStatusCode())
+            return stalenessResponse;
+
         UnitOfWork uow = null;
         java.sql.Connection connection = null;
 
@@ -3016,7 +3124,7 @@ public class KomodoTeiidService extends KomodoService {
 
         try {
             Teiid teiidNode = getDefaultTeiid();
-            CachedTeiid cachedTeiid = importContent(teiidNode);
+            CachedTeiid cachedTeiid = importContent(teiidNode, uriInfo);
 
             uow = createTransaction(principal, "getConnectionJdbcTables", true); //$NON-NLS-1$
 
@@ -3107,12 +3215,17 @@ public class KomodoTeiidService extends KomodoService {
             return principal.getErrorResponse();
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+
+        Response stalenessResponse = checkMaxStaleness(uriInfo, mediaTypes);
+        if (stalenessResponse.getStatus() != Status.OK.getStatusCode())
+            return stalenessResponse;
+
         UnitOfWork uow = null;
         java.sql.Connection connection = null;
 
         try {
             Teiid teiidNode = getDefaultTeiid();
-            CachedTeiid cachedTeiid = importContent(teiidNode);
+            CachedTeiid cachedTeiid = importContent(teiidNode, uriInfo);
 
             uow = createTransaction(principal, "getConnectionJdbcTables", true); //$NON-NLS-1$
 
@@ -3302,12 +3415,17 @@ public class KomodoTeiidService extends KomodoService {
             return principal.getErrorResponse();
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+
+        Response stalenessResponse = checkMaxStaleness(uriInfo, mediaTypes);
+        if (stalenessResponse.getStatus() != Status.OK.getStatusCode())
+            return stalenessResponse;
+
         UnitOfWork uow = null;
         java.sql.Connection connection = null;
 
         try {
             Teiid teiidNode = getDefaultTeiid();
-            CachedTeiid cachedTeiid = importContent(teiidNode);
+            CachedTeiid cachedTeiid = importContent(teiidNode, uriInfo);
 
             uow = createTransaction(principal, "getConnectionJdbcTables", true); //$NON-NLS-1$
 
@@ -3567,11 +3685,16 @@ public class KomodoTeiidService extends KomodoService {
             return principal.getErrorResponse();
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+
+        Response stalenessResponse = checkMaxStaleness(uriInfo, mediaTypes);
+        if (stalenessResponse.getStatus() != Status.OK.getStatusCode())
+            return stalenessResponse;
+
         UnitOfWork uow = null;
 
         try {
             Teiid teiidNode = getDefaultTeiid();
-            CachedTeiid cachedTeiid = importContent(teiidNode);
+            CachedTeiid cachedTeiid = importContent(teiidNode, uriInfo);
 
             // find templates
             uow = createTransaction(principal, "getTemplates", true); //$NON-NLS-1$
@@ -3635,11 +3758,16 @@ public class KomodoTeiidService extends KomodoService {
             return principal.getErrorResponse();
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+
+        Response stalenessResponse = checkMaxStaleness(uriInfo, mediaTypes);
+        if (stalenessResponse.getStatus() != Status.OK.getStatusCode())
+            return stalenessResponse;
+
         UnitOfWork uow = null;
 
         try {
             Teiid teiidNode = getDefaultTeiid();
-            CachedTeiid cachedTeiid = importContent(teiidNode);
+            CachedTeiid cachedTeiid = importContent(teiidNode, uriInfo);
 
             // find template
             uow = createTransaction(principal, "getTemplates", true); //$NON-NLS-1$
@@ -3699,11 +3827,16 @@ public class KomodoTeiidService extends KomodoService {
             return principal.getErrorResponse();
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+
+        Response stalenessResponse = checkMaxStaleness(uriInfo, mediaTypes);
+        if (stalenessResponse.getStatus() != Status.OK.getStatusCode())
+            return stalenessResponse;
+
         UnitOfWork uow = null;
 
         try {
             Teiid teiidNode = getDefaultTeiid();
-            CachedTeiid cachedTeiid = importContent(teiidNode);
+            CachedTeiid cachedTeiid = importContent(teiidNode, uriInfo);
 
             // find template
             uow = createTransaction(principal, "getTemplateEntries", true); //$NON-NLS-1$
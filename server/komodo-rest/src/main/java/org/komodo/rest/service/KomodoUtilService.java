@@ -396,4 +396,37 @@ public final class KomodoUtilService extends KomodoService {
 
         return Response.ok().build();
     }
+
+    /**
+     * @param headers
+     *        the request headers (never <code>null</code>)
+     * @param uriInfo
+     *        the request URI information (never <code>null</code>)
+     * @param commitId
+     *        the id of the commit returned in the location of an accepted request (cannot be empty)
+     * @return the response the request that made the commit would have been answered with once the commit has finished
+     * @throws KomodoRestException
+     *         if there is a problem constructing the response
+     */
+    @GET
+    @Path( V1Constants.COMMIT_STATUS_SEGMENT + StringConstants.FORWARD_SLASH + V1Constants.COMMIT_ID_PLACEHOLDER )
+    @Produces( MediaType.APPLICATION_JSON )
+    @ApiOperation( value = "Returns the outcome of a commit that was still being sequenced when its request was answered" )
+    @ApiResponses( value = {
+            @ApiResponse( code = 202, message = "The commit has not finished." ),
+            @ApiResponse( code = 404, message = "The commit is unknown or its outcome is no longer available." )
+    } )
+    public Response getCommitStatus( final @Context HttpHeaders headers,
+                                     final @Context UriInfo uriInfo,
+                                     @ApiParam( value = "Id of the commit", required = true )
+                                     final @PathParam( "commitId" ) String commitId ) throws KomodoRestException {
+
+        final SecurityPrincipal principal = checkSecurityContext( headers );
+
+        if ( principal.hasErrorResponse() ) {
+            return principal.getErrorResponse();
+        }
+
+        return commitStatus( principal, headers.getAcceptableMediaTypes(), commitId, uriInfo );
+    }
 }
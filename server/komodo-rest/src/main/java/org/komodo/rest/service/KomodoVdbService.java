@@ -45,11 +45,18 @@ import static org.komodo.rest.relational.RelationalMessages.Error.VDB_SERVICE_GE
 import static org.komodo.rest.relational.RelationalMessages.Error.VDB_SERVICE_GET_TRANSLATOR_ERROR;
 import static org.komodo.rest.relational.RelationalMessages.Error.VDB_SERVICE_GET_VDBS_ERROR;
 import static org.komodo.rest.relational.RelationalMessages.Error.VDB_SERVICE_GET_VDB_ERROR;
+import static org.komodo.rest.relational.RelationalMessages.Error.VDB_SERVICE_VALIDATE_VDB_ERROR;
+import static org.komodo.rest.relational.RelationalMessages.Error.VDB_SERVICE_VALIDATE_VDB_INVALID_LEVEL;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.net.URI;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
@@ -58,10 +65,14 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import org.komodo.core.KEngine;
 import org.komodo.importer.ImportMessages;
@@ -107,13 +118,19 @@ import org.komodo.rest.relational.response.RestVdbPermission;
 import org.komodo.rest.relational.response.RestVdbTranslator;
 import org.komodo.spi.KException;
 import org.komodo.spi.constants.StringConstants;
+import org.komodo.spi.outcome.Outcome;
 import org.komodo.spi.repository.KomodoObject;
+import org.komodo.spi.repository.Repository;
 import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.spi.repository.Repository.UnitOfWork.State;
+import org.komodo.spi.repository.ValidationManager;
+import org.komodo.spi.repository.validation.Result;
+import org.komodo.spi.repository.validation.ResultSink;
 import org.komodo.utils.StringNameValidator;
 import org.komodo.utils.StringUtils;
 import org.teiid.modeshape.sequencer.vdb.lexicon.VdbLexicon;
 import com.google.common.base.Objects;
+import com.google.gson.stream.JsonWriter;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -144,6 +161,8 @@ public final class KomodoVdbService extends KomodoService {
 
     /**
      * Create a new Vdb in the komodo repository
+     * @param asyncResponse
+     *        the suspended response resumed with a JSON representation of the new vdb (never <code>null</code>)
      * @param headers
      *        the request headers (never <code>null</code>)
      * @param uriInfo
@@ -152,7 +171,6 @@ public final class KomodoVdbService extends KomodoService {
      *        the vdb name (cannot be empty)
      * @param vdbJson
      *        the Vdb JSON representation (cannot be <code>null</code>)
-     * @return a JSON representation of the new vdb (never <code>null</code>)
      * @throws KomodoRestException
      *         if there is an error creating the VDB
      */
@@ -161,58 +179,67 @@ public final class KomodoVdbService extends KomodoService {
     @Produces( MediaType.APPLICATION_JSON )
     @ApiOperation(value = "Create a vdb in the workspace")
     @ApiResponses(value = {
+        @ApiResponse(code = 202, message = "The change is still being committed. The location gives the URI of its status."),
         @ApiResponse(code = 406, message = "Only JSON is returned by this operation"),
         @ApiResponse(code = 403, message = "An error has occurred.")
     })
-    public Response createVdb( final @Context HttpHeaders headers,
-                               final @Context UriInfo uriInfo,
-                               @ApiParam(
-                                         value = "Name of the Vdb to be created",
-                                         required = true
-                               )
-                               final @PathParam( "vdbName" ) String vdbName,
-                               @ApiParam(
-                                         value = "" + 
-                                                 "JSON of the properties of the Vdb to add:<br>" +
-                                                 OPEN_PRE_TAG +
-                                                 OPEN_BRACE + BR +
-                                                 NBSP + "keng\\_\\_id: \"name of the Vdb\"" + COMMA + BR +
-                                                 NBSP + "vdb\\_\\_name: \"name of the Vdb\"" + COMMA + BR +
-                                                 NBSP + "keng\\_\\_dataPath: \"path of Vdb to create\"" + COMMA + BR +
-                                                 NBSP + OPEN_PRE_CMT + "(eg keng\\_\\_dataPath: \"tko:komodo\\tko:workspace\\\\{username\\}\\\\{vdbName\\}\")" + CLOSE_PRE_CMT + BR +
-                                                 NBSP + "vdb\\_\\_originalFile: \"original file location\"" + COMMA + BR +
-                                                 NBSP + OPEN_PRE_CMT + "(same value as keng\\_\\_dataPath)" + CLOSE_PRE_CMT + BR +
-                                                 NBSP + "keng\\_\\_kType: \"Vdb\"" + BR +
-                                                 CLOSE_BRACE +
-                                                 CLOSE_PRE_TAG,
-                                         required = true
-                               )
-                               final String vdbJson) throws KomodoRestException {
+    public void createVdb( final @Suspended AsyncResponse asyncResponse,
+                           final @Context HttpHeaders headers,
+                           final @Context UriInfo uriInfo,
+                           @ApiParam(
+                                     value = "Name of the Vdb to be created",
+                                     required = true
+                           )
+                           final @PathParam( "vdbName" ) String vdbName,
+                           @ApiParam(
+                                     value = "" + 
+                                             "JSON of the properties of the Vdb to add:<br>" +
+                                             OPEN_PRE_TAG +
+                                             OPEN_BRACE + BR +
+                                             NBSP + "keng\\_\\_id: \"name of the Vdb\"" + COMMA + BR +
+                                             NBSP + "vdb\\_\\_name: \"name of the Vdb\"" + COMMA + BR +
+                                             NBSP + "keng\\_\\_dataPath: \"path of Vdb to create\"" + COMMA + BR +
+                                             NBSP + OPEN_PRE_CMT + "(eg keng\\_\\_dataPath: \"tko:komodo\\tko:workspace\\\\{username\\}\\\\{vdbName\\}\")" + CLOSE_PRE_CMT + BR +
+                                             NBSP + "vdb\\_\\_originalFile: \"original file location\"" + COMMA + BR +
+                                             NBSP + OPEN_PRE_CMT + "(same value as keng\\_\\_dataPath)" + CLOSE_PRE_CMT + BR +
+                                             NBSP + "keng\\_\\_kType: \"Vdb\"" + BR +
+                                             CLOSE_BRACE +
+                                             CLOSE_PRE_TAG,
+                                     required = true
+                           )
+                           final String vdbJson) throws KomodoRestException {
 
         SecurityPrincipal principal = checkSecurityContext(headers);
-        if (principal.hasErrorResponse())
-            return principal.getErrorResponse();
+        if (principal.hasErrorResponse()) {
+            asyncResponse.resume(principal.getErrorResponse());
+            return;
+        }
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
-        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE))
-            return notAcceptableMediaTypesBuilder().build();
+        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE)) {
+            asyncResponse.resume(notAcceptableMediaTypesBuilder().build());
+            return;
+        }
 
         // Error if the Vdb name is missing
         if (StringUtils.isBlank( vdbName )) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_CREATE_MISSING_VDB_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_CREATE_MISSING_VDB_NAME));
+            return;
         }
 
         final RestVdb restVdb = KomodoJsonMarshaller.unmarshall( vdbJson, RestVdb.class );
         final String jsonVdbName = restVdb.getId();
         // Error if the name is missing from the supplied json body
         if ( StringUtils.isBlank( jsonVdbName ) ) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MISSING_JSON_VDB_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MISSING_JSON_VDB_NAME));
+            return;
         }
 
         // Error if the name parameter is different than JSON name
         final boolean namesMatch = vdbName.equals( jsonVdbName );
         if ( !namesMatch ) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_VDB_NAME_DONT_MATCH_ERROR, vdbName, jsonVdbName);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_VDB_NAME_DONT_MATCH_ERROR, vdbName, jsonVdbName));
+            return;
         }
 
         UnitOfWork uow = null;
@@ -222,11 +249,12 @@ public final class KomodoVdbService extends KomodoService {
             
             // Error if the repo already contains a vdb with the supplied name.
             if ( getWorkspaceManager(uow).hasChild( uow, vdbName ) ) {
-                return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_VDB_ALREADY_EXISTS, vdbName);
+                asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_VDB_ALREADY_EXISTS, vdbName));
+                return;
             }
             
             // create new Vdb
-            return doAddVdb( uow, uriInfo.getBaseUri(), mediaTypes, restVdb );
+            doAddVdb( uow, uriInfo, mediaTypes, restVdb, asyncResponse );
             
         } catch (final Exception e) {
             if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
@@ -237,14 +265,15 @@ public final class KomodoVdbService extends KomodoService {
                 throw (KomodoRestException)e;
             }
 
-            return createErrorResponseWithForbidden(mediaTypes, e, RelationalMessages.Error.VDB_SERVICE_CREATE_VDB_ERROR, vdbName);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, e, RelationalMessages.Error.VDB_SERVICE_CREATE_VDB_ERROR, vdbName));
         }
     }
     
-    private Response doAddVdb( final UnitOfWork uow,
-                               final URI baseUri,
-                               final List<MediaType> mediaTypes,
-                               final RestVdb restVdb ) throws KomodoRestException {
+    private void doAddVdb( final UnitOfWork uow,
+                           final UriInfo uriInfo,
+                           final List<MediaType> mediaTypes,
+                           final RestVdb restVdb,
+                           final AsyncResponse asyncResponse ) throws KomodoRestException {
         assert( !uow.isRollbackOnly() );
         assert( uow.getState() == State.NOT_STARTED );
         assert( restVdb != null );
@@ -256,9 +285,8 @@ public final class KomodoVdbService extends KomodoService {
             // Transfers the properties from the rest object to the created komodo service.
             setProperties(uow, vdb, restVdb);
 
-            final RestVdb entity = entityFactory.create(vdb, baseUri, uow );
-            final Response response = commit( uow, mediaTypes, entity );
-            return response;
+            final RestVdb entity = entityFactory.create(vdb, uriInfo.getBaseUri(), uow );
+            commit( uow, mediaTypes, entity, uriInfo, asyncResponse );
         } catch ( final Exception e ) {
             if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
                 uow.rollback();
@@ -274,6 +302,8 @@ public final class KomodoVdbService extends KomodoService {
 
     /**
      * Update a Vdb in the komodo repository
+     * @param asyncResponse
+     *        the suspended response resumed with a JSON representation of the updated vdb (never <code>null</code>)
      * @param headers
      *        the request headers (never <code>null</code>)
      * @param uriInfo
@@ -282,7 +312,6 @@ public final class KomodoVdbService extends KomodoService {
      *        the vdb name (cannot be empty)
      * @param vdbJson
      *        the vdb JSON representation (cannot be <code>null</code>)
-     * @return a JSON representation of the updated vdb (never <code>null</code>)
      * @throws KomodoRestException
      *         if there is an error updating the vdb
      */
@@ -291,45 +320,52 @@ public final class KomodoVdbService extends KomodoService {
     @Produces( MediaType.APPLICATION_JSON )
     @ApiOperation(value = "Update a vdb in the workspace")
     @ApiResponses(value = {
+        @ApiResponse(code = 202, message = "The change is still being committed. The location gives the URI of its status."),
         @ApiResponse(code = 406, message = "Only JSON is returned by this operation"),
         @ApiResponse(code = 403, message = "An error has occurred.")
     })
-    public Response updateVdb( final @Context HttpHeaders headers,
-                               final @Context UriInfo uriInfo,
-                               @ApiParam(
-                                         value = "Name of the Vdb to be updated",
-                                         required = true
-                               )
-                               final @PathParam( "vdbName" ) String vdbName,
-                               @ApiParam(
-                                         value = "" + 
-                                                 "JSON of the properties of the Vdb to update:<br>" +
-                                                 OPEN_PRE_TAG +
-                                                 OPEN_BRACE + BR +
-                                                 NBSP + "keng\\_\\_id: \"name of the Vdb\"" + COMMA + BR +
-                                                 NBSP + "vdb\\_\\_name: \"name of the Vdb\"" + COMMA + BR +
-                                                 NBSP + "keng\\_\\_dataPath: \"path of Vdb to update\"" + COMMA + BR +
-                                                 NBSP + OPEN_PRE_CMT + "(eg keng\\_\\_dataPath: \"tko:komodo\\tko:workspace\\\\{username\\}\\\\{vdbName\\}\")" + CLOSE_PRE_CMT + BR +
-                                                 NBSP + "vdb\\_\\_originalFile: \"original file location\"" + COMMA + BR +
-                                                 NBSP + OPEN_PRE_CMT + "(same value as keng\\_\\_dataPath)" + CLOSE_PRE_CMT + BR +
-                                                 NBSP + "keng\\_\\_kType: \"Vdb\"" + BR +
-                                                 CLOSE_BRACE +
-                                                 CLOSE_PRE_TAG,
-                                         required = true
-                               )
-                               final String vdbJson) throws KomodoRestException {
+    public void updateVdb( final @Suspended AsyncResponse asyncResponse,
+                           final @Context HttpHeaders headers,
+                           final @Context UriInfo uriInfo,
+                           @ApiParam(
+                                     value = "Name of the Vdb to be updated",
+                                     required = true
+                           )
+                           final @PathParam( "vdbName" ) String vdbName,
+                           @ApiParam(
+                                     value = "" + 
+                                             "JSON of the properties of the Vdb to update:<br>" +
+                                             OPEN_PRE_TAG +
+                                             OPEN_BRACE + BR +
+                                             NBSP + "keng\\_\\_id: \"name of the Vdb\"" + COMMA + BR +
+                                             NBSP + "vdb\\_\\_name: \"name of the Vdb\"" + COMMA + BR +
+                                             NBSP + "keng\\_\\_dataPath: \"path of Vdb to update\"" + COMMA + BR +
+                                             NBSP + OPEN_PRE_CMT + "(eg keng\\_\\_dataPath: \"tko:komodo\\tko:workspace\\\\{username\\}\\\\{vdbName\\}\")" + CLOSE_PRE_CMT + BR +
+                                             NBSP + "vdb\\_\\_originalFile: \"original file location\"" + COMMA + BR +
+                                             NBSP + OPEN_PRE_CMT + "(same value as keng\\_\\_dataPath)" + CLOSE_PRE_CMT + BR +
+                                             NBSP + "keng\\_\\_kType: \"Vdb\"" + BR +
+                                             CLOSE_BRACE +
+                                             CLOSE_PRE_TAG,
+                                     required = true
+                           )
+                           final String vdbJson) throws KomodoRestException {
 
         SecurityPrincipal principal = checkSecurityContext(headers);
-        if (principal.hasErrorResponse())
-            return principal.getErrorResponse();
+        if (principal.hasErrorResponse()) {
+            asyncResponse.resume(principal.getErrorResponse());
+            return;
+        }
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
-        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE))
-            return notAcceptableMediaTypesBuilder().build();
+        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE)) {
+            asyncResponse.resume(notAcceptableMediaTypesBuilder().build());
+            return;
+        }
 
         // Error if the vdb name is missing
         if (StringUtils.isBlank( vdbName )) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_MISSING_VDB_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_MISSING_VDB_NAME));
+            return;
         }
 
 
@@ -337,7 +373,8 @@ public final class KomodoVdbService extends KomodoService {
         final String jsonVdbName = restVdb.getId();
         // Error if the name is missing from the supplied json body
         if ( StringUtils.isBlank( jsonVdbName ) ) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MISSING_JSON_VDB_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MISSING_JSON_VDB_NAME));
+            return;
         }
 
         UnitOfWork uow = null;
@@ -348,7 +385,8 @@ public final class KomodoVdbService extends KomodoService {
             final boolean exists = wMgr.hasChild( uow, vdbName );
             // Error if the specified service does not exist
             if ( !exists ) {
-                return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_VDB_DNE);
+                asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_VDB_DNE));
+                return;
             }
 
             // must be an update
@@ -367,8 +405,7 @@ public final class KomodoVdbService extends KomodoService {
             KomodoProperties properties = new KomodoProperties();
             final RestVdb entity = entityFactory.create(vdb, uriInfo.getBaseUri(), uow, properties);
             LOGGER.debug("updateVdb: vdb '{0}' entity was updated", vdb.getName(uow)); //$NON-NLS-1$
-            final Response response = commit( uow, headers.getAcceptableMediaTypes(), entity );
-            return response;
+            commit( uow, headers.getAcceptableMediaTypes(), entity, uriInfo, asyncResponse );
         } catch (final Exception e) {
             if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
                 uow.rollback();
@@ -378,7 +415,7 @@ public final class KomodoVdbService extends KomodoService {
                 throw (KomodoRestException)e;
             }
 
-            return createErrorResponseWithForbidden(mediaTypes, e, RelationalMessages.Error.VDB_SERVICE_UPDATE_VDB_ERROR);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, e, RelationalMessages.Error.VDB_SERVICE_UPDATE_VDB_ERROR));
         }
     }
 
@@ -770,31 +807,6 @@ public final class KomodoVdbService extends KomodoService {
         try {
             final String searchPattern = uriInfo.getQueryParameters().getFirst( QueryParamKeys.PATTERN );
 
-            // find VDBs
-            uow = createTransaction(principal, "getVdbs", true ); //$NON-NLS-1$
-            Vdb[] vdbs = null;
-
-            WorkspaceManager wsMgr = getWorkspaceManager(uow);
-            if ( StringUtils.isBlank( searchPattern ) ) {
-                vdbs = wsMgr.findVdbs( uow );
-                LOGGER.debug( "getVdbs:found '{0}' VDBs", vdbs.length ); //$NON-NLS-1$
-            } else {
-                final String[] vdbPaths = wsMgr.findByType( uow, VdbLexicon.Vdb.VIRTUAL_DATABASE, null, searchPattern, false );
-
-                if ( vdbPaths.length == 0 ) {
-                    vdbs = Vdb.NO_VDBS;
-                } else {
-                    vdbs = new Vdb[ vdbPaths.length ];
-                    int i = 0;
-
-                    for ( final String path : vdbPaths ) {
-                        vdbs[ i++ ] = wsMgr.resolve( uow, new ObjectImpl( wsMgr.getRepository(), path, 0 ), Vdb.class );
-                    }
-
-                    LOGGER.debug( "getVdbs:found '{0}' VDBs using pattern '{1}'", vdbs.length, searchPattern ); //$NON-NLS-1$
-                }
-            }
-
             int start = 0;
 
             { // start query parameter
@@ -833,27 +845,27 @@ public final class KomodoVdbService extends KomodoService {
                 }
             }
 
-            final List< RestVdb > entities = new ArrayList< >();
-            int i = 0;
-
-            KomodoProperties properties = new KomodoProperties();
+            // find VDBs, asking for one more than the page size to know if there is a next page
+            uow = createTransaction(principal, "getVdbs", true ); //$NON-NLS-1$
+            final WorkspaceManager wsMgr = getWorkspaceManager(uow);
+            final long limit = ( size == ALL_AVAILABLE ) ? Repository.NO_LIMIT : ( size + 1 );
+            final String[] paths = wsMgr.findByType( uow, VdbLexicon.Vdb.VIRTUAL_DATABASE, null, searchPattern, false, start, limit );
+            LOGGER.debug( "getVdbs:found '{0}' VDBs starting at '{1}' using pattern '{2}'", paths.length, start, searchPattern ); //$NON-NLS-1$
+
+            final boolean hasNext = ( size != ALL_AVAILABLE ) && ( paths.length > size );
+            final int count = hasNext ? size : paths.length;
+            final List< RestVdb > entities = new ArrayList< >( count );
+            final KomodoProperties properties = new KomodoProperties();
             properties.addProperty(VDB_EXPORT_XML_PROPERTY, false);
-            for ( final Vdb vdb : vdbs ) {
-                if ( ( start == 0 ) || ( i >= start ) ) {
-                    if ( ( size == ALL_AVAILABLE ) || ( entities.size() < size ) ) {
-                        RestVdb entity = entityFactory.create(vdb, uriInfo.getBaseUri(), uow, properties);
-                        entities.add(entity);
-                        LOGGER.debug("getVdbs:VDB '{0}' entity was constructed", vdb.getName(uow)); //$NON-NLS-1$
-                    } else {
-                        break;
-                    }
-                }
 
-                ++i;
+            for ( int i = 0; i < count; ++i ) {
+                final Vdb vdb = wsMgr.resolve( uow, new ObjectImpl( wsMgr.getRepository(), paths[ i ], 0 ), Vdb.class );
+                entities.add( entityFactory.create(vdb, uriInfo.getBaseUri(), uow, properties) );
+                LOGGER.debug("getVdbs:VDB '{0}' entity was constructed", vdb.getName(uow)); //$NON-NLS-1$
             }
 
             // create response
-            return commit( uow, mediaTypes, entities );
+            return commit( uow, mediaTypes, entities, uriInfo, ( hasNext ? ( start + size ) : -1 ) );
 
         } catch ( final Exception e ) {
             if ( ( uow != null ) && ( uow.getState() != State.ROLLED_BACK ) ) {
@@ -926,6 +938,139 @@ public final class KomodoVdbService extends KomodoService {
         }
     }
 
+    /**
+     * Validates a VDB and all its descendants. Results are written to the response as they are produced so that large VDBs do
+     * not have to be validated before the response is started.
+     *
+     * @param headers
+     *        the request headers (never <code>null</code>)
+     * @param uriInfo
+     *        the request URI information (never <code>null</code>)
+     * @param vdbName
+     *        the id of the VDB being validated (cannot be empty)
+     * @return a JSON array of the validation results (never <code>null</code>)
+     * @throws KomodoRestException
+     *         if there is a problem finding the specified workspace VDB
+     */
+    @GET
+    @Path( V1Constants.VDB_PLACEHOLDER + StringConstants.FORWARD_SLASH +
+                V1Constants.VALIDATE_SEGMENT )
+    @Produces( MediaType.APPLICATION_JSON )
+    @ApiOperation(value = "Validate the vdb and all its children. Results are streamed as they are produced. If validation fails part way "
+                          + "the last element of the array has an error property")
+    @ApiResponses(value = {
+        @ApiResponse(code = 400, message = "The level is not a known validation level"),
+        @ApiResponse(code = 404, message = "No vdb could be found with name"),
+        @ApiResponse(code = 406, message = "Only JSON is returned by this operation"),
+        @ApiResponse(code = 403, message = "An error has occurred.")
+    })
+    public Response validateVdb( final @Context HttpHeaders headers,
+                                 final @Context UriInfo uriInfo,
+                                 @ApiParam(value = "Name of the Vdb to be validated", required = true)
+                                 final @PathParam( "vdbName" ) String vdbName) throws KomodoRestException {
+
+        final SecurityPrincipal principal = checkSecurityContext(headers);
+        if (principal.hasErrorResponse())
+            return principal.getErrorResponse();
+
+        final List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
+        UnitOfWork uow = null;
+
+        try {
+            final String levelParam = uriInfo.getQueryParameters().getFirst( QueryParamKeys.LEVEL );
+            Outcome.Level level = null;
+
+            if ( !StringUtils.isBlank( levelParam ) ) {
+                try {
+                    level = Outcome.Level.valueOf( levelParam.toUpperCase( Locale.ROOT ) );
+                } catch ( final IllegalArgumentException e ) {
+                    return createErrorResponse( Status.BAD_REQUEST, mediaTypes, VDB_SERVICE_VALIDATE_VDB_INVALID_LEVEL,
+                                                levelParam, Arrays.toString( Outcome.Level.values() ) );
+                }
+            }
+
+            final Outcome.Level minLevel = level;
+            final boolean stopOnError = Boolean.parseBoolean( uriInfo.getQueryParameters().getFirst( QueryParamKeys.STOP_ON_ERROR ) );
+
+            uow = createTransaction(principal, "validateVdb", true ); //$NON-NLS-1$
+
+            final Vdb vdb = findVdb(uow, vdbName);
+            if (vdb == null)
+                return commitNoVdbFound(uow, mediaTypes, vdbName);
+
+            final String vdbPath = vdb.getAbsolutePath();
+            uow.rollback();
+
+            final ValidationManager validationMgr = this.repo.getValidationManager();
+            final StreamingOutput stream = new StreamingOutput() {
+
+                @Override
+                public void write( final OutputStream output ) throws IOException {
+                    final JsonWriter writer = new JsonWriter( new OutputStreamWriter( output, StandardCharsets.UTF_8 ) );
+                    writer.beginArray();
+
+                    UnitOfWork transaction = null;
+
+                    try {
+                        transaction = createTransaction( principal, "validateVdb", true ); //$NON-NLS-1$
+                        final KomodoObject kobject = new ObjectImpl( repo, vdbPath, 0 );
+
+                        validationMgr.evaluate( transaction, kobject, true, minLevel, stopOnError, new ResultSink() {
+
+                            @Override
+                            public boolean accept( final Result result ) {
+                                try {
+                                    writer.beginObject();
+                                    writer.name( "path" ).value( result.getPath() ); //$NON-NLS-1$
+                                    writer.name( "ruleId" ).value( result.getRuleId() ); //$NON-NLS-1$
+                                    writer.name( "level" ).value( result.getLevel().name() ); //$NON-NLS-1$
+                                    writer.name( "message" ).value( result.getMessage() ); //$NON-NLS-1$
+                                    writer.name( "timestamp" ).value( result.getTimestamp() ); //$NON-NLS-1$
+                                    writer.endObject();
+                                    writer.flush();
+                                    return true;
+                                } catch ( final IOException e ) {
+                                    // client has gone away
+                                    LOGGER.debug( "validateVdb: unable to write result for VDB \"{0}\"", e, vdbName ); //$NON-NLS-1$
+                                    return false;
+                                }
+                            }
+                        } );
+                    } catch ( final Exception e ) {
+                        // the response has been started so the error is written as the last element for the client to detect
+                        final String errorMsg = RelationalMessages.getString( VDB_SERVICE_VALIDATE_VDB_ERROR,
+                                                                              vdbName,
+                                                                              e.getLocalizedMessage() );
+                        LOGGER.error( errorMsg, e );
+
+                        writer.beginObject();
+                        writer.name( "error" ).value( errorMsg ); //$NON-NLS-1$
+                        writer.endObject();
+                    } finally {
+                        if ( ( transaction != null ) && ( transaction.getState() == State.NOT_STARTED ) ) {
+                            transaction.rollback();
+                        }
+                    }
+
+                    writer.endArray();
+                    writer.flush();
+                }
+            };
+
+            return Response.ok( stream, MediaType.APPLICATION_JSON_TYPE ).build();
+        } catch ( final Exception e ) {
+            if ( ( uow != null ) && ( uow.getState() == State.NOT_STARTED ) ) {
+                uow.rollback();
+            }
+
+            if ( e instanceof KomodoRestException ) {
+                throw ( KomodoRestException )e;
+            }
+
+            return createErrorResponseWithForbidden(mediaTypes, e, VDB_SERVICE_VALIDATE_VDB_ERROR, vdbName);
+        }
+    }
+
     /**
      * @param headers
      *        the request headers (never <code>null</code>)
@@ -1064,6 +1209,8 @@ public final class KomodoVdbService extends KomodoService {
 
     /**
      * Create a new Model in the specified VDB
+     * @param asyncResponse
+     *        the suspended response resumed with a JSON representation of the new model (never <code>null</code>)
      * @param headers
      *        the request headers (never <code>null</code>)
      * @param uriInfo
@@ -1074,7 +1221,6 @@ public final class KomodoVdbService extends KomodoService {
      *        the model name (cannot be empty)
      * @param modelJson
      *        the Model JSON representation (cannot be <code>null</code>)
-     * @return a JSON representation of the new model (never <code>null</code>)
      * @throws KomodoRestException
      *         if there is an error creating the Model
      */
@@ -1085,66 +1231,76 @@ public final class KomodoVdbService extends KomodoService {
     @Produces( MediaType.APPLICATION_JSON )
     @ApiOperation(value = "Create a Model in a VDB")
     @ApiResponses(value = {
+        @ApiResponse(code = 202, message = "The change is still being committed. The location gives the URI of its status."),
         @ApiResponse(code = 404, message = "No vdb could be found with name"),
         @ApiResponse(code = 406, message = "Only JSON is returned by this operation"),
         @ApiResponse(code = 403, message = "An error has occurred.")
     })
-    public Response createModel( final @Context HttpHeaders headers,
-                                 final @Context UriInfo uriInfo,
-                                 @ApiParam(
-                                           value = "Name of the Vdb",
-                                           required = true
-                                 )
-                                 final @PathParam( "vdbName" ) String vdbName,
-                                 @ApiParam(
-                                           value = "Name of the Model",
-                                           required = true
-                                 )
-                                 final @PathParam( "modelName" ) String modelName,
-                                 @ApiParam(
-                                           value = "" + 
-                                                   "JSON of the properties of the Model to add:<br>" +
-                                                   OPEN_PRE_TAG +
-                                                   OPEN_BRACE + BR +
-                                                   NBSP + "keng\\_\\_id: \"name of the Model\"" + COMMA + BR +
-                                                   NBSP + "keng\\_\\_dataPath: \"path of Model to create\"" + COMMA + BR +
-                                                   NBSP + OPEN_PRE_CMT + "(eg keng\\_\\_dataPath: \"tko:komodo\\tko:workspace\\\\{username\\}\\\\{vdbName\\}\\\\{modelName\\}\")" + CLOSE_PRE_CMT + BR +
-                                                   NBSP + "keng\\_\\_kType: \"Model\"" + BR +
-                                                   CLOSE_BRACE +
-                                                   CLOSE_PRE_TAG,
-                                           required = true
-                                 )
-                                 final String modelJson) throws KomodoRestException {
+    public void createModel( final @Suspended AsyncResponse asyncResponse,
+                             final @Context HttpHeaders headers,
+                             final @Context UriInfo uriInfo,
+                             @ApiParam(
+                                       value = "Name of the Vdb",
+                                       required = true
+                             )
+                             final @PathParam( "vdbName" ) String vdbName,
+                             @ApiParam(
+                                       value = "Name of the Model",
+                                       required = true
+                             )
+                             final @PathParam( "modelName" ) String modelName,
+                             @ApiParam(
+                                       value = "" + 
+                                               "JSON of the properties of the Model to add:<br>" +
+                                               OPEN_PRE_TAG +
+                                               OPEN_BRACE + BR +
+                                               NBSP + "keng\\_\\_id: \"name of the Model\"" + COMMA + BR +
+                                               NBSP + "keng\\_\\_dataPath: \"path of Model to create\"" + COMMA + BR +
+                                               NBSP + OPEN_PRE_CMT + "(eg keng\\_\\_dataPath: \"tko:komodo\\tko:workspace\\\\{username\\}\\\\{vdbName\\}\\\\{modelName\\}\")" + CLOSE_PRE_CMT + BR +
+                                               NBSP + "keng\\_\\_kType: \"Model\"" + BR +
+                                               CLOSE_BRACE +
+                                               CLOSE_PRE_TAG,
+                                       required = true
+                             )
+                             final String modelJson) throws KomodoRestException {
 
         SecurityPrincipal principal = checkSecurityContext(headers);
-        if (principal.hasErrorResponse())
-            return principal.getErrorResponse();
+        if (principal.hasErrorResponse()) {
+            asyncResponse.resume(principal.getErrorResponse());
+            return;
+        }
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
-        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE))
-            return notAcceptableMediaTypesBuilder().build();
+        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE)) {
+            asyncResponse.resume(notAcceptableMediaTypesBuilder().build());
+            return;
+        }
 
         // Error if the VDB name is missing
         if (StringUtils.isBlank( vdbName )) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_CREATE_MISSING_VDB_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_CREATE_MISSING_VDB_NAME));
+            return;
         }
 
         // Error if the Model name is missing
         if (StringUtils.isBlank( modelName )) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_CREATE_MISSING_MODEL_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_CREATE_MISSING_MODEL_NAME));
+            return;
         }
 
         final RestVdbModel restVdbModel = KomodoJsonMarshaller.unmarshall( modelJson, RestVdbModel.class );
         final String jsonModelName = restVdbModel.getId();
         // Error if the name is missing from the supplied json body
         if ( StringUtils.isBlank( jsonModelName ) ) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MISSING_JSON_MODEL_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MISSING_JSON_MODEL_NAME));
+            return;
         }
 
         // Error if the name parameter is different than JSON name
         final boolean namesMatch = modelName.equals( jsonModelName );
         if ( !namesMatch ) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MODEL_NAME_DONT_MATCH_ERROR, modelName, jsonModelName);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MODEL_NAME_DONT_MATCH_ERROR, modelName, jsonModelName));
+            return;
         }
 
         UnitOfWork uow = null;
@@ -1157,16 +1313,19 @@ public final class KomodoVdbService extends KomodoService {
             KomodoObject kobject = mgr.getChild(uow, vdbName, VdbLexicon.Vdb.VIRTUAL_DATABASE );
             Vdb vdb = mgr.resolve( uow, kobject, Vdb.class );
             
-            if (vdb == null)
-                return Response.noContent().build();
+            if (vdb == null) {
+                asyncResponse.resume(Response.noContent().build());
+                return;
+            }
             
             // Error if the VDB already contains a Model with the supplied name.
             if( vdb.getModels(uow, modelName).length != 0 ) {
-                return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_VDB_MODEL_ALREADY_EXISTS, modelName);
+                asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_VDB_MODEL_ALREADY_EXISTS, modelName));
+                return;
             }
             
             // create a new Model in the VDB
-            return doAddModel( uow, uriInfo.getBaseUri(), mediaTypes, vdb, restVdbModel );
+            doAddModel( uow, uriInfo, mediaTypes, vdb, restVdbModel, asyncResponse );
             
         } catch (final Exception e) {
             if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
@@ -1177,15 +1336,16 @@ public final class KomodoVdbService extends KomodoService {
                 throw (KomodoRestException)e;
             }
 
-            return createErrorResponseWithForbidden(mediaTypes, e, RelationalMessages.Error.VDB_SERVICE_CREATE_VDB_MODEL_ERROR, vdbName);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, e, RelationalMessages.Error.VDB_SERVICE_CREATE_VDB_MODEL_ERROR, vdbName));
         }
     }
     
-    private Response doAddModel( final UnitOfWork uow,
-                               final URI baseUri,
-                               final List<MediaType> mediaTypes,
-                               Vdb vdb,
-                               final RestVdbModel restVdbModel ) throws KomodoRestException {
+    private void doAddModel( final UnitOfWork uow,
+                             final UriInfo uriInfo,
+                             final List<MediaType> mediaTypes,
+                             Vdb vdb,
+                             final RestVdbModel restVdbModel,
+                             final AsyncResponse asyncResponse ) throws KomodoRestException {
         assert( !uow.isRollbackOnly() );
         assert( uow.getState() == State.NOT_STARTED );
         assert( vdb != null );
@@ -1198,9 +1358,8 @@ public final class KomodoVdbService extends KomodoService {
             // Transfers the properties from the rest object to the created komodo service.
             setProperties(uow, newModel, restVdbModel);
 
-            final RestVdbModel entity = entityFactory.create(newModel, baseUri, uow );
-            final Response response = commit( uow, mediaTypes, entity );
-            return response;
+            final RestVdbModel entity = entityFactory.create(newModel, uriInfo.getBaseUri(), uow );
+            commit( uow, mediaTypes, entity, uriInfo, asyncResponse );
         } catch ( final Exception e ) {
             if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
                 uow.rollback();
@@ -1216,6 +1375,8 @@ public final class KomodoVdbService extends KomodoService {
 
     /**
      * Update a Model in the specified VDB
+     * @param asyncResponse
+     *        the suspended response resumed with a JSON representation of the updated model (never <code>null</code>)
      * @param headers
      *        the request headers (never <code>null</code>)
      * @param uriInfo
@@ -1226,7 +1387,6 @@ public final class KomodoVdbService extends KomodoService {
      *        the model name (cannot be empty)
      * @param modelJson
      *        the model JSON representation (cannot be <code>null</code>)
-     * @return a JSON representation of the updated model (never <code>null</code>)
      * @throws KomodoRestException
      *         if there is an error updating the model
      */
@@ -1237,61 +1397,70 @@ public final class KomodoVdbService extends KomodoService {
     @Produces( MediaType.APPLICATION_JSON )
     @ApiOperation(value = "Update a Model in the VDB")
     @ApiResponses(value = {
+        @ApiResponse(code = 202, message = "The change is still being committed. The location gives the URI of its status."),
         @ApiResponse(code = 404, message = "No vdb could be found with name"),
         @ApiResponse(code = 404, message = "No model could be found with name"),
         @ApiResponse(code = 406, message = "Only JSON is returned by this operation"),
         @ApiResponse(code = 403, message = "An error has occurred.")
     })
-    public Response updateModel( final @Context HttpHeaders headers,
-                                 final @Context UriInfo uriInfo,
-                                 @ApiParam(
-                                           value = "Name of the Vdb",
-                                           required = true
-                                 )
-                                 final @PathParam( "vdbName" ) String vdbName,
-                                 @ApiParam(
-                                           value = "Name of the Model to be updated",
-                                           required = true
-                                 )
-                                 final @PathParam( "modelName" ) String modelName,
-                                 @ApiParam(
-                                           value = "" + 
-                                                   "JSON of the properties of the Model to update:<br>" +
-                                                   OPEN_PRE_TAG +
-                                                   OPEN_BRACE + BR +
-                                                   NBSP + "keng\\_\\_id: \"name of the Model\"" + COMMA + BR +
-                                                   NBSP + "keng\\_\\_dataPath: \"path of Model to update\"" + COMMA + BR +
-                                                   NBSP + OPEN_PRE_CMT + "(eg keng\\_\\_dataPath: \"tko:komodo\\tko:workspace\\\\{username\\}\\\\{vdbName\\}\\\\{modelName\\}\")" + CLOSE_PRE_CMT + BR +
-                                                   NBSP + "keng\\_\\_kType: \"Model\"" + BR +
-                                                   CLOSE_BRACE +
-                                                   CLOSE_PRE_TAG,
-                                           required = true
-                                 )
-                                 final String modelJson) throws KomodoRestException {
+    public void updateModel( final @Suspended AsyncResponse asyncResponse,
+                             final @Context HttpHeaders headers,
+                             final @Context UriInfo uriInfo,
+                             @ApiParam(
+                                       value = "Name of the Vdb",
+                                       required = true
+                             )
+                             final @PathParam( "vdbName" ) String vdbName,
+                             @ApiParam(
+                                       value = "Name of the Model to be updated",
+                                       required = true
+                             )
+                             final @PathParam( "modelName" ) String modelName,
+                             @ApiParam(
+                                       value = "" + 
+                                               "JSON of the properties of the Model to update:<br>" +
+                                               OPEN_PRE_TAG +
+                                               OPEN_BRACE + BR +
+                                               NBSP + "keng\\_\\_id: \"name of the Model\"" + COMMA + BR +
+                                               NBSP + "keng\\_\\_dataPath: \"path of Model to update\"" + COMMA + BR +
+                                               NBSP + OPEN_PRE_CMT + "(eg keng\\_\\_dataPath: \"tko:komodo\\tko:workspace\\\\{username\\}\\\\{vdbName\\}\\\\{modelName\\}\")" + CLOSE_PRE_CMT + BR +
+                                               NBSP + "keng\\_\\_kType: \"Model\"" + BR +
+                                               CLOSE_BRACE +
+                                               CLOSE_PRE_TAG,
+                                       required = true
+                             )
+                             final String modelJson) throws KomodoRestException {
 
         SecurityPrincipal principal = checkSecurityContext(headers);
-        if (principal.hasErrorResponse())
-            return principal.getErrorResponse();
+        if (principal.hasErrorResponse()) {
+            asyncResponse.resume(principal.getErrorResponse());
+            return;
+        }
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
-        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE))
-            return notAcceptableMediaTypesBuilder().build();
+        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE)) {
+            asyncResponse.resume(notAcceptableMediaTypesBuilder().build());
+            return;
+        }
 
         // Error if the vdb name is missing
         if (StringUtils.isBlank( vdbName )) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_MISSING_VDB_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_MISSING_VDB_NAME));
+            return;
         }
 
         // Error if the model name is missing
         if (StringUtils.isBlank( modelName )) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_MISSING_MODEL_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_MISSING_MODEL_NAME));
+            return;
         }
 
         final RestVdbModel restVdbModel = KomodoJsonMarshaller.unmarshall( modelJson, RestVdbModel.class );
         final String jsonModelName = restVdbModel.getId();
         // Error if the name is missing from the supplied json body
         if ( StringUtils.isBlank( jsonModelName ) ) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MISSING_JSON_MODEL_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MISSING_JSON_MODEL_NAME));
+            return;
         }
 
         UnitOfWork uow = null;
@@ -1303,13 +1472,15 @@ public final class KomodoVdbService extends KomodoService {
             Vdb vdb = getWorkspaceManager(uow).resolve( uow, kobject, Vdb.class );
             
             if (vdb == null) {
-                return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_VDB_DNE);
+                asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_VDB_DNE));
+                return;
             }
             
             // Error if the VDB already contains a Model with the supplied name.
             Model[] models = vdb.getModels(uow, modelName);
             if( models.length == 0 ) {
-                return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_VDB_MODEL_ALREADY_EXISTS, modelName);
+                asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_VDB_MODEL_ALREADY_EXISTS, modelName));
+                return;
             }
 
             // Transfers the properties from the rest object to the model
@@ -1318,8 +1489,7 @@ public final class KomodoVdbService extends KomodoService {
             KomodoProperties properties = new KomodoProperties();
             final RestVdbModel entity = entityFactory.create(models[0], uriInfo.getBaseUri(), uow, properties);
             LOGGER.debug("updateVdbModel: VdbModel '{0}' entity was updated", models[0].getName(uow)); //$NON-NLS-1$
-            final Response response = commit( uow, headers.getAcceptableMediaTypes(), entity );
-            return response;
+            commit( uow, headers.getAcceptableMediaTypes(), entity, uriInfo, asyncResponse );
         } catch (final Exception e) {
             if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
                 uow.rollback();
@@ -1329,7 +1499,7 @@ public final class KomodoVdbService extends KomodoService {
                 throw (KomodoRestException)e;
             }
 
-            return createErrorResponseWithForbidden(mediaTypes, e, RelationalMessages.Error.VDB_SERVICE_UPDATE_VDB_MODEL_ERROR);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, e, RelationalMessages.Error.VDB_SERVICE_UPDATE_VDB_MODEL_ERROR));
         }
     }
 
@@ -2053,6 +2223,8 @@ public final class KomodoVdbService extends KomodoService {
 
     /**
      * Create a new model source in the specified vdb model.
+     * @param asyncResponse
+     *        the suspended response resumed with the JSON representation of the Model source (never <code>null</code>)
      * @param headers
      *        the request headers (never <code>null</code>)
      * @param uriInfo
@@ -2065,7 +2237,6 @@ public final class KomodoVdbService extends KomodoService {
      *        the id of the source being retrieved (cannot be empty)
      * @param sourceJson
      *        the ModelSource JSON representation (cannot be <code>null</code>)
-     * @return the JSON representation of the Model source (never <code>null</code>)
      * @throws KomodoRestException
      *         if there is a problem finding the specified workspace VDB model or constructing the JSON representation
      */
@@ -2078,70 +2249,81 @@ public final class KomodoVdbService extends KomodoService {
     @Produces( MediaType.APPLICATION_JSON )
     @ApiOperation(value = "Create a ModelSource within a Vdb Model", response = RestVdbModelSource.class)
     @ApiResponses(value = {
+        @ApiResponse(code = 202, message = "The change is still being committed. The location gives the URI of its status."),
         @ApiResponse(code = 404, message = "No vdb could be found with name"),
         @ApiResponse(code = 404, message = "No model could be found with name"),
         @ApiResponse(code = 406, message = "Only JSON is returned by this operation"),
         @ApiResponse(code = 403, message = "An error has occurred.")
     })
-    public Response createModelSource( final @Context HttpHeaders headers,
-                            final @Context UriInfo uriInfo,
-                            @ApiParam(value = "Name of the Vdb", required = true)
-                            final @PathParam( "vdbName" ) String vdbName,
-                            @ApiParam(value = "Name of the Model", required = true)
-                            final @PathParam( "modelName" ) String modelName,
-                            @ApiParam(value = "Name of the Model Source to be created", required = true)
-                            final @PathParam( "sourceName" ) String sourceName,
-                            @ApiParam(
-                                      value = "" + 
-                                              "JSON of the properties of the Model Source to add:<br>" +
-                                              OPEN_PRE_TAG +
-                                              OPEN_BRACE + BR +
-                                              NBSP + "keng\\_\\_id: \"name of the VdbModelSource\"" + COMMA + BR +
-                                              NBSP + "keng\\_\\_dataPath: \"path of VdbModelSource to create\"" + COMMA + BR +
-                                              NBSP + OPEN_PRE_CMT + "(eg keng\\_\\_dataPath: \"tko:komodo\\tko:workspace\\\\{username\\}\\\\{vdbName\\}\\\\{modelName\\}\\vdb:sources\\\\{sourceName\\}\")" + CLOSE_PRE_CMT + BR +
-                                              NBSP + "keng\\_\\_kType: \"VdbModelSource\"" + COMMA + BR +
-                                              NBSP + "vdb\\_\\_sourceJndiName: \"the jndi name\"" + COMMA + BR +
-                                              NBSP + "vdb\\_\\_sourceTranslator: \"the translator name\"" + BR +
-                                              CLOSE_BRACE +
-                                              CLOSE_PRE_TAG,
-                                      required = true
-                            )
-                            final String sourceJson) throws KomodoRestException {
+    public void createModelSource( final @Suspended AsyncResponse asyncResponse,
+                                   final @Context HttpHeaders headers,
+                                   final @Context UriInfo uriInfo,
+                                   @ApiParam(value = "Name of the Vdb", required = true)
+                                   final @PathParam( "vdbName" ) String vdbName,
+                                   @ApiParam(value = "Name of the Model", required = true)
+                                   final @PathParam( "modelName" ) String modelName,
+                                   @ApiParam(value = "Name of the Model Source to be created", required = true)
+                                   final @PathParam( "sourceName" ) String sourceName,
+                                   @ApiParam(
+                                             value = "" + 
+                                                     "JSON of the properties of the Model Source to add:<br>" +
+                                                     OPEN_PRE_TAG +
+                                                     OPEN_BRACE + BR +
+                                                     NBSP + "keng\\_\\_id: \"name of the VdbModelSource\"" + COMMA + BR +
+                                                     NBSP + "keng\\_\\_dataPath: \"path of VdbModelSource to create\"" + COMMA + BR +
+                                                     NBSP + OPEN_PRE_CMT + "(eg keng\\_\\_dataPath: \"tko:komodo\\tko:workspace\\\\{username\\}\\\\{vdbName\\}\\\\{modelName\\}\\vdb:sources\\\\{sourceName\\}\")" + CLOSE_PRE_CMT + BR +
+                                                     NBSP + "keng\\_\\_kType: \"VdbModelSource\"" + COMMA + BR +
+                                                     NBSP + "vdb\\_\\_sourceJndiName: \"the jndi name\"" + COMMA + BR +
+                                                     NBSP + "vdb\\_\\_sourceTranslator: \"the translator name\"" + BR +
+                                                     CLOSE_BRACE +
+                                                     CLOSE_PRE_TAG,
+                                             required = true
+                                   )
+                                   final String sourceJson) throws KomodoRestException {
 
         SecurityPrincipal principal = checkSecurityContext(headers);
-        if (principal.hasErrorResponse())
-            return principal.getErrorResponse();
+        if (principal.hasErrorResponse()) {
+            asyncResponse.resume(principal.getErrorResponse());
+            return;
+        }
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
-        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE))
-            return notAcceptableMediaTypesBuilder().build();
+        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE)) {
+            asyncResponse.resume(notAcceptableMediaTypesBuilder().build());
+            return;
+        }
 
         // Error if the VDB name is missing
         if (StringUtils.isBlank( vdbName )) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_CREATE_MISSING_VDB_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_CREATE_MISSING_VDB_NAME));
+            return;
         }
 
         // Error if the Model name is missing
         if (StringUtils.isBlank( modelName )) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_CREATE_MISSING_MODEL_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_CREATE_MISSING_MODEL_NAME));
+            return;
         }
 
         // Error if the ModelSource name is missing
         if (StringUtils.isBlank( sourceName )) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_CREATE_MISSING_MODEL_SOURCE_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_CREATE_MISSING_MODEL_SOURCE_NAME));
+            return;
         }
 
         final RestVdbModelSource restVdbModelSource = KomodoJsonMarshaller.unmarshall( sourceJson, RestVdbModelSource.class );
         final String jsonModelSourceName = restVdbModelSource.getId();
         // Error if the name is missing from the supplied json body
         if ( StringUtils.isBlank( jsonModelSourceName ) ) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MISSING_JSON_MODEL_SOURCE_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MISSING_JSON_MODEL_SOURCE_NAME));
+            return;
         }
 
         // Error if the name parameter is different than JSON name
         final boolean namesMatch = sourceName.equals( jsonModelSourceName );
         if ( !namesMatch ) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MODEL_SOURCE_NAME_DONT_MATCH_ERROR, sourceName, jsonModelSourceName);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MODEL_SOURCE_NAME_DONT_MATCH_ERROR, sourceName, jsonModelSourceName));
+            return;
         }
 
         UnitOfWork uow = null;
@@ -2154,21 +2336,25 @@ public final class KomodoVdbService extends KomodoService {
             KomodoObject kobject = mgr.getChild(uow, vdbName, VdbLexicon.Vdb.VIRTUAL_DATABASE );
             Vdb vdb = mgr.resolve( uow, kobject, Vdb.class );
             
-            if (vdb == null)
-                return Response.noContent().build();
+            if (vdb == null) {
+                asyncResponse.resume(Response.noContent().build());
+                return;
+            }
             
             Model[] models = vdb.getModels(uow, modelName);
             if (models.length == 0) {
-                return Response.noContent().build();
+                asyncResponse.resume(Response.noContent().build());
+                return;
             }
             Model model = models[0];
             // Error if the VDB model already contains a Source with the supplied name.
             if( model.getSources(uow, sourceName).length != 0 ) {
-                return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_VDB_MODEL_SOURCE_ALREADY_EXISTS, sourceName);
+                asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_VDB_MODEL_SOURCE_ALREADY_EXISTS, sourceName));
+                return;
             }
             
             // create a new ModelSource in the VDB Model
-            return doAddModelSource( uow, uriInfo.getBaseUri(), mediaTypes, model, restVdbModelSource );
+            doAddModelSource( uow, uriInfo, mediaTypes, model, restVdbModelSource, asyncResponse );
             
         } catch (final Exception e) {
             if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
@@ -2179,15 +2365,16 @@ public final class KomodoVdbService extends KomodoService {
                 throw (KomodoRestException)e;
             }
 
-            return createErrorResponseWithForbidden(mediaTypes, e, RelationalMessages.Error.VDB_SERVICE_CREATE_VDB_MODEL_SOURCE_ERROR, vdbName);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, e, RelationalMessages.Error.VDB_SERVICE_CREATE_VDB_MODEL_SOURCE_ERROR, vdbName));
         }
     }
     
-    private Response doAddModelSource( final UnitOfWork uow,
-                                 final URI baseUri,
-                                 final List<MediaType> mediaTypes,
-                                 Model model,
-                                 final RestVdbModelSource restVdbModelSource ) throws KomodoRestException {
+    private void doAddModelSource( final UnitOfWork uow,
+                                   final UriInfo uriInfo,
+                                   final List<MediaType> mediaTypes,
+                                   Model model,
+                                   final RestVdbModelSource restVdbModelSource,
+                                   final AsyncResponse asyncResponse ) throws KomodoRestException {
         assert( !uow.isRollbackOnly() );
         assert( uow.getState() == State.NOT_STARTED );
         assert( model != null );
@@ -2200,9 +2387,8 @@ public final class KomodoVdbService extends KomodoService {
             // Transfers the properties from the rest object to the created model source
             setProperties(uow, newSource, restVdbModelSource);
 
-            final RestVdbModelSource entity = entityFactory.create(newSource, baseUri, uow );
-            final Response response = commit( uow, mediaTypes, entity );
-            return response;
+            final RestVdbModelSource entity = entityFactory.create(newSource, uriInfo.getBaseUri(), uow );
+            commit( uow, mediaTypes, entity, uriInfo, asyncResponse );
         } catch ( final Exception e ) {
             if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
                 uow.rollback();
@@ -2218,6 +2404,8 @@ public final class KomodoVdbService extends KomodoService {
     
     /**
      * Update a model source in the specified VDB model.
+     * @param asyncResponse
+     *        the suspended response resumed with the JSON representation of the VDB (never <code>null</code>)
      * @param headers
      *        the request headers (never <code>null</code>)
      * @param uriInfo
@@ -2230,7 +2418,6 @@ public final class KomodoVdbService extends KomodoService {
      *        the id of the source being retrieved (cannot be empty)
      * @param sourceJson
      *        the ModelSource JSON representation (cannot be <code>null</code>)
-     * @return the JSON representation of the VDB (never <code>null</code>)
      * @throws KomodoRestException
      *         if there is a problem finding the specified workspace VDB or constructing the JSON representation
      */
@@ -2243,65 +2430,75 @@ public final class KomodoVdbService extends KomodoService {
     @Produces( MediaType.APPLICATION_JSON )
     @ApiOperation(value = "Update the ModelSource belonging to the Vdb Model", response = RestVdbModelSource.class)
     @ApiResponses(value = {
+        @ApiResponse(code = 202, message = "The change is still being committed. The location gives the URI of its status."),
         @ApiResponse(code = 404, message = "No vdb could be found with name"),
         @ApiResponse(code = 404, message = "No model could be found with name"),
         @ApiResponse(code = 404, message = "No source could be found with name"),
         @ApiResponse(code = 406, message = "Only JSON is returned by this operation"),
         @ApiResponse(code = 403, message = "An error has occurred.")
     })
-    public Response updateModelSource( final @Context HttpHeaders headers,
-                                       final @Context UriInfo uriInfo,
-                                       @ApiParam(value = "Name of the Vdb", required = true)
-                                       final @PathParam( "vdbName" ) String vdbName,
-                                       @ApiParam(value = "Name of the Model", required = true)
-                                       final @PathParam( "modelName" ) String modelName,
-                                       @ApiParam(value = "Name of the Model Source to be updated", required = true)
-                                       final @PathParam( "sourceName" ) String sourceName,
-                                       @ApiParam(
-                                                 value = "" + 
-                                                         "JSON of the properties of the Model Source to update:<br>" +
-                                                         OPEN_PRE_TAG +
-                                                         OPEN_BRACE + BR +
-                                                         NBSP + "keng\\_\\_id: \"name of the VdbModelSource\"" + COMMA + BR +
-                                                         NBSP + "keng\\_\\_dataPath: \"path of VdbModelSource to update\"" + COMMA + BR +
-                                                         NBSP + OPEN_PRE_CMT + "(eg keng\\_\\_dataPath: \"tko:komodo\\tko:workspace\\\\{username\\}\\\\{vdbName\\}\\\\{modelName\\}\\vdb:sources\\\\{sourceName\\}\")" + CLOSE_PRE_CMT + BR +
-                                                         NBSP + "keng\\_\\_kType: \"VdbModelSource\"" + COMMA + BR +
-                                                         NBSP + "vdb\\_\\_sourceJndiName: \"the jndi name\"" + COMMA + BR +
-                                                         NBSP + "vdb\\_\\_sourceTranslator: \"the translator name\"" + BR +
-                                                         CLOSE_BRACE +
-                                                         CLOSE_PRE_TAG,
-                                                 required = true
-                                       )
-                                       final String sourceJson) throws KomodoRestException {
+    public void updateModelSource( final @Suspended AsyncResponse asyncResponse,
+                                   final @Context HttpHeaders headers,
+                                   final @Context UriInfo uriInfo,
+                                   @ApiParam(value = "Name of the Vdb", required = true)
+                                   final @PathParam( "vdbName" ) String vdbName,
+                                   @ApiParam(value = "Name of the Model", required = true)
+                                   final @PathParam( "modelName" ) String modelName,
+                                   @ApiParam(value = "Name of the Model Source to be updated", required = true)
+                                   final @PathParam( "sourceName" ) String sourceName,
+                                   @ApiParam(
+                                             value = "" + 
+                                                     "JSON of the properties of the Model Source to update:<br>" +
+                                                     OPEN_PRE_TAG +
+                                                     OPEN_BRACE + BR +
+                                                     NBSP + "keng\\_\\_id: \"name of the VdbModelSource\"" + COMMA + BR +
+                                                     NBSP + "keng\\_\\_dataPath: \"path of VdbModelSource to update\"" + COMMA + BR +
+                                                     NBSP + OPEN_PRE_CMT + "(eg keng\\_\\_dataPath: \"tko:komodo\\tko:workspace\\\\{username\\}\\\\{vdbName\\}\\\\{modelName\\}\\vdb:sources\\\\{sourceName\\}\")" + CLOSE_PRE_CMT + BR +
+                                                     NBSP + "keng\\_\\_kType: \"VdbModelSource\"" + COMMA + BR +
+                                                     NBSP + "vdb\\_\\_sourceJndiName: \"the jndi name\"" + COMMA + BR +
+                                                     NBSP + "vdb\\_\\_sourceTranslator: \"the translator name\"" + BR +
+                                                     CLOSE_BRACE +
+                                                     CLOSE_PRE_TAG,
+                                             required = true
+                                   )
+                                   final String sourceJson) throws KomodoRestException {
 
         SecurityPrincipal principal = checkSecurityContext(headers);
-        if (principal.hasErrorResponse())
-            return principal.getErrorResponse();
+        if (principal.hasErrorResponse()) {
+            asyncResponse.resume(principal.getErrorResponse());
+            return;
+        }
 
         List<MediaType> mediaTypes = headers.getAcceptableMediaTypes();
-        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE))
-            return notAcceptableMediaTypesBuilder().build();
+        if (! isAcceptable(mediaTypes, MediaType.APPLICATION_JSON_TYPE)) {
+            asyncResponse.resume(notAcceptableMediaTypesBuilder().build());
+            return;
+        }
 
         // Error if the vdb name is missing
         if (StringUtils.isBlank( vdbName )) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_MISSING_VDB_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_MISSING_VDB_NAME));
+            return;
         }
 
         // Error if the model name is missing
         if (StringUtils.isBlank( modelName )) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_MISSING_MODEL_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_MISSING_MODEL_NAME));
+            return;
         }
 
         // Error if the modelSource name is missing
         if (StringUtils.isBlank( sourceName )) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_MISSING_MODEL_SOURCE_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_MISSING_MODEL_SOURCE_NAME));
+            return;
         }
 
         final RestVdbModelSource restVdbModelSource = KomodoJsonMarshaller.unmarshall( sourceJson, RestVdbModelSource.class );
         final String jsonModelSourceName = restVdbModelSource.getId();
         // Error if the name is missing from the supplied json body
         if ( StringUtils.isBlank( jsonModelSourceName ) ) {
-            return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MISSING_JSON_MODEL_SOURCE_NAME);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_MISSING_JSON_MODEL_SOURCE_NAME));
+            return;
         }
 
         UnitOfWork uow = null;
@@ -2313,20 +2510,23 @@ public final class KomodoVdbService extends KomodoService {
             Vdb vdb = getWorkspaceManager(uow).resolve( uow, kobject, Vdb.class );
             
             if (vdb == null) {
-                return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_VDB_DNE);
+                asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_VDB_DNE));
+                return;
             }
             
             // Error if the VDB already contains a Model with the supplied name.
             Model[] models = vdb.getModels(uow, modelName);
             if( models.length == 0 ) {
-                return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_VDB_MODEL_DNE);
+                asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_UPDATE_VDB_MODEL_DNE));
+                return;
             }
             Model model = models[0];
 
             // Error if the VDB Model already contains a Source with the supplied name.
             ModelSource[] sources = model.getSources(uow, sourceName);
             if( sources.length == 0 ) {
-                return createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_VDB_MODEL_SOURCE_ALREADY_EXISTS, modelName);
+                asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, RelationalMessages.Error.VDB_SERVICE_VDB_MODEL_SOURCE_ALREADY_EXISTS, modelName));
+                return;
             }
 
             // Transfers the properties from the rest object to the model
@@ -2335,8 +2535,7 @@ public final class KomodoVdbService extends KomodoService {
             KomodoProperties properties = new KomodoProperties();
             final RestVdbModelSource entity = entityFactory.create(sources[0], uriInfo.getBaseUri(), uow, properties);
             LOGGER.debug("updateVdbModelSource: VdbModelSource '{0}' entity was updated", sources[0].getName(uow)); //$NON-NLS-1$
-            final Response response = commit( uow, headers.getAcceptableMediaTypes(), entity );
-            return response;
+            commit( uow, headers.getAcceptableMediaTypes(), entity, uriInfo, asyncResponse );
         } catch (final Exception e) {
             if ((uow != null) && (uow.getState() != State.ROLLED_BACK)) {
                 uow.rollback();
@@ -2346,7 +2545,7 @@ public final class KomodoVdbService extends KomodoService {
                 throw (KomodoRestException)e;
             }
 
-            return createErrorResponseWithForbidden(mediaTypes, e, RelationalMessages.Error.VDB_SERVICE_UPDATE_VDB_MODEL_SOURCE_ERROR);
+            asyncResponse.resume(createErrorResponseWithForbidden(mediaTypes, e, RelationalMessages.Error.VDB_SERVICE_UPDATE_VDB_MODEL_SOURCE_ERROR));
         }
     }
     
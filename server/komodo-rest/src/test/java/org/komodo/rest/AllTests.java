@@ -51,6 +51,8 @@ import org.komodo.rest.service.KomodoVdbServiceTest;
 @RunWith( Suite.class )
 @Suite.SuiteClasses( {
         RestLinkTest.class,
+        AsyncCommitCallbackTest.class,
+        PendingCommitsTest.class,
         LinkSerializerTest.class,
 
         RestDataserviceTest.class,
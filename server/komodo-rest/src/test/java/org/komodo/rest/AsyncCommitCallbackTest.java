@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.rest;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+@SuppressWarnings( { "javadoc", "nls" } )
+public final class AsyncCommitCallbackTest {
+
+    private final AtomicInteger notifications = new AtomicInteger();
+
+    private final AtomicReference< Throwable > error = new AtomicReference<>();
+
+    private final AsyncCommitCallback.CompletionListener listener = new AsyncCommitCallback.CompletionListener() {
+
+        @Override
+        public void completed( final Throwable error ) {
+            notifications.incrementAndGet();
+            AsyncCommitCallbackTest.this.error.set( error );
+        }
+
+    };
+
+    @Test
+    public void shouldNotifyListenerWhenCommitted() throws Exception {
+        final AsyncCommitCallback callback = new AsyncCommitCallback();
+        callback.setCompletionListener( this.listener );
+        callback.respond( null );
+
+        assertThat( this.notifications.get(), is( 1 ) );
+        assertThat( this.error.get(), is( nullValue() ) );
+        assertTrue( callback.await( 0, TimeUnit.SECONDS ) );
+    }
+
+    @Test
+    public void shouldNotifyListenerOfError() throws Exception {
+        final Exception failure = new Exception( "commit failed" );
+        final AsyncCommitCallback callback = new AsyncCommitCallback();
+        callback.setCompletionListener( this.listener );
+        callback.errorOccurred( failure );
+
+        assertThat( this.error.get(), is( ( Throwable )failure ) );
+        assertTrue( callback.hasError() );
+    }
+
+    @Test
+    public void shouldNotifyListenerSetAfterCommit() throws Exception {
+        final AsyncCommitCallback callback = new AsyncCommitCallback();
+        callback.respond( null );
+        callback.setCompletionListener( this.listener );
+
+        assertThat( this.notifications.get(), is( 1 ) );
+    }
+
+    @Test
+    public void shouldNotifyListenerOnce() throws Exception {
+        final AsyncCommitCallback callback = new AsyncCommitCallback();
+        callback.setCompletionListener( this.listener );
+        callback.respond( null );
+        callback.errorOccurred( new Exception( "late" ) );
+
+        assertThat( this.notifications.get(), is( 1 ) );
+        assertThat( this.error.get(), is( nullValue() ) );
+    }
+
+}
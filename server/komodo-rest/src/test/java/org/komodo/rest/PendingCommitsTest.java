@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.rest;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.Assert.assertThat;
+import javax.ws.rs.core.Response;
+import org.junit.Test;
+
+@SuppressWarnings( { "javadoc", "nls" } )
+public final class PendingCommitsTest {
+
+    @Test
+    public void shouldKeepUnfinishedCommitsPastRetention() throws Exception {
+        final PendingCommits pending = new PendingCommits( 0 );
+        final PendingCommits.Commit commit = pending.add( "tx", "alice" );
+        Thread.sleep( 5 );
+        pending.add( "another", "alice" );
+
+        assertThat( pending.get( commit.getId() ), is( notNullValue() ) );
+    }
+
+    @Test
+    public void shouldDiscardFinishedCommitsAfterRetention() throws Exception {
+        final PendingCommits pending = new PendingCommits( 0 );
+        final PendingCommits.Commit commit = pending.add( "tx", "alice" );
+        commit.setResponse( Response.ok().build() );
+        Thread.sleep( 5 );
+        pending.add( "another", "alice" );
+
+        assertThat( pending.get( commit.getId() ), is( nullValue() ) );
+        assertThat( pending.size(), is( 1 ) );
+    }
+
+    @Test
+    public void shouldMeasureRetentionFromCompletion() throws Exception {
+        final PendingCommits pending = new PendingCommits( 60 * 1000 );
+        final PendingCommits.Commit commit = pending.add( "tx", "alice" );
+        commit.setResponse( Response.ok().build() );
+        pending.add( "another", "alice" );
+
+        assertThat( pending.get( commit.getId() ), is( notNullValue() ) );
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * See the COPYRIGHT.txt file distributed with this work for information
+ * regarding copyright ownership.  Some portions may be licensed
+ * to Red Hat, Inc. under one or more contributor license agreements.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA
+ * 02110-1301 USA.
+ */
+package org.komodo.rest.relational;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Test;
+import org.komodo.rest.relational.json.KomodoJsonMarshaller;
+import org.komodo.rest.relational.response.RestQueryResult;
+import org.komodo.rest.relational.response.RestQueryResultStream;
+import org.komodo.spi.query.QSColumn;
+import org.komodo.spi.query.QSCursor;
+import org.komodo.spi.query.QSRow;
+import org.komodo.spi.type.DataTypeManager.DataTypeName;
+
+@SuppressWarnings( {"javadoc", "nls"} )
+public final class RestQueryResultStreamTest {
+
+    private static class StatesCursor implements QSCursor {
+
+        private final Iterator<String> states;
+        private final boolean failAtEnd;
+        private boolean closed;
+
+        StatesCursor(boolean failAtEnd, String... states) {
+            this.states = Arrays.asList(states).iterator();
+            this.failAtEnd = failAtEnd;
+        }
+
+        @Override
+        public List<QSColumn> getColumns() {
+            return Arrays.asList(new QSColumn(DataTypeName.STRING, "Name", "Name"));
+        }
+
+        @Override
+        public QSRow next() throws Exception {
+            if (!states.hasNext()) {
+                if (failAtEnd)
+                    throw new Exception("connection to the server was lost");
+
+                return null;
+            }
+
+            QSRow row = new QSRow();
+            row.add(states.next());
+            return row;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    @Test
+    public void shouldStreamAllRows() throws Exception {
+        StatesCursor cursor = new StatesCursor(false, "Florida", "Washington", "Missouri");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        new RestQueryResultStream(cursor, 2).write(output);
+
+        RestQueryResult result = KomodoJsonMarshaller.unmarshall(new String(output.toByteArray(), StandardCharsets.UTF_8),
+                                                                 RestQueryResult.class);
+        assertThat(result.getColumns().length, is(1));
+        assertThat(result.getRows().length, is(3));
+        assertThat(result.getRows()[2].getValues()[0], is("Missouri"));
+        assertTrue(cursor.closed);
+    }
+
+    @Test
+    public void shouldAbortStreamWhenRowCannotBeRead() throws Exception {
+        StatesCursor cursor = new StatesCursor(true, "Florida", "Washington");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try {
+            new RestQueryResultStream(cursor, 1).write(output);
+            fail("the stream should have been aborted");
+        } catch (IOException ex) {
+            assertTrue(ex.getMessage().contains("connection to the server was lost"));
+        }
+
+        // the rows written before the failure do not make up a complete document
+        String json = new String(output.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(json.contains("Washington"));
+        assertFalse(json.trim().endsWith("}"));
+        assertTrue(cursor.closed);
+    }
+}
@@ -505,6 +505,41 @@ public class KomodoImportExportServiceTest extends AbstractKomodoServiceTest {
         TestUtilities.testZipFile(dsZip);
     }
 
+    @Test
+    public void shouldDownloadDataservice() throws Exception {
+        loadVdbs();
+        String dsName = "MyDataService";
+
+        getRestApp().createDataservice(dsName, true, USER_NAME);
+
+        URI uri = UriBuilder.fromUri(_uriBuilder.baseUri())
+                                            .path(V1Constants.IMPORT_EXPORT_SEGMENT)
+                                            .path(V1Constants.DOWNLOAD).build();
+
+        KomodoStorageAttributes storageAttr = new KomodoStorageAttributes();
+        storageAttr.setStorageType("file");
+        storageAttr.setArtifactPath("/tko:komodo/tko:workspace/" + USER_NAME + FORWARD_SLASH + dsName);
+
+        String tmpDirPath = System.getProperty("java.io.tmpdir");
+        storageAttr.setParameter("files-home-path-property", tmpDirPath);
+
+        ClientRequest request = request(uri, MediaType.APPLICATION_OCTET_STREAM_TYPE);
+        addJsonConsumeContentType(request);
+        addBody(request, storageAttr);
+        ClientResponse<InputStream> response = request.post(InputStream.class);
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+
+        File tmpFile = new File(tmpDirPath, dsName + ZIP_SUFFIX);
+        assertTrue(tmpFile.exists());
+        tmpFile.deleteOnExit();
+
+        File dsZip = File.createTempFile("DSZip", ZIP_SUFFIX);
+        dsZip.deleteOnExit();
+        FileUtils.write(response.getEntity(), dsZip);
+        assertEquals(tmpFile.length(), dsZip.length());
+        TestUtilities.testZipFile(dsZip);
+    }
+
     @Test
     public void shouldExportDataserviceToGit() throws Exception {
         loadStatesDataService();
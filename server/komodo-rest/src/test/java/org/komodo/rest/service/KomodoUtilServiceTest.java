@@ -114,6 +114,18 @@ public final class KomodoUtilServiceTest extends AbstractKomodoServiceTest {
         assertTrue(entity.contains("\"keng__kType\""));
     }
 
+    @Test
+    public void shouldNotFindUnknownCommitStatus() throws Exception {
+        URI uri = UriBuilder.fromUri(_uriBuilder.baseUri())
+                                                    .path(V1Constants.SERVICE_SEGMENT)
+                                                    .path(V1Constants.COMMIT_STATUS_SEGMENT)
+                                                    .path("unknown").build();
+
+        ClientRequest request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+        ClientResponse<String> response = request.get(String.class);
+        assertEquals(404, response.getStatus());
+    }
+
     @Test
     public void shouldLoadSampleData() throws Exception {
 
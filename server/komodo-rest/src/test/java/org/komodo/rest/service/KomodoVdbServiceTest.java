@@ -38,6 +38,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -50,6 +52,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestName;
 import org.komodo.relational.model.Model.Type;
+import org.komodo.repository.SynchronousCallback;
+import org.komodo.rest.KomodoService;
 import org.komodo.rest.RestBasicEntity;
 import org.komodo.rest.RestLink;
 import org.komodo.rest.KomodoRestV1Application.V1Constants;
@@ -69,7 +73,12 @@ import org.komodo.rest.relational.response.RestVdbModelTableColumn;
 import org.komodo.rest.relational.response.RestVdbPermission;
 import org.komodo.rest.relational.response.RestVdbTranslator;
 import org.komodo.spi.repository.KomodoType;
+import org.komodo.spi.repository.Repository.UnitOfWork;
 import org.komodo.test.utils.TestUtilities;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 
 @SuppressWarnings( {"javadoc", "nls"} )
 public final class KomodoVdbServiceTest extends AbstractKomodoServiceTest {
@@ -432,6 +441,80 @@ public final class KomodoVdbServiceTest extends AbstractKomodoServiceTest {
         }
     }
 
+    @Test
+    public void shouldAnswerSlowCreateVdbWithCommitStatus() throws Exception {
+        final String vdbName = "slowVdb";
+
+        final Properties settings = _uriBuilder.createSettings(SettingNames.VDB_NAME, vdbName);
+        _uriBuilder.addSetting(settings, SettingNames.VDB_PARENT_PATH, _uriBuilder.workspaceVdbsUri());
+        final URI uri = _uriBuilder.vdbUri(LinkType.SELF, settings);
+
+        //
+        // An empty commit calls back on the user's session thread, so holding its callback
+        // keeps the create queued behind it for as long as the test needs
+        //
+        final CountDownLatch sequencing = new CountDownLatch(1);
+        final SynchronousCallback blocker = new SynchronousCallback() {
+
+            @Override
+            public void respond(Object results) {
+                try {
+                    sequencing.await(1, TimeUnit.MINUTES);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                super.respond(results);
+            }
+        };
+
+        System.setProperty(KomodoService.ASYNC_COMMIT_TIMEOUT_PROPERTY, "500");
+
+        try {
+            final UnitOfWork blocking = _restApp.getDefaultRepository().createTransaction(USER_NAME, "blockSequencing", false, blocker);
+            blocking.commit();
+
+            final RestVdb inVdb = new RestVdb();
+            inVdb.setName(vdbName);
+            inVdb.setId(vdbName);
+            inVdb.setkType(KomodoType.VDB);
+
+            final ClientRequest request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+            addBody(request, KomodoJsonMarshaller.marshall(inVdb));
+
+            // the create is still waiting to be committed
+            final ClientResponse<String> accepted = request.post(String.class);
+            assertThat(accepted.getStatus(), is(Status.ACCEPTED.getStatusCode()));
+
+            final URI statusUri = accepted.getLocation();
+            assertNotNull(statusUri);
+
+            ClientResponse<String> status = request(statusUri, MediaType.APPLICATION_JSON_TYPE).get(String.class);
+            assertThat(status.getStatus(), is(Status.ACCEPTED.getStatusCode()));
+
+            // let the create be committed
+            sequencing.countDown();
+            assertTrue(blocker.await(1, TimeUnit.MINUTES));
+
+            final long giveUp = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1);
+
+            while (status.getStatus() == Status.ACCEPTED.getStatusCode() && System.currentTimeMillis() < giveUp) {
+                Thread.sleep(100);
+                status = request(statusUri, MediaType.APPLICATION_JSON_TYPE).get(String.class);
+            }
+
+            // the status URI now answers with what the create would have returned
+            assertThat(status.getStatus(), is(Status.OK.getStatusCode()));
+
+            final RestVdb outVdb = KomodoJsonMarshaller.unmarshall(status.getEntity(), RestVdb.class);
+            assertNotNull(outVdb);
+            assertThat(outVdb.getName(), is(vdbName));
+        } finally {
+            sequencing.countDown();
+            System.clearProperty(KomodoService.ASYNC_COMMIT_TIMEOUT_PROPERTY);
+        }
+    }
+
     @Test
     public void shouldGetVdb() throws Exception {
         loadVdbs();
@@ -1390,4 +1473,61 @@ public final class KomodoVdbServiceTest extends AbstractKomodoServiceTest {
         final String errorMsg = response.getEntity();
         assertThat( errorMsg, is( "" ) ); // no error message since name was valid
     }
+
+    @Test
+    public void shouldValidateVdb() throws Exception {
+        loadVdbs();
+
+        Properties settings = _uriBuilder.createSettings(SettingNames.VDB_NAME, TestUtilities.PORTFOLIO_VDB_NAME);
+        _uriBuilder.addSetting(settings, SettingNames.VDB_PARENT_PATH, _uriBuilder.workspaceVdbsUri());
+
+        URI uri = UriBuilder.fromUri(_uriBuilder.vdbUri(LinkType.SELF, settings))
+                            .path(V1Constants.VALIDATE_SEGMENT)
+                            .build();
+        ClientRequest request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+        ClientResponse<String> response = request.get(String.class);
+        assertThat(response.getStatus(), is(Status.OK.getStatusCode()));
+
+        final String entity = response.getEntity();
+        assertThat(entity, is(notNullValue()));
+
+        JsonArray results = new JsonParser().parse(entity).getAsJsonArray();
+        for (JsonElement result : results) {
+            JsonObject resultObject = result.getAsJsonObject();
+            assertFalse(resultObject.has("error"));
+            assertTrue(resultObject.get("path").getAsString().contains(TestUtilities.PORTFOLIO_VDB_NAME));
+            assertNotNull(resultObject.get("ruleId"));
+            assertNotNull(resultObject.get("level"));
+        }
+    }
+
+    @Test
+    public void shouldNotValidateVdbWithUnknownLevel() throws Exception {
+        loadVdbs();
+
+        Properties settings = _uriBuilder.createSettings(SettingNames.VDB_NAME, TestUtilities.PORTFOLIO_VDB_NAME);
+        _uriBuilder.addSetting(settings, SettingNames.VDB_PARENT_PATH, _uriBuilder.workspaceVdbsUri());
+
+        URI uri = UriBuilder.fromUri(_uriBuilder.vdbUri(LinkType.SELF, settings))
+                            .path(V1Constants.VALIDATE_SEGMENT)
+                            .queryParam("level", "bogus")
+                            .build();
+        ClientRequest request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+        ClientResponse<String> response = request.get(String.class);
+
+        assertThat(response.getStatus(), is(Status.BAD_REQUEST.getStatusCode()));
+        assertTrue(response.getEntity().contains("bogus"));
+    }
+
+    @Test
+    public void shouldNotValidateMissingVdb() throws Exception {
+        URI uri = UriBuilder.fromUri(_uriBuilder.workspaceVdbsUri())
+                            .path("blah")
+                            .path(V1Constants.VALIDATE_SEGMENT)
+                            .build();
+        ClientRequest request = request(uri, MediaType.APPLICATION_JSON_TYPE);
+        ClientResponse<String> response = request.get(String.class);
+
+        assertThat(response.getStatus(), is(Status.NOT_FOUND.getStatusCode()));
+    }
 }